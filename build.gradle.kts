@@ -11,6 +11,7 @@ allprojects {
     dependencies {
         testImplementation(platform("org.junit:junit-bom:5.10.0"))
         testImplementation("org.junit.jupiter:junit-jupiter")
+        testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
         compileOnly("com.google.code.findbugs:jsr305:3.0.2")
         testCompileOnly("com.google.code.findbugs:jsr305:3.0.2")
@@ -19,4 +20,9 @@ allprojects {
     tasks.test {
         useJUnitPlatform()
     }
-}
\ No newline at end of file
+}
+
+// Gradle 插件是 included build，根项目的 check 一并运行它的 TestKit 功能测试
+tasks.named("check") {
+    dependsOn(gradle.includedBuild("sylph-enum-aggregator-gradle-plugin").task(":check"))
+}
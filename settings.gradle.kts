@@ -1,6 +1,8 @@
 rootProject.name = "sylph-enum-aggregator"
 
 pluginManagement {
+    // 聚合枚举 Gradle 插件以 included build 的形式参与构建，test 模块直接按插件 id 引用
+    includeBuild("sylph-enum-aggregator-gradle-plugin")
     repositories {
         maven { url = uri("https://maven.aliyun.com/repository/public") }
         gradlePluginPortal()
@@ -20,3 +22,5 @@ include("sylph-enum-aggregator-api")
 include("sylph-enum-aggregator-processor")
 include("sylph-enum-aggregator-runtime")
 include("sylph-enum-aggregator-test")
+include("sylph-enum-aggregator-benchmark")
+include("sylph-enum-aggregator-jcstress")
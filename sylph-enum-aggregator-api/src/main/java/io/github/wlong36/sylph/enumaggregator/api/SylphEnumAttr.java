@@ -0,0 +1,31 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * 聚合枚举常量的类型化属性，在 {@link SylphEnumReg#attrs()} 中声明
+ * 同一枚举类型中同名属性的类型必须一致，未声明该属性的常量取类型默认值
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({})
+public @interface SylphEnumAttr {
+
+	/**
+	 * 属性名
+	 */
+	String name();
+
+	/**
+	 * 属性类型
+	 */
+	SylphEnumAttrType type() default SylphEnumAttrType.INT;
+
+	/**
+	 * 属性值的字面量，由注解处理器按 {@link #type()} 解析
+	 */
+	String value();
+}
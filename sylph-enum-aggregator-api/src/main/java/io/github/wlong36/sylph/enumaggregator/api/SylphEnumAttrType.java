@@ -0,0 +1,15 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+/**
+ * 聚合枚举属性的类型
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public enum SylphEnumAttrType {
+	INT,
+	LONG,
+	DOUBLE,
+	BOOLEAN,
+	STRING
+}
@@ -0,0 +1,26 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * 聚合枚举常量的本地化显示名，在 {@link SylphEnumReg#displayNames()} 中声明
+ * 注解处理器按语言标签为每个类型生成一份显示名字符串表，运行时在首次查询该语言时加载
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({})
+public @interface SylphEnumDisplayName {
+
+	/**
+	 * 规范形式的 BCP 47 语言标签，例如 {@code en}、{@code zh-CN}，与 {@link java.util.Locale#toLanguageTag()} 一致
+	 */
+	String locale();
+
+	/**
+	 * 显示名
+	 */
+	String value();
+}
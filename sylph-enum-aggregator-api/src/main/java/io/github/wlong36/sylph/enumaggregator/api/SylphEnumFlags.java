@@ -0,0 +1,26 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * 将聚合枚举类型声明为标志位类型
+ * 注解处理器会校验类型的常量数量能放入 {@link #maxBits()} 位，并生成以 ordinal 为位下标的掩码常量类 &lt;type&gt;Flags
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface SylphEnumFlags {
+
+	/**
+	 * 标志位类型的枚举类型名
+	 */
+	String[] value();
+
+	/**
+	 * 允许的最大位数，必须是 64 的正整数倍；超过 64 时掩码以 long[] 表示
+	 */
+	int maxBits() default 64;
+}
@@ -0,0 +1,51 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * 聚合枚举的id迁移，与 {@link SylphEnumReg} 一起声明在类型上
+ * 表示从 {@link #version()} - 1 版本升级到 {@link #version()} 版本时，id {@link #from()} 改为 {@link #to()}，
+ * 不指定 {@link #to()} 表示该id已废弃。同一版本中未声明的id保持不变，多个旧id可以合并到同一个新id。
+ * <p>
+ * 注解处理器为每个类型的每对版本生成合成后的翻译表，并校验迁移到最新版本的结果都是已注册的id；
+ * 类型的最新版本为声明过的最大版本，没有任何迁移的类型版本为 0
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Repeatable(SylphEnumMigrates.class)
+public @interface SylphEnumMigrate {
+
+	/**
+	 * 表示id已废弃的目标值
+	 */
+	int TOMBSTONE = Integer.MIN_VALUE;
+
+	/**
+	 * 允许的最大版本，运行时按版本对平铺翻译表，版本数量决定表的大小
+	 */
+	int MAX_VERSION = 1024;
+
+	/**
+	 * 枚举类型名
+	 */
+	String type();
+
+	/**
+	 * 迁移生效的版本，从 1 开始，不超过 {@link #MAX_VERSION}
+	 */
+	int version();
+
+	/**
+	 * 上一版本的id
+	 */
+	int from();
+
+	/**
+	 * 本版本的id，默认为 {@link #TOMBSTONE}
+	 */
+	int to() default TOMBSTONE;
+}
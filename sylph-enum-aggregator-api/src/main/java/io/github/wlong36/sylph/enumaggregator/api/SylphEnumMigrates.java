@@ -0,0 +1,17 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * SylphEnumMigrate 重复配置支持
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface SylphEnumMigrates {
+
+	SylphEnumMigrate[] value();
+}
@@ -30,7 +30,28 @@ public @interface SylphEnumReg {
 	String name();
 
 	/**
-	 * 枚举描述
+	 * 枚举描述，运行时可以通过 {@code SylphEnums#description} 获取
 	 */
 	String desc();
+
+	/**
+	 * 枚举的别名，运行时可以与枚举名一起忽略大小写查找和按前缀查找
+	 * 同一类型中折叠大小写后的别名不能与其他常量的名称或别名相同
+	 */
+	String[] aliases() default {};
+
+	/**
+	 * 枚举所属的分组（标签），运行时按分组预计算成员位图
+	 */
+	String[] groups() default {};
+
+	/**
+	 * 枚举属性
+	 */
+	SylphEnumAttr[] attrs() default {};
+
+	/**
+	 * 枚举的本地化显示名
+	 */
+	SylphEnumDisplayName[] displayNames() default {};
 }
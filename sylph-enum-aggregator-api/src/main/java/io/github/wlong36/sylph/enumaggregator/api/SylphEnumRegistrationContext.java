@@ -1,5 +1,7 @@
 package io.github.wlong36.sylph.enumaggregator.api;
 
+import javax.annotation.Nonnull;
+
 /**
  * 定义一个通用的注册上下文接口，用于向实际的注册表注册枚举。
  *
@@ -19,4 +21,20 @@ public interface SylphEnumRegistrationContext {
 	 * @throws IllegalStateException 如果检测到枚举名冲突 或者 同一类型的 ID 或名称冲突
 	 */
 	<T extends Enum<T> & SylphEnum> void register(Class<T> enumType);
+
+	/**
+	 * 注册一个由常量表资源承载的聚合枚举类型
+	 * 常量数量过多、无法生成为单个 Java 枚举的类型由注解处理器生成为紧凑的二进制资源。
+	 * 默认实现抛出 {@link UnsupportedOperationException}，不支持常量表的注册上下文无需实现
+	 *
+	 * @param enumType     枚举类型名
+	 * @param classLoader  用于加载资源的类加载器
+	 * @param resourceName 常量表资源路径
+	 * @throws IllegalArgumentException 如果资源不存在、类型名不一致或已经注册
+	 * @throws IllegalStateException    如果同一类型的 ID 或名称冲突
+	 * @throws UnsupportedOperationException 如果注册上下文不支持常量表承载的类型
+	 */
+	default void registerTable(@Nonnull String enumType, @Nonnull ClassLoader classLoader, @Nonnull String resourceName) {
+		throw new UnsupportedOperationException(getClass().getName() + " 不支持注册常量表承载的枚举类型: " + enumType);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package io.github.wlong36.sylph.enumaggregator.api;
+
+import java.lang.annotation.*;
+
+/**
+ * 两个聚合枚举类型之间的关系，例如“条件 C 适用于目标 T”
+ * {@link #fromNames()} 中的每个常量与 {@link #toNames()} 中的每个常量都建立关系；
+ * 同一源类型的同名关系可以分多次声明，目标类型必须一致。
+ * <p>
+ * 注解处理器校验引用的类型和常量都已注册，并按 id 生成关系资源，
+ * 运行时通过 {@code SylphEnums#getRelation} 加载为按 ordinal 索引的位矩阵
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Repeatable(SylphEnumRelations.class)
+public @interface SylphEnumRelation {
+
+	/**
+	 * 关系名，在同一源类型中唯一
+	 */
+	String name();
+
+	/**
+	 * 源枚举类型名
+	 */
+	String from();
+
+	/**
+	 * 源枚举常量名
+	 */
+	String[] fromNames();
+
+	/**
+	 * 目标枚举类型名
+	 */
+	String to();
+
+	/**
+	 * 目标枚举常量名
+	 */
+	String[] toNames();
+}
@@ -0,0 +1,105 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    implementation(project(":sylph-enum-aggregator-runtime"))
+
+    // https://mvnrepository.com/artifact/org.openjdk.jol/jol-core
+    jmh("org.openjdk.jol:jol-core:0.17")
+    jmh(testFixtures(project(":sylph-enum-aggregator-runtime")))
+    // 处理器吞吐基准直接驱动注解处理器
+    jmh(project(":sylph-enum-aggregator-processor"))
+}
+
+// --- 启动基准夹具 ---
+// 合成 20 个常量表类型，每个 500 个常量并带分组和属性，由处理器生成常量表资源、注册器和引用类，
+// 打成单独的 jar 供启动基准的子进程使用（CDS 只接受 jar 形式的 classpath）
+val startupFixtureTypes = 20
+val startupFixtureConstants = 500
+val generateStartupFixture = tasks.register("generateStartupFixture") {
+    group = "benchmark"
+    description = "Generates the table-backed enum definitions used by the startup benchmark."
+    val outputDir = layout.buildDirectory.dir("generated/sources/startupFixture")
+    inputs.property("types", startupFixtureTypes)
+    inputs.property("constants", startupFixtureConstants)
+    outputs.dir(outputDir)
+    doLast {
+        val packageDir = outputDir.get().dir("io/github/wlong36/sylph/enumaggregator/benchmark/startup").asFile
+        packageDir.deleteRecursively()
+        packageDir.mkdirs()
+        for (type in 0 until startupFixtureTypes) {
+            val source = StringBuilder()
+                .append("package io.github.wlong36.sylph.enumaggregator.benchmark.startup;\n\n")
+                .append("import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttr;\n")
+                .append("import io.github.wlong36.sylph.enumaggregator.api.SylphEnumReg;\n\n")
+            for (id in 1..startupFixtureConstants) {
+                source.append("@SylphEnumReg(type = \"StartupType$type\", id = $id, name = \"S${type}_$id\", desc = \"d$id\", ")
+                    .append("groups = \"g${id % 4}\", attrs = @SylphEnumAttr(name = \"weight\", value = \"$id\"))\n")
+            }
+            source.append("public interface StartupType${type}Def {\n}\n")
+            packageDir.resolve("StartupType${type}Def.java").writeText(source.toString())
+        }
+    }
+}
+
+val startupFixture = sourceSets.create("startupFixture") {
+    java.srcDir(generateStartupFixture)
+}
+
+dependencies {
+    "startupFixtureImplementation"(project(":sylph-enum-aggregator-runtime"))
+    "startupFixtureCompileOnly"("com.google.code.findbugs:jsr305:3.0.2")
+    "startupFixtureAnnotationProcessor"(project(":sylph-enum-aggregator-processor"))
+}
+
+tasks.named<JavaCompile>("compileStartupFixtureJava") {
+    // 所有类型都生成为常量表，不需要 protoc
+    options.compilerArgs.add("-Asylph.enumaggregator.table.threshold=0")
+}
+
+val startupFixtureJar = tasks.register<Jar>("startupFixtureJar") {
+    archiveClassifier.set("startup-fixture")
+    from(startupFixture.output)
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // 通过 -Pjmh.includes=SylphEnumTableBenchmark 只运行指定的基准
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+// 打印不同规模常量表定义的内存占用：gradle :sylph-enum-aggregator-benchmark:footprint
+tasks.register<JavaExec>("footprint") {
+    group = "benchmark"
+    description = "Prints the retained size of table-backed enum definitions."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.github.wlong36.sylph.enumaggregator.benchmark.SylphEnumTableFootprint")
+    jvmArgs("-Djdk.attach.allowAttachSelf=true")
+}
+
+// 在内存中编译合成的注解源文件，打印处理器各阶段耗时：gradle :sylph-enum-aggregator-benchmark:processorBenchmark --args="1000 10000"
+tasks.register<JavaExec>("processorBenchmark") {
+    group = "benchmark"
+    description = "Measures per-phase annotation processor time with in-memory compilation."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.github.wlong36.sylph.enumaggregator.benchmark.SylphEnumProcessorBenchmark")
+}
+
+// 对比有无 AppCDS 归档的冷启动时间：gradle :sylph-enum-aggregator-benchmark:startupBenchmark --args="20"
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "benchmark"
+    description = "Measures cold start of the enum registry with and without an AppCDS archive."
+    classpath = sourceSets["jmh"].runtimeClasspath + files(startupFixtureJar)
+    mainClass.set("io.github.wlong36.sylph.enumaggregator.benchmark.SylphEnumStartupBenchmark")
+}
+
+// 对比有无注册表预热时，新 JVM 中最初 N 个请求的延迟分布：gradle :sylph-enum-aggregator-benchmark:warmupBenchmark --args="5 10000 200"
+tasks.register<JavaExec>("warmupBenchmark") {
+    group = "benchmark"
+    description = "Measures first-request lookup latency with and without registry warm-up."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.github.wlong36.sylph.enumaggregator.benchmark.SylphEnumWarmupBenchmark")
+}
+
+// 构建插件的 clean/增量/无变化构建耗时由 gradle-profiler 测量，场景见 src/gradle-profiler/build.scenarios
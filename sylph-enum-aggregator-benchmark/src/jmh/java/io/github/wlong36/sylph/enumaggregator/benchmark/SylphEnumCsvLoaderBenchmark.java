@@ -0,0 +1,99 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumCsvLoader;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTables;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 配置表加载基准：逐行读成 String、split 后调用 {@link SylphEnums#getByName(String, String)}，
+ * 对比 {@link SylphEnumCsvLoader} 在字节上解析的顺序加载和分块并行加载
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:jmh -Pjmh.includes=SylphEnumCsvLoaderBenchmark
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SylphEnumCsvLoaderBenchmark {
+
+	@Param({"100000", "1000000"})
+	private int rows;
+
+	private SylphEnums sylphEnums;
+	private SylphEnumCsvLoader loader;
+	private Path path;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		sylphEnums = new SylphEnums();
+		sylphEnums.registerTable(SylphEnumTables.table("ItemType", 10_000, 1000, 3, "ITEM_"));
+		sylphEnums.registerTable(SylphEnumTables.table("TargetType", 16, 1000, 1, "ITEM_"));
+		loader = SylphEnumCsvLoader.builder(sylphEnums)
+				.ordinalColumn("item", "ItemType")
+				.idColumn("target", "TargetType")
+				.build();
+
+		path = Files.createTempFile("sylph-csv", ".csv");
+		SplittableRandom random = new SplittableRandom(42);
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("id,item,target,weight\n");
+			for (int i = 0; i < rows; i++) {
+				writer.write(i + ",ITEM_" + random.nextInt(10_000) + ",ITEM_" + random.nextInt(16) + "," + random.nextInt(1000) + "\n");
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Benchmark
+	public int[][] splitAndGetByName() throws IOException {
+		int[] items = new int[16];
+		int[] targets = new int[16];
+		int count = 0;
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			reader.readLine();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] cells = line.split(",");
+				if (count == items.length) {
+					items = Arrays.copyOf(items, count * 2);
+					targets = Arrays.copyOf(targets, count * 2);
+				}
+				items[count] = sylphEnums.getByName("ItemType", cells[1]).ordinal();
+				targets[count] = sylphEnums.getByName("TargetType", cells[2]).id();
+				count++;
+			}
+		}
+		return new int[][]{Arrays.copyOf(items, count), Arrays.copyOf(targets, count)};
+	}
+
+	@Benchmark
+	public SylphEnumCsvLoader.Columns loader() throws IOException {
+		return loader.load(path);
+	}
+
+	@Benchmark
+	public SylphEnumCsvLoader.Columns loaderParallel() throws IOException {
+		return loader.load(path, ForkJoinPool.commonPool());
+	}
+}
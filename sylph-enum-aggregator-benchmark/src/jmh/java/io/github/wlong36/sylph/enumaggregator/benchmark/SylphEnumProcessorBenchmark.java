@@ -0,0 +1,214 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.processor.SylphEnumProcessor;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 注解处理器吞吐基准
+ * <p>
+ * 用 {@link JavaCompiler} 在内存中编译合成的注解源文件（{@code -proc:only}，输出也写在内存中），
+ * 通过处理器选项 {@code sylph.enumaggregator.profile} 取回 init / collect / conflictCheck / generate 各阶段的耗时，
+ * 每轮使用新的处理器实例，分别报告 javapoet 和 freemarker 两个代码生成后端下各阶段的平均值和最小值
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:processorBenchmark [--args="1000 10000"]
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumProcessorBenchmark {
+	private static final int[] DEFAULT_DEFINITIONS = {1_000, 10_000, 50_000};
+	private static final int TYPES = 8;
+	private static final int ANNOTATIONS_PER_SOURCE = 50;
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int MEASUREMENT_ITERATIONS = 5;
+	private static final String PACKAGE = "io.github.wlong36.sylph.enumaggregator.benchmark.defs";
+	private static final String[] BACKENDS = {"javapoet", "freemarker"};
+	private static final int PHASE_COUNT = 4;
+	private static final Pattern PHASES = Pattern.compile("init=(\\d+), collect=(\\d+), conflictCheck=(\\d+), generate=(\\d+)");
+
+	private SylphEnumProcessorBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int[] sizes = DEFAULT_DEFINITIONS;
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			throw new IllegalStateException("需要在 JDK 上运行");
+		}
+
+		System.out.printf("%-10s %-11s %-5s %12s %12s %12s %12s %12s%n",
+				"defs", "backend", "stat", "init(ms)", "collect(ms)", "conflict(ms)", "generate(ms)", "total(ms)");
+		for (int size : sizes) {
+			List<JavaFileObject> sources = createSources(size);
+			for (String backend : BACKENDS) {
+				for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+					compile(compiler, sources, backend);
+				}
+				long[] sum = new long[PHASE_COUNT + 1];
+				long[] min = new long[PHASE_COUNT + 1];
+				Arrays.fill(min, Long.MAX_VALUE);
+				for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+					long[] sample = compile(compiler, sources, backend);
+					for (int p = 0; p < sample.length; p++) {
+						sum[p] += sample[p];
+						min[p] = Math.min(min[p], sample[p]);
+					}
+				}
+				for (int p = 0; p < sum.length; p++) {
+					sum[p] /= MEASUREMENT_ITERATIONS;
+				}
+				print(size, backend, "avg", sum);
+				print(size, backend, "min", min);
+			}
+		}
+	}
+
+	private static void print(int size, String backend, String stat, long[] nanos) {
+		System.out.printf("%-10d %-11s %-5s %12.2f %12.2f %12.2f %12.2f %12.2f%n", size, backend, stat,
+				nanos[0] / 1e6, nanos[1] / 1e6, nanos[2] / 1e6, nanos[3] / 1e6, nanos[4] / 1e6);
+	}
+
+	/**
+	 * 编译一次
+	 *
+	 * @return init、collect、conflictCheck、generate 阶段耗时以及整次编译的耗时，单位纳秒
+	 */
+	private static long[] compile(JavaCompiler compiler, List<JavaFileObject> sources, String backend) throws Exception {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (InMemoryFileManager fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, Locale.ROOT, null))) {
+			List<String> options = List.of(
+					"-proc:only",
+					"-classpath", System.getProperty("java.class.path"),
+					"-Asylph.enumaggregator.profile=true",
+					"-Asylph.enumaggregator.backend=" + backend);
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+			task.setProcessors(List.of(new SylphEnumProcessor()));
+
+			long start = System.nanoTime();
+			boolean success = task.call();
+			long total = System.nanoTime() - start;
+
+			long[] phases = null;
+			for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+				if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+					throw new IllegalStateException("编译失败: " + diagnostic.getMessage(Locale.ROOT));
+				}
+				Matcher matcher = PHASES.matcher(diagnostic.getMessage(Locale.ROOT));
+				if (matcher.find()) {
+					phases = new long[PHASE_COUNT + 1];
+					for (int p = 0; p < PHASE_COUNT; p++) {
+						phases[p] = Long.parseLong(matcher.group(p + 1));
+					}
+					phases[PHASE_COUNT] = total;
+				}
+			}
+			if (!success || phases == null) {
+				throw new IllegalStateException("没有取得处理器阶段耗时，编译结果: " + success);
+			}
+			return phases;
+		}
+	}
+
+	/**
+	 * 生成 {@code definitions} 个定义，平均分布到 {@link #TYPES} 个类型，
+	 * 每个源文件承载 {@link #ANNOTATIONS_PER_SOURCE} 个注解，并带上分组和属性以覆盖完整的处理路径
+	 */
+	private static List<JavaFileObject> createSources(int definitions) {
+		List<JavaFileObject> sources = new ArrayList<>();
+		StringBuilder body = new StringBuilder();
+		int inSource = 0;
+		for (int i = 0; i < definitions; i++) {
+			int type = i % TYPES;
+			int id = i / TYPES + 1;
+			body.append("@SylphEnumReg(type = \"BenchType").append(type)
+					.append("\", id = ").append(id)
+					.append(", name = \"T").append(type).append("_").append(id)
+					.append("\", desc = \"d").append(id)
+					.append("\", groups = \"g").append(id % 4)
+					.append("\", attrs = @SylphEnumAttr(name = \"weight\", value = \"").append(id).append("\"))\n");
+			if (++inSource == ANNOTATIONS_PER_SOURCE || i == definitions - 1) {
+				String className = "Defs" + sources.size();
+				String source = "package " + PACKAGE + ";\n"
+						+ "import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttr;\n"
+						+ "import io.github.wlong36.sylph.enumaggregator.api.SylphEnumReg;\n"
+						+ body
+						+ "public interface " + className + " {}\n";
+				sources.add(new SourceFile(PACKAGE.replace('.', '/') + "/" + className + ".java", source));
+				body.setLength(0);
+				inSource = 0;
+			}
+		}
+		return sources;
+	}
+
+	private static final class SourceFile extends SimpleJavaFileObject {
+		private final String source;
+
+		SourceFile(String path, String source) {
+			super(URI.create("mem:///" + path), Kind.SOURCE);
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return source;
+		}
+	}
+
+	private static final class OutputFile extends SimpleJavaFileObject {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		OutputFile(String path, Kind kind) {
+			super(URI.create("mem:///" + path), kind);
+		}
+
+		@Override
+		public OutputStream openOutputStream() {
+			bytes.reset();
+			return bytes;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return bytes.toString(StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * 把生成的源文件和资源留在内存中，避免磁盘 IO 干扰测量
+	 */
+	private static final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+		InMemoryFileManager(StandardJavaFileManager fileManager) {
+			super(fileManager);
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+			return new OutputFile(location.getName() + "/" + className.replace('.', '/') + kind.extension, kind);
+		}
+
+		@Override
+		public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+			String path = packageName.isEmpty() ? relativeName : packageName.replace('.', '/') + "/" + relativeName;
+			return new OutputFile(location.getName() + "/" + path, JavaFileObject.Kind.OTHER);
+		}
+	}
+}
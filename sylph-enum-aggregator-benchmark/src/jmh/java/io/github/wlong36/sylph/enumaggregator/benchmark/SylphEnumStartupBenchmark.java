@@ -0,0 +1,106 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumsTraining;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 冷启动基准：对比有无 AppCDS 归档时，新 JVM 完成 {@code SylphEnums.initialized()} 并访问所有类型所需的时间
+ * <p>
+ * 先以 {@code -XX:ArchiveClassesAtExit} 运行一次 {@link SylphEnumsTraining} 生成动态归档，
+ * 然后分别在 {@code -Xshare:off}、JDK 默认 CDS、默认 CDS + 应用归档三种配置下各启动若干次同样的训练入口，
+ * 报告进程墙钟时间的平均值和最小值。子进程只使用当前 classpath 中的 jar（CDS 不支持非空目录），
+ * 其中的 startup-fixture jar 由 {@code startupFixtureJar} 任务生成，包含 20 个各 500 个常量、带分组和属性的常量表类型及其注册器。
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:startupBenchmark [--args="20"]
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumStartupBenchmark {
+	private static final int DEFAULT_RUNS = 10;
+	private static final int WARMUP_RUNS = 2;
+
+	private SylphEnumStartupBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+		String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		String classpath = jarClasspath();
+		Path archive = Files.createTempDirectory("sylph-cds").resolve("sylph-enums.jsa");
+
+		run(java, classpath, "-XX:ArchiveClassesAtExit=" + archive);
+		if (!Files.exists(archive)) {
+			throw new IllegalStateException("没有生成归档: " + archive);
+		}
+		System.out.printf("归档 %s, %d bytes%n", archive, Files.size(archive));
+
+		System.out.printf("%-16s %10s %10s%n", "mode", "avg(ms)", "min(ms)");
+		long[] off = measure(java, classpath, runs, "-Xshare:off");
+		long[] base = measure(java, classpath, runs, null);
+		long[] appCds = measure(java, classpath, runs, "-XX:SharedArchiveFile=" + archive);
+		print("Xshare:off", off);
+		print("default CDS", base);
+		print("AppCDS", appCds);
+		System.out.printf("AppCDS 相对默认 CDS: %.2f ms (%.1f%%)%n",
+				(appCds[0] - base[0]) / 1e6, (appCds[0] - base[0]) * 100.0 / base[0]);
+	}
+
+	private static String jarClasspath() {
+		List<String> jars = new ArrayList<>();
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+			if (entry.endsWith(".jar")) {
+				jars.add(entry);
+			}
+		}
+		return String.join(File.pathSeparator, jars);
+	}
+
+	private static void print(String mode, long[] nanos) {
+		System.out.printf("%-16s %10.2f %10.2f%n", mode, nanos[0] / 1e6, nanos[1] / 1e6);
+	}
+
+	/**
+	 * @return 平均和最小的进程墙钟时间，单位纳秒
+	 */
+	private static long[] measure(String java, String classpath, int runs, String option) throws IOException, InterruptedException {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			run(java, classpath, option);
+		}
+		long sum = 0;
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < runs; i++) {
+			long start = System.nanoTime();
+			run(java, classpath, option);
+			long elapsed = System.nanoTime() - start;
+			sum += elapsed;
+			min = Math.min(min, elapsed);
+		}
+		return new long[]{sum / runs, min};
+	}
+
+	private static void run(String java, String classpath, String option) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(java);
+		if (option != null) {
+			command.add(option);
+		}
+		command.add("-cp");
+		command.add(classpath);
+		command.add(SylphEnumsTraining.class.getName());
+		Process process = new ProcessBuilder(command)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.redirectError(ProcessBuilder.Redirect.INHERIT)
+				.start();
+		int exitCode = process.waitFor();
+		if (exitCode != 0) {
+			throw new IllegalStateException("子进程退出码 " + exitCode + ": " + command);
+		}
+	}
+}
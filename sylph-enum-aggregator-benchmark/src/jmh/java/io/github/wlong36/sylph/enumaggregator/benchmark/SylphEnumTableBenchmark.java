@@ -0,0 +1,84 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTable;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTables;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 超大聚合枚举类型的启动与查找基准
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:jmh -Pjmh.includes=SylphEnumTableBenchmark
+ * <ul>
+ *     <li>load：从常量表资源字节构建定义的冷启动耗时（SingleShotTime）</li>
+ *     <li>getById / getByName：构建完成后的查找耗时</li>
+ * </ul>
+ * 内存占用见 {@link SylphEnumTableFootprint}
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SylphEnumTableBenchmark {
+
+	@Param({"10000", "50000", "100000"})
+	private int size;
+
+	/**
+	 * 1 为连续 id（直接寻址），3 为稀疏 id（二分查找）
+	 */
+	@Param({"1", "3"})
+	private int idStride;
+
+	private byte[] tableBytes;
+	private SylphEnumDefinition definition;
+	private int[] probeIds;
+	private String[] probeNames;
+	private int probeIndex;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SylphEnumTable table = SylphEnumTables.table("ItemType", size, 1000, idStride, "ITEM_");
+		tableBytes = SylphEnumTables.toBytes(table);
+		definition = new SylphEnumDefinition(table);
+		probeIds = new int[1024];
+		probeNames = new String[1024];
+		for (int i = 0; i < probeIds.length; i++) {
+			int ordinal = ThreadLocalRandom.current().nextInt(size);
+			probeIds[i] = table.id(ordinal);
+			probeNames[i] = table.name(ordinal);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public SylphEnumDefinition load() throws IOException {
+		return new SylphEnumDefinition(SylphEnumTable.read(new ByteArrayInputStream(tableBytes)));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public SylphEnum getById() {
+		return definition.getById(probeIds[probeIndex++ & 1023]);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public SylphEnum getByName() {
+		return definition.getByName(probeNames[probeIndex++ & 1023]);
+	}
+}
@@ -0,0 +1,61 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumLayout;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTable;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTables;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 打印常量表定义在 10k / 50k / 100k 常量下的内存占用
+ * 以及若改用“两个 HashMap + List”索引同样的常量需要额外占用的内存，
+ * 并对比 {@link SylphEnumLayout#COMPACT} 布局的实际占用和 {@link SylphEnumDefinition#footprint()} 的估算
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:footprint
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumTableFootprint {
+	private static final int[] SIZES = {10_000, 50_000, 100_000};
+
+	private SylphEnumTableFootprint() {
+	}
+
+	public static void main(String[] args) {
+		System.out.printf("%-8s %-6s %14s %12s %16s %12s %14s %12s %14s%n",
+				"size", "stride", "table(bytes)", "per-const", "+hashmap(bytes)", "per-const",
+				"compact(bytes)", "per-const", "estimate");
+		for (int size : SIZES) {
+			for (int stride : new int[]{1, 3}) {
+				SylphEnumDefinition definition = new SylphEnumDefinition(SylphEnumTables.table("ItemType", size, 1000, stride, "ITEM_"));
+				GraphLayout definitionLayout = GraphLayout.parseInstance(definition);
+				long tableBytes = definitionLayout.totalSize();
+
+				// 对照组：同样的常量对象放进按 id、按 name 的 HashMap 以及一个 List
+				SylphEnum[] constants = definition.getAll().toArray(new SylphEnum[0]);
+				Map<Integer, SylphEnum> byId = new HashMap<>(constants.length);
+				Map<String, SylphEnum> byName = new HashMap<>(constants.length);
+				for (SylphEnum constant : constants) {
+					byId.put(constant.id(), constant);
+					byName.put(constant.name(), constant);
+				}
+				long mapBytes = GraphLayout.parseInstance(byId, byName, List.of(constants), definition)
+						.subtract(definitionLayout)
+						.totalSize();
+
+				SylphEnumDefinition compact = new SylphEnumDefinition(SylphEnumTables.table("ItemType", size, 1000, stride, "ITEM_"), SylphEnumLayout.COMPACT);
+				long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+
+				System.out.printf("%-8d %-6d %14d %12.1f %16d %12.1f %14d %12.1f %14d%n",
+						size, stride, tableBytes, (double) tableBytes / size, mapBytes, (double) mapBytes / size,
+						compactBytes, (double) compactBytes / size, compact.footprint().totalBytes());
+			}
+		}
+	}
+}
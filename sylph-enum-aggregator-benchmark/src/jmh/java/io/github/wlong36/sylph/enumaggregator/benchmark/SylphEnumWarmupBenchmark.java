@@ -0,0 +1,174 @@
+package io.github.wlong36.sylph.enumaggregator.benchmark;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTables;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 预热基准：对比新 JVM 中有无 {@link SylphEnums#warmUp(Duration)} 时，最初 N 个请求的查找延迟分布
+ * <p>
+ * 每次测量启动一个子 JVM，注册若干不同规模、连续和稀疏 id 的常量表类型以及一个 Java 枚举，
+ * 使 {@link SylphEnum#id()} / {@link SylphEnum#name()} 调用点呈多态；可选地先预热，再逐个计时 N 个请求。
+ * 每个请求按 id 查找、按名称查找并取全局序号，请求序列在计时前生成。
+ * 父进程对每种模式启动若干子进程，报告各分位数在子进程间的中位数。
+ * <p>
+ * 运行：gradle :sylph-enum-aggregator-benchmark:warmupBenchmark [--args="forks requests budgetMs"]，
+ * 默认 5 个子进程、10000 个请求、200ms 预算
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumWarmupBenchmark {
+	private static final int DEFAULT_FORKS = 5;
+	private static final int DEFAULT_REQUESTS = 10_000;
+	private static final int DEFAULT_BUDGET_MILLIS = 200;
+	private static final int[] TABLE_SIZES = {16, 64, 256, 1024, 4096};
+
+	private SylphEnumWarmupBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length > 0 && args[0].equals("child")) {
+			child(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+			return;
+		}
+		int forks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FORKS;
+		int requests = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REQUESTS;
+		int budgetMillis = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUDGET_MILLIS;
+		String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+		System.out.printf("首 %d 个请求的延迟，%d 个子进程的中位数%n", requests, forks);
+		System.out.printf("%-10s %10s %10s %10s %10s %12s%n", "mode", "p50(ns)", "p90(ns)", "p99(ns)", "max(ns)", "warmup(ms)");
+		long[] cold = measure(java, forks, requests, 0);
+		long[] warm = measure(java, forks, requests, budgetMillis);
+		print("cold", cold);
+		print("warm", warm);
+		System.out.printf("p99 降低: %.1f%%%n", (cold[2] - warm[2]) * 100.0 / cold[2]);
+	}
+
+	private static void print(String mode, long[] result) {
+		System.out.printf("%-10s %10d %10d %10d %10d %12.2f%n", mode, result[0], result[1], result[2], result[3], result[4] / 1e6);
+	}
+
+	/**
+	 * @return p50、p90、p99、max 和预热耗时在各子进程间的中位数，单位纳秒
+	 */
+	private static long[] measure(String java, int forks, int requests, int budgetMillis) throws IOException, InterruptedException {
+		long[][] results = new long[5][forks];
+		for (int fork = 0; fork < forks; fork++) {
+			long[] result = runChild(java, requests, budgetMillis);
+			for (int i = 0; i < result.length; i++) {
+				results[i][fork] = result[i];
+			}
+		}
+		long[] medians = new long[results.length];
+		for (int i = 0; i < results.length; i++) {
+			Arrays.sort(results[i]);
+			medians[i] = results[i][forks / 2];
+		}
+		return medians;
+	}
+
+	private static long[] runChild(String java, int requests, int budgetMillis) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(java);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(SylphEnumWarmupBenchmark.class.getName());
+		command.add("child");
+		command.add(Integer.toString(requests));
+		command.add(Integer.toString(budgetMillis));
+		Process process = new ProcessBuilder(command)
+				.redirectError(ProcessBuilder.Redirect.INHERIT)
+				.start();
+		String line;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			line = reader.readLine();
+		}
+		int exitCode = process.waitFor();
+		if (exitCode != 0 || line == null) {
+			throw new IllegalStateException("子进程退出码 " + exitCode + ": " + command);
+		}
+		return Arrays.stream(line.trim().split(" ")).mapToLong(Long::parseLong).toArray();
+	}
+
+	/**
+	 * 子进程入口，向标准输出打印一行：p50 p90 p99 max warmupNanos
+	 */
+	private static void child(int requests, int budgetMillis) {
+		SylphEnums sylphEnums = new SylphEnums();
+		for (int i = 0; i < TABLE_SIZES.length; i++) {
+			sylphEnums.registerTable(SylphEnumTables.table("Dense" + i, TABLE_SIZES[i], 1000, 1, "ITEM_"));
+			sylphEnums.registerTable(SylphEnumTables.table("Sparse" + i, TABLE_SIZES[i], 1000, 7, "ITEM_"));
+		}
+		sylphEnums.register(Phase.class);
+
+		// 请求序列在计时前生成，只计查找本身
+		SplittableRandom random = new SplittableRandom(42);
+		int[] typeIds = new int[requests];
+		int[] ids = new int[requests];
+		String[] names = new String[requests];
+		for (int i = 0; i < requests; i++) {
+			typeIds[i] = random.nextInt(sylphEnums.typeCount());
+			SylphEnumDefinition definition = sylphEnums.getDefinition(typeIds[i]);
+			SylphEnum sylphEnum = definition.getByOrdinal(random.nextInt(definition.length()));
+			ids[i] = sylphEnum.id();
+			names[i] = sylphEnum.name();
+		}
+
+		long warmupNanos = 0;
+		if (budgetMillis > 0) {
+			warmupNanos = sylphEnums.warmUp(Duration.ofMillis(budgetMillis)).elapsed().toNanos();
+		}
+
+		long[] latencies = new long[requests];
+		int sink = 0;
+		for (int i = 0; i < requests; i++) {
+			long start = System.nanoTime();
+			SylphEnum byId = sylphEnums.getById(typeIds[i], ids[i]);
+			SylphEnum byName = sylphEnums.getDefinition(typeIds[i]).getByName(names[i]);
+			sink += sylphEnums.globalOrdinal(byId) + byName.ordinal();
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		System.out.println(percentile(latencies, 0.50) + " " + percentile(latencies, 0.90) + " "
+				+ percentile(latencies, 0.99) + " " + latencies[requests - 1] + " " + warmupNanos);
+		if (sink == Integer.MIN_VALUE) {
+			System.err.println(sink);
+		}
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+
+	private enum Phase implements SylphEnum {
+		INIT(1),
+		RUNNING(2),
+		PAUSED(3),
+		STOPPED(4);
+
+		private final int id;
+
+		Phase(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int id() {
+			return id;
+		}
+	}
+}
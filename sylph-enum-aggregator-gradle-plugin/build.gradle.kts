@@ -0,0 +1,34 @@
+plugins {
+    `java-gradle-plugin`
+    `maven-publish`
+}
+
+group = "io.github.wlong36"
+version = "1.0-SNAPSHOT"
+
+// 插件运行在构建所用的 JVM 上，保持与 Gradle 支持的最低版本兼容
+tasks.withType<JavaCompile>().configureEach {
+    options.release.set(17)
+}
+
+dependencies {
+    // java-gradle-plugin 已为 test 源集加入 gradleTestKit()
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+gradlePlugin {
+    plugins {
+        create("sylphEnumAggregator") {
+            id = "io.github.wlong36.sylph-enum-aggregator"
+            implementationClass = "io.github.wlong36.sylph.enumaggregator.gradle.SylphEnumAggregatorPlugin"
+            displayName = "Sylph enum aggregator"
+            description = "Runs the Sylph enum annotation processor before protoc and wires the generated sources and resources into the main source set."
+        }
+    }
+}
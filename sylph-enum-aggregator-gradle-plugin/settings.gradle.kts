@@ -0,0 +1,9 @@
+rootProject.name = "sylph-enum-aggregator-gradle-plugin"
+
+dependencyResolutionManagement {
+    @Suppress("UnstableApiUsage")
+    repositories {
+        maven { url = uri("https://maven.aliyun.com/repository/public") }
+        mavenCentral()
+    }
+}
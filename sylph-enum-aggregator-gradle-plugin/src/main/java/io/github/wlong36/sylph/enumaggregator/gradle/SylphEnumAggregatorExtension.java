@@ -0,0 +1,66 @@
+package io.github.wlong36.sylph.enumaggregator.gradle;
+
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Optional;
+
+/**
+ * {@code sylphEnums { ... }} 扩展，对应注解处理器的 {@code -Asylph.enumaggregator.*} 选项
+ * 未设置的属性不会传给处理器，由处理器使用自己的默认值。所有属性都是生成任务的输入，修改后任务会重新执行
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public abstract class SylphEnumAggregatorExtension {
+	public static final String NAME = "sylphEnums";
+
+	/**
+	 * 生成的 proto 文件的包名
+	 */
+	@Input
+	@Optional
+	public abstract Property<String> getProtoPackage();
+
+	/**
+	 * 生成的注册器所在的包名
+	 */
+	@Input
+	@Optional
+	public abstract Property<String> getRegistrarPackage();
+
+	/**
+	 * 常量数量达到该值时改为生成常量表资源
+	 */
+	@Input
+	@Optional
+	public abstract Property<Integer> getTableThreshold();
+
+	/**
+	 * 代码生成后端，javapoet 或 freemarker
+	 */
+	@Input
+	@Optional
+	public abstract Property<String> getBackend();
+
+	/**
+	 * 是否生成 native-image 元数据
+	 */
+	@Input
+	@Optional
+	public abstract Property<Boolean> getNativeImage();
+
+	/**
+	 * 是否生成 {@code <Type>Refs} 常量持有类
+	 */
+	@Input
+	@Optional
+	public abstract Property<Boolean> getRefs();
+
+	/**
+	 * 其他处理器选项，键不带 {@code -A} 前缀。
+	 * 模板路径之类引用文件的选项只按字符串参与缓存键，文件内容变化不会使任务失效
+	 */
+	@Input
+	public abstract MapProperty<String, String> getProcessorOptions();
+}
@@ -0,0 +1,99 @@
+package io.github.wlong36.sylph.enumaggregator.gradle;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.file.Directory;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.SourceDirectorySet;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.plugins.JavaPluginExtension;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.api.tasks.compile.JavaCompile;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 聚合枚举构建插件，替代手工配置的两阶段 APT/protoc 编译
+ * <p>
+ * 为 main 源集注册 {@value #GENERATE_TASK_NAME} 任务：以 {@code -proc:only} 对声明了处理器注解的手写源码运行注解处理器，
+ * 生成的 proto、注册器源码和 {@code META-INF} 资源分别写入 build 下独立的目录。这些目录以任务输出的形式接入：
+ * <ul>
+ *     <li>proto 目录加入 {@code com.google.protobuf} 插件的 proto 源集（应用了该插件时），protoc 任务自动依赖生成任务</li>
+ *     <li>生成的 Java 源码加入 {@code compileJava}，{@code compileJava} 本身以 {@code -proc:none} 编译，不再重复运行处理器</li>
+ *     <li>资源目录作为 main 源集的输出目录，随 classes 进入运行时 classpath 和 jar</li>
+ * </ul>
+ * 任务的输入只有手写源码、编译 classpath、处理器 classpath 和 {@link SylphEnumAggregatorExtension} 中的选项，
+ * 可以被构建缓存复用，也兼容配置缓存。处理器依赖仍需在 {@code annotationProcessor} 配置中声明。
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public class SylphEnumAggregatorPlugin implements Plugin<Project> {
+	public static final String GENERATE_TASK_NAME = "generateSylphEnums";
+	private static final String PROTOBUF_PLUGIN_ID = "com.google.protobuf";
+	private static final String PROTO_SOURCE_SET_EXTENSION = "proto";
+
+	@Override
+	public void apply(Project project) {
+		project.getPluginManager().apply(JavaPlugin.class);
+		SylphEnumAggregatorExtension extension = project.getExtensions()
+				.create(SylphEnumAggregatorExtension.NAME, SylphEnumAggregatorExtension.class);
+		SourceSet main = project.getExtensions().getByType(JavaPluginExtension.class)
+				.getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+
+		DirectoryProperty buildDirectory = project.getLayout().getBuildDirectory();
+		Provider<Directory> sourcesDirectory = buildDirectory.dir("generated/sources/sylphEnums/main");
+		Provider<Directory> resourcesDirectory = buildDirectory.dir("generated/resources/sylphEnums/main");
+		SourceDirectorySet javaSources = main.getJava();
+
+		TaskProvider<JavaCompile> generate = project.getTasks().register(GENERATE_TASK_NAME, JavaCompile.class, task -> {
+			task.setGroup("generation");
+			task.setDescription("Runs the Sylph enum annotation processor on the main sources.");
+			// 只处理手写源码：protoc 和本任务的输出也在 java 源集里，放进来会形成依赖环并让缓存键依赖生成结果
+			FileCollection handwritten = project.files((Callable<List<File>>) () -> handwrittenSourceDirectories(javaSources, buildDirectory));
+			task.setSource(handwritten.getAsFileTree().matching(pattern -> pattern.include("**/*.java")).filter(new SylphEnumSourceSpec()));
+			task.getOptions().setSourcepath(handwritten);
+			task.getOptions().getCompilerArgs().add("-implicit:none");
+			task.setClasspath(main.getCompileClasspath());
+			task.getOptions().setAnnotationProcessorPath(main.getAnnotationProcessorPath());
+			task.getOptions().getGeneratedSourceOutputDirectory().set(sourcesDirectory);
+			task.getOptions().getCompilerArgs().add("-proc:only");
+			task.getOptions().getCompilerArgumentProviders().add(new SylphEnumProcessorArguments(extension));
+			// -proc:only 不生成 class 文件，CLASS_OUTPUT 里只有处理器写出的资源
+			task.getDestinationDirectory().set(resourcesDirectory);
+		});
+		Provider<Directory> generatedSources = generate.flatMap(task -> task.getOptions().getGeneratedSourceOutputDirectory());
+		Provider<Directory> generatedResources = generate.flatMap(JavaCompile::getDestinationDirectory);
+
+		FileCollection generatedJava = project.files(generatedSources).getAsFileTree().matching(pattern -> pattern.include("**/*.java"));
+		project.getTasks().named(main.getCompileJavaTaskName(), JavaCompile.class, task -> {
+			task.source(generatedJava);
+			task.getOptions().getCompilerArgs().add("-proc:none");
+		});
+		main.getOutput().dir(Map.of("builtBy", generate), generatedResources);
+
+		project.getPluginManager().withPlugin(PROTOBUF_PLUGIN_ID, plugin -> {
+			SourceDirectorySet proto = (SourceDirectorySet) main.getExtensions().getByName(PROTO_SOURCE_SET_EXTENSION);
+			proto.srcDir(generatedSources);
+		});
+	}
+
+	private static List<File> handwrittenSourceDirectories(SourceDirectorySet javaSources, DirectoryProperty buildDirectory) {
+		Path build = buildDirectory.get().getAsFile().toPath();
+		List<File> directories = new ArrayList<>();
+		for (File directory : javaSources.getSrcDirs()) {
+			if (!directory.toPath().startsWith(build)) {
+				directories.add(directory);
+			}
+		}
+		return directories;
+	}
+}
@@ -0,0 +1,51 @@
+package io.github.wlong36.sylph.enumaggregator.gradle;
+
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Nested;
+import org.gradle.process.CommandLineArgumentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 把扩展中的配置转换为 {@code -A} 参数，扩展作为嵌套输入参与生成任务的缓存键
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public class SylphEnumProcessorArguments implements CommandLineArgumentProvider {
+	private static final String OPTION_PREFIX = "sylph.enumaggregator.";
+
+	private final SylphEnumAggregatorExtension extension;
+
+	public SylphEnumProcessorArguments(SylphEnumAggregatorExtension extension) {
+		this.extension = extension;
+	}
+
+	@Nested
+	public SylphEnumAggregatorExtension getExtension() {
+		return extension;
+	}
+
+	@Override
+	public Iterable<String> asArguments() {
+		List<String> arguments = new ArrayList<>();
+		add(arguments, "proto.package", extension.getProtoPackage());
+		add(arguments, "registrar.package", extension.getRegistrarPackage());
+		add(arguments, "table.threshold", extension.getTableThreshold());
+		add(arguments, "backend", extension.getBackend());
+		add(arguments, "native.image", extension.getNativeImage());
+		add(arguments, "refs", extension.getRefs());
+		for (Map.Entry<String, String> entry : extension.getProcessorOptions().get().entrySet()) {
+			arguments.add("-A" + entry.getKey() + "=" + entry.getValue());
+		}
+		return arguments;
+	}
+
+	private static void add(List<String> arguments, String option, Provider<?> value) {
+		if (value.isPresent()) {
+			arguments.add("-A" + OPTION_PREFIX + option + "=" + value.get());
+		}
+	}
+}
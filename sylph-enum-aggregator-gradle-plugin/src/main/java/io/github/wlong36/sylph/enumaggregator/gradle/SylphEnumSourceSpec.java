@@ -0,0 +1,36 @@
+package io.github.wlong36.sylph.enumaggregator.gradle;
+
+import org.gradle.api.specs.Spec;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+/**
+ * 选出声明了聚合枚举注解的源文件
+ * <p>
+ * 手写代码通常会引用 protoc 根据生成的 proto 编译出的类，这些类在处理器运行时还不存在。
+ * 即使只做注解处理，javac 也会在最后一轮报告无法解析的符号，因此生成任务只编译带有处理器注解的文件，
+ * 它们引用的其他手写类型通过 sourcepath 按需解析
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public class SylphEnumSourceSpec implements Spec<File> {
+	/**
+	 * 与处理器的 {@code @SupportedAnnotationTypes} 保持一致，允许使用全限定名
+	 */
+	private static final Pattern ANNOTATION = Pattern.compile("@\\s*(?:[\\w$]+\\s*\\.\\s*)*SylphEnum(?:Reg|Regs|Flags|Migrate|Migrates|Relation|Relations)\\b");
+
+	@Override
+	public boolean isSatisfiedBy(File file) {
+		try {
+			return ANNOTATION.matcher(Files.readString(file.toPath(), StandardCharsets.UTF_8)).find();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
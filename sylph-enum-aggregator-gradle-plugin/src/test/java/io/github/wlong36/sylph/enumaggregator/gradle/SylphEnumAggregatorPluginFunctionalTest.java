@@ -0,0 +1,153 @@
+package io.github.wlong36.sylph.enumaggregator.gradle;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumAggregatorPluginFunctionalTest {
+	private static final String COMPILE = ":compileJava";
+	private static final String GENERATE = ":" + SylphEnumAggregatorPlugin.GENERATE_TASK_NAME;
+
+	@TempDir
+	Path projectDir;
+
+	private void write(String path, String content) throws IOException {
+		Path file = projectDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 夹具工程：processor 子项目提供与聚合枚举同名的注解和一个最小的处理器，
+	 * 根项目应用插件，手写代码引用处理器生成的类，不依赖外部仓库
+	 */
+	private void writeFixture() throws IOException {
+		write("settings.gradle.kts", """
+				rootProject.name = "fixture"
+				include("processor")
+				""");
+		write("build.gradle.kts", """
+				plugins {
+				    id("io.github.wlong36.sylph-enum-aggregator")
+				}
+
+				dependencies {
+				    compileOnly(project(":processor"))
+				    annotationProcessor(project(":processor"))
+				}
+				""");
+		write("processor/build.gradle.kts", """
+				plugins {
+				    java
+				}
+				""");
+		write("processor/src/main/java/fixture/api/SylphEnumReg.java", """
+				package fixture.api;
+
+				public @interface SylphEnumReg {
+				    String type();
+				}
+				""");
+		write("processor/src/main/java/fixture/processor/FixtureProcessor.java", """
+				package fixture.processor;
+
+				import javax.annotation.processing.*;
+				import javax.lang.model.SourceVersion;
+				import javax.lang.model.element.TypeElement;
+				import javax.tools.StandardLocation;
+				import java.io.IOException;
+				import java.io.UncheckedIOException;
+				import java.io.Writer;
+				import java.util.Set;
+
+				@SupportedAnnotationTypes("fixture.api.SylphEnumReg")
+				public class FixtureProcessor extends AbstractProcessor {
+				    private boolean generated;
+
+				    @Override
+				    public SourceVersion getSupportedSourceVersion() {
+				        return SourceVersion.latestSupported();
+				    }
+
+				    @Override
+				    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+				        if (generated || annotations.isEmpty()) {
+				            return false;
+				        }
+				        generated = true;
+				        Filer filer = processingEnv.getFiler();
+				        try (Writer source = filer.createSourceFile("fixture.generated.FixtureRegistrar").openWriter();
+				             Writer resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/fixture/types.txt").openWriter()) {
+				            source.write("package fixture.generated;\\npublic final class FixtureRegistrar {\\n    public static final String TYPE = \\"ItemType\\";\\n}\\n");
+				            resource.write("ItemType\\n");
+				        } catch (IOException e) {
+				            throw new UncheckedIOException(e);
+				        }
+				        return false;
+				    }
+				}
+				""");
+		write("processor/src/main/resources/META-INF/services/javax.annotation.processing.Processor", "fixture.processor.FixtureProcessor\n");
+		write("src/main/java/fixture/Defs.java", """
+				package fixture;
+
+				import fixture.api.SylphEnumReg;
+
+				@SylphEnumReg(type = "ItemType")
+				public interface Defs {
+				}
+				""");
+		write("src/main/java/fixture/Main.java", """
+				package fixture;
+
+				import fixture.generated.FixtureRegistrar;
+
+				public final class Main {
+				    public static final String TYPE = FixtureRegistrar.TYPE;
+				}
+				""");
+	}
+
+	private BuildResult compile() {
+		return GradleRunner.create()
+				.withProjectDir(projectDir.toFile())
+				.withPluginClasspath()
+				.withArguments("compileJava", "--configuration-cache", "--stacktrace")
+				.build();
+	}
+
+	private static TaskOutcome outcome(BuildResult result, String path) {
+		BuildTask task = result.task(path);
+		assertNotNull(task, path + " 没有执行\n" + result.getOutput());
+		return task.getOutcome();
+	}
+
+	@Test
+	public void compileJava_ConfigurationCacheSecondRun_ReusesEntryAndSkipsTasks() throws IOException {
+		writeFixture();
+
+		BuildResult first = compile();
+		assertTrue(first.getOutput().contains("Configuration cache entry stored."), first.getOutput());
+		assertEquals(TaskOutcome.SUCCESS, outcome(first, GENERATE));
+		assertEquals(TaskOutcome.SUCCESS, outcome(first, COMPILE));
+		assertTrue(Files.isRegularFile(projectDir.resolve("build/classes/java/main/fixture/generated/FixtureRegistrar.class")));
+		assertTrue(Files.isRegularFile(projectDir.resolve("build/generated/resources/sylphEnums/main/META-INF/fixture/types.txt")));
+
+		BuildResult second = compile();
+		assertTrue(second.getOutput().contains("Reusing configuration cache."), second.getOutput());
+		Set<TaskOutcome> skipped = Set.of(TaskOutcome.UP_TO_DATE, TaskOutcome.FROM_CACHE);
+		assertTrue(skipped.contains(outcome(second, GENERATE)), second.getOutput());
+		assertTrue(skipped.contains(outcome(second, COMPILE)), second.getOutput());
+	}
+}
@@ -0,0 +1,26 @@
+dependencies {
+    implementation(project(":sylph-enum-aggregator-runtime"))
+
+    // https://mvnrepository.com/artifact/org.openjdk.jcstress/jcstress-core
+    implementation("org.openjdk.jcstress:jcstress-core:0.16")
+    annotationProcessor("org.openjdk.jcstress:jcstress-core:0.16")
+    // 压测用的常量表类型和注册器由处理器生成
+    annotationProcessor(project(":sylph-enum-aggregator-processor"))
+}
+
+tasks.named<JavaCompile>("compileJava") {
+    // 所有 @SylphEnumReg 类型都生成为常量表，不需要 protoc
+    options.compilerArgs.add("-Asylph.enumaggregator.table.threshold=0")
+}
+
+// 运行并发压测：gradle :sylph-enum-aggregator-jcstress:jcstress [-Pjcstress.args="-m quick -t Register"]
+tasks.register<JavaExec>("jcstress") {
+    group = "verification"
+    description = "Runs the jcstress concurrency tests of the enum registry."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jcstress.Main")
+    val resultsDir = layout.buildDirectory.dir("jcstress")
+    workingDir(resultsDir)
+    doFirst { resultsDir.get().asFile.mkdirs() }
+    args((providers.gradleProperty("jcstress.args").orNull ?: "-m default").split(" ").filter { it.isNotBlank() })
+}
@@ -0,0 +1,48 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumAttributes;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 两个线程同时首次访问属性表：延迟加载只发生一次，两个线程都读到完整的属性列
+ * <p>
+ * r1、r2：两个线程读到的属性值是否正确，r3：两个线程是否拿到同一个属性表
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = "1, 1, 1", expect = ACCEPTABLE, desc = "只加载一次且内容完整")
+@Outcome(expect = FORBIDDEN, desc = "重复加载或读到不完整的属性表")
+@State
+public class AttributesPublicationTest {
+	private final SylphEnumDefinition definition = StressRegistries.initialized().findDefinition("StressTable").orElseThrow();
+	private SylphEnumAttributes attributes1;
+	private SylphEnumAttributes attributes2;
+
+	@Actor
+	public void actor1(III_Result r) {
+		attributes1 = definition.getAttributes();
+		r.r1 = check(attributes1);
+	}
+
+	@Actor
+	public void actor2(III_Result r) {
+		attributes2 = definition.getAttributes();
+		r.r2 = check(attributes2);
+	}
+
+	@Arbiter
+	public void arbiter(III_Result r) {
+		r.r3 = attributes1 == attributes2 ? 1 : 0;
+	}
+
+	private int check(SylphEnumAttributes attributes) {
+		return attributes.intColumn("weight").get(definition.getByName("SECOND")) == 200 ? 1 : 0;
+	}
+}
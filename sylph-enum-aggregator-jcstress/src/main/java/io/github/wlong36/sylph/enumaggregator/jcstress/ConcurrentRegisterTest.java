@@ -0,0 +1,54 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTable;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 两个线程同时注册不同类型：类型id稠密且不重复，全局序号区间首尾相接
+ * <p>
+ * r1：类型数量，r2：全局序号空间长度，r3：类型id和全局序号是否一致
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = "2, 6, 1", expect = ACCEPTABLE, desc = "两个类型都已注册且编号一致")
+@Outcome(expect = FORBIDDEN, desc = "丢失注册或编号冲突")
+@State
+public class ConcurrentRegisterTest {
+	private final SylphEnums sylphEnums = StressRegistries.empty();
+	private final SylphEnumTable table = StressRegistries.plainTable();
+
+	@Actor
+	public void registerEnum() {
+		sylphEnums.register(StressEnum.class);
+	}
+
+	@Actor
+	public void registerTable() {
+		sylphEnums.registerTable(table);
+	}
+
+	@Arbiter
+	public void arbiter(III_Result r) {
+		r.r1 = sylphEnums.typeCount();
+		r.r2 = sylphEnums.globalLength();
+		int offset = 0;
+		boolean consistent = true;
+		for (int typeId = 0; typeId < sylphEnums.typeCount(); typeId++) {
+			SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+			consistent &= definition.getTypeId() == typeId && definition.getGlobalOffset() == offset;
+			for (int ordinal = 0; ordinal < definition.length(); ordinal++) {
+				consistent &= sylphEnums.getByGlobalOrdinal(offset + ordinal) == definition.getByOrdinal(ordinal);
+			}
+			offset += definition.length();
+		}
+		r.r3 = consistent && offset == sylphEnums.globalLength() ? 1 : 0;
+	}
+}
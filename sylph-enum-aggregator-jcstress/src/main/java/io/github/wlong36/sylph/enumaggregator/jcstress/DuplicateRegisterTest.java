@@ -0,0 +1,48 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 两个线程同时注册同一类型：检查与注册必须是原子的，恰好一个成功
+ * <p>
+ * r1、r2：两个线程是否注册成功，r3：最终的类型数量
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = {"1, 0, 1", "0, 1, 1"}, expect = ACCEPTABLE, desc = "恰好一个线程注册成功")
+@Outcome(expect = FORBIDDEN, desc = "重复注册或都失败")
+@State
+public class DuplicateRegisterTest {
+	private final SylphEnums sylphEnums = StressRegistries.empty();
+
+	@Actor
+	public void actor1(III_Result r) {
+		r.r1 = register();
+	}
+
+	@Actor
+	public void actor2(III_Result r) {
+		r.r2 = register();
+	}
+
+	@Arbiter
+	public void arbiter(III_Result r) {
+		r.r3 = sylphEnums.typeCount();
+	}
+
+	private int register() {
+		try {
+			sylphEnums.register(StressEnum.class);
+			return 1;
+		} catch (IllegalArgumentException e) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTable;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 注册新类型时读取全局序号：读到的常量必须能换算回自己的全局序号，即常量不能先于其类型可见
+ * <p>
+ * r1：读到的全局序号空间长度，r2：最后一个常量换算回的全局序号是否正确，-1 表示其类型尚未注册
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = {"3, 1", "6, 1"}, expect = ACCEPTABLE, desc = "新类型尚未可见，或常量与类型都已可见")
+@Outcome(id = "6, -1", expect = FORBIDDEN, desc = "常量已可见，但其类型还未注册")
+@Outcome(expect = FORBIDDEN, desc = "其他情况")
+@State
+public class GlobalOrdinalPublicationTest {
+	private final SylphEnums sylphEnums = StressRegistries.empty();
+	private final SylphEnumTable table = StressRegistries.plainTable();
+
+	public GlobalOrdinalPublicationTest() {
+		sylphEnums.register(StressEnum.class);
+	}
+
+	@Actor
+	public void writer() {
+		sylphEnums.registerTable(table);
+	}
+
+	@Actor
+	public void reader(II_Result r) {
+		int length = sylphEnums.globalLength();
+		SylphEnum last = sylphEnums.getByGlobalOrdinal(length - 1);
+		r.r1 = length;
+		try {
+			r.r2 = sylphEnums.globalOrdinal(last) == length - 1 ? 1 : 0;
+		} catch (NullPointerException e) {
+			r.r2 = -1;
+		}
+	}
+}
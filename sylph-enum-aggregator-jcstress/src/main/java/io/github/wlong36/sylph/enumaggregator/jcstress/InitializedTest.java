@@ -0,0 +1,49 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 两个线程同时对同一个注册表调用 {@link SylphEnums#initialized()}：
+ * 生成的注册器只能生效一次，另一个线程因类型已注册而失败，注册表保持一致
+ * <p>
+ * r1、r2：两个线程的调用是否成功，r3：最终的类型数量
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = {"1, 0, 1", "0, 1, 1"}, expect = ACCEPTABLE, desc = "恰好一次初始化生效")
+@Outcome(expect = FORBIDDEN, desc = "重复注册或都失败")
+@State
+public class InitializedTest {
+	private final SylphEnums sylphEnums = StressRegistries.empty();
+
+	@Actor
+	public void actor1(III_Result r) {
+		r.r1 = initialize();
+	}
+
+	@Actor
+	public void actor2(III_Result r) {
+		r.r2 = initialize();
+	}
+
+	@Arbiter
+	public void arbiter(III_Result r) {
+		r.r3 = sylphEnums.typeCount();
+	}
+
+	private int initialize() {
+		try {
+			sylphEnums.initialized();
+			return 1;
+		} catch (IllegalArgumentException e) {
+			return 0;
+		}
+	}
+}
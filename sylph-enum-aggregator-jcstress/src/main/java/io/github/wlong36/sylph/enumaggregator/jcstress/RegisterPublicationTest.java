@@ -0,0 +1,49 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumDefinition;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 注册与读取并发：读到的定义必须完整可用，并且按名称找到的定义一定也能按类型id找到
+ * <p>
+ * r1：按名称查找（ConcurrentHashMap 路径），r2：按类型id查找（volatile 数组路径），
+ * 0 表示尚未看到，1 表示看到且内容正确，-1 表示看到但内容不完整
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@JCStressTest
+@Outcome(id = {"0, 0", "0, 1", "1, 1"}, expect = ACCEPTABLE, desc = "注册尚未可见，或可见且内容完整")
+@Outcome(id = "1, 0", expect = FORBIDDEN, desc = "按名称找到定义，但按类型id还看不到")
+@Outcome(expect = FORBIDDEN, desc = "看到了内容不完整的定义")
+@State
+public class RegisterPublicationTest {
+	private final SylphEnums sylphEnums = StressRegistries.empty();
+
+	@Actor
+	public void writer() {
+		sylphEnums.register(StressEnum.class);
+	}
+
+	@Actor
+	public void reader(II_Result r) {
+		r.r1 = check(sylphEnums.findDefinition("StressEnum").orElse(null));
+		r.r2 = sylphEnums.typeCount() == 0 ? 0 : check(sylphEnums.getDefinition(0));
+	}
+
+	private static int check(SylphEnumDefinition definition) {
+		if (definition == null) {
+			return 0;
+		}
+		boolean complete = definition.length() == 3
+				&& definition.getByIdOrNull(20) == StressEnum.B
+				&& definition.getByNameOrNull("C") == StressEnum.C
+				&& definition.getAll().get(0) == StressEnum.A;
+		return complete ? 1 : -1;
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+/**
+ * 压测中注册的 Java 枚举类型
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public enum StressEnum implements SylphEnum {
+	A(10),
+	B(20),
+	C(30);
+
+	private final int id;
+
+	StressEnum(int id) {
+		this.id = id;
+	}
+
+	@Override
+	public int id() {
+		return id;
+	}
+}
@@ -0,0 +1,50 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumTable;
+import io.github.wlong36.sylph.enumaggregator.runtime.SylphEnums;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 压测共用的注册表构造方法
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+final class StressRegistries {
+	/**
+	 * 每个状态对象都会初始化一次注册表，关闭其 INFO 日志以免干扰压测；需持有引用，避免 Logger 被回收后设置失效
+	 */
+	private static final Logger SYLPH_ENUMS_LOGGER = Logger.getLogger(SylphEnums.class.getName());
+
+	static {
+		SYLPH_ENUMS_LOGGER.setLevel(Level.WARNING);
+	}
+
+	private StressRegistries() {
+	}
+
+	/**
+	 * 通过生成的注册器初始化一个新的注册表
+	 */
+	static SylphEnums initialized() {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.initialized();
+		return sylphEnums;
+	}
+
+	/**
+	 * 创建一个新的注册表，可以在其中调用 {@link SylphEnums#initialized()}
+	 */
+	static SylphEnums empty() {
+		return new SylphEnums();
+	}
+
+	/**
+	 * 与 {@link StressEnum} 同样有 3 个常量的常量表
+	 */
+	static SylphEnumTable plainTable() {
+		return new SylphEnumTable("PlainTable", new int[]{1, 2, 3}, new String[]{"X", "Y", "Z"});
+	}
+}
@@ -0,0 +1,19 @@
+package io.github.wlong36.sylph.enumaggregator.jcstress;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttr;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumReg;
+
+/**
+ * 由生成的注册器通过 {@code SylphEnums.initialized()} 注册的常量表类型，带分组和属性表
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+@SylphEnumReg(type = "StressTable", id = 1, name = "FIRST", desc = "第一个", groups = "odd",
+		attrs = @SylphEnumAttr(name = "weight", value = "100"))
+@SylphEnumReg(type = "StressTable", id = 2, name = "SECOND", desc = "第二个",
+		attrs = @SylphEnumAttr(name = "weight", value = "200"))
+@SylphEnumReg(type = "StressTable", id = 3, name = "THIRD", desc = "第三个", groups = "odd",
+		attrs = @SylphEnumAttr(name = "weight", value = "300"))
+public interface StressTypeDef {
+}
@@ -10,4 +10,8 @@ dependencies {
     implementation("com.squareup:javapoet:1.13.0")
     // https://mvnrepository.com/artifact/org.freemarker/freemarker
     implementation("org.freemarker:freemarker:2.3.34")
-}
\ No newline at end of file
+
+    // 测试在内存中编译夹具时，生成的 registrar 引用了 @Nonnull，生成的 <Type>Refs 引用了 runtime 模块
+    testRuntimeOnly("com.google.code.findbugs:jsr305:3.0.2")
+    testRuntimeOnly(project(":sylph-enum-aggregator-runtime"))
+}
@@ -1,6 +1,7 @@
 package io.github.wlong36.sylph.enumaggregator.processor;
 
 import com.google.auto.service.AutoService;
+import com.squareup.javapoet.*;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
@@ -10,12 +11,16 @@ import io.github.wlong36.sylph.enumaggregator.api.*;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -27,7 +32,12 @@ import java.util.stream.Collectors;
 @AutoService(Processor.class) // 自动注册处理器
 @SupportedAnnotationTypes({
 	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumReg",
-	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumRegs"
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumRegs",
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumFlags",
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumMigrate",
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumMigrates",
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumRelation",
+	"io.github.wlong36.sylph.enumaggregator.api.SylphEnumRelations"
 }) // 只处理这个注解
 @SupportedSourceVersion(SourceVersion.RELEASE_21) // Updated to match your code
 public class SylphEnumProcessor extends AbstractProcessor {
@@ -40,24 +50,114 @@ public class SylphEnumProcessor extends AbstractProcessor {
 	private static final String DEFAULT_PROTO_TEMPLATE = "default_enum_proto.ftl";
 	private static final String OPTION_REGISTRAR_TEMPLATE = "sylph.enumaggregator.registrar.template";
 	private static final String DEFAULT_REGISTRAR_TEMPLATE = "default_enum_registrar.ftl"; // Use the template name you provided
+	private static final String OPTION_FLAGS_TEMPLATE = "sylph.enumaggregator.flags.template";
+	private static final String DEFAULT_FLAGS_TEMPLATE = "default_enum_flags.ftl";
+	// 代码生成后端：javapoet（默认）直接构建源码，不初始化 FreeMarker；freemarker 使用 /templates 下的默认模板渲染，用于对比
+	// 无论选择哪个后端，显式指定了模板选项的文件都用 FreeMarker 渲染该模板
+	private static final String OPTION_BACKEND = "sylph.enumaggregator.backend";
+	private static final String BACKEND_JAVAPOET = "javapoet";
+	private static final String BACKEND_FREEMARKER = "freemarker";
+	private static final String GENERATED_BY = "io.github.wlong36.sylph.enumaggregator.processor.SylphEnumProcessor";
+	// 生成的标志位掩码类中保留的常量名
+	private static final Set<String> RESERVED_FLAG_NAMES = Set.of("BITS", "WORDS", "ALL");
+
+	// 常量数量超过该阈值的类型生成为常量表资源，而不是 proto 枚举，避免 <clinit> 超过 64KB 限制
+	private static final String OPTION_TABLE_THRESHOLD = "sylph.enumaggregator.table.threshold";
+	private static final int DEFAULT_TABLE_THRESHOLD = 2000;
+	// 为 true 时记录各处理阶段的耗时，供基准测试和排查构建变慢使用
+	private static final String OPTION_PROFILE = "sylph.enumaggregator.profile";
+	// 为 false 时不生成 GraalVM native-image 的可达性元数据和构建参数，默认生成
+	private static final String OPTION_NATIVE_IMAGE = "sylph.enumaggregator.native.image";
+	private static final String NATIVE_IMAGE_DIRECTORY = "META-INF/native-image/";
+	// 生成的引用类使用的 runtime 包，需与 runtime 模块保持一致；runtime 自身的构建期初始化类由 runtime 模块的 native-image.properties 声明
+	private static final String RUNTIME_PACKAGE = "io.github.wlong36.sylph.enumaggregator.runtime";
+	// 为 false 时不为常量表类型生成 <Type>Refs 常量引用类，默认生成；生成的类依赖 runtime 模块
+	private static final String OPTION_REFS = "sylph.enumaggregator.refs";
+	// 每个嵌套持有类中的常量数量；常量数超过 REFS_MAX_CONSTANTS 时访问方法也移入各持有类，避免外层类常量池溢出
+	private static final int REFS_CHUNK_SIZE = 1024;
+	private static final int REFS_MAX_CONSTANTS = 8192;
+	// 与 Object 的无参方法同名的静态方法无法编译，这些常量不生成访问方法
+	private static final Set<String> RESERVED_REF_NAMES = Set.of("clone", "finalize", "getClass", "hashCode", "notify", "notifyAll", "toString", "wait");
+	// 常量表格式，需与 runtime 模块的 SylphEnumTable 保持一致
+	private static final String TABLE_RESOURCE_DIRECTORY = "META-INF/sylph-enums/";
+	private static final String TABLE_RESOURCE_SUFFIX = ".bin";
+	private static final int TABLE_MAGIC = 0x53594C54;
+	private static final short TABLE_VERSION = 1;
+	// 属性表格式，需与 runtime 模块的 SylphEnumAttributes 保持一致
+	private static final String ATTRIBUTES_RESOURCE_SUFFIX = ".attrs";
+	private static final int ATTRIBUTES_MAGIC = 0x53594C41;
+	private static final short ATTRIBUTES_VERSION = 1;
+	// 分组资源格式，需与 runtime 模块的 SylphEnumGroup 保持一致
+	private static final String GROUPS_RESOURCE_SUFFIX = ".groups";
+	private static final int GROUPS_MAGIC = 0x53594C47;
+	private static final short GROUPS_VERSION = 1;
+	// 迁移表格式，需与 runtime 模块的 SylphEnumMigrations 保持一致
+	private static final String MIGRATIONS_RESOURCE_SUFFIX = ".migrations";
+	private static final int MIGRATIONS_MAGIC = 0x53594C4D;
+	private static final short MIGRATIONS_VERSION = 1;
+	// 限制版本数量，避免生成的版本对数量过大，运行时读取迁移表时使用同一上限
+	private static final int MAX_MIGRATION_VERSION = SylphEnumMigrate.MAX_VERSION;
+	// 描述和本地化显示名字符串表格式，需与 runtime 模块的 SylphEnumStrings 保持一致
+	private static final String STRINGS_RESOURCE_SUFFIX = ".strings";
+	private static final int STRINGS_MAGIC = 0x53594C53;
+	private static final short STRINGS_VERSION = 1;
+	// 别名资源格式，需与 runtime 模块的 SylphEnumNameSearch 保持一致
+	private static final String ALIASES_RESOURCE_SUFFIX = ".aliases";
+	private static final int ALIASES_MAGIC = 0x53594C4E;
+	private static final short ALIASES_VERSION = 1;
+	// 关系资源格式，需与 runtime 模块的 SylphEnumRelationMatrix 保持一致
+	private static final String RELATIONS_RESOURCE_SUFFIX = ".relations";
+	private static final int RELATIONS_MAGIC = 0x53594C52;
+	private static final short RELATIONS_VERSION = 1;
 
 	// ** Corrected Registrar Class Name to avoid conflict with interface **
 	private static final String registrarClassName = "SylphEnumRegistrarImpl"; // Implementation class name
 
 	private String protoPackage = null;// Store the configured package name
 	private String registrarPackage = null;
-	private Configuration templateCfg;// 用于加载模板文件
+	private int tableThreshold = DEFAULT_TABLE_THRESHOLD;
+	private Configuration templateCfg;// 用于加载模板文件，只在需要模板时创建
+	// 为 null 时由内置后端生成
 	private Template protoTemplate;
 	private Template registrarTemplate;
+	private Template flagsTemplate;
+	private boolean templatesReady = false;
+	private long initNanos;
 
 	private Messager messager; // 用于报告错误和警告
 	private Filer filer;      // 用于创建文件 (生成的源代码和资源文件)
 
 	// Data structures remain the same...
 	private final Map<String, Set<DefinitionData>> collectedDefinitions = new HashMap<>();
+	// 通过基本校验、尚未做 ID / 名称冲突检查的定义，按收集顺序
+	private final List<DefinitionData> candidates = new ArrayList<>();
 	private final Map<String, Set<Integer>> usedIdsByType = new HashMap<>();
 	private final Map<String, Map<String, Element>> usedNamesByType = new HashMap<>();
+	// 每个类型中各属性声明的类型，按首次声明的顺序
+	private final Map<String, Map<String, SylphEnumAttrType>> attrTypesByType = new HashMap<>();
+	// 声明为标志位的类型及其允许的最大位数
+	private final Map<String, Integer> flagsMaxBitsByType = new TreeMap<>();
+	// 已生成的标志位掩码类全名，需在 native-image 构建期初始化
+	private final List<String> generatedFlagsClasses = new ArrayList<>();
+	private final Map<String, Element> flagsElementsByType = new HashMap<>();
+	// 每个类型按版本、旧id排列的id迁移
+	private final Map<String, NavigableMap<Integer, Map<Integer, MigrationData>>> migrationsByType = new TreeMap<>();
+	// 每个源类型按关系名排列的关系声明，同名关系可以分多次声明
+	private final Map<String, Map<String, List<RelationData>>> relationsByType = new TreeMap<>();
+	// 生成为常量表资源的类型
+	private final Set<String> tableTypes = new TreeSet<>();
 	private boolean hasGenerated = false;
+	private boolean profile = false;
+	private boolean nativeImage = true;
+	private boolean refs = true;
+	// 已生成的 META-INF/sylph-enums 资源，写入 native-image 元数据
+	private final Set<String> generatedResources = new TreeSet<>();
+
+	private record MigrationData(int to, Element element) {
+	}
+
+	private record RelationData(String toType, String[] fromNames, String[] toNames, Element element) {
+	}
 
 	// DefinitionData inner class remains the same...
 	private static class DefinitionData implements Comparable<DefinitionData> {
@@ -69,15 +169,28 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		private final String description;
 		//枚举类型名 type()
 		private final String enumType;
-//		注解所在的元素，用于错误报告
-//		private final Element originatingElement;
-
-		public DefinitionData(int id, String name, String description, String enumType, Element originatingElement) {
+		//来自 attrs()，值已按声明的类型解析
+		private final Map<String, Object> attributes;
+		//来自 groups()
+		private final Set<String> groups;
+		//来自 displayNames()，按语言标签
+		private final Map<String, String> displayNames;
+		//来自 aliases()
+		private final Set<String> aliases;
+		//注解所在的元素，用于错误报告
+		private final Element originatingElement;
+
+		public DefinitionData(int id, String name, String description, String enumType, Map<String, Object> attributes,
+							  Set<String> groups, Map<String, String> displayNames, Set<String> aliases, Element originatingElement) {
 			this.id = id;
 			this.name = name;
 			this.description = description;
 			this.enumType = enumType;
-//			this.originatingElement = originatingElement;
+			this.attributes = attributes;
+			this.groups = groups;
+			this.displayNames = displayNames;
+			this.aliases = aliases;
+			this.originatingElement = originatingElement;
 		}
 
 		public int getId() {
@@ -96,6 +209,26 @@ public class SylphEnumProcessor extends AbstractProcessor {
 			return enumType;
 		}
 
+		public Map<String, Object> getAttributes() {
+			return attributes;
+		}
+
+		public Set<String> getGroups() {
+			return groups;
+		}
+
+		public Map<String, String> getDisplayNames() {
+			return displayNames;
+		}
+
+		public Set<String> getAliases() {
+			return aliases;
+		}
+
+		public Element getOriginatingElement() {
+			return originatingElement;
+		}
+
 		// compareTo, equals, hashCode remain the same...
 		// 按 ID 排序，用于生成有序的枚举常量
 		@Override
@@ -120,8 +253,18 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		}
 	}
 
+	/**
+	 * 声明读取的所有选项，避免 javac 报告未被任何处理器识别的选项
+	 */
+	@Override
+	public Set<String> getSupportedOptions() {
+		return Set.of(OPTION_PROTO_PACKAGE, OPTION_REGISTRAR_PACKAGE, OPTION_PROTO_TEMPLATE, OPTION_REGISTRAR_TEMPLATE,
+				OPTION_FLAGS_TEMPLATE, OPTION_BACKEND, OPTION_TABLE_THRESHOLD, OPTION_PROFILE, OPTION_NATIVE_IMAGE, OPTION_REFS);
+	}
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
+		long initStart = System.nanoTime();
 		super.init(processingEnv);
 		this.messager = processingEnv.getMessager();
 		this.filer = processingEnv.getFiler();
@@ -143,39 +286,68 @@ public class SylphEnumProcessor extends AbstractProcessor {
 			error(null, "无效的java文件生成在处理器选项 '%s': %s", OPTION_REGISTRAR_PACKAGE, this.registrarPackage);
 			return; // Stop init if invalid
 		}
+		String tableThresholdOption = options.get(OPTION_TABLE_THRESHOLD);
+		if (tableThresholdOption != null) {
+			try {
+				this.tableThreshold = Integer.parseInt(tableThresholdOption.trim());
+			} catch (NumberFormatException e) {
+				error(null, "无效的常量表阈值在处理器选项 '%s': %s", OPTION_TABLE_THRESHOLD, tableThresholdOption);
+				return;
+			}
+		}
+		this.profile = Boolean.parseBoolean(options.get(OPTION_PROFILE));
+		this.nativeImage = Boolean.parseBoolean(options.getOrDefault(OPTION_NATIVE_IMAGE, "true"));
+		this.refs = Boolean.parseBoolean(options.getOrDefault(OPTION_REFS, "true"));
 		log("将在目标位置 '%s' 生成 Proto 文件", this.protoPackage);
 		log("将在目标位置 '%s' 生成 %s.java", this.registrarPackage, registrarClassName);
 
-		// --- FreeMarker Initialization ---
-		templateCfg = new Configuration(new Version("2.3.32")); // Use your FreeMarker version
+		String backend = options.getOrDefault(OPTION_BACKEND, BACKEND_JAVAPOET);
+		if (!BACKEND_JAVAPOET.equals(backend) && !BACKEND_FREEMARKER.equals(backend)) {
+			error(null, "无效的代码生成后端在处理器选项 '%s': %s", OPTION_BACKEND, backend);
+			return;
+		}
+		boolean useDefaultTemplates = BACKEND_FREEMARKER.equals(backend);
+		log("代码生成后端：%s", backend);
 
-		templateCfg.setClassForTemplateLoading(getClass(), "/templates"); // Path relative to JAR root
-		templateCfg.setDefaultEncoding("UTF-8");
-		templateCfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
-		templateCfg.setLogTemplateExceptions(false);
-		templateCfg.setWrapUncheckedExceptions(true);
-		templateCfg.setFallbackOnNullLoopVariable(false);
-		templateCfg.setNumberFormat("computer");
+		this.templatesReady = true;
+		this.protoTemplate = loadTemplate("enum proto", options.getOrDefault(OPTION_PROTO_TEMPLATE, useDefaultTemplates ? DEFAULT_PROTO_TEMPLATE : null));
+		this.registrarTemplate = loadTemplate("enum registrar", options.getOrDefault(OPTION_REGISTRAR_TEMPLATE, useDefaultTemplates ? DEFAULT_REGISTRAR_TEMPLATE : null));
+		this.flagsTemplate = loadTemplate("enum flags", options.getOrDefault(OPTION_FLAGS_TEMPLATE, useDefaultTemplates ? DEFAULT_FLAGS_TEMPLATE : null));
 
-		String enumProtoTemplatePath = options.getOrDefault(OPTION_PROTO_TEMPLATE, DEFAULT_PROTO_TEMPLATE);
-		log("enum proto 模板文件：%s", enumProtoTemplatePath);
-		try {
-			this.protoTemplate = templateCfg.getTemplate(enumProtoTemplatePath);
-		} catch (IOException e) {
-			error(null, "无法加载 enum proto 模板: %s. 请确保它在类路径 '/templates' 下. 错误: %s", enumProtoTemplatePath, e.getMessage());
-			this.protoTemplate = null; // Mark as unloaded
-		}
+		log("SylphEnumProcessor initialized.");
+		this.initNanos = System.nanoTime() - initStart;
+	}
 
-		String enumRegistrarTemplatePath = options.getOrDefault(OPTION_REGISTRAR_TEMPLATE, DEFAULT_REGISTRAR_TEMPLATE);
-		log("enum registrar 模板文件：%s", enumRegistrarTemplatePath);
+	/**
+	 * Loads a template, creating the FreeMarker configuration on first use.
+	 *
+	 * @param kind         Template kind used in log messages.
+	 * @param templatePath Template path under '/templates', or null to use the built-in backend.
+	 * @return The template, or null for the built-in backend or when loading fails.
+	 */
+	private Template loadTemplate(String kind, String templatePath) {
+		if (templatePath == null) {
+			return null;
+		}
+		log("%s 模板文件：%s", kind, templatePath);
+		if (templateCfg == null) {
+			templateCfg = new Configuration(new Version("2.3.32")); // Use your FreeMarker version
+
+			templateCfg.setClassForTemplateLoading(getClass(), "/templates"); // Path relative to JAR root
+			templateCfg.setDefaultEncoding("UTF-8");
+			templateCfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+			templateCfg.setLogTemplateExceptions(false);
+			templateCfg.setWrapUncheckedExceptions(true);
+			templateCfg.setFallbackOnNullLoopVariable(false);
+			templateCfg.setNumberFormat("computer");
+		}
 		try {
-			this.registrarTemplate = templateCfg.getTemplate(enumRegistrarTemplatePath);
+			return templateCfg.getTemplate(templatePath);
 		} catch (IOException e) {
-			error(null, "无法加载 enum registrar 模板: %s. 请确保它在类路径 '/templates' 下. 错误: %s", enumRegistrarTemplatePath, e.getMessage());
-			this.registrarTemplate = null; // Mark as unloaded
+			error(null, "无法加载 %s 模板: %s. 请确保它在类路径 '/templates' 下. 错误: %s", kind, templatePath, e.getMessage());
+			this.templatesReady = false; // Mark as unloaded
+			return null;
 		}
-
-		log("SylphEnumProcessor initialized.");
 	}
 
 	// isInvalidPackageName remains the same...
@@ -196,7 +368,7 @@ public class SylphEnumProcessor extends AbstractProcessor {
 	@Override
 	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 		// Check if templates loaded successfully in init
-		if (this.protoTemplate == null || this.registrarTemplate == null) {
+		if (!this.templatesReady) {
 			error(null, "模板加载失败，处理器无法继续。请检查之前的错误日志。");
 			return false; // Stop processing if templates aren't ready
 		}
@@ -206,8 +378,12 @@ public class SylphEnumProcessor extends AbstractProcessor {
 
 		hasGenerated = true;
 
+		long start = System.nanoTime();
 		// Collect definitions in intermediate rounds
 		collectDefinitions(roundEnv);
+		long collected = System.nanoTime();
+		checkConflicts();
+		long checked = System.nanoTime();
 
 		try {
 			generateFiles();
@@ -215,7 +391,12 @@ public class SylphEnumProcessor extends AbstractProcessor {
 			error(null, "生成文件时出错: %s", e.getMessage());
 			e.printStackTrace(); // Print stacktrace for debugging
 		}
+		long generated = System.nanoTime();
 
+		if (profile) {
+			log("SylphEnumProcessor 阶段耗时(ns): init=%d, collect=%d, conflictCheck=%d, generate=%d",
+				initNanos, collected - start, checked - collected, generated - checked);
+		}
 
 		return true; // Claim the annotations
 	}
@@ -233,6 +414,37 @@ public class SylphEnumProcessor extends AbstractProcessor {
 				processElementForAnnotations(element);
 			}
 		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(SylphEnumMigrates.class)) {
+			processElementForMigrations(element);
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(SylphEnumMigrate.class)) {
+			if (element.getAnnotation(SylphEnumMigrates.class) == null) {
+				processElementForMigrations(element);
+			}
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(SylphEnumRelations.class)) {
+			processElementForRelations(element);
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(SylphEnumRelation.class)) {
+			if (element.getAnnotation(SylphEnumRelations.class) == null) {
+				processElementForRelations(element);
+			}
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(SylphEnumFlags.class)) {
+			SylphEnumFlags flags = element.getAnnotation(SylphEnumFlags.class);
+			if (flags.maxBits() <= 0 || flags.maxBits() % 64 != 0) {
+				error(element, "@SylphEnumFlags 的 maxBits 必须是 64 的正整数倍: %d", flags.maxBits());
+				continue;
+			}
+			for (String enumType : flags.value()) {
+				Element exist = flagsElementsByType.putIfAbsent(enumType, element);
+				if (exist != null) {
+					error(element, "枚举类型 '%s' 已经在 %s 声明为标志位类型。", enumType, exist.getSimpleName());
+					continue;
+				}
+				flagsMaxBitsByType.put(enumType, flags.maxBits());
+			}
+		}
 	}
 
 	private void processElementForAnnotations(Element element) {
@@ -253,10 +465,94 @@ public class SylphEnumProcessor extends AbstractProcessor {
 				error(element, "注解属性 'name' 的值 '%s' 不是一个有效的 Java 枚举常量标识符。", name);
 				continue;
 			}
+			Map<String, Object> attributes = parseAttributes(element, enumType, name, regAnnotation.attrs());
+			if (attributes == null) {
+				continue;
+			}
+			Set<String> groups = parseGroups(element, enumType, name, regAnnotation.groups());
+			if (groups == null) {
+				continue;
+			}
+			Map<String, String> displayNames = parseDisplayNames(element, enumType, name, regAnnotation.displayNames());
+			if (displayNames == null) {
+				continue;
+			}
+			Set<String> aliases = parseAliases(element, enumType, name, regAnnotation.aliases());
+			if (aliases == null) {
+				continue;
+			}
 			if (id == 0 && !name.endsWith("_UNSPECIFIED")) {
 				warn(element, "ID 0 通常保留给 '%s_UNSPECIFIED'。为 '%s' 定义 ID 0 可能违反 Protobuf 约定。", enumType, name);
 			}
 
+			candidates.add(new DefinitionData(id, name, desc, enumType, attributes, groups, displayNames, aliases, element));
+		}
+	}
+
+	private void processElementForMigrations(Element element) {
+		for (SylphEnumMigrate migrate : element.getAnnotationsByType(SylphEnumMigrate.class)) {
+			String enumType = migrate.type();
+			if (isInvalidJavaIdentifier(enumType)) {
+				error(element, "注解属性 'type' 的值 '%s' 不是一个有效的 Java 类名标识符。", enumType);
+				continue;
+			}
+			if (migrate.version() < 1 || migrate.version() > MAX_MIGRATION_VERSION) {
+				error(element, "枚举类型 '%s' 的迁移版本必须在 1 到 %d 之间: %d", enumType, MAX_MIGRATION_VERSION, migrate.version());
+				continue;
+			}
+			if (migrate.from() == SylphEnumMigrate.TOMBSTONE || migrate.from() == migrate.to()) {
+				error(element, "枚举类型 '%s' 版本 %d 的迁移 %d -> %d 无效。", enumType, migrate.version(), migrate.from(), migrate.to());
+				continue;
+			}
+			Map<Integer, MigrationData> step = migrationsByType.computeIfAbsent(enumType, k -> new TreeMap<>())
+				.computeIfAbsent(migrate.version(), k -> new TreeMap<>());
+			MigrationData exist = step.putIfAbsent(migrate.from(), new MigrationData(migrate.to(), element));
+			if (exist != null) {
+				error(element, "枚举类型 '%s' 版本 %d 中重复声明了id %d 的迁移，与 %s 冲突。",
+					enumType, migrate.version(), migrate.from(), exist.element().getSimpleName());
+			}
+		}
+	}
+
+	private void processElementForRelations(Element element) {
+		for (SylphEnumRelation relation : element.getAnnotationsByType(SylphEnumRelation.class)) {
+			if (isInvalidJavaIdentifier(relation.from())) {
+				error(element, "注解属性 'from' 的值 '%s' 不是一个有效的 Java 类名标识符。", relation.from());
+				continue;
+			}
+			if (isInvalidJavaIdentifier(relation.to())) {
+				error(element, "注解属性 'to' 的值 '%s' 不是一个有效的 Java 类名标识符。", relation.to());
+				continue;
+			}
+			if (relation.name().isBlank()) {
+				error(element, "枚举类型 '%s' 的关系名不能为空。", relation.from());
+				continue;
+			}
+			if (relation.fromNames().length == 0 || relation.toNames().length == 0) {
+				error(element, "枚举类型 '%s' 的关系 '%s' 的 fromNames 和 toNames 不能为空。", relation.from(), relation.name());
+				continue;
+			}
+			List<RelationData> declarations = relationsByType.computeIfAbsent(relation.from(), k -> new TreeMap<>())
+				.computeIfAbsent(relation.name(), k -> new ArrayList<>());
+			if (!declarations.isEmpty() && !declarations.get(0).toType().equals(relation.to())) {
+				error(element, "枚举类型 '%s' 的关系 '%s' 的目标类型 '%s' 与 %s 中声明的 '%s' 不一致。",
+					relation.from(), relation.name(), relation.to(), declarations.get(0).element().getSimpleName(), declarations.get(0).toType());
+				continue;
+			}
+			declarations.add(new RelationData(relation.to(), relation.fromNames(), relation.toNames(), element));
+		}
+	}
+
+	/**
+	 * Checks ID and name conflicts of the collected candidates in collection order and stores the valid ones.
+	 */
+	private void checkConflicts() {
+		for (DefinitionData data : candidates) {
+			String enumType = data.getEnumType();
+			int id = data.getId();
+			String name = data.getName();
+			Element element = data.getOriginatingElement();
+
 			// --- Conflict Check ---
 			Set<Integer> currentIds = usedIdsByType.computeIfAbsent(enumType, k -> new HashSet<>());
 			Map<String, Element> currentNames = usedNamesByType.computeIfAbsent(enumType, k -> new HashMap<>());
@@ -276,7 +572,6 @@ public class SylphEnumProcessor extends AbstractProcessor {
 
 			// --- Store Valid Definition ---
 			Set<DefinitionData> definitionsForType = collectedDefinitions.computeIfAbsent(enumType, k -> new TreeSet<>());
-			DefinitionData data = new DefinitionData(id, name, desc, enumType, element);
 			if (definitionsForType.add(data)) { // Add returns true if it was actually added
 				log("收集到定义: Type=%s, ID=%d, Name=%s (来源: %s in %s)",
 					enumType, id, name, element.getSimpleName(), element.getEnclosingElement().getSimpleName());
@@ -288,8 +583,145 @@ public class SylphEnumProcessor extends AbstractProcessor {
 				currentNames.remove(name);
 			}
 		}
+		candidates.clear();
+	}
+
+	/**
+	 * Parses the typed attributes of one constant and checks them against the attribute types already
+	 * declared for the same enum type.
+	 *
+	 * @return the parsed values keyed by attribute name, or null if any attribute is invalid
+	 */
+	private Map<String, Object> parseAttributes(Element element, String enumType, String name, SylphEnumAttr[] attrs) {
+		if (attrs.length == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, SylphEnumAttrType> declaredTypes = attrTypesByType.computeIfAbsent(enumType, k -> new LinkedHashMap<>());
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		boolean valid = true;
+		for (SylphEnumAttr attr : attrs) {
+			if (isInvalidJavaIdentifier(attr.name())) {
+				error(element, "枚举 '%s.%s' 的属性名 '%s' 不是一个有效的 Java 标识符。", enumType, name, attr.name());
+				valid = false;
+				continue;
+			}
+			SylphEnumAttrType declaredType = declaredTypes.putIfAbsent(attr.name(), attr.type());
+			if (declaredType != null && declaredType != attr.type()) {
+				error(element, "枚举类型 '%s' 的属性 '%s' 类型不一致: %s 与之前声明的 %s 冲突 (名称 '%s')",
+					enumType, attr.name(), attr.type(), declaredType, name);
+				valid = false;
+				continue;
+			}
+			Object value;
+			try {
+				value = parseAttributeValue(attr.type(), attr.value());
+			} catch (IllegalArgumentException e) {
+				error(element, "枚举 '%s.%s' 的属性 '%s' 的值 '%s' 不是有效的 %s。", enumType, name, attr.name(), attr.value(), attr.type());
+				valid = false;
+				continue;
+			}
+			if (attributes.put(attr.name(), value) != null) {
+				error(element, "枚举 '%s.%s' 重复声明了属性 '%s'。", enumType, name, attr.name());
+				valid = false;
+			}
+		}
+		return valid ? attributes : null;
+	}
+
+	/**
+	 * Validates the group tags of one constant.
+	 *
+	 * @return the group names, or null if any group name is invalid
+	 */
+	private Set<String> parseGroups(Element element, String enumType, String name, String[] groups) {
+		if (groups.length == 0) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new LinkedHashSet<>();
+		for (String group : groups) {
+			if (group == null || group.isBlank()) {
+				error(element, "枚举 '%s.%s' 的分组名不能为空。", enumType, name);
+				return null;
+			}
+			if (!result.add(group)) {
+				warn(element, "枚举 '%s.%s' 重复声明了分组 '%s'。", enumType, name, group);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Validates the localized display names of one constant. Locale tags must be in the canonical form
+	 * returned by {@link Locale#toLanguageTag()}, so that the runtime can find the resource by tag.
+	 *
+	 * @return the display names keyed by locale tag, or null if any of them is invalid
+	 */
+	private Map<String, String> parseDisplayNames(Element element, String enumType, String name, SylphEnumDisplayName[] displayNames) {
+		if (displayNames.length == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> result = new TreeMap<>();
+		for (SylphEnumDisplayName displayName : displayNames) {
+			String tag = displayName.locale();
+			String canonical = Locale.forLanguageTag(tag).toLanguageTag();
+			if (tag.isBlank() || "und".equals(canonical) || !canonical.equals(tag)) {
+				error(element, "枚举 '%s.%s' 的显示名语言标签 '%s' 无效，规范形式为 '%s'。", enumType, name, tag, canonical);
+				return null;
+			}
+			if (result.put(tag, displayName.value()) != null) {
+				error(element, "枚举 '%s.%s' 重复声明了语言 '%s' 的显示名。", enumType, name, tag);
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Validates the aliases of one constant.
+	 *
+	 * @return the aliases, or null if any alias is blank
+	 */
+	private Set<String> parseAliases(Element element, String enumType, String name, String[] aliases) {
+		if (aliases.length == 0) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new LinkedHashSet<>();
+		for (String alias : aliases) {
+			if (alias == null || alias.isBlank()) {
+				error(element, "枚举 '%s.%s' 的别名不能为空。", enumType, name);
+				return null;
+			}
+			if (foldCase(alias).equals(foldCase(name)) || !result.add(alias)) {
+				warn(element, "枚举 '%s.%s' 的别名 '%s' 与名称或其他别名重复。", enumType, name, alias);
+			}
+		}
+		return result;
 	}
 
+	/**
+	 * Folds the case of every char like {@link String#equalsIgnoreCase}, same as SylphEnumNameSearch in the runtime module.
+	 */
+	private static String foldCase(String name) {
+		char[] chars = name.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+	private Object parseAttributeValue(SylphEnumAttrType type, String value) {
+		return switch (type) {
+			case INT -> Integer.parseInt(value.trim());
+			case LONG -> Long.parseLong(value.trim());
+			case DOUBLE -> Double.parseDouble(value.trim());
+			case BOOLEAN -> switch (value.trim()) {
+				case "true" -> Boolean.TRUE;
+				case "false" -> Boolean.FALSE;
+				default -> throw new IllegalArgumentException(value);
+			};
+			case STRING -> value;
+		};
+	}
 
 	/**
 	 * Generates all necessary files (Proto Enums, Registrar, ServiceLoader).
@@ -308,11 +740,60 @@ public class SylphEnumProcessor extends AbstractProcessor {
 			Set<DefinitionData> definitions = entry.getValue(); // TreeSet, already sorted by ID
 
 			// Check if there are definitions for this type before generating
-			if (definitions != null && !definitions.isEmpty()) {
+			if (definitions != null && definitions.size() > tableThreshold) {
+				generateEnumTableFile(enumType, definitions);
+			} else if (definitions != null && !definitions.isEmpty()) {
 				generateEnumProtoFile(enumType, definitions);
 			} else {
 				warn(null, "发现空的定义集 '%s'，跳过生成 proto 文件。", enumType);
 			}
+
+			if (definitions != null && definitions.stream().anyMatch(d -> !d.getGroups().isEmpty())) {
+				generateEnumGroupsFile(enumType, definitions);
+			}
+
+			Map<String, SylphEnumAttrType> attrTypes = attrTypesByType.get(enumType);
+			if (definitions != null && attrTypes != null && !attrTypes.isEmpty()) {
+				generateEnumAttributesFile(enumType, attrTypes, definitions);
+			}
+
+			if (definitions != null && !definitions.isEmpty()) {
+				generateEnumStringsFiles(enumType, definitions);
+				generateEnumAliasesFile(enumType, definitions);
+			}
+		}
+
+		// Generate the composed id translation tables for every version pair
+		for (Map.Entry<String, NavigableMap<Integer, Map<Integer, MigrationData>>> entry : migrationsByType.entrySet()) {
+			Set<DefinitionData> definitions = collectedDefinitions.get(entry.getKey());
+			if (definitions == null || definitions.isEmpty()) {
+				MigrationData first = entry.getValue().firstEntry().getValue().values().iterator().next();
+				error(first.element(), "迁移的枚举类型 '%s' 没有任何 @SylphEnumReg 定义。", entry.getKey());
+				continue;
+			}
+			generateEnumMigrationsFile(entry.getKey(), entry.getValue());
+		}
+
+		// Generate the relation bit-matrix resources, keyed by the source type
+		for (Map.Entry<String, Map<String, List<RelationData>>> entry : relationsByType.entrySet()) {
+			generateEnumRelationsFile(entry.getKey(), entry.getValue());
+		}
+
+		// Generate the mask constant classes for flags types
+		for (Map.Entry<String, Integer> entry : flagsMaxBitsByType.entrySet()) {
+			Set<DefinitionData> definitions = collectedDefinitions.get(entry.getKey());
+			if (definitions == null || definitions.isEmpty()) {
+				warn(flagsElementsByType.get(entry.getKey()), "标志位类型 '%s' 没有任何 @SylphEnumReg 定义，跳过生成掩码类。", entry.getKey());
+				continue;
+			}
+			generateEnumFlagsFile(entry.getKey(), entry.getValue(), definitions);
+		}
+
+		// Generate the constant reference classes for table-backed types, which have no Java constants of their own
+		if (refs) {
+			for (String enumType : tableTypes) {
+				generateEnumRefsFile(enumType, collectedDefinitions.get(enumType));
+			}
 		}
 
 		// Generate the single Registrar Impl Java file containing all types
@@ -321,6 +802,11 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		// Generate the ServiceLoader file pointing to the Registrar Impl
 		generateServiceLoaderFile();
 
+		// Generate the GraalVM native-image metadata for the registrar, enums and resources
+		if (nativeImage) {
+			generateNativeImageFiles();
+		}
+
 		log("文件生成阶段完成。");
 	}
 
@@ -333,40 +819,42 @@ public class SylphEnumProcessor extends AbstractProcessor {
 	 */
 	private void generateEnumProtoFile(String enumJavaName, Set<DefinitionData> definitions) throws IOException {
 		log("为类型 '%s' 生成 proto 文件...", enumJavaName);
-
-		// --- Prepare Data Model for the Proto Template ---
-		Map<String, Object> dataModel = new HashMap<>();
-		dataModel.put("protoPackage", this.protoPackage); // Use configured proto package
-
-		// Derive Java options (can be made configurable later)
-		String derivedJavaPackage = this.protoPackage; // Default: use proto package
-		String derivedOuterClassName = enumJavaName + "Proto"; // Convention: TypeNameProto
-		dataModel.put("javaPackage", derivedJavaPackage);
-
-		// Global params - currently empty, add logic if needed via -A options
-		dataModel.put("globalParams", Collections.emptyMap());
-
-		// Prepare the single enum entry for the 'enums' list in the template
-		Map<String, Object> enumModel = new HashMap<>();
-		enumModel.put("name", enumJavaName); // Use the Java name as the Proto Enum name
 		boolean hasZero = definitions.stream().anyMatch(d -> d.getId() == 0);
-		enumModel.put("hasZeroId", hasZero);
-		enumModel.put("params", Collections.emptyMap()); // Per-enum params - currently empty
-
-		// Prepare members list
-		List<Map<String, Object>> membersList = definitions.stream()
-			.map(d -> {
-				Map<String, Object> memberMap = new HashMap<>();
-				memberMap.put("name", d.getName()); // Java constant name becomes Proto member name
-				memberMap.put("id", d.getId());
-				memberMap.put("comment", d.getDescription() == null ? "" : d.getDescription());
-				return memberMap;
-			})
-			.collect(Collectors.toList());
-		enumModel.put("members", membersList);
 
-		// The template expects a list of enums, even if we generate one per file
-		dataModel.put("enums", List.of(enumModel));
+		// --- Prepare Data Model for the Proto Template ---
+		Map<String, Object> dataModel = protoTemplate == null ? null : new HashMap<>();
+		if (dataModel != null) {
+			dataModel.put("protoPackage", this.protoPackage); // Use configured proto package
+
+			// Derive Java options (can be made configurable later)
+			String derivedJavaPackage = this.protoPackage; // Default: use proto package
+			String derivedOuterClassName = enumJavaName + "Proto"; // Convention: TypeNameProto
+			dataModel.put("javaPackage", derivedJavaPackage);
+
+			// Global params - currently empty, add logic if needed via -A options
+			dataModel.put("globalParams", Collections.emptyMap());
+
+			// Prepare the single enum entry for the 'enums' list in the template
+			Map<String, Object> enumModel = new HashMap<>();
+			enumModel.put("name", enumJavaName); // Use the Java name as the Proto Enum name
+			enumModel.put("hasZeroId", hasZero);
+			enumModel.put("params", Collections.emptyMap()); // Per-enum params - currently empty
+
+			// Prepare members list
+			List<Map<String, Object>> membersList = definitions.stream()
+				.map(d -> {
+					Map<String, Object> memberMap = new HashMap<>();
+					memberMap.put("name", d.getName()); // Java constant name becomes Proto member name
+					memberMap.put("id", d.getId());
+					memberMap.put("comment", d.getDescription() == null ? "" : d.getDescription());
+					return memberMap;
+				})
+				.collect(Collectors.toList());
+			enumModel.put("members", membersList);
+
+			// The template expects a list of enums, even if we generate one per file
+			dataModel.put("enums", List.of(enumModel));
+		}
 
 		// --- Determine Output File ---
 		// Convention: lowercase_with_underscores.proto
@@ -384,7 +872,11 @@ public class SylphEnumProcessor extends AbstractProcessor {
 				relativePath + "/" + protoFileName); // Combine relative path and filename
 
 			try (Writer writer = fileObject.openWriter()) {
-				protoTemplate.process(dataModel, writer);
+				if (protoTemplate != null) {
+					protoTemplate.process(dataModel, writer);
+				} else {
+					writeEnumProto(writer, enumJavaName, hasZero, definitions);
+				}
 				log("成功生成 proto 文件: %s", fileObject.getName());
 			}
 		} catch (Exception e) { // Catch TemplateException and IOException
@@ -397,6 +889,704 @@ public class SylphEnumProcessor extends AbstractProcessor {
 	}
 
 
+	/**
+	 * Writes the same .proto content as default_enum_proto.ftl without going through FreeMarker.
+	 */
+	private void writeEnumProto(Writer writer, String enumJavaName, boolean hasZero, Set<DefinitionData> definitions) throws IOException {
+		StringBuilder proto = new StringBuilder(64 + definitions.size() * 48);
+		proto.append("syntax = \"proto3\";\n\n");
+		proto.append("package ").append(protoPackage).append(";\n\n");
+		proto.append("option java_package = \"").append(protoPackage).append("\";\n");
+		proto.append("option java_multiple_files = true;\n\n");
+		proto.append("enum ").append(enumJavaName).append(" {\n");
+		if (!hasZero) {
+			proto.append("    // Default unspecified value added by processor.\n");
+			proto.append("    ").append(enumJavaName.toUpperCase(Locale.ROOT)).append("_UNSPECIFIED = 0;\n");
+		}
+		for (DefinitionData definition : definitions) {
+			if (definition.getDescription() != null && !definition.getDescription().isEmpty()) {
+				proto.append("    // ").append(definition.getDescription()).append('\n');
+			}
+			proto.append("    ").append(definition.getName()).append(" = ").append(definition.getId()).append(";\n");
+		}
+		proto.append("}\n");
+		writer.write(proto.toString());
+	}
+
+	/**
+	 * Generates a compact table resource for an enum type that is too large for a single Java enum.
+	 * The layout must match SylphEnumTable in the runtime module.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ItemType").
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumTableFile(String enumJavaName, Set<DefinitionData> definitions) {
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + TABLE_RESOURCE_SUFFIX;
+		log("类型 '%s' 共 %d 个常量，超过阈值 %d，生成常量表资源 %s", enumJavaName, definitions.size(), tableThreshold, resourceName);
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(TABLE_MAGIC);
+				output.writeShort(TABLE_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(definitions.size());
+				for (DefinitionData definition : definitions) {
+					output.writeInt(definition.getId());
+				}
+				for (DefinitionData definition : definitions) {
+					output.writeUTF(definition.getName());
+				}
+			}
+			tableTypes.add(enumJavaName);
+			generatedResources.add(resourceName);
+			log("成功生成常量表资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成常量表资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generates the group membership of an enum type as a resource, keyed by ID like the attributes.
+	 * Groups are written sorted by name so that group ids are stable across builds.
+	 * The layout must match SylphEnumGroup in the runtime module.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ConditionType").
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumGroupsFile(String enumJavaName, Set<DefinitionData> definitions) {
+		Map<String, List<Integer>> membersByGroup = new TreeMap<>();
+		for (DefinitionData definition : definitions) {
+			for (String group : definition.getGroups()) {
+				membersByGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(definition.getId());
+			}
+		}
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + GROUPS_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成分组资源 %s，分组: %s", enumJavaName, resourceName, membersByGroup.keySet());
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(GROUPS_MAGIC);
+				output.writeShort(GROUPS_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(membersByGroup.size());
+				for (Map.Entry<String, List<Integer>> group : membersByGroup.entrySet()) {
+					output.writeUTF(group.getKey());
+					output.writeInt(group.getValue().size());
+					for (int id : group.getValue()) {
+						output.writeInt(id);
+					}
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成分组资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成分组资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generates the typed attribute columns of an enum type as a resource.
+	 * Values are keyed by ID, because the generated proto enum may insert an _UNSPECIFIED constant
+	 * and shift ordinals. The layout must match SylphEnumAttributes in the runtime module.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ConditionType").
+	 * @param attrTypes    The declared attribute types, in declaration order.
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumAttributesFile(String enumJavaName, Map<String, SylphEnumAttrType> attrTypes, Set<DefinitionData> definitions) {
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + ATTRIBUTES_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成属性表资源 %s，属性: %s", enumJavaName, resourceName, attrTypes.keySet());
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(ATTRIBUTES_MAGIC);
+				output.writeShort(ATTRIBUTES_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(attrTypes.size());
+				for (Map.Entry<String, SylphEnumAttrType> attrType : attrTypes.entrySet()) {
+					String attrName = attrType.getKey();
+					output.writeUTF(attrName);
+					output.writeByte(attrType.getValue().ordinal());
+					List<DefinitionData> declared = definitions.stream()
+						.filter(d -> d.getAttributes().containsKey(attrName))
+						.collect(Collectors.toList());
+					output.writeInt(declared.size());
+					for (DefinitionData definition : declared) {
+						output.writeInt(definition.getId());
+						Object value = definition.getAttributes().get(attrName);
+						switch (attrType.getValue()) {
+							case INT -> output.writeInt((Integer) value);
+							case LONG -> output.writeLong((Long) value);
+							case DOUBLE -> output.writeDouble((Double) value);
+							case BOOLEAN -> output.writeBoolean((Boolean) value);
+							case STRING -> output.writeUTF((String) value);
+						}
+					}
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成属性表资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成属性表资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generates the string tables of an enum type: one with the non-empty descriptions, which also lists the
+	 * declared display name locales, and one per locale with the display names. Nothing is generated when
+	 * the type has neither.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ConditionType").
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumStringsFiles(String enumJavaName, Set<DefinitionData> definitions) {
+		Map<Integer, String> descriptions = new TreeMap<>();
+		Map<String, Map<Integer, String>> displayNamesByLocale = new TreeMap<>();
+		for (DefinitionData definition : definitions) {
+			if (definition.getDescription() != null && !definition.getDescription().isEmpty()) {
+				descriptions.put(definition.getId(), definition.getDescription());
+			}
+			for (Map.Entry<String, String> displayName : definition.getDisplayNames().entrySet()) {
+				displayNamesByLocale.computeIfAbsent(displayName.getKey(), k -> new TreeMap<>())
+					.put(definition.getId(), displayName.getValue());
+			}
+		}
+		if (descriptions.isEmpty() && displayNamesByLocale.isEmpty()) {
+			return;
+		}
+		writeStringTable(enumJavaName, "", displayNamesByLocale.keySet(), descriptions);
+		for (Map.Entry<String, Map<Integer, String>> entry : displayNamesByLocale.entrySet()) {
+			writeStringTable(enumJavaName, entry.getKey(), Collections.emptySet(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Writes one string table resource: the IDs and UTF-8 byte lengths first, then all strings as one UTF-8 blob.
+	 *
+	 * @param enumJavaName The enum type name.
+	 * @param locale       The locale tag, empty for the description table.
+	 * @param locales      The locale tags that have display name tables, only listed in the description table.
+	 * @param strings      The strings keyed by ID.
+	 */
+	private void writeStringTable(String enumJavaName, String locale, Set<String> locales, Map<Integer, String> strings) {
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + (locale.isEmpty() ? "" : "_" + locale) + STRINGS_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成字符串表资源 %s，数量: %d", enumJavaName, resourceName, strings.size());
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(STRINGS_MAGIC);
+				output.writeShort(STRINGS_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeUTF(locale);
+				output.writeInt(locales.size());
+				for (String tag : locales) {
+					output.writeUTF(tag);
+				}
+				output.writeInt(strings.size());
+				List<byte[]> encoded = new ArrayList<>(strings.size());
+				for (Map.Entry<Integer, String> entry : strings.entrySet()) {
+					output.writeInt(entry.getKey());
+					encoded.add(entry.getValue().getBytes(StandardCharsets.UTF_8));
+				}
+				for (byte[] bytes : encoded) {
+					output.writeInt(bytes.length);
+				}
+				for (byte[] bytes : encoded) {
+					output.write(bytes);
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成字符串表资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成字符串表资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Checks that the case-folded names and aliases of an enum type do not collide and writes the aliases
+	 * as a resource, keyed by ID. Two names that differ only in case are reported as a warning, since the
+	 * case-insensitive lookup then prefers the lower ordinal; an alias colliding with any other constant is an error.
+	 * The layout must match SylphEnumNameSearch in the runtime module.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ItemType").
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumAliasesFile(String enumJavaName, Set<DefinitionData> definitions) {
+		Map<String, DefinitionData> owners = new HashMap<>();
+		for (DefinitionData definition : definitions) {
+			DefinitionData exist = owners.putIfAbsent(foldCase(definition.getName()), definition);
+			if (exist != null) {
+				warn(definition.getOriginatingElement(), "枚举类型 '%s' 的名称 '%s' 与 '%s' 只有大小写不同，忽略大小写查找时返回 '%s'。",
+					enumJavaName, definition.getName(), exist.getName(), exist.getName());
+			}
+		}
+		int count = 0;
+		boolean valid = true;
+		for (DefinitionData definition : definitions) {
+			for (String alias : definition.getAliases()) {
+				DefinitionData exist = owners.putIfAbsent(foldCase(alias), definition);
+				if (exist != null && exist != definition) {
+					error(definition.getOriginatingElement(), "枚举类型 '%s' 中 '%s' 的别名 '%s' 与 '%s' 的名称或别名冲突（忽略大小写）。",
+						enumJavaName, definition.getName(), alias, exist.getName());
+					valid = false;
+				}
+				count++;
+			}
+		}
+		if (count == 0 || !valid) {
+			return;
+		}
+
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + ALIASES_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成别名资源 %s，数量: %d", enumJavaName, resourceName, count);
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(ALIASES_MAGIC);
+				output.writeShort(ALIASES_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(count);
+				for (DefinitionData definition : definitions) {
+					for (String alias : definition.getAliases()) {
+						output.writeInt(definition.getId());
+						output.writeUTF(alias);
+					}
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成别名资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成别名资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generates the id translation table of an enum type for every version pair (from, to), from &lt; to.
+	 * Each pair is the composition of the single-version steps from + 1 .. to and only lists the ids that change,
+	 * sorted by old ID. The composition to the latest version must end in a registered ID or a tombstone.
+	 * The layout must match SylphEnumMigrations in the runtime module.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ItemType").
+	 * @param steps        The migrations declared for each version, keyed by old ID.
+	 */
+	private void generateEnumMigrationsFile(String enumJavaName, NavigableMap<Integer, Map<Integer, MigrationData>> steps) {
+		int latestVersion = steps.lastKey();
+		Set<Integer> registeredIds = usedIdsByType.getOrDefault(enumJavaName, Collections.emptySet());
+		List<int[]> versionPairs = new ArrayList<>();
+		List<Map<Integer, Integer>> translations = new ArrayList<>();
+		Set<Element> reported = new HashSet<>();
+		boolean valid = true;
+		for (int fromVersion = 0; fromVersion < latestVersion; fromVersion++) {
+			Map<Integer, Integer> composed = new TreeMap<>();
+			// 每个旧id最后一次生效的迁移，用于报告错误位置
+			Map<Integer, MigrationData> origins = new HashMap<>();
+			for (int toVersion = fromVersion + 1; toVersion <= latestVersion; toVersion++) {
+				Map<Integer, MigrationData> step = steps.getOrDefault(toVersion, Collections.emptyMap());
+				Set<Integer> oldIds = new TreeSet<>(composed.keySet());
+				oldIds.addAll(step.keySet());
+				Map<Integer, Integer> next = new TreeMap<>();
+				for (int oldId : oldIds) {
+					int current = composed.getOrDefault(oldId, oldId);
+					MigrationData migration = current == SylphEnumMigrate.TOMBSTONE ? null : step.get(current);
+					if (migration != null) {
+						current = migration.to();
+						origins.put(oldId, migration);
+					}
+					if (current != oldId) {
+						next.put(oldId, current);
+					}
+				}
+				composed = next;
+				if (!composed.isEmpty()) {
+					versionPairs.add(new int[]{fromVersion, toVersion});
+					translations.add(composed);
+				}
+			}
+			for (Map.Entry<Integer, Integer> entry : composed.entrySet()) {
+				int newId = entry.getValue();
+				if (newId != SylphEnumMigrate.TOMBSTONE && !registeredIds.contains(newId)) {
+					valid = false;
+					MigrationData origin = origins.get(entry.getKey());
+					if (reported.add(origin.element())) {
+						error(origin.element(), "枚举类型 '%s' 从版本 %d 迁移的id %d 在最新版本 %d 中对应的id %d 未注册。",
+							enumJavaName, fromVersion, entry.getKey(), latestVersion, newId);
+					}
+				}
+			}
+		}
+		if (!valid) {
+			return;
+		}
+
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + MIGRATIONS_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成迁移表资源 %s，最新版本: %d，版本对: %d", enumJavaName, resourceName, latestVersion, versionPairs.size());
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(MIGRATIONS_MAGIC);
+				output.writeShort(MIGRATIONS_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(latestVersion);
+				output.writeInt(versionPairs.size());
+				for (int i = 0; i < versionPairs.size(); i++) {
+					output.writeInt(versionPairs.get(i)[0]);
+					output.writeInt(versionPairs.get(i)[1]);
+					Map<Integer, Integer> translation = translations.get(i);
+					output.writeInt(translation.size());
+					for (Map.Entry<Integer, Integer> entry : translation.entrySet()) {
+						output.writeInt(entry.getKey());
+						output.writeInt(entry.getValue());
+					}
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成迁移表资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成迁移表资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generates the relations declared with a type as their source as a resource.
+	 * Constant names are resolved to IDs, because the generated proto enum may insert an _UNSPECIFIED constant
+	 * and shift ordinals. Each relation lists its (from ID, to ID) pairs sorted and without duplicates.
+	 * The layout must match SylphEnumRelationMatrix in the runtime module.
+	 *
+	 * @param enumJavaName The source enum type name (e.g., "ConditionType").
+	 * @param relations    The declarations of each relation, keyed by relation name.
+	 */
+	private void generateEnumRelationsFile(String enumJavaName, Map<String, List<RelationData>> relations) {
+		Map<String, Map<Integer, Set<Integer>>> pairsByRelation = new TreeMap<>();
+		boolean valid = true;
+		for (Map.Entry<String, List<RelationData>> relation : relations.entrySet()) {
+			Map<Integer, Set<Integer>> pairs = new TreeMap<>();
+			for (RelationData data : relation.getValue()) {
+				List<Integer> fromIds = resolveRelationIds(data.element(), enumJavaName, relation.getKey(), enumJavaName, data.fromNames());
+				List<Integer> toIds = resolveRelationIds(data.element(), enumJavaName, relation.getKey(), data.toType(), data.toNames());
+				if (fromIds == null || toIds == null) {
+					valid = false;
+					continue;
+				}
+				for (int fromId : fromIds) {
+					pairs.computeIfAbsent(fromId, k -> new TreeSet<>()).addAll(toIds);
+				}
+			}
+			pairsByRelation.put(relation.getKey(), pairs);
+		}
+		if (!valid) {
+			return;
+		}
+
+		String resourceName = TABLE_RESOURCE_DIRECTORY + enumJavaName + RELATIONS_RESOURCE_SUFFIX;
+		log("为类型 '%s' 生成关系资源 %s，关系: %s", enumJavaName, resourceName, pairsByRelation.keySet());
+
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileObject.openOutputStream()))) {
+				output.writeInt(RELATIONS_MAGIC);
+				output.writeShort(RELATIONS_VERSION);
+				output.writeUTF(enumJavaName);
+				output.writeInt(pairsByRelation.size());
+				for (Map.Entry<String, Map<Integer, Set<Integer>>> relation : pairsByRelation.entrySet()) {
+					output.writeUTF(relation.getKey());
+					output.writeUTF(relations.get(relation.getKey()).get(0).toType());
+					output.writeInt(relation.getValue().values().stream().mapToInt(Set::size).sum());
+					for (Map.Entry<Integer, Set<Integer>> row : relation.getValue().entrySet()) {
+						for (int toId : row.getValue()) {
+							output.writeInt(row.getKey());
+							output.writeInt(toId);
+						}
+					}
+				}
+			}
+			generatedResources.add(resourceName);
+			log("成功生成关系资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法为类型 '%s' 生成关系资源 '%s': %s", enumJavaName, filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Resolves the constant names referenced by a relation to their IDs.
+	 *
+	 * @return the IDs in declaration order, or null if the type or any name is not registered
+	 */
+	private List<Integer> resolveRelationIds(Element element, String fromType, String relation, String enumType, String[] names) {
+		Set<DefinitionData> definitions = collectedDefinitions.get(enumType);
+		if (definitions == null || definitions.isEmpty()) {
+			error(element, "枚举类型 '%s' 的关系 '%s' 引用的类型 '%s' 没有任何 @SylphEnumReg 定义。", fromType, relation, enumType);
+			return null;
+		}
+		Map<String, Integer> idsByName = new HashMap<>();
+		for (DefinitionData definition : definitions) {
+			idsByName.put(definition.getName(), definition.getId());
+		}
+		List<Integer> ids = new ArrayList<>(names.length);
+		for (String name : names) {
+			Integer id = idsByName.get(name);
+			if (id == null) {
+				error(element, "枚举类型 '%s' 的关系 '%s' 引用了类型 '%s' 中不存在的常量 '%s'。", fromType, relation, enumType, name);
+				return null;
+			}
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	/**
+	 * Generates the &lt;Type&gt;Flags class holding a mask constant per flag.
+	 * The bit of a flag is the ordinal of the constant at runtime: table-backed types use the ID order directly,
+	 * proto enums are shifted by one when the processor inserts the _UNSPECIFIED constant.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "PermissionType").
+	 * @param maxBits      The number of bits the type must fit into, a multiple of 64.
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumFlagsFile(String enumJavaName, int maxBits, Set<DefinitionData> definitions) {
+		boolean hasZero = definitions.stream().anyMatch(d -> d.getId() == 0);
+		int firstBit = tableTypes.contains(enumJavaName) || hasZero ? 0 : 1;
+		int bits = firstBit + definitions.size();
+		Element element = flagsElementsByType.get(enumJavaName);
+		if (bits > maxBits) {
+			error(element, "标志位类型 '%s' 需要 %d 位，超过了 maxBits=%d。", enumJavaName, bits, maxBits);
+			return;
+		}
+		int words = (bits + 63) >>> 6;
+
+		for (DefinitionData definition : definitions) {
+			if (RESERVED_FLAG_NAMES.contains(definition.getName())) {
+				error(element, "标志位类型 '%s' 的常量名 '%s' 与生成的掩码类中的保留名冲突。", enumJavaName, definition.getName());
+				return;
+			}
+		}
+
+		String className = enumJavaName + "Flags";
+		String fullyQualifiedClassName = this.registrarPackage + "." + className;
+		generatedFlagsClasses.add(fullyQualifiedClassName);
+		if (flagsTemplate == null) {
+			try {
+				log("尝试创建源文件: %s", fullyQualifiedClassName);
+				buildEnumFlagsFile(className, enumJavaName, firstBit, bits, words, definitions).writeTo(filer);
+				log("成功生成 Java 文件: %s", fullyQualifiedClassName);
+			} catch (IOException e) {
+				error(null, "无法生成标志位掩码类 '%s': %s", fullyQualifiedClassName, e.getMessage());
+				e.printStackTrace();
+			}
+			return;
+		}
+
+		List<Map<String, Object>> flagList = new ArrayList<>(definitions.size());
+		int bit = firstBit;
+		for (DefinitionData definition : definitions) {
+			Map<String, Object> flagModel = new HashMap<>();
+			flagModel.put("name", definition.getName());
+			flagModel.put("id", definition.getId());
+			flagModel.put("bit", bit);
+			flagModel.put("word", bit >>> 6);
+			flagModel.put("wordBit", bit & 63);
+			flagModel.put("comment", definition.getDescription() == null ? "" : definition.getDescription());
+			flagList.add(flagModel);
+			bit++;
+		}
+
+		Map<String, Object> dataModel = new HashMap<>();
+		dataModel.put("packageName", this.registrarPackage);
+		dataModel.put("className", className);
+		dataModel.put("enumName", enumJavaName);
+		dataModel.put("bits", bits);
+		dataModel.put("words", words);
+		dataModel.put("flags", flagList);
+
+		FileObject fileObject = null;
+		try {
+			log("尝试创建源文件: %s", fullyQualifiedClassName);
+			fileObject = filer.createSourceFile(fullyQualifiedClassName);
+			try (Writer writer = fileObject.openWriter()) {
+				flagsTemplate.process(dataModel, writer);
+				log("成功生成 Java 文件: %s", fileObject.getName());
+			}
+		} catch (Exception e) { // Catch TemplateException and IOException
+			String filePath = (fileObject != null) ? fileObject.getName() : fullyQualifiedClassName;
+			error(null, "无法生成标志位掩码类 '%s': %s", filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Builds the same &lt;Type&gt;Flags class as default_enum_flags.ftl with JavaPoet.
+	 */
+	private JavaFile buildEnumFlagsFile(String className, String enumJavaName, int firstBit, int bits, int words,
+										Set<DefinitionData> definitions) {
+		TypeSpec.Builder type = TypeSpec.classBuilder(className)
+			.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+			.addAnnotation(generatedAnnotation())
+			.addJavadoc("Generated by sylph-enum-aggregator. DO NOT EDIT.\n")
+			.addJavadoc("Mask constants of the $L flags type, the bit of each flag is the ordinal of the constant.\n", enumJavaName)
+			.addJavadoc(words == 1
+				? "Combine them with SylphEnumMasks or plain long arithmetic.\n"
+				: "Each flag has a mask within word NAME_WORD of a long[" + words + "] mask, combine them with SylphEnumMasks.\n")
+			.addField(FieldSpec.builder(TypeName.INT, "BITS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("Number of bits used by $L\n", enumJavaName)
+				.initializer("$L", bits)
+				.build())
+			.addField(FieldSpec.builder(TypeName.INT, "WORDS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("Number of 64-bit words of a $L mask\n", enumJavaName)
+				.initializer("$L", words)
+				.build());
+
+		int bit = firstBit;
+		List<String> names = new ArrayList<>(definitions.size());
+		for (DefinitionData definition : definitions) {
+			String comment = definition.getDescription() == null || definition.getDescription().isEmpty() ? "" : definition.getDescription() + " ";
+			if (words > 1) {
+				type.addField(FieldSpec.builder(TypeName.INT, definition.getName() + "_WORD", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+					.initializer("$L", bit >>> 6)
+					.build());
+			}
+			type.addField(FieldSpec.builder(TypeName.LONG, definition.getName(), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("$L(id = $L, bit = $L)\n", comment, definition.getId(), bit)
+				.initializer("1L << $L", words > 1 ? bit & 63 : bit)
+				.build());
+			names.add(definition.getName());
+			bit++;
+		}
+		if (words == 1) {
+			type.addField(FieldSpec.builder(TypeName.LONG, "ALL", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+				.addJavadoc("All declared flags\n")
+				.initializer("$L", String.join(" | ", names))
+				.build());
+		}
+		type.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+		return JavaFile.builder(this.registrarPackage, type.build())
+			.skipJavaLangImports(true)
+			.indent("    ")
+			.build();
+	}
+
+	/**
+	 * Generates the &lt;Type&gt;Refs class of a table-backed type. Each constant has an accessor returning a
+	 * static final field that is resolved against the shared SylphEnumsImage registry once, when its holder class
+	 * is initialized, so the JIT folds the accessor to the constant. Constants are spread over nested holder classes
+	 * of REFS_CHUNK_SIZE, and only the holder of a used constant gets initialized. Types with more than
+	 * REFS_MAX_CONSTANTS constants would overflow the constant pool of a single class, so their accessors move into
+	 * the public holders as well (&lt;Type&gt;Refs.C0, &lt;Type&gt;Refs.C1, ...) and the outer class only carries the
+	 * shared definition.
+	 *
+	 * @param enumJavaName The enum type name (e.g., "ItemType").
+	 * @param definitions  The set of definitions for this enum type, sorted by ID.
+	 */
+	private void generateEnumRefsFile(String enumJavaName, Set<DefinitionData> definitions) {
+		String className = enumJavaName + "Refs";
+		String fullyQualifiedClassName = this.registrarPackage + "." + className;
+		boolean chunked = definitions.size() > REFS_MAX_CONSTANTS;
+		if (chunked) {
+			log("类型 '%s' 共 %d 个常量，超过 %d，访问方法按每 %d 个拆分到 %s 的嵌套类中", enumJavaName, definitions.size(), REFS_MAX_CONSTANTS, REFS_CHUNK_SIZE, fullyQualifiedClassName);
+		}
+		ClassName refsClass = ClassName.get(this.registrarPackage, className);
+		ClassName definitionClass = ClassName.get(RUNTIME_PACKAGE, "SylphEnumDefinition");
+		ClassName imageClass = ClassName.get(RUNTIME_PACKAGE, "SylphEnumsImage");
+
+		TypeSpec.Builder type = TypeSpec.classBuilder(className)
+			.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+			.addAnnotation(generatedAnnotation())
+			.addJavadoc("Generated by sylph-enum-aggregator. DO NOT EDIT.\n")
+			.addJavadoc("Constant references of the table-backed $L type, resolved once against SylphEnumsImage.\n", enumJavaName)
+			.addJavadoc("<p>\nThe references are bound to the global registry of SylphEnumsImage. Code that works with its own\n")
+			.addJavadoc("SylphEnums instance should look constants up through that instance (e.g. getById($S, id)) instead.\n", enumJavaName)
+			.addField(FieldSpec.builder(definitionClass, "DEFINITION", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.initializer("$T.sylphEnums().findDefinition($S).orElseThrow()", imageClass, enumJavaName)
+				.build())
+			.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+		TypeSpec.Builder holder = null;
+		int index = 0;
+		for (DefinitionData definition : definitions) {
+			if (index % REFS_CHUNK_SIZE == 0) {
+				if (holder != null) {
+					type.addType(holder.build());
+				}
+				holder = TypeSpec.classBuilder("C" + index / REFS_CHUNK_SIZE)
+					.addModifiers(chunked ? Modifier.PUBLIC : Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+				if (chunked) {
+					holder.addJavadoc("Constants $L to $L of $L, in ID order.\n", index, Math.min(index + REFS_CHUNK_SIZE, definitions.size()) - 1, enumJavaName)
+						.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+				}
+			}
+			String holderName = "C" + index / REFS_CHUNK_SIZE;
+			FieldSpec.Builder field = FieldSpec.builder(SylphEnum.class, definition.getName(), Modifier.STATIC, Modifier.FINAL)
+				.initializer("$T.DEFINITION.getById($L)", refsClass, definition.getId());
+			if (chunked) {
+				field.addModifiers(Modifier.PRIVATE);
+			}
+			holder.addField(field.build());
+			index++;
+			if (RESERVED_REF_NAMES.contains(definition.getName())) {
+				warn(null, "类型 '%s' 的常量名 '%s' 与 Object 的方法同名，%s 中不生成它的访问方法。", enumJavaName, definition.getName(), className);
+				continue;
+			}
+			String comment = definition.getDescription() == null || definition.getDescription().isEmpty() ? "" : definition.getDescription() + " ";
+			MethodSpec.Builder accessor = MethodSpec.methodBuilder(definition.getName())
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+				.returns(SylphEnum.class)
+				.addJavadoc("$L(id = $L)\n", comment, definition.getId());
+			if (chunked) {
+				holder.addMethod(accessor.addStatement("return $L", definition.getName()).build());
+			} else {
+				type.addMethod(accessor.addStatement("return $L.$L", holderName, definition.getName()).build());
+			}
+		}
+		if (holder != null) {
+			type.addType(holder.build());
+		}
+
+		try {
+			log("尝试创建源文件: %s", fullyQualifiedClassName);
+			JavaFile.builder(this.registrarPackage, type.build())
+				.skipJavaLangImports(true)
+				.indent("    ")
+				.build()
+				.writeTo(filer);
+			log("成功生成 Java 文件: %s", fullyQualifiedClassName);
+		} catch (IOException e) {
+			error(null, "无法生成常量引用类 '%s': %s", fullyQualifiedClassName, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	private AnnotationSpec generatedAnnotation() {
+		return AnnotationSpec.builder(ClassName.get("javax.annotation.processing", "Generated"))
+			.addMember("value", "$S", GENERATED_BY)
+			.build();
+	}
+
 	/**
 	 * Generates the single SylphEnumRegistrarImpl.java file.
 	 * This implementation will register all discovered enum types.
@@ -415,11 +1605,32 @@ public class SylphEnumProcessor extends AbstractProcessor {
 
 		// The template needs a list of enum types to register
 		List<Map<String, Object>> enumTypeList = collectedDefinitions.keySet().stream()
+			.filter(enumTypeName -> !tableTypes.contains(enumTypeName))
 			.sorted() // Sort alphabetically for consistent output
 			.map(enumTypeName -> Map.<String, Object>of("name", enumTypeName)) // Map each name
 			.collect(Collectors.toList());
+		// Table-backed types are registered from their generated resource
+		List<Map<String, Object>> tableTypeList = tableTypes.stream()
+			.map(enumTypeName -> Map.<String, Object>of("name", enumTypeName,
+				"resource", TABLE_RESOURCE_DIRECTORY + enumTypeName + TABLE_RESOURCE_SUFFIX))
+			.collect(Collectors.toList());
+
+		// --- Determine Output File ---
+		String fullyQualifiedClassName = this.registrarPackage + "." + registrarClassName;
+		if (registrarTemplate == null) {
+			try {
+				log("尝试创建源文件: %s", fullyQualifiedClassName);
+				buildEnumRegistrarFile(enumTypeList, tableTypeList).writeTo(filer);
+				log("成功生成 Java 文件: %s", fullyQualifiedClassName);
+			} catch (IOException e) {
+				error(null, "无法生成 registrar 文件 '%s': %s", fullyQualifiedClassName, e.getMessage());
+				e.printStackTrace();
+			}
+			return;
+		}
 
 		dataModel.put("enums", enumTypeList);
+		dataModel.put("tables", tableTypeList);
 		dataModel.put("className", registrarClassName);
 		dataModel.put("packageName", this.registrarPackage);
 		dataModel.put("enumInterfaceClass", SylphEnum.class.getCanonicalName());
@@ -428,9 +1639,6 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		dataModel.put("registrarInterfaceName", SylphEnumRegistrar.class.getSimpleName());
 		dataModel.put("protoPackage", protoPackage);
 
-		// --- Determine Output File ---
-		String fullyQualifiedClassName = this.registrarPackage + "." + registrarClassName;
-
 		// --- Write File using Filer ---
 		FileObject fileObject = null;
 		try {
@@ -450,6 +1658,50 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		}
 	}
 
+	/**
+	 * Builds the same registrar as default_enum_registrar.ftl with JavaPoet.
+	 *
+	 * @param enumTypes  Proto enum types, each map has "name".
+	 * @param tableTypes Table-backed types, each map has "name" and "resource".
+	 */
+	private JavaFile buildEnumRegistrarFile(List<Map<String, Object>> enumTypes, List<Map<String, Object>> tableTypes) {
+		ParameterSpec context = ParameterSpec.builder(ClassName.get(SylphEnumRegistrationContext.class), "registrationContext")
+			.addAnnotation(ClassName.get("javax.annotation", "Nonnull"))
+			.build();
+		MethodSpec.Builder doRegister = MethodSpec.methodBuilder("doRegister")
+			.addAnnotation(Override.class)
+			.addModifiers(Modifier.PUBLIC)
+			.addParameter(context);
+		for (Map<String, Object> enumType : enumTypes) {
+			String enumClassName = protoPackage + "." + enumType.get("name");
+			doRegister.beginControlFlow("try")
+				.addComment("Generated by the protobuf plugin from the aggregated proto file, checked without initializing it")
+				.addStatement("Class.forName($S, false, $L.class.getClassLoader())", enumClassName, registrarClassName)
+				.nextControlFlow("catch ($T e)", ClassNotFoundException.class)
+				.addStatement("System.err.println($S)", "SylphEnumRegistrar Error: Failed to find generated enum class: "
+					+ enumClassName + ". Registration skipped. Check build configuration.")
+				.endControlFlow();
+		}
+		for (Map<String, Object> tableType : tableTypes) {
+			doRegister.addComment("Too many constants for a single enum class, registered from the generated constant table")
+				.addStatement("registrationContext.registerTable($S, $L.class.getClassLoader(), $S)",
+					tableType.get("name"), registrarClassName, tableType.get("resource"));
+		}
+
+		TypeSpec registrar = TypeSpec.classBuilder(registrarClassName)
+			.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+			.addSuperinterface(SylphEnumRegistrar.class)
+			.addAnnotation(generatedAnnotation())
+			.addJavadoc("Generated by sylph-enum-aggregator. DO NOT EDIT.\n")
+			.addJavadoc("Implements the service provider interface to register aggregated enums.\n")
+			.addMethod(doRegister.build())
+			.build();
+		return JavaFile.builder(this.registrarPackage, registrar)
+			.skipJavaLangImports(true)
+			.indent("    ")
+			.build();
+	}
+
 	// generateServiceLoaderFile remains largely the same, but ensure correct class name
 	private void generateServiceLoaderFile() throws IOException {
 		// Only generate if there are definitions, otherwise the registrar wasn't generated
@@ -481,6 +1733,77 @@ public class SylphEnumProcessor extends AbstractProcessor {
 		}
 	}
 
+	/**
+	 * Generates reachability-metadata.json and native-image.properties under META-INF/native-image.
+	 * The metadata registers the registrar for ServiceLoader, the proto enum classes looked up by name
+	 * and the generated resources. The properties initialize the generated registrar, the flags mask classes
+	 * and the proto enums registered by it at image build time; the runtime jar declares its own registry
+	 * classes, so SylphEnumsImage and everything it reaches can be part of the image heap.
+	 */
+	private void generateNativeImageFiles() {
+		if (collectedDefinitions.isEmpty()) {
+			return;
+		}
+		String directory = NATIVE_IMAGE_DIRECTORY + registrarPackage + "/";
+		String registrarClass = registrarPackage + "." + registrarClassName;
+		String serviceResource = "META-INF/services/" + SylphEnumRegistrar.class.getCanonicalName();
+
+		List<String> reflection = new ArrayList<>();
+		reflection.add("    {\"type\": " + jsonString(registrarClass) + ", \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]}");
+		collectedDefinitions.keySet().stream()
+			.filter(enumTypeName -> !tableTypes.contains(enumTypeName))
+			.sorted()
+			.forEach(enumTypeName -> reflection.add("    {\"type\": " + jsonString(protoPackage + "." + enumTypeName) + "}"));
+		List<String> resources = new ArrayList<>();
+		resources.add("    {\"glob\": " + jsonString(serviceResource) + "}");
+		for (String resource : generatedResources) {
+			resources.add("    {\"glob\": " + jsonString(resource) + "}");
+		}
+		String metadata = "{\n"
+			+ "  \"reflection\": [\n" + String.join(",\n", reflection) + "\n  ],\n"
+			+ "  \"resources\": [\n" + String.join(",\n", resources) + "\n  ]\n"
+			+ "}\n";
+		List<String> buildTimeClasses = new ArrayList<>();
+		buildTimeClasses.add(registrarClass);
+		buildTimeClasses.addAll(generatedFlagsClasses);
+		collectedDefinitions.keySet().stream()
+			.filter(enumTypeName -> !tableTypes.contains(enumTypeName))
+			.sorted()
+			.forEach(enumTypeName -> buildTimeClasses.add(protoPackage + "." + enumTypeName));
+		String properties = "# Generated by sylph-enum-aggregator. DO NOT EDIT.\n"
+			+ "Args = --initialize-at-build-time=" + String.join(",", buildTimeClasses) + "\n";
+
+		writeTextResource(directory + "reachability-metadata.json", metadata);
+		writeTextResource(directory + "native-image.properties", properties);
+	}
+
+	private void writeTextResource(String resourceName, String content) {
+		FileObject fileObject = null;
+		try {
+			fileObject = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+			try (Writer writer = fileObject.openWriter()) {
+				writer.write(content);
+			}
+			log("成功生成资源: %s", fileObject.getName());
+		} catch (IOException e) {
+			String filePath = (fileObject != null) ? fileObject.getName() : resourceName;
+			error(null, "无法生成资源 '%s': %s", filePath, e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	private static String jsonString(String value) {
+		StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\');
+			}
+			json.append(c);
+		}
+		return json.append('"').toString();
+	}
+
 	// --- Helper methods ---
 
 	// isInvalidJavaIdentifier remains the same...
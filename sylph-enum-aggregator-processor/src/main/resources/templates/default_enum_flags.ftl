@@ -0,0 +1,63 @@
+<#-- templates/default_enum_flags.ftl -->
+<#-- This template expects a data model with:
+    - packageName (String): Package for the generated class
+    - className (String): Simple name for the generated class (e.g., "PermissionTypeFlags")
+    - enumName (String): The aggregated enum type name (e.g., "PermissionType")
+    - bits (int): Number of bits used by the type, including the processor-added _UNSPECIFIED constant
+    - words (int): Number of 64-bit words needed, 1 for a plain long mask
+    - flags (List<Map<String, Object>>) where each map has:
+        - name (String): The enum constant name
+        - id (int): The integer ID
+        - bit (int): The bit index, equal to the runtime ordinal of the constant
+        - word (int): bit / 64
+        - wordBit (int): bit % 64
+        - comment (String): The description/comment
+-->
+package ${packageName};
+
+import javax.annotation.processing.Generated;
+
+/**
+* Generated by sylph-enum-aggregator. DO NOT EDIT.
+* Mask constants of the ${enumName} flags type, the bit of each flag is the ordinal of the constant.
+<#if words == 1>
+* Combine them with SylphEnumMasks or plain long arithmetic.
+<#else>
+* Each flag has a mask within word NAME_WORD of a long[${words?c}] mask, combine them with SylphEnumMasks.
+</#if>
+*/
+@Generated("io.github.wlong36.sylph.enumaggregator.processor.SylphEnumProcessor")
+public final class ${className} {
+
+    /**
+    * Number of bits used by ${enumName}
+    */
+    public static final int BITS = ${bits?c};
+
+    /**
+    * Number of 64-bit words of a ${enumName} mask
+    */
+    public static final int WORDS = ${words?c};
+<#list flags as flag>
+
+    /**
+    * <#if flag.comment?has_content>${flag.comment} </#if>(id = ${flag.id?c}, bit = ${flag.bit?c})
+    */
+<#if words == 1>
+    public static final long ${flag.name} = 1L << ${flag.bit?c};
+<#else>
+    public static final int ${flag.name}_WORD = ${flag.word?c};
+    public static final long ${flag.name} = 1L << ${flag.wordBit?c};
+</#if>
+</#list>
+<#if words == 1>
+
+    /**
+    * All declared flags
+    */
+    public static final long ALL = <#list flags as flag>${flag.name}<#sep> | </#sep></#list>;
+</#if>
+
+    private ${className}() {
+    }
+}
@@ -6,6 +6,9 @@
     - interfacePackage (String): Package of the interface being implemented
     - enums (List<Map<String, Object>>) where each map has:
         - name (String): The simple name of the enum class to register (e.g., "ConditionType")
+    - tables (List<Map<String, Object>>) where each map has:
+        - name (String): The name of a table-backed enum type (e.g., "ItemType")
+        - resource (String): The classpath resource holding its constant table
 -->
 package ${packageName};
 
@@ -48,7 +51,8 @@ public final class ${className} implements ${registrarInterfaceName} {
             // Construct the expected fully qualified name based on proto package and enum name
             String enumClassName = "${protoPackage}.${enum.name}"; // Example: io.github.wlong36...generated.ConditionType
             @SuppressWarnings("unchecked") // Suppress warning for cast to Class<? extends Enum>
-            Class<? extends SylphEnum> enumClass = (Class<? extends SylphEnum>) Class.forName(enumClassName);
+            // Checked without initializing the class, so it can stay run-time initialized under native-image
+            Class<? extends SylphEnum> enumClass = (Class<? extends SylphEnum>) Class.forName(enumClassName, false, ${className}.class.getClassLoader());
 <#--            registrationContext.register(enumClass);-->
         } catch (ClassNotFoundException e) {
             // Log or handle error - the enum class expected wasn't found.
@@ -62,5 +66,9 @@ public final class ${className} implements ${registrarInterfaceName} {
             System.err.println("SylphEnumRegistrar Error: Class " + "${protoPackage}.${enum.name}" + " is not an Enum. Registration skipped.");
         }
     </#list>
+    <#list tables as table>
+        // Too many constants for a single enum class, registered from the generated constant table
+        registrationContext.registerTable("${table.name}", ${className}.class.getClassLoader(), "${table.resource}");
+    </#list>
     }
 }
\ No newline at end of file
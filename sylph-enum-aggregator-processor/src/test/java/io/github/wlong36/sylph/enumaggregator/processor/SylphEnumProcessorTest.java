@@ -0,0 +1,226 @@
+package io.github.wlong36.sylph.enumaggregator.processor;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumMigrate;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumProcessorTest {
+	private static final String IMPORTS = "package fixtures;\n"
+			+ "import io.github.wlong36.sylph.enumaggregator.api.*;\n";
+
+	private static List<String> compile(String annotations) throws IOException {
+		return compile(annotations, new HashMap<>());
+	}
+
+	/**
+	 * 在内存中以 {@code -proc:only} 编译一个 {@code fixtures.Defs} 源文件，返回处理器报告的错误
+	 *
+	 * @param outputs 收集生成的文件，键为输出路径
+	 */
+	private static List<String> compile(String annotations, Map<String, OutputFile> outputs) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (InMemoryFileManager fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, Locale.ROOT, null), outputs)) {
+			List<String> options = List.of("-proc:only", "-classpath", System.getProperty("java.class.path"));
+			SourceFile source = new SourceFile("fixtures/Defs.java", IMPORTS + annotations + "public interface Defs {}\n");
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, List.of(source));
+			task.setProcessors(List.of(new SylphEnumProcessor()));
+			task.call();
+		}
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.collect(Collectors.toList());
+	}
+
+	private static String reg(String type, int id, String name, String... attrs) {
+		return "@SylphEnumReg(type = \"" + type + "\", id = " + id + ", name = \"" + name + "\", desc = \"\""
+				+ (attrs.length == 0 ? "" : ", attrs = {" + String.join(", ", attrs) + "}") + ")\n";
+	}
+
+	private static String attr(String name, String type, String value) {
+		return "@SylphEnumAttr(name = \"" + name + "\", type = SylphEnumAttrType." + type + ", value = \"" + value + "\")";
+	}
+
+	private static String migrate(String type, int version, int from, int to) {
+		return "@SylphEnumMigrate(type = \"" + type + "\", version = " + version + ", from = " + from + ", to = " + to + ")\n";
+	}
+
+	private static void assertSingleError(List<String> errors, String fragment) {
+		assertEquals(1, errors.size(), errors::toString);
+		assertTrue(errors.get(0).contains(fragment), errors::toString);
+	}
+
+	@Test
+	public void process_ValidFixture_ReportsNoErrors() throws IOException {
+		List<String> errors = compile(reg("ItemType", 1, "Sword", attr("weight", "INT", "10"))
+				+ reg("ItemType", 2, "Shield", attr("weight", "INT", "20"))
+				+ reg("SlotType", 1, "Hand")
+				+ migrate("ItemType", 1, 3, 1)
+				+ "@SylphEnumFlags(\"ItemType\")\n"
+				+ "@SylphEnumRelation(name = \"slot\", from = \"ItemType\", fromNames = {\"Sword\", \"Shield\"}, to = \"SlotType\", toNames = {\"Hand\"})\n");
+		assertEquals(List.of(), errors);
+	}
+
+	@Test
+	public void process_AttributeTypeConflict_ReportsError() throws IOException {
+		List<String> errors = compile(reg("ItemType", 1, "Sword", attr("weight", "INT", "10"))
+				+ reg("ItemType", 2, "Shield", attr("weight", "STRING", "heavy")));
+		assertSingleError(errors, "'weight' 类型不一致: STRING 与之前声明的 INT 冲突");
+	}
+
+	@Test
+	public void process_UnparsableAttributeValue_ReportsError() throws IOException {
+		assertSingleError(compile(reg("ItemType", 1, "Sword", attr("weight", "INT", "ten"))),
+				"'ItemType.Sword' 的属性 'weight' 的值 'ten' 不是有效的 INT");
+		assertSingleError(compile(reg("ItemType", 1, "Sword", attr("rate", "DOUBLE", "1.5x"))),
+				"'ItemType.Sword' 的属性 'rate' 的值 '1.5x' 不是有效的 DOUBLE");
+	}
+
+	@Test
+	public void process_FlagsExceedMaxBits_ReportsError() throws IOException {
+		StringBuilder regs = new StringBuilder("@SylphEnumFlags(\"PermissionType\")\n");
+		for (int id = 1; id <= 64; id++) {
+			regs.append(reg("PermissionType", id, "P" + id));
+		}
+		// 没有 id 0 时处理器会插入 _UNSPECIFIED 常量占用第 0 位
+		assertSingleError(compile(regs.toString()), "标志位类型 'PermissionType' 需要 65 位，超过了 maxBits=64");
+
+		regs.replace(0, regs.indexOf("\n"), "@SylphEnumFlags(value = \"PermissionType\", maxBits = 128)");
+		assertEquals(List.of(), compile(regs.toString()));
+		assertSingleError(compile(reg("PermissionType", 1, "Read") + "@SylphEnumFlags(value = \"PermissionType\", maxBits = 100)\n"),
+				"maxBits 必须是 64 的正整数倍: 100");
+	}
+
+	@Test
+	public void process_MigrationVersionOutOfRange_ReportsError() throws IOException {
+		String regs = reg("ItemType", 1, "Sword") + reg("ItemType", 2, "Shield");
+		assertSingleError(compile(regs + migrate("ItemType", 0, 3, 1)), "迁移版本必须在 1 到 " + SylphEnumMigrate.MAX_VERSION + " 之间: 0");
+		assertSingleError(compile(regs + migrate("ItemType", SylphEnumMigrate.MAX_VERSION + 1, 3, 1)),
+				"迁移版本必须在 1 到 " + SylphEnumMigrate.MAX_VERSION + " 之间: " + (SylphEnumMigrate.MAX_VERSION + 1));
+		assertEquals(List.of(), compile(regs + migrate("ItemType", SylphEnumMigrate.MAX_VERSION, 3, 1)));
+	}
+
+	@Test
+	public void process_MigrationCycle_ComposesAcrossVersions() throws IOException {
+		String regs = reg("ItemType", 1, "Sword") + reg("ItemType", 2, "Shield");
+		// 同一版本内互换、跨版本换回都按版本依次组合，不会死循环
+		assertEquals(List.of(), compile(regs + migrate("ItemType", 1, 1, 2) + migrate("ItemType", 1, 2, 1)));
+		assertEquals(List.of(), compile(regs + migrate("ItemType", 1, 1, 5) + migrate("ItemType", 2, 5, 1)));
+		// 环路中途的 id 在最新版本仍未注册时报错
+		assertSingleError(compile(regs + migrate("ItemType", 1, 1, 5) + migrate("ItemType", 2, 5, 6) + migrate("ItemType", 3, 6, 5)),
+				"在最新版本 3 中对应的id 5 未注册");
+		assertSingleError(compile(regs + migrate("ItemType", 1, 2, 2)), "版本 1 的迁移 2 -> 2 无效");
+	}
+
+	@Test
+	public void process_UnknownRelationConstant_ReportsError() throws IOException {
+		String regs = reg("ItemType", 1, "Sword") + reg("SlotType", 1, "Hand");
+		assertSingleError(compile(regs + "@SylphEnumRelation(name = \"slot\", from = \"ItemType\", fromNames = \"Sword\", to = \"SlotType\", toNames = \"Foot\")\n"),
+				"关系 'slot' 引用了类型 'SlotType' 中不存在的常量 'Foot'");
+		assertSingleError(compile(regs + "@SylphEnumRelation(name = \"slot\", from = \"ItemType\", fromNames = \"Axe\", to = \"SlotType\", toNames = \"Hand\")\n"),
+				"关系 'slot' 引用了类型 'ItemType' 中不存在的常量 'Axe'");
+		assertSingleError(compile(regs + "@SylphEnumRelation(name = \"slot\", from = \"ItemType\", fromNames = \"Sword\", to = \"BagType\", toNames = \"Hand\")\n"),
+				"引用的类型 'BagType' 没有任何 @SylphEnumReg 定义");
+	}
+
+	private static String refsOf(int constants) throws IOException {
+		StringBuilder regs = new StringBuilder();
+		for (int id = 1; id <= constants; id++) {
+			regs.append(reg("BigType", id, "B" + id));
+		}
+		Map<String, OutputFile> outputs = new HashMap<>();
+		assertEquals(List.of(), compile(regs.toString(), outputs));
+		return outputs.get("SOURCE_OUTPUT/io/github/wlong36/sylph/enumaggregator/generated/BigTypeRefs.java").getCharContent(false).toString();
+	}
+
+	@Test
+	public void process_LargeTableType_SplitsRefsIntoChunks() throws IOException {
+		// 超过 8192 个常量时访问方法移入公开的分块类
+		String large = refsOf(8193);
+		assertTrue(large.contains("public static final class C8 {"));
+		assertFalse(large.contains("class C9 "));
+		assertTrue(large.contains("public static SylphEnum B8193() {\n            return B8193;"));
+		assertTrue(large.contains("global registry of SylphEnumsImage"));
+
+		// 超过常量表阈值 2000 才生成引用类，未超过 8192 时访问方法仍在外层类
+		String small = refsOf(2048);
+		assertTrue(small.contains("private static final class C1 {"));
+		assertTrue(small.contains("return C1.B2048;"));
+	}
+
+	private static final class SourceFile extends SimpleJavaFileObject {
+		private final String source;
+
+		SourceFile(String path, String source) {
+			super(URI.create("mem:///" + path), Kind.SOURCE);
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return source;
+		}
+	}
+
+	private static final class OutputFile extends SimpleJavaFileObject {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		OutputFile(String path, Kind kind) {
+			super(URI.create("mem:///" + path), kind);
+		}
+
+		@Override
+		public OutputStream openOutputStream() {
+			bytes.reset();
+			return bytes;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return bytes.toString(StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * 生成的源文件和资源留在内存中，不写入构建目录
+	 */
+	private static final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+		private final Map<String, OutputFile> outputs;
+
+		InMemoryFileManager(StandardJavaFileManager fileManager, Map<String, OutputFile> outputs) {
+			super(fileManager);
+			this.outputs = outputs;
+		}
+
+		private OutputFile output(String path, JavaFileObject.Kind kind) {
+			OutputFile file = new OutputFile(path, kind);
+			outputs.put(path, file);
+			return file;
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+			return output(location.getName() + "/" + className.replace('.', '/') + kind.extension, kind);
+		}
+
+		@Override
+		public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+			String path = packageName.isEmpty() ? relativeName : packageName.replace('.', '/') + "/" + relativeName;
+			return output(location.getName() + "/" + path, JavaFileObject.Kind.OTHER);
+		}
+	}
+}
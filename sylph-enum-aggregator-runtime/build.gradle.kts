@@ -1,5 +1,7 @@
 plugins {
     `java-library`
+    // 合成常量表等夹具供本模块测试和基准共用
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -7,4 +9,12 @@ dependencies {
 
     // https://mvnrepository.com/artifact/com.google.protobuf/protobuf-java
     implementation("com.google.protobuf:protobuf-java:4.30.2")
-}
\ No newline at end of file
+
+    // https://mvnrepository.com/artifact/org.openjdk.jol/jol-core
+    testImplementation("org.openjdk.jol:jol-core:0.17")
+}
+
+// JOL 需要 attach 到当前进程来读取对象布局
+tasks.test {
+    jvmArgs("-Djdk.attach.allowAttachSelf=true")
+}
@@ -0,0 +1,470 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttrType;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.*;
+
+/**
+ * 聚合枚举的类型化属性，以列存储（struct-of-arrays）的方式按 ordinal 保存
+ * 热点循环可以直接顺序扫描某一列的基本类型数组，而不必逐个解引用枚举对象
+ * <p>
+ * 属性表资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C41 ("SYLA")
+ * short  version 1
+ * UTF    typeName
+ * int    columnCount
+ * 每列：UTF name, byte type ({@link SylphEnumAttrType#ordinal()}), int count,
+ *      count 个 (int id, value)，value 按类型为 int / long / double / boolean / UTF
+ * </pre>
+ * 属性按 id 而不是 ordinal 存储，因为 proto 生成的枚举可能额外插入 _UNSPECIFIED 常量
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumAttributes {
+	public static final int MAGIC = 0x53594C41;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的属性表资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".attrs";
+
+	static final SylphEnumAttributes EMPTY = new SylphEnumAttributes(Collections.emptyMap());
+
+	@Nonnull
+	private final Map<String, Column> columns;
+
+	private SylphEnumAttributes(@Nonnull Map<String, Column> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * 获取类型名对应的属性表资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 从输入流读取属性表，并按定义的 ordinal 展开为列，不会关闭输入流
+	 *
+	 * @param in         输入流
+	 * @param definition 属性所属的定义
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	static SylphEnumAttributes read(@Nonnull InputStream in, @Nonnull SylphEnumDefinition definition) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举属性表: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举属性表版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(definition.getTypeName())) {
+			throw new IOException("属性表的类型名 " + typeName + " 与 " + definition.getTypeName() + " 不一致");
+		}
+		SylphEnumAttrType[] types = SylphEnumAttrType.values();
+		int length = definition.length();
+		int columnCount = input.readInt();
+		Map<String, Column> columns = new LinkedHashMap<>(columnCount * 2);
+		for (int c = 0; c < columnCount; c++) {
+			String name = input.readUTF();
+			int typeOrdinal = input.readByte();
+			if (typeOrdinal < 0 || typeOrdinal >= types.length) {
+				throw new IOException(typeName + " 属性 " + name + " 的类型错误: " + typeOrdinal);
+			}
+			Column column = switch (types[typeOrdinal]) {
+				case INT -> new IntColumn(name, definition, new int[length]);
+				case LONG -> new LongColumn(name, definition, new long[length]);
+				case DOUBLE -> new DoubleColumn(name, definition, new double[length]);
+				case BOOLEAN -> new BooleanColumn(name, definition, new boolean[length]);
+				case STRING -> new StringColumn(name, definition, new String[length]);
+			};
+			int count = input.readInt();
+			for (int i = 0; i < count; i++) {
+				int id = input.readInt();
+				SylphEnum constant = definition.getByIdOrNull(id);
+				if (constant == null) {
+					throw new IOException(typeName + " 属性 " + name + " 引用了不存在的id: " + id);
+				}
+				column.read(input, constant.ordinal());
+			}
+			if (columns.put(name, column) != null) {
+				throw new IOException(typeName + " 存在重复的属性: " + name);
+			}
+		}
+		return new SylphEnumAttributes(Collections.unmodifiableMap(columns));
+	}
+
+	/**
+	 * 获取所有属性名
+	 */
+	@Nonnull
+	public Set<String> names() {
+		return columns.keySet();
+	}
+
+	/**
+	 * 是否存在属性
+	 */
+	public boolean contains(@Nonnull String name) {
+		return columns.containsKey(name);
+	}
+
+	/**
+	 * 获取属性类型
+	 *
+	 * @return 属性不存在时返回 null
+	 */
+	@Nullable
+	public SylphEnumAttrType typeOf(@Nonnull String name) {
+		Column column = columns.get(name);
+		return column == null ? null : column.type();
+	}
+
+	/**
+	 * 获取 int 属性列
+	 *
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性类型不匹配时抛出
+	 */
+	@Nonnull
+	public IntColumn intColumn(@Nonnull String name) {
+		return column(name, IntColumn.class, SylphEnumAttrType.INT);
+	}
+
+	/**
+	 * 获取 long 属性列
+	 *
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性类型不匹配时抛出
+	 */
+	@Nonnull
+	public LongColumn longColumn(@Nonnull String name) {
+		return column(name, LongColumn.class, SylphEnumAttrType.LONG);
+	}
+
+	/**
+	 * 获取 double 属性列
+	 *
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性类型不匹配时抛出
+	 */
+	@Nonnull
+	public DoubleColumn doubleColumn(@Nonnull String name) {
+		return column(name, DoubleColumn.class, SylphEnumAttrType.DOUBLE);
+	}
+
+	/**
+	 * 获取 boolean 属性列
+	 *
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性类型不匹配时抛出
+	 */
+	@Nonnull
+	public BooleanColumn booleanColumn(@Nonnull String name) {
+		return column(name, BooleanColumn.class, SylphEnumAttrType.BOOLEAN);
+	}
+
+	/**
+	 * 获取 String 属性列
+	 *
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性类型不匹配时抛出
+	 */
+	@Nonnull
+	public StringColumn stringColumn(@Nonnull String name) {
+		return column(name, StringColumn.class, SylphEnumAttrType.STRING);
+	}
+
+	private <C extends Column> C column(String name, Class<C> columnType, SylphEnumAttrType type) {
+		Column column = columns.get(name);
+		if (column == null) {
+			throw new NoSuchElementException("找不到属性: " + name);
+		}
+		if (!columnType.isInstance(column)) {
+			throw new IllegalArgumentException("属性 " + name + " 的类型为 " + column.type() + "，不是 " + type);
+		}
+		return columnType.cast(column);
+	}
+
+	/**
+	 * 属性列，按 ordinal 索引
+	 */
+	public abstract static sealed class Column permits IntColumn, LongColumn, DoubleColumn, BooleanColumn, StringColumn {
+		@Nonnull
+		private final String name;
+		@Nonnull
+		private final SylphEnumDefinition definition;
+
+		Column(@Nonnull String name, @Nonnull SylphEnumDefinition definition) {
+			this.name = name;
+			this.definition = definition;
+		}
+
+		@Nonnull
+		public String name() {
+			return name;
+		}
+
+		@Nonnull
+		public abstract SylphEnumAttrType type();
+
+		/**
+		 * 列长度，等于所属定义的枚举数量
+		 */
+		public abstract int length();
+
+		abstract void read(DataInputStream input, int ordinal) throws IOException;
+
+		/**
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		final int ordinalOf(@Nonnull SylphEnum sylphEnum) {
+			return definition.ordinalOf(sylphEnum);
+		}
+	}
+
+	public static final class IntColumn extends Column {
+		@Nonnull
+		private final int[] values;
+
+		IntColumn(@Nonnull String name, @Nonnull SylphEnumDefinition definition, @Nonnull int[] values) {
+			super(name, definition);
+			this.values = values;
+		}
+
+		@Nonnull
+		@Override
+		public SylphEnumAttrType type() {
+			return SylphEnumAttrType.INT;
+		}
+
+		@Override
+		public int length() {
+			return values.length;
+		}
+
+		public int get(int ordinal) {
+			return values[ordinal];
+		}
+
+		/**
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		public int get(@Nonnull SylphEnum sylphEnum) {
+			return values[ordinalOf(sylphEnum)];
+		}
+
+		/**
+		 * 复制整列
+		 */
+		@Nonnull
+		public int[] toArray() {
+			return values.clone();
+		}
+
+		@Override
+		void read(DataInputStream input, int ordinal) throws IOException {
+			values[ordinal] = input.readInt();
+		}
+	}
+
+	public static final class LongColumn extends Column {
+		@Nonnull
+		private final long[] values;
+
+		LongColumn(@Nonnull String name, @Nonnull SylphEnumDefinition definition, @Nonnull long[] values) {
+			super(name, definition);
+			this.values = values;
+		}
+
+		@Nonnull
+		@Override
+		public SylphEnumAttrType type() {
+			return SylphEnumAttrType.LONG;
+		}
+
+		@Override
+		public int length() {
+			return values.length;
+		}
+
+		public long get(int ordinal) {
+			return values[ordinal];
+		}
+
+		/**
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		public long get(@Nonnull SylphEnum sylphEnum) {
+			return values[ordinalOf(sylphEnum)];
+		}
+
+		/**
+		 * 复制整列
+		 */
+		@Nonnull
+		public long[] toArray() {
+			return values.clone();
+		}
+
+		@Override
+		void read(DataInputStream input, int ordinal) throws IOException {
+			values[ordinal] = input.readLong();
+		}
+	}
+
+	public static final class DoubleColumn extends Column {
+		@Nonnull
+		private final double[] values;
+
+		DoubleColumn(@Nonnull String name, @Nonnull SylphEnumDefinition definition, @Nonnull double[] values) {
+			super(name, definition);
+			this.values = values;
+		}
+
+		@Nonnull
+		@Override
+		public SylphEnumAttrType type() {
+			return SylphEnumAttrType.DOUBLE;
+		}
+
+		@Override
+		public int length() {
+			return values.length;
+		}
+
+		public double get(int ordinal) {
+			return values[ordinal];
+		}
+
+		/**
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		public double get(@Nonnull SylphEnum sylphEnum) {
+			return values[ordinalOf(sylphEnum)];
+		}
+
+		/**
+		 * 复制整列
+		 */
+		@Nonnull
+		public double[] toArray() {
+			return values.clone();
+		}
+
+		@Override
+		void read(DataInputStream input, int ordinal) throws IOException {
+			values[ordinal] = input.readDouble();
+		}
+	}
+
+	public static final class BooleanColumn extends Column {
+		@Nonnull
+		private final boolean[] values;
+
+		BooleanColumn(@Nonnull String name, @Nonnull SylphEnumDefinition definition, @Nonnull boolean[] values) {
+			super(name, definition);
+			this.values = values;
+		}
+
+		@Nonnull
+		@Override
+		public SylphEnumAttrType type() {
+			return SylphEnumAttrType.BOOLEAN;
+		}
+
+		@Override
+		public int length() {
+			return values.length;
+		}
+
+		public boolean get(int ordinal) {
+			return values[ordinal];
+		}
+
+		/**
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		public boolean get(@Nonnull SylphEnum sylphEnum) {
+			return values[ordinalOf(sylphEnum)];
+		}
+
+		/**
+		 * 复制整列
+		 */
+		@Nonnull
+		public boolean[] toArray() {
+			return values.clone();
+		}
+
+		@Override
+		void read(DataInputStream input, int ordinal) throws IOException {
+			values[ordinal] = input.readBoolean();
+		}
+	}
+
+	public static final class StringColumn extends Column {
+		@Nonnull
+		private final String[] values;
+
+		StringColumn(@Nonnull String name, @Nonnull SylphEnumDefinition definition, @Nonnull String[] values) {
+			super(name, definition);
+			this.values = values;
+		}
+
+		@Nonnull
+		@Override
+		public SylphEnumAttrType type() {
+			return SylphEnumAttrType.STRING;
+		}
+
+		@Override
+		public int length() {
+			return values.length;
+		}
+
+		/**
+		 * @return 未声明该属性的常量返回 null
+		 */
+		@Nullable
+		public String get(int ordinal) {
+			return values[ordinal];
+		}
+
+		/**
+		 * @return 未声明该属性的常量返回 null
+		 * @throws IllegalArgumentException 枚举不属于该列所属的类型时抛出
+		 */
+		@Nullable
+		public String get(@Nonnull SylphEnum sylphEnum) {
+			return values[ordinalOf(sylphEnum)];
+		}
+
+		/**
+		 * 复制整列
+		 */
+		@Nonnull
+		public String[] toArray() {
+			return values.clone();
+		}
+
+		@Override
+		void read(DataInputStream input, int ordinal) throws IOException {
+			values[ordinal] = input.readUTF();
+		}
+	}
+}
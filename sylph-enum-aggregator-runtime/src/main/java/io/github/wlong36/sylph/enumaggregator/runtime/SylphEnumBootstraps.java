@@ -0,0 +1,101 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 用于 {@code ConstantDynamic} 和 {@code invokedynamic} 的引导方法
+ * <p>
+ * 供字节码生成器使用：常量在首次链接时从 {@link SylphEnumsImage} 的共享注册表解析一次，
+ * 之后作为常量池常量或 {@link ConstantCallSite} 的常量目标，JIT 可以直接折叠为枚举常量。
+ * Java 源码中请使用注解处理器为常量表类型生成的 {@code <Type>Refs} 类。
+ * <ul>
+ *     <li>{@code ldc} 动态常量：{@link #byId}、{@link #byName}，静态参数为类型名（以及id）</li>
+ *     <li>{@code invokedynamic}：{@link #byIdCallSite}、{@link #byNameCallSite}，调用点类型为 {@code ()SylphEnum} 或其子类型</li>
+ * </ul>
+ * 按名称解析时，使用动态常量或调用点的名字作为枚举名。
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumBootstraps {
+
+	private SylphEnumBootstraps() {
+	}
+
+	/**
+	 * 按id解析的动态常量
+	 *
+	 * @param lookup   调用方的 lookup
+	 * @param name     动态常量的名字，不使用
+	 * @param type     动态常量的类型
+	 * @param enumType 枚举类型名
+	 * @param id       id
+	 * @throws java.util.NoSuchElementException 找不到枚举时抛出
+	 * @throws NullPointerException             如果是未注册的枚举类型
+	 */
+	@Nonnull
+	public static Object byId(MethodHandles.Lookup lookup, String name, Class<?> type, String enumType, int id) {
+		return byId(SylphEnumsImage.sylphEnums(), type, enumType, id);
+	}
+
+	/**
+	 * 按名称解析的动态常量
+	 *
+	 * @param lookup   调用方的 lookup
+	 * @param name     枚举名
+	 * @param type     动态常量的类型
+	 * @param enumType 枚举类型名
+	 * @throws java.util.NoSuchElementException 找不到枚举时抛出
+	 * @throws NullPointerException             如果是未注册的枚举类型
+	 */
+	@Nonnull
+	public static Object byName(MethodHandles.Lookup lookup, String name, Class<?> type, String enumType) {
+		return byName(SylphEnumsImage.sylphEnums(), type, enumType, name);
+	}
+
+	/**
+	 * 按id解析的常量调用点
+	 *
+	 * @param lookup   调用方的 lookup
+	 * @param name     调用点的名字，不使用
+	 * @param type     调用点类型，无参数
+	 * @param enumType 枚举类型名
+	 * @param id       id
+	 */
+	@Nonnull
+	public static CallSite byIdCallSite(MethodHandles.Lookup lookup, String name, MethodType type, String enumType, int id) {
+		return constantCallSite(type, byId(SylphEnumsImage.sylphEnums(), type.returnType(), enumType, id));
+	}
+
+	/**
+	 * 按名称解析的常量调用点
+	 *
+	 * @param lookup   调用方的 lookup
+	 * @param name     枚举名
+	 * @param type     调用点类型，无参数
+	 * @param enumType 枚举类型名
+	 */
+	@Nonnull
+	public static CallSite byNameCallSite(MethodHandles.Lookup lookup, String name, MethodType type, String enumType) {
+		return constantCallSite(type, byName(SylphEnumsImage.sylphEnums(), type.returnType(), enumType, name));
+	}
+
+	static Object byId(SylphEnums sylphEnums, Class<?> type, String enumType, int id) {
+		return type.cast(sylphEnums.getById(enumType, id));
+	}
+
+	static Object byName(SylphEnums sylphEnums, Class<?> type, String enumType, String name) {
+		return type.cast(sylphEnums.getByName(enumType, name));
+	}
+
+	static CallSite constantCallSite(MethodType type, Object value) {
+		if (type.parameterCount() != 0) {
+			throw new IllegalArgumentException("常量调用点不能有参数: " + type);
+		}
+		return new ConstantCallSite(MethodHandles.constant(type.returnType(), value));
+	}
+}
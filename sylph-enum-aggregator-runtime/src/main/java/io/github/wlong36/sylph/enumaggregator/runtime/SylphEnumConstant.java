@@ -0,0 +1,57 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+
+/**
+ * 由常量表（而不是 Java enum）承载的聚合枚举常量
+ * 用于常量数量过多、无法生成为单个 Java/Protobuf 枚举的类型，同一定义内按引用比较
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumConstant implements SylphEnum {
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	private final int ordinal;
+	private final int id;
+	@Nonnull
+	private final String name;
+
+	SylphEnumConstant(@Nonnull SylphEnumDefinition definition, int ordinal, int id, @Nonnull String name) {
+		this.definition = definition;
+		this.ordinal = ordinal;
+		this.id = id;
+		this.name = name;
+	}
+
+	@Override
+	public int ordinal() {
+		return ordinal;
+	}
+
+	@Override
+	public int id() {
+		return id;
+	}
+
+	@Nonnull
+	@Override
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * 获取常量所属的定义
+	 */
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,213 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * 堆外的 实体 × 枚举 计数表，按 {@code [entityIndex][ordinal]} 索引 long 计数
+ * 每个实体占一行，列数等于 {@link SylphEnumDefinition#length()}。数据保存在 direct {@link ByteBuffer} 中，
+ * 不占用 Java 堆，也不会被 GC 扫描；单个缓冲区不超过 1GB，行数较多时按行切分为多块，一行不会跨块
+ * <p>
+ * 单个计数的读写和累加是原子的（volatile 语义）；行复制、行读写和重置是按块批量拷贝，
+ * 与同一行上的并发写入之间没有原子性保证。内存在计数表不可达后由 GC 回收缓冲区时释放
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumCounterTable {
+	/**
+	 * 单块缓冲区的最大字节数
+	 */
+	static final int MAX_CHUNK_BYTES = 1 << 30;
+	private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	private final int entityCount;
+	private final int columns;
+	private final int rowsPerChunk;
+	@Nonnull
+	private final ByteBuffer[] chunks;
+	/**
+	 * 与 chunks 共享内存的 long 视图，用于整行批量读写
+	 */
+	@Nonnull
+	private final LongBuffer[] longChunks;
+	@Nonnull
+	private final long[] zeroRow;
+
+	private SylphEnumCounterTable(@Nonnull SylphEnumDefinition definition, int entityCount, int rowsPerChunk) {
+		this.definition = definition;
+		this.entityCount = entityCount;
+		this.columns = definition.length();
+		this.rowsPerChunk = rowsPerChunk;
+		int chunkCount = (int) (((long) entityCount + rowsPerChunk - 1) / rowsPerChunk);
+		this.chunks = new ByteBuffer[chunkCount];
+		this.longChunks = new LongBuffer[chunkCount];
+		for (int i = 0; i < chunkCount; i++) {
+			int rows = Math.min(rowsPerChunk, entityCount - i * rowsPerChunk);
+			int bytes = rows * columns * Long.BYTES;
+			// 原子访问要求地址按 8 字节对齐
+			ByteBuffer chunk = ByteBuffer.allocateDirect(bytes + Long.BYTES - 1).alignedSlice(Long.BYTES).order(ByteOrder.nativeOrder());
+			chunks[i] = chunk;
+			longChunks[i] = chunk.asLongBuffer();
+		}
+		this.zeroRow = new long[columns];
+	}
+
+	/**
+	 * 创建计数表，所有计数初始为 0
+	 *
+	 * @param definition  枚举定义，决定列数
+	 * @param entityCount 实体数量
+	 * @throws IllegalArgumentException 实体数量为负数时抛出
+	 */
+	@Nonnull
+	public static SylphEnumCounterTable of(@Nonnull SylphEnumDefinition definition, int entityCount) {
+		return of(definition, entityCount, MAX_CHUNK_BYTES);
+	}
+
+	static SylphEnumCounterTable of(@Nonnull SylphEnumDefinition definition, int entityCount, int maxChunkBytes) {
+		Objects.requireNonNull(definition, "definition");
+		if (entityCount < 0) {
+			throw new IllegalArgumentException("实体数量不能为负数: " + entityCount);
+		}
+		int rowBytes = Math.max(1, definition.length()) * Long.BYTES;
+		int rowsPerChunk = Math.max(1, maxChunkBytes / rowBytes);
+		return new SylphEnumCounterTable(definition, entityCount, rowsPerChunk);
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * 实体（行）数量
+	 */
+	public int entityCount() {
+		return entityCount;
+	}
+
+	/**
+	 * 堆外占用的字节数，不含对齐填充
+	 */
+	public long byteSize() {
+		return (long) entityCount * columns * Long.BYTES;
+	}
+
+	private ByteBuffer chunk(int entity) {
+		Objects.checkIndex(entity, entityCount);
+		return chunks[entity / rowsPerChunk];
+	}
+
+	private LongBuffer longChunk(int entity) {
+		Objects.checkIndex(entity, entityCount);
+		return longChunks[entity / rowsPerChunk];
+	}
+
+	private int offset(int entity, int ordinal) {
+		Objects.checkIndex(ordinal, columns);
+		return ((entity % rowsPerChunk) * columns + ordinal) * Long.BYTES;
+	}
+
+	/**
+	 * 读取计数
+	 *
+	 * @throws IndexOutOfBoundsException 如果entity或ordinal传入错误
+	 */
+	public long get(int entity, int ordinal) {
+		return (long) LONGS.getVolatile(chunk(entity), offset(entity, ordinal));
+	}
+
+	/**
+	 * 读取计数
+	 *
+	 * @throws IllegalArgumentException 如果枚举不属于计数表的定义
+	 */
+	public long get(int entity, @Nonnull SylphEnum sylphEnum) {
+		return get(entity, definition.ordinalOf(sylphEnum));
+	}
+
+	/**
+	 * 设置计数
+	 *
+	 * @throws IndexOutOfBoundsException 如果entity或ordinal传入错误
+	 */
+	public void set(int entity, int ordinal, long value) {
+		LONGS.setVolatile(chunk(entity), offset(entity, ordinal), value);
+	}
+
+	/**
+	 * 原子地累加计数
+	 *
+	 * @return 累加后的值
+	 * @throws IndexOutOfBoundsException 如果entity或ordinal传入错误
+	 */
+	public long add(int entity, int ordinal, long delta) {
+		return (long) LONGS.getAndAdd(chunk(entity), offset(entity, ordinal), delta) + delta;
+	}
+
+	/**
+	 * 原子地累加计数
+	 *
+	 * @return 累加后的值
+	 * @throws IllegalArgumentException 如果枚举不属于计数表的定义
+	 */
+	public long add(int entity, @Nonnull SylphEnum sylphEnum, long delta) {
+		return add(entity, definition.ordinalOf(sylphEnum), delta);
+	}
+
+	/**
+	 * 把一行计数按 ordinal 顺序读入数组
+	 *
+	 * @param out 长度不小于 {@link SylphEnumDefinition#length()}
+	 */
+	public void readRow(int entity, @Nonnull long[] out) {
+		Objects.checkFromIndexSize(0, columns, out.length);
+		longChunk(entity).get((entity % rowsPerChunk) * columns, out, 0, columns);
+	}
+
+	/**
+	 * 用数组覆盖一行计数
+	 *
+	 * @param values 按 ordinal 排列，长度不小于 {@link SylphEnumDefinition#length()}
+	 */
+	public void writeRow(int entity, @Nonnull long[] values) {
+		Objects.checkFromIndexSize(0, columns, values.length);
+		longChunk(entity).put((entity % rowsPerChunk) * columns, values, 0, columns);
+	}
+
+	/**
+	 * 把 fromEntity 的整行计数复制到 toEntity
+	 */
+	public void copyRow(int fromEntity, int toEntity) {
+		ByteBuffer source = chunk(fromEntity);
+		ByteBuffer target = chunk(toEntity);
+		int rowBytes = columns * Long.BYTES;
+		target.put((toEntity % rowsPerChunk) * rowBytes, source, (fromEntity % rowsPerChunk) * rowBytes, rowBytes);
+	}
+
+	/**
+	 * 把一行计数清零
+	 */
+	public void resetRow(int entity) {
+		writeRow(entity, zeroRow);
+	}
+
+	/**
+	 * 把所有计数清零
+	 */
+	public void reset() {
+		for (int entity = 0; entity < entityCount; entity++) {
+			resetRow(entity);
+		}
+	}
+}
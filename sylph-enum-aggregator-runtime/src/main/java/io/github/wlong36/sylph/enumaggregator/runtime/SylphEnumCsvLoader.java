@@ -0,0 +1,716 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 流式读取 CSV/TSV 配置表，直接在字节上解析枚举列
+ * <p>
+ * 通过 {@link FileChannel} 按块读取文件，枚举列的单元格以 UTF-8 字节在 {@link SylphEnumNameBytes#findOrdinal(byte[], int, int)}
+ * 中查找，输出每列一个 ordinal 或 id 的 int[]，不为单元格创建 String；未声明的列直接跳过。
+ * 大文件可以用 {@link #load(Path, Executor)} 按行边界分块并行解析，多个文件可以用 {@link #loadAll(List, Executor)} 并行加载。
+ * <p>
+ * 格式约定：
+ * <ul>
+ *     <li>每行一条记录，行尾为 \n 或 \r\n，空行跳过，文件开头的 UTF-8 BOM 忽略</li>
+ *     <li>字段可以用双引号包围，引号内的分隔符不分割字段，"" 表示一个双引号；不支持跨行的字段</li>
+ *     <li>单元格不去除首尾空白，名称须与枚举名完全一致</li>
+ * </ul>
+ * 名称找不到、缺少列或格式错误时抛出带文件名和行号的 {@link IOException}。
+ * 构建完成后不可变，可以在线程间共享
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumCsvLoader {
+	/**
+	 * 单个读取缓冲区的初始大小，行超过缓冲区时扩容
+	 */
+	static final int BUFFER_SIZE = 64 * 1024;
+	/**
+	 * 并行解析时每块的最小字节数，文件小于两块时不分块
+	 */
+	static final int MIN_CHUNK_SIZE = 1024 * 1024;
+
+	private final byte delimiter;
+	private final boolean header;
+	private final boolean emptyAllowed;
+	private final int emptyValue;
+	@Nonnull
+	private final Column[] columns;
+
+	private SylphEnumCsvLoader(@Nonnull Builder builder) {
+		this.delimiter = builder.delimiter;
+		this.header = builder.header;
+		this.emptyAllowed = builder.emptyAllowed;
+		this.emptyValue = builder.emptyValue;
+		this.columns = builder.columns.toArray(new Column[0]);
+	}
+
+	/**
+	 * @param sylphEnums 用于解析枚举类型名的注册表
+	 */
+	@Nonnull
+	public static Builder builder(@Nonnull SylphEnums sylphEnums) {
+		return new Builder(Objects.requireNonNull(sylphEnums, "sylphEnums"));
+	}
+
+	/**
+	 * 在当前线程中加载一个文件
+	 *
+	 * @throws IOException 读取失败、名称找不到或格式错误时抛出
+	 */
+	@Nonnull
+	public Columns load(@Nonnull Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			Layout layout = readLayout(path, channel);
+			return merge(List.of(parse(path, channel, layout, layout.dataStart, Long.MAX_VALUE)));
+		}
+	}
+
+	/**
+	 * 按行边界把文件分块，在 executor 中并行解析，结果按文件中的行序合并
+	 *
+	 * @param executor 解析分块的线程池，如 {@link java.util.concurrent.ForkJoinPool#commonPool()}
+	 * @throws IOException 读取失败、名称找不到或格式错误时抛出
+	 */
+	@Nonnull
+	public Columns load(@Nonnull Path path, @Nonnull Executor executor) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			Layout layout = readLayout(path, channel);
+			long size = channel.size();
+			int chunkCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (size - layout.dataStart) / MIN_CHUNK_SIZE));
+			if (chunkCount == 1) {
+				return merge(List.of(parse(path, channel, layout, layout.dataStart, Long.MAX_VALUE)));
+			}
+			long chunkSize = (size - layout.dataStart + chunkCount - 1) / chunkCount;
+			List<CompletableFuture<Chunk>> futures = new ArrayList<>(chunkCount);
+			for (int i = 0; i < chunkCount; i++) {
+				long start = layout.dataStart + i * chunkSize;
+				long end = i == chunkCount - 1 ? Long.MAX_VALUE : start + chunkSize;
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return parse(path, channel, layout, start, end);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, executor));
+			}
+			return merge(join(futures));
+		}
+	}
+
+	/**
+	 * 在 executor 中并行加载多个文件，每个文件在一个任务中顺序解析
+	 *
+	 * @return 与 paths 顺序一致的结果
+	 * @throws IOException 任一文件读取失败、名称找不到或格式错误时抛出
+	 */
+	@Nonnull
+	public List<Columns> loadAll(@Nonnull List<Path> paths, @Nonnull Executor executor) throws IOException {
+		List<CompletableFuture<Columns>> futures = new ArrayList<>(paths.size());
+		for (Path path : paths) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return load(path);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}, executor));
+		}
+		return join(futures);
+	}
+
+	private static <T> List<T> join(List<CompletableFuture<T>> futures) throws IOException {
+		List<T> results = new ArrayList<>(futures.size());
+		try {
+			for (CompletableFuture<T> future : futures) {
+				results.add(future.join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException io) {
+				throw io.getCause();
+			}
+			throw e;
+		}
+		return results;
+	}
+
+	/**
+	 * 读取表头，确定每个字段对应的列
+	 */
+	private Layout readLayout(Path path, FileChannel channel) throws IOException {
+		LineReader reader = new LineReader(channel, 0, Long.MAX_VALUE);
+		long dataStart = 0;
+		List<String> headers = List.of();
+		if (reader.next()) {
+			int start = reader.lineStart;
+			if (reader.lineEnd - start >= 3 && reader.bytes[start] == (byte) 0xEF
+					&& reader.bytes[start + 1] == (byte) 0xBB && reader.bytes[start + 2] == (byte) 0xBF) {
+				start += 3;
+				dataStart = 3;
+			}
+			if (header) {
+				headers = splitHeader(path, reader.bytes, start, reader.lineEnd);
+				dataStart = reader.position();
+			}
+		}
+
+		int[] fieldColumns = new int[0];
+		for (int i = 0; i < columns.length; i++) {
+			Column column = columns[i];
+			int field = column.index;
+			if (column.header != null) {
+				field = headers.indexOf(column.header);
+				if (field < 0) {
+					throw new IOException(path + ": 找不到列 " + column.header);
+				}
+			}
+			if (field >= fieldColumns.length) {
+				int oldLength = fieldColumns.length;
+				fieldColumns = Arrays.copyOf(fieldColumns, field + 1);
+				Arrays.fill(fieldColumns, oldLength, fieldColumns.length, -1);
+			}
+			if (fieldColumns[field] >= 0) {
+				throw new IOException(path + ": 第 " + field + " 列重复声明");
+			}
+			fieldColumns[field] = i;
+		}
+		return new Layout(dataStart, fieldColumns);
+	}
+
+	private List<String> splitHeader(Path path, byte[] bytes, int start, int end) throws IOException {
+		List<String> headers = new ArrayList<>();
+		Field field = new Field(end - start);
+		int position = start;
+		while (true) {
+			if (!field.parse(bytes, position, end, delimiter)) {
+				throw new IOException(path + ":1: 表头格式错误");
+			}
+			headers.add(new String(field.bytes, field.offset, field.length, StandardCharsets.UTF_8));
+			if (field.next >= end) {
+				return headers;
+			}
+			position = field.next + 1;
+		}
+	}
+
+	/**
+	 * 解析起始位置落在 [start, end) 中的所有行，start 不是数据起点时先跳到下一行行首
+	 */
+	private Chunk parse(Path path, FileChannel channel, Layout layout, long start, long end) throws IOException {
+		boolean aligned = start == layout.dataStart;
+		LineReader reader = new LineReader(channel, aligned ? start : start - 1, end);
+		if (!aligned) {
+			// 丢弃上一块负责的行尾；start - 1 恰为换行符时丢弃的是空串
+			reader.next();
+		}
+		// 按每行 16 字节预估行数，不足时翻倍扩容
+		long chunkBytes = Math.min(end, channel.size()) - start;
+		Chunk chunk = new Chunk(columns.length, (int) Math.min(1 << 16, Math.max(16, chunkBytes / 16)));
+		int[] fieldColumns = layout.fieldColumns;
+		Field cell = new Field(256);
+		while (reader.next()) {
+			byte[] bytes = reader.bytes;
+			int lineEnd = reader.lineEnd;
+			if (reader.lineStart == lineEnd) {
+				continue;
+			}
+			cell.ensureCapacity(lineEnd - reader.lineStart);
+			int row = chunk.addRow();
+			int matched = 0;
+			int position = reader.lineStart;
+			for (int field = 0; field < fieldColumns.length; field++) {
+				if (!cell.parse(bytes, position, lineEnd, delimiter)) {
+					throw error(path, channel, reader.lineOffset, "第 " + field + " 列的引号未正确闭合");
+				}
+				int columnIndex = fieldColumns[field];
+				if (columnIndex >= 0) {
+					chunk.values[columnIndex][row] = resolve(path, channel, reader.lineOffset, field, columns[columnIndex], cell);
+					matched++;
+				}
+				if (cell.next >= lineEnd) {
+					break;
+				}
+				position = cell.next + 1;
+			}
+			if (matched < columns.length) {
+				throw error(path, channel, reader.lineOffset, "缺少列，需要至少 " + fieldColumns.length + " 列");
+			}
+		}
+		return chunk;
+	}
+
+	private int resolve(Path path, FileChannel channel, long lineOffset, int field, Column column, Field cell) throws IOException {
+		if (cell.length == 0) {
+			if (emptyAllowed) {
+				return emptyValue;
+			}
+			throw error(path, channel, lineOffset, "第 " + field + " 列为空");
+		}
+		int ordinal = column.names.findOrdinal(cell.bytes, cell.offset, cell.length);
+		if (ordinal < 0) {
+			throw error(path, channel, lineOffset, "第 " + field + " 列不是 " + column.definition.getTypeName() + " 的枚举名: "
+					+ new String(cell.bytes, cell.offset, cell.length, StandardCharsets.UTF_8));
+		}
+		return column.ids != null ? column.ids[ordinal] : ordinal;
+	}
+
+	/**
+	 * 只在出错时从文件开头数换行符得到行号，分块解析时各块不需要知道自己的起始行号
+	 */
+	private static IOException error(Path path, FileChannel channel, long lineOffset, String message) throws IOException {
+		long line = 1;
+		LineReader reader = new LineReader(channel, 0, lineOffset);
+		while (reader.next()) {
+			line++;
+		}
+		return new IOException(path + ":" + line + ": " + message);
+	}
+
+	private Columns merge(List<Chunk> chunks) {
+		int rowCount = 0;
+		for (Chunk chunk : chunks) {
+			rowCount += chunk.rowCount;
+		}
+		int[][] values = new int[columns.length][];
+		for (int i = 0; i < columns.length; i++) {
+			if (chunks.size() == 1) {
+				values[i] = Arrays.copyOf(chunks.get(0).values[i], rowCount);
+				continue;
+			}
+			values[i] = new int[rowCount];
+			int position = 0;
+			for (Chunk chunk : chunks) {
+				System.arraycopy(chunk.values[i], 0, values[i], position, chunk.rowCount);
+				position += chunk.rowCount;
+			}
+		}
+		return new Columns(columns, values, rowCount);
+	}
+
+	/**
+	 * 加载结果，每个声明的列一个 int[]，按声明顺序排列
+	 */
+	public static final class Columns {
+		@Nonnull
+		private final Column[] columns;
+		@Nonnull
+		private final int[][] values;
+		private final int rowCount;
+
+		private Columns(@Nonnull Column[] columns, @Nonnull int[][] values, int rowCount) {
+			this.columns = columns;
+			this.values = values;
+			this.rowCount = rowCount;
+		}
+
+		/**
+		 * 数据行数，不含表头和空行
+		 */
+		public int rowCount() {
+			return rowCount;
+		}
+
+		public int columnCount() {
+			return columns.length;
+		}
+
+		/**
+		 * 获取第 column 个声明的列，每次返回同一数组
+		 *
+		 * @param column 列在构建器中的声明顺序
+		 * @throws IndexOutOfBoundsException 如果column传入错误
+		 */
+		@Nonnull
+		public int[] get(int column) {
+			return values[Objects.checkIndex(column, columns.length)];
+		}
+
+		/**
+		 * 按表头名获取列，每次返回同一数组
+		 *
+		 * @throws NoSuchElementException 如果没有按该表头名声明列
+		 */
+		@Nonnull
+		public int[] get(@Nonnull String header) {
+			for (int i = 0; i < columns.length; i++) {
+				if (header.equals(columns[i].header)) {
+					return values[i];
+				}
+			}
+			throw new NoSuchElementException("没有声明列: " + header);
+		}
+
+		/**
+		 * 获取第 column 个声明的列的枚举定义，用于把 ordinal 或 id 还原为枚举
+		 *
+		 * @throws IndexOutOfBoundsException 如果column传入错误
+		 */
+		@Nonnull
+		public SylphEnumDefinition getDefinition(int column) {
+			return columns[Objects.checkIndex(column, columns.length)].definition;
+		}
+
+		@Override
+		public String toString() {
+			return "Columns{rows=" + rowCount + ", columns=" + columns.length + "}";
+		}
+	}
+
+	/**
+	 * 加载器构建器，非线程安全
+	 */
+	public static final class Builder {
+		@Nonnull
+		private final SylphEnums sylphEnums;
+		private final List<Column> columns = new ArrayList<>();
+		private byte delimiter = ',';
+		private boolean header = true;
+		private boolean emptyAllowed;
+		private int emptyValue;
+
+		private Builder(@Nonnull SylphEnums sylphEnums) {
+			this.sylphEnums = sylphEnums;
+		}
+
+		/**
+		 * 字段分隔符，默认为逗号，TSV 使用 '\t'
+		 *
+		 * @throws IllegalArgumentException 分隔符不是单字节字符，或是引号、换行符时抛出
+		 */
+		@Nonnull
+		public Builder delimiter(char delimiter) {
+			if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+				throw new IllegalArgumentException("不支持的分隔符: " + (int) delimiter);
+			}
+			this.delimiter = (byte) delimiter;
+			return this;
+		}
+
+		/**
+		 * 首行是否为表头，默认为 true；没有表头时只能按列序号声明列
+		 */
+		@Nonnull
+		public Builder header(boolean header) {
+			this.header = header;
+			return this;
+		}
+
+		/**
+		 * 空单元格输出的值；未设置时空单元格视为错误
+		 */
+		@Nonnull
+		public Builder emptyValue(int emptyValue) {
+			this.emptyAllowed = true;
+			this.emptyValue = emptyValue;
+			return this;
+		}
+
+		/**
+		 * 声明一个输出 ordinal 的枚举列
+		 *
+		 * @param header   表头名
+		 * @param enumType 枚举类型名
+		 * @throws NullPointerException 如果是未注册的枚举类型
+		 */
+		@Nonnull
+		public Builder ordinalColumn(@Nonnull String header, String enumType) {
+			return add(Objects.requireNonNull(header, "header"), -1, enumType, false);
+		}
+
+		/**
+		 * 声明一个输出 ordinal 的枚举列
+		 *
+		 * @param index    列序号，从 0 开始
+		 * @param enumType 枚举类型名
+		 * @throws NullPointerException 如果是未注册的枚举类型
+		 */
+		@Nonnull
+		public Builder ordinalColumn(int index, String enumType) {
+			return add(null, index, enumType, false);
+		}
+
+		/**
+		 * 声明一个输出 id 的枚举列
+		 *
+		 * @param header   表头名
+		 * @param enumType 枚举类型名
+		 * @throws NullPointerException 如果是未注册的枚举类型
+		 */
+		@Nonnull
+		public Builder idColumn(@Nonnull String header, String enumType) {
+			return add(Objects.requireNonNull(header, "header"), -1, enumType, true);
+		}
+
+		/**
+		 * 声明一个输出 id 的枚举列
+		 *
+		 * @param index    列序号，从 0 开始
+		 * @param enumType 枚举类型名
+		 * @throws NullPointerException 如果是未注册的枚举类型
+		 */
+		@Nonnull
+		public Builder idColumn(int index, String enumType) {
+			return add(null, index, enumType, true);
+		}
+
+		private Builder add(@Nullable String header, int index, String enumType, boolean ids) {
+			if (header == null && index < 0) {
+				throw new IllegalArgumentException("列序号不能为负数: " + index);
+			}
+			SylphEnumDefinition definition = sylphEnums.findDefinition(enumType)
+					.orElseThrow(() -> new NullPointerException("未注册的枚举类型: " + enumType));
+			columns.add(new Column(header, index, definition, ids));
+			return this;
+		}
+
+		/**
+		 * @throws IllegalStateException 没有声明列，或没有表头却按表头名声明列时抛出
+		 */
+		@Nonnull
+		public SylphEnumCsvLoader build() {
+			if (columns.isEmpty()) {
+				throw new IllegalStateException("至少需要声明一列");
+			}
+			for (Column column : columns) {
+				if (!header && column.header != null) {
+					throw new IllegalStateException("没有表头时不能按表头名声明列: " + column.header);
+				}
+			}
+			return new SylphEnumCsvLoader(this);
+		}
+	}
+
+	/**
+	 * 声明的枚举列
+	 */
+	private static final class Column {
+		@Nullable
+		final String header;
+		final int index;
+		@Nonnull
+		final SylphEnumDefinition definition;
+		@Nonnull
+		final SylphEnumNameBytes names;
+		/**
+		 * 按 ordinal 的 id，输出 ordinal 时为 null
+		 */
+		@Nullable
+		final int[] ids;
+
+		Column(@Nullable String header, int index, @Nonnull SylphEnumDefinition definition, boolean ids) {
+			this.header = header;
+			this.index = index;
+			this.definition = definition;
+			this.names = definition.getNameBytes();
+			if (ids) {
+				this.ids = new int[definition.length()];
+				for (int ordinal = 0; ordinal < definition.length(); ordinal++) {
+					this.ids[ordinal] = definition.getByOrdinal(ordinal).id();
+				}
+			} else {
+				this.ids = null;
+			}
+		}
+	}
+
+	/**
+	 * 数据起始位置和字段到列的映射，-1 为跳过的字段
+	 */
+	private record Layout(long dataStart, int[] fieldColumns) {
+	}
+
+	/**
+	 * 一块的解析结果，列数组按需扩容
+	 */
+	private static final class Chunk {
+		int[][] values;
+		int rowCount;
+
+		Chunk(int columnCount, int capacity) {
+			this.values = new int[columnCount][capacity];
+		}
+
+		int addRow() {
+			if (rowCount == values[0].length) {
+				for (int i = 0; i < values.length; i++) {
+					values[i] = Arrays.copyOf(values[i], rowCount * 2);
+				}
+			}
+			return rowCount++;
+		}
+	}
+
+	/**
+	 * 行内的一个字段，解析时复用；带 "" 转义的字段解码到 scratch 中，其余字段直接引用行缓冲区
+	 */
+	private static final class Field {
+		private byte[] scratch;
+		byte[] bytes;
+		int offset;
+		int length;
+		/**
+		 * 字段之后的位置，为分隔符或行尾
+		 */
+		int next;
+
+		Field(int capacity) {
+			this.scratch = new byte[capacity];
+		}
+
+		/**
+		 * 保证 scratch 能容纳整行
+		 */
+		void ensureCapacity(int lineLength) {
+			if (scratch.length < lineLength) {
+				scratch = new byte[lineLength];
+			}
+		}
+
+		/**
+		 * 解析从 position 开始的字段
+		 *
+		 * @return 引号未闭合或闭合引号后不是分隔符时返回 false
+		 */
+		boolean parse(byte[] bytes, int position, int end, byte delimiter) {
+			if (position < end && bytes[position] == '"') {
+				return parseQuoted(bytes, position, end, delimiter);
+			}
+			int i = position;
+			while (i < end && bytes[i] != delimiter) {
+				i++;
+			}
+			this.bytes = bytes;
+			this.offset = position;
+			this.length = i - position;
+			this.next = i;
+			return true;
+		}
+
+		private boolean parseQuoted(byte[] bytes, int position, int end, byte delimiter) {
+			int length = 0;
+			boolean escaped = false;
+			int i = position + 1;
+			while (true) {
+				if (i >= end) {
+					return false;
+				}
+				byte b = bytes[i];
+				if (b == '"') {
+					if (i + 1 < end && bytes[i + 1] == '"') {
+						escaped = true;
+						scratch[length++] = '"';
+						i += 2;
+						continue;
+					}
+					break;
+				}
+				scratch[length++] = b;
+				i++;
+			}
+			if (i + 1 < end && bytes[i + 1] != delimiter) {
+				return false;
+			}
+			this.bytes = escaped ? scratch : bytes;
+			this.offset = escaped ? 0 : position + 1;
+			this.length = length;
+			this.next = i + 1;
+			return true;
+		}
+	}
+
+	/**
+	 * 从文件的指定位置开始逐行读取，只返回起始位置小于 end 的行
+	 * 行内容为 bytes 的 [lineStart, lineEnd)，已去掉行尾的 \r\n
+	 */
+	private static final class LineReader {
+		private final FileChannel channel;
+		private final long end;
+		byte[] bytes = new byte[BUFFER_SIZE];
+		/**
+		 * bytes[0] 在文件中的位置
+		 */
+		private long bufferStart;
+		private int cursor;
+		private int limit;
+		private boolean eof;
+		int lineStart;
+		int lineEnd;
+		long lineOffset;
+
+		LineReader(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.bufferStart = start;
+			this.end = end;
+		}
+
+		/**
+		 * 下一行在文件中的起始位置
+		 */
+		long position() {
+			return bufferStart + cursor;
+		}
+
+		boolean next() throws IOException {
+			// 从 cursor 起已确认不含换行符的字节数，补充缓冲区后不必重新扫描
+			int scanned = 0;
+			while (true) {
+				if (bufferStart + cursor >= end) {
+					return false;
+				}
+				int newline = cursor + scanned;
+				while (newline < limit && bytes[newline] != '\n') {
+					newline++;
+				}
+				if (newline == limit) {
+					if (!eof) {
+						scanned = limit - cursor;
+						fill();
+						continue;
+					}
+					if (cursor == limit) {
+						return false;
+					}
+				}
+				lineOffset = bufferStart + cursor;
+				lineStart = cursor;
+				lineEnd = newline > cursor && bytes[newline - 1] == '\r' ? newline - 1 : newline;
+				cursor = newline == limit ? limit : newline + 1;
+				return true;
+			}
+		}
+
+		/**
+		 * 把未消费的字节移到缓冲区开头，再从文件读取后续字节，行比缓冲区长时扩容
+		 */
+		private void fill() throws IOException {
+			if (cursor > 0) {
+				System.arraycopy(bytes, cursor, bytes, 0, limit - cursor);
+				bufferStart += cursor;
+				limit -= cursor;
+				cursor = 0;
+			}
+			if (limit == bytes.length) {
+				bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			}
+			int read = channel.read(ByteBuffer.wrap(bytes, limit, bytes.length - limit), bufferStart + limit);
+			if (read < 0) {
+				eof = true;
+			} else {
+				limit += read;
+			}
+		}
+	}
+}
@@ -4,10 +4,11 @@ import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * 聚合枚举定义
@@ -16,38 +17,201 @@ import java.util.NoSuchElementException;
  * @since 2025/4/12
  */
 public class SylphEnumDefinition {
+	/**
+	 * 未注册到 {@link SylphEnums} 时的类型id
+	 */
+	public static final int UNREGISTERED_TYPE_ID = -1;
+
 	@Nonnull
+	private final String typeName;
+	/**
+	 * Java 枚举类型，由常量表承载的类型为 null
+	 */
+	@Nullable
 	private final Class<? extends Enum<? extends SylphEnum>> enumType;
+	/**
+	 * 注册表分配的稠密类型id
+	 */
+	private final int typeId;
+	/**
+	 * 本类型第一个枚举在注册表全局序号空间中的起始位置
+	 */
+	private final int globalOffset;
+	@Nonnull
+	private final SylphEnumLayout layout;
+	@Nonnull
+	private final SylphEnum[] constants;
 	@Nonnull
-	private final Map<Integer, SylphEnum> byId;
+	private final SylphEnumIdIndex idIndex;
 	@Nonnull
-	private final Map<String, SylphEnum> byName;
+	private final SylphEnumNameIndex nameIndex;
 	@Nonnull
 	private final List<SylphEnum> all;
+	/**
+	 * 按 id 升序排列的视图
+	 */
+	@Nonnull
+	private final List<SylphEnum> allById;
+	/**
+	 * 用于加载属性表等附属资源的类加载器，为 null 时不加载
+	 */
+	@Nullable
+	private final ClassLoader resourceLoader;
+	/**
+	 * 按分组编号排列的分组
+	 */
+	@Nonnull
+	private final SylphEnumGroup[] groups;
+	@Nonnull
+	private final Map<String, SylphEnumGroup> groupsByName;
+	/**
+	 * 首次访问时从资源加载
+	 */
+	@Nullable
+	private volatile SylphEnumAttributes attributes;
+	/**
+	 * 首次访问时从资源加载
+	 */
+	@Nullable
+	private volatile SylphEnumMigrations migrations;
+	/**
+	 * 首次访问时从资源加载
+	 */
+	@Nullable
+	private volatile SylphEnumStrings strings;
+	/**
+	 * 首次访问时构建
+	 */
+	@Nullable
+	private volatile SylphEnumNameSearch nameSearch;
+	/**
+	 * 首次访问时构建
+	 */
+	@Nullable
+	private volatile SylphEnumNameBytes nameBytes;
+	/**
+	 * 首次访问时计算，0 表示尚未计算
+	 */
+	private volatile long fingerprint;
 
 	public <T extends Enum<T> & SylphEnum> SylphEnumDefinition(@Nonnull Class<T> enumType) {
+		this(UNREGISTERED_TYPE_ID, 0, enumType, SylphEnumLayout.DEFAULT);
+	}
+
+	/**
+	 * 由常量表构建定义，常量以 {@link SylphEnumConstant} 表示
+	 *
+	 * @param table 常量表
+	 */
+	public SylphEnumDefinition(@Nonnull SylphEnumTable table) {
+		this(table, SylphEnumLayout.DEFAULT);
+	}
+
+	/**
+	 * 由常量表按指定的索引布局构建定义
+	 *
+	 * @param table  常量表
+	 * @param layout 索引布局
+	 */
+	public SylphEnumDefinition(@Nonnull SylphEnumTable table, @Nonnull SylphEnumLayout layout) {
+		this(UNREGISTERED_TYPE_ID, 0, table, null, layout);
+	}
+
+	<T extends Enum<T> & SylphEnum> SylphEnumDefinition(int typeId, int globalOffset, @Nonnull Class<T> enumType, @Nonnull SylphEnumLayout layout) {
+		this.typeName = enumType.getSimpleName();
 		this.enumType = enumType;
-		SylphEnum[] enumConstants = enumType.getEnumConstants();
-		this.byId = new HashMap<>(enumConstants.length);
-		this.byName = new HashMap<>(enumConstants.length);
-		for (SylphEnum enumConstant : enumConstants) {
-			SylphEnum exist = this.byId.put(enumConstant.id(), enumConstant);
-			if (exist != null) {
-				throw new IllegalStateException(enumType + " 存在重复的id: " + exist.id());
-			}
-			exist = this.byName.put(enumConstant.name(), enumConstant);
-			if (exist != null) {
-				throw new IllegalStateException(enumType + " 存在重复的name: " + exist.name());
+		this.typeId = typeId;
+		this.globalOffset = globalOffset;
+		this.layout = layout;
+		this.constants = enumType.getEnumConstants();
+		int[] ids = new int[constants.length];
+		for (int i = 0; i < constants.length; i++) {
+			ids[i] = constants[i].id();
+		}
+		this.idIndex = SylphEnumIdIndex.build(ids, enumType, layout);
+		this.nameIndex = SylphEnumNameIndex.build(constants, enumType, layout);
+		this.all = Collections.unmodifiableList(Arrays.asList(constants));
+		this.allById = new IdOrderList();
+		this.resourceLoader = enumType.getClassLoader();
+		this.groups = loadGroups();
+		this.groupsByName = indexGroups(groups);
+	}
+
+	SylphEnumDefinition(int typeId, int globalOffset, @Nonnull SylphEnumTable table, @Nullable ClassLoader resourceLoader,
+	                    @Nonnull SylphEnumLayout layout) {
+		this.typeName = table.getTypeName();
+		this.enumType = null;
+		this.typeId = typeId;
+		this.globalOffset = globalOffset;
+		this.layout = layout;
+		int[] ids = table.ids();
+		String[] names = table.names();
+		this.constants = new SylphEnum[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			constants[i] = new SylphEnumConstant(this, i, ids[i], names[i]);
+		}
+		this.idIndex = SylphEnumIdIndex.build(ids, typeName, layout);
+		this.nameIndex = SylphEnumNameIndex.build(constants, typeName, layout);
+		this.all = Collections.unmodifiableList(Arrays.asList(constants));
+		this.allById = new IdOrderList();
+		this.resourceLoader = resourceLoader;
+		this.groups = loadGroups();
+		this.groupsByName = indexGroups(groups);
+	}
+
+	private SylphEnumGroup[] loadGroups() {
+		if (resourceLoader == null) {
+			return new SylphEnumGroup[0];
+		}
+		String resourceName = SylphEnumGroup.resourceName(typeName);
+		try (InputStream in = resourceLoader.getResourceAsStream(resourceName)) {
+			return in == null ? new SylphEnumGroup[0] : SylphEnumGroup.read(in, this);
+		} catch (IOException e) {
+			throw new UncheckedIOException(describe() + " 读取分组资源失败: " + resourceName, e);
+		}
+	}
+
+	private Map<String, SylphEnumGroup> indexGroups(SylphEnumGroup[] groups) {
+		Map<String, SylphEnumGroup> groupsByName = new HashMap<>(groups.length * 2);
+		for (SylphEnumGroup group : groups) {
+			if (groupsByName.put(group.getName(), group) != null) {
+				throw new IllegalStateException(describe() + " 存在重复的分组: " + group.getName());
 			}
 		}
-		this.all = List.of(enumConstants);
+		return groupsByName;
+	}
+
+	/**
+	 * 获取注册表分配的类型id
+	 *
+	 * @return 类型id，未注册时返回 {@link #UNREGISTERED_TYPE_ID}
+	 */
+	public int getTypeId() {
+		return typeId;
+	}
+
+	/**
+	 * 获取本类型在注册表全局序号空间中的起始位置
+	 */
+	public int getGlobalOffset() {
+		return globalOffset;
+	}
+
+	/**
+	 * 将类型内的索引转换为注册表全局序号
+	 *
+	 * @param ordinal 索引
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public int globalOrdinal(int ordinal) {
+		return globalOffset + Objects.checkIndex(ordinal, constants.length);
 	}
 
 	/**
 	 * 获取枚举数量
 	 */
 	public int length() {
-		return all.size();
+		return constants.length;
 	}
 
 	/**
@@ -56,7 +220,27 @@ public class SylphEnumDefinition {
 	 * @param ordinal 索引
 	 */
 	public SylphEnum getByOrdinal(int ordinal) {
-		return all.get(ordinal);
+		return constants[ordinal];
+	}
+
+	/**
+	 * 枚举常量是否属于本类型
+	 */
+	boolean owns(@Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		return ordinal >= 0 && ordinal < constants.length && constants[ordinal] == sylphEnum;
+	}
+
+	/**
+	 * 获取属于本类型的枚举常量的索引，供按 ordinal 存储的结构校验参数
+	 *
+	 * @throws IllegalArgumentException 枚举常量不属于本类型时抛出
+	 */
+	int ordinalOf(@Nonnull SylphEnum sylphEnum) {
+		if (!owns(sylphEnum)) {
+			throw new IllegalArgumentException(sylphEnum + " 不属于枚举类型 " + typeName);
+		}
+		return sylphEnum.ordinal();
 	}
 
 	/**
@@ -67,11 +251,11 @@ public class SylphEnumDefinition {
 	 */
 	@Nonnull
 	public SylphEnum getById(int id) {
-		SylphEnum t = byId.get(id);
-		if (t == null) {
-			throw new NoSuchElementException(enumType + " 找不到id为" + id + "的枚举");
+		int ordinal = idIndex.ordinalOf(id);
+		if (ordinal < 0) {
+			throw new NoSuchElementException(describe() + " 找不到id为" + id + "的枚举");
 		}
-		return t;
+		return constants[ordinal];
 	}
 
 	/**
@@ -82,7 +266,8 @@ public class SylphEnumDefinition {
 	 */
 	@Nullable
 	public SylphEnum getByIdOrNull(int id) {
-		return byId.get(id);
+		int ordinal = idIndex.ordinalOf(id);
+		return ordinal < 0 ? null : constants[ordinal];
 	}
 
 	/**
@@ -93,11 +278,11 @@ public class SylphEnumDefinition {
 	 */
 	@Nonnull
 	public SylphEnum getByName(String name) {
-		SylphEnum t = byName.get(name);
-		if (t == null) {
-			throw new NoSuchElementException(enumType + " 找不到name为" + name + "的枚举");
+		int ordinal = nameIndex.ordinalOf(name);
+		if (ordinal < 0) {
+			throw new NoSuchElementException(describe() + " 找不到name为" + name + "的枚举");
 		}
-		return t;
+		return constants[ordinal];
 	}
 
 	/**
@@ -108,7 +293,8 @@ public class SylphEnumDefinition {
 	 */
 	@Nullable
 	public SylphEnum getByNameOrNull(String name) {
-		return byName.get(name);
+		int ordinal = nameIndex.ordinalOf(name);
+		return ordinal < 0 ? null : constants[ordinal];
 	}
 
 	/**
@@ -119,9 +305,392 @@ public class SylphEnumDefinition {
 		return all;
 	}
 
+	// --- 按 id 顺序查询 ---
+
+	/**
+	 * 获取按 id 升序排列的所有枚举，返回的是有序 id 数组上的只读视图
+	 */
+	@Nonnull
+	public List<SylphEnum> getAllById() {
+		return allById;
+	}
+
+	/**
+	 * 按 id 升序第 index 个枚举的 ordinal，用于不产生分配地按 id 顺序遍历
+	 *
+	 * @param index 按 id 升序的位置
+	 * @throws IndexOutOfBoundsException 如果index传入错误
+	 */
+	public int ordinalAtIdOrder(int index) {
+		return idIndex.ordinalAt(Objects.checkIndex(index, constants.length));
+	}
+
+	/**
+	 * 获取 id 在 [fromId, toId] 闭区间内的枚举，按 id 升序
+	 * 在有序 id 数组上二分定位，返回的是只读视图，fromId 大于 toId 时为空
+	 */
+	@Nonnull
+	public List<SylphEnum> rangeById(int fromId, int toId) {
+		if (fromId > toId) {
+			return Collections.emptyList();
+		}
+		int from = idIndex.lowerBound(fromId);
+		int to = idIndex.upperBound(toId);
+		return from == 0 && to == constants.length ? allById : allById.subList(from, to);
+	}
+
+	/**
+	 * id 在 [fromId, toId] 闭区间内的枚举数量
+	 */
+	public int countInIdRange(int fromId, int toId) {
+		return fromId > toId ? 0 : idIndex.upperBound(toId) - idIndex.lowerBound(fromId);
+	}
+
+	/**
+	 * 把 id 在 [fromId, toId] 闭区间内的枚举 ordinal 按 id 升序写入 outOrdinals，不产生分配
+	 *
+	 * @param outOrdinals 输出数组，写满后停止
+	 * @return 写入的数量
+	 */
+	public int ordinalsInIdRange(int fromId, int toId, @Nonnull int[] outOrdinals) {
+		if (fromId > toId) {
+			return 0;
+		}
+		int from = idIndex.lowerBound(fromId);
+		int count = Math.min(idIndex.upperBound(toId) - from, outOrdinals.length);
+		for (int i = 0; i < count; i++) {
+			outOrdinals[i] = idIndex.ordinalAt(from + i);
+		}
+		return count;
+	}
+
+	/**
+	 * 获取 id 不大于给定 id 的最大 id 的枚举
+	 *
+	 * @return 不存在时返回 null
+	 */
+	@Nullable
+	public SylphEnum floorById(int id) {
+		int index = idIndex.upperBound(id) - 1;
+		return index < 0 ? null : constants[idIndex.ordinalAt(index)];
+	}
+
+	/**
+	 * 获取 id 不小于给定 id 的最小 id 的枚举
+	 *
+	 * @return 不存在时返回 null
+	 */
+	@Nullable
+	public SylphEnum ceilingById(int id) {
+		int index = idIndex.lowerBound(id);
+		return index == constants.length ? null : constants[idIndex.ordinalAt(index)];
+	}
+
+	/**
+	 * 根据分组名获取分组
+	 *
+	 * @param name 分组名
+	 * @throws NoSuchElementException 找不到分组时抛出
+	 */
+	@Nonnull
+	public SylphEnumGroup getGroup(String name) {
+		SylphEnumGroup group = groupsByName.get(name);
+		if (group == null) {
+			throw new NoSuchElementException(describe() + " 找不到名为" + name + "的分组");
+		}
+		return group;
+	}
+
+	/**
+	 * 根据分组名获取分组
+	 *
+	 * @param name 分组名
+	 * @return 找不到分组时返回null
+	 */
+	@Nullable
+	public SylphEnumGroup getGroupOrNull(String name) {
+		return groupsByName.get(name);
+	}
+
+	/**
+	 * 根据分组编号获取分组
+	 *
+	 * @param groupId 分组编号
+	 * @throws IndexOutOfBoundsException 如果groupId传入错误
+	 */
+	@Nonnull
+	public SylphEnumGroup getGroup(int groupId) {
+		return groups[groupId];
+	}
+
+	/**
+	 * 获取所有分组
+	 */
+	@Nonnull
+	public List<SylphEnumGroup> getGroups() {
+		return Collections.unmodifiableList(Arrays.asList(groups));
+	}
+
+	/**
+	 * 获取类型化属性
+	 * 首次调用时从注解处理器生成的属性表资源加载，没有声明属性的类型返回空属性集
+	 *
+	 * @throws UncheckedIOException 属性表资源读取失败时抛出
+	 */
+	@Nonnull
+	public SylphEnumAttributes getAttributes() {
+		SylphEnumAttributes attributes = this.attributes;
+		if (attributes == null) {
+			synchronized (this) {
+				attributes = this.attributes;
+				if (attributes == null) {
+					attributes = loadAttributes();
+					this.attributes = attributes;
+				}
+			}
+		}
+		return attributes;
+	}
+
+	private SylphEnumAttributes loadAttributes() {
+		if (resourceLoader == null) {
+			return SylphEnumAttributes.EMPTY;
+		}
+		String resourceName = SylphEnumAttributes.resourceName(typeName);
+		try (InputStream in = resourceLoader.getResourceAsStream(resourceName)) {
+			return in == null ? SylphEnumAttributes.EMPTY : SylphEnumAttributes.read(in, this);
+		} catch (IOException e) {
+			throw new UncheckedIOException(describe() + " 读取属性表资源失败: " + resourceName, e);
+		}
+	}
+
+	/**
+	 * 获取版本化id迁移表
+	 * 首次调用时从注解处理器生成的迁移表资源加载，没有声明迁移的类型返回版本为 0 的空迁移表
+	 *
+	 * @throws UncheckedIOException 迁移表资源读取失败时抛出
+	 */
+	@Nonnull
+	public SylphEnumMigrations getMigrations() {
+		SylphEnumMigrations migrations = this.migrations;
+		if (migrations == null) {
+			synchronized (this) {
+				migrations = this.migrations;
+				if (migrations == null) {
+					migrations = loadMigrations();
+					this.migrations = migrations;
+				}
+			}
+		}
+		return migrations;
+	}
+
+	/**
+	 * 读取以本类型为源的关系资源，没有声明关系的类型返回空映射
+	 *
+	 * @param resolver 按类型名查找目标类型，未注册时返回 null
+	 * @throws UncheckedIOException 关系资源读取失败或目标类型未注册时抛出
+	 */
+	@Nonnull
+	Map<String, SylphEnumRelationMatrix> loadRelations(@Nonnull Function<String, SylphEnumDefinition> resolver) {
+		if (resourceLoader == null) {
+			return Collections.emptyMap();
+		}
+		String resourceName = SylphEnumRelationMatrix.resourceName(typeName);
+		try (InputStream in = resourceLoader.getResourceAsStream(resourceName)) {
+			return in == null ? Collections.emptyMap() : SylphEnumRelationMatrix.read(in, this, resolver);
+		} catch (IOException e) {
+			throw new UncheckedIOException(describe() + " 读取关系资源失败: " + resourceName, e);
+		}
+	}
+
+	private SylphEnumMigrations loadMigrations() {
+		if (resourceLoader == null) {
+			return SylphEnumMigrations.EMPTY;
+		}
+		String resourceName = SylphEnumMigrations.resourceName(typeName);
+		try (InputStream in = resourceLoader.getResourceAsStream(resourceName)) {
+			return in == null ? SylphEnumMigrations.EMPTY : SylphEnumMigrations.read(in, this);
+		} catch (IOException e) {
+			throw new UncheckedIOException(describe() + " 读取迁移表资源失败: " + resourceName, e);
+		}
+	}
+
+	/**
+	 * 获取描述和本地化显示名字符串表
+	 * 首次调用时加载注解处理器生成的描述表，各语言的显示名表在首次查询该语言时加载
+	 *
+	 * @throws UncheckedIOException 字符串表资源读取失败时抛出
+	 */
+	@Nonnull
+	public SylphEnumStrings getStrings() {
+		SylphEnumStrings strings = this.strings;
+		if (strings == null) {
+			synchronized (this) {
+				strings = this.strings;
+				if (strings == null) {
+					try {
+						strings = SylphEnumStrings.load(this, resourceLoader);
+					} catch (IOException e) {
+						throw new UncheckedIOException(describe() + " 读取字符串表资源失败: " + SylphEnumStrings.resourceName(typeName), e);
+					}
+					this.strings = strings;
+				}
+			}
+		}
+		return strings;
+	}
+
+	/**
+	 * 获取忽略大小写的名称、别名和前缀查找索引
+	 * 首次调用时加载注解处理器生成的别名资源并构建，只需要精确名称查找时使用 {@link #getByName(String)}
+	 *
+	 * @throws UncheckedIOException 别名资源读取失败时抛出
+	 */
+	@Nonnull
+	public SylphEnumNameSearch getNameSearch() {
+		SylphEnumNameSearch nameSearch = this.nameSearch;
+		if (nameSearch == null) {
+			synchronized (this) {
+				nameSearch = this.nameSearch;
+				if (nameSearch == null) {
+					try {
+						nameSearch = SylphEnumNameSearch.load(this, resourceLoader);
+					} catch (IOException e) {
+						throw new UncheckedIOException(describe() + " 读取别名资源失败: " + SylphEnumNameSearch.resourceName(typeName), e);
+					}
+					this.nameSearch = nameSearch;
+				}
+			}
+		}
+		return nameSearch;
+	}
+
+	/**
+	 * 类型指纹，由类型名和按 ordinal 顺序排列的 (id, name) 计算的 64 位散列，可以跨进程比较
+	 * 两端同名类型的指纹一致时，同一 ordinal 对应相同的 id 和 name，可以直接以 ordinal 交换枚举值
+	 *
+	 * @see SylphEnumHandshake
+	 */
+	public long fingerprint() {
+		long fingerprint = this.fingerprint;
+		if (fingerprint == 0) {
+			// 计算结果只取决于不可变的常量，并发重复计算无害
+			fingerprint = SylphEnumFingerprint.of(this);
+			this.fingerprint = fingerprint;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * 获取按 ordinal 预先编码的名称 UTF-8 字节、JSON 字符串和 id varint，用于序列化时直接批量拷贝
+	 * 首次调用时构建
+	 */
+	@Nonnull
+	public SylphEnumNameBytes getNameBytes() {
+		SylphEnumNameBytes nameBytes = this.nameBytes;
+		if (nameBytes == null) {
+			synchronized (this) {
+				nameBytes = this.nameBytes;
+				if (nameBytes == null) {
+					nameBytes = SylphEnumNameBytes.build(this);
+					this.nameBytes = nameBytes;
+				}
+			}
+		}
+		return nameBytes;
+	}
+
+	/**
+	 * 获取枚举类型名
+	 */
+	@Nonnull
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * 获取 Java 枚举类型
+	 *
+	 * @throws IllegalStateException 如果类型由常量表承载，没有对应的 Java 枚举，可先用 {@link #isTableBacked()} 判断
+	 */
 	@Nonnull
 	public Class<? extends Enum<? extends SylphEnum>> getEnumType() {
+		if (enumType == null) {
+			throw new IllegalStateException("枚举类型 " + typeName + " 由常量表承载，没有对应的 Java 枚举类型");
+		}
 		return enumType;
 	}
 
+	/**
+	 * 获取索引布局
+	 */
+	@Nonnull
+	public SylphEnumLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * 估算定义常驻结构的内存占用
+	 *
+	 * @see SylphEnumFootprint
+	 */
+	@Nonnull
+	public SylphEnumFootprint footprint() {
+		int length = constants.length;
+		// 定义对象本身：16 个引用、2 个 int 和 1 个 long 字段
+		long indexBytes = SylphEnumFootprint.object(16 * SylphEnumFootprint.REFERENCE_BYTES + 2 * Integer.BYTES + Long.BYTES)
+				+ SylphEnumFootprint.array(length, SylphEnumFootprint.REFERENCE_BYTES)
+				// all 的只读包装和 Arrays.asList，allById 视图
+				+ SylphEnumFootprint.object(2 * SylphEnumFootprint.REFERENCE_BYTES)
+				+ SylphEnumFootprint.object(SylphEnumFootprint.REFERENCE_BYTES)
+				+ SylphEnumFootprint.object(SylphEnumFootprint.REFERENCE_BYTES)
+				+ idIndex.estimateBytes()
+				+ nameIndex.estimateBytes()
+				+ SylphEnumFootprint.array(groups.length, SylphEnumFootprint.REFERENCE_BYTES);
+		for (SylphEnumGroup group : groups) {
+			indexBytes += group.estimateBytes();
+		}
+		// groupsByName：HashMap 对象、桶数组和每个分组一个 Node
+		indexBytes += SylphEnumFootprint.object(4 * SylphEnumFootprint.REFERENCE_BYTES + 4 * Integer.BYTES);
+		if (groups.length > 0) {
+			indexBytes += SylphEnumFootprint.array(Integer.highestOneBit(groups.length * 2 - 1) << 1, SylphEnumFootprint.REFERENCE_BYTES)
+					+ groups.length * SylphEnumFootprint.object(3 * SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES);
+		}
+		long constantBytes = 0;
+		if (isTableBacked()) {
+			for (SylphEnum constant : constants) {
+				constantBytes += SylphEnumFootprint.object(2 * SylphEnumFootprint.REFERENCE_BYTES + 2 * Integer.BYTES)
+						+ SylphEnumFootprint.string(constant.name());
+			}
+		}
+		return new SylphEnumFootprint(typeName, length, layout, indexBytes, constantBytes);
+	}
+
+	/**
+	 * 是否由常量表（{@link SylphEnumConstant}）承载
+	 */
+	public boolean isTableBacked() {
+		return enumType == null;
+	}
+
+	/**
+	 * 有序 id 数组上的只读列表视图
+	 */
+	private final class IdOrderList extends AbstractList<SylphEnum> implements RandomAccess {
+		@Override
+		public SylphEnum get(int index) {
+			return constants[ordinalAtIdOrder(index)];
+		}
+
+		@Override
+		public int size() {
+			return constants.length;
+		}
+	}
+
+	private String describe() {
+		return enumType != null ? enumType.toString() : typeName;
+	}
+
 }
@@ -0,0 +1,82 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64 位 FNV-1a 指纹，只依赖类型名、id、name 和 ordinal 顺序，不依赖 JVM、类加载器或注册顺序
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+final class SylphEnumFingerprint {
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+	/**
+	 * 字符串结束标记，不会出现在 UTF-8 编码中
+	 */
+	private static final int TERMINATOR = 0xFF;
+
+	private long hash = OFFSET_BASIS;
+
+	private SylphEnumFingerprint() {
+	}
+
+	/**
+	 * 计算类型指纹：类型名、枚举数量，以及按 ordinal 顺序的每个 (id, name)
+	 */
+	static long of(@Nonnull SylphEnumDefinition definition) {
+		SylphEnumFingerprint fingerprint = new SylphEnumFingerprint();
+		fingerprint.putString(definition.getTypeName());
+		fingerprint.putInt(definition.length());
+		for (SylphEnum constant : definition.getAll()) {
+			fingerprint.putInt(constant.id());
+			fingerprint.putString(constant.name());
+		}
+		return fingerprint.value();
+	}
+
+	/**
+	 * 计算注册表指纹：按类型名排序后的各类型指纹
+	 *
+	 * @param typeFingerprints 已按类型名排序的类型指纹
+	 */
+	static long of(@Nonnull Iterable<Long> typeFingerprints) {
+		SylphEnumFingerprint fingerprint = new SylphEnumFingerprint();
+		for (long typeFingerprint : typeFingerprints) {
+			fingerprint.putLong(typeFingerprint);
+		}
+		return fingerprint.value();
+	}
+
+	private void putByte(int b) {
+		hash = (hash ^ (b & 0xFF)) * PRIME;
+	}
+
+	private void putInt(int value) {
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			putByte(value >>> shift);
+		}
+	}
+
+	private void putLong(long value) {
+		putInt((int) (value >>> 32));
+		putInt((int) value);
+	}
+
+	private void putString(String value) {
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			putByte(b);
+		}
+		putByte(TERMINATOR);
+	}
+
+	/**
+	 * 0 保留为“尚未计算”
+	 */
+	private long value() {
+		return hash == 0 ? 1 : hash;
+	}
+}
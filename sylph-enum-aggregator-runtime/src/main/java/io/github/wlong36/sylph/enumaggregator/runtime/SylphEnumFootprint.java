@@ -0,0 +1,113 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+
+/**
+ * 单个定义的内存占用估算
+ * 按 64 位 JVM 默认的压缩指针布局计算：对象头 12 字节、引用 4 字节、数组头 16 字节、按 8 字节对齐。
+ * 只统计定义常驻的结构（常量数组、id 和 name 索引、分组，以及常量表类型的常量对象和名称字符串），
+ * 不含属性表、字符串表等首次访问时才加载的附属结构；Java 枚举的常量对象属于枚举类，不计入
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumFootprint {
+	static final int OBJECT_HEADER_BYTES = 12;
+	static final int ARRAY_HEADER_BYTES = 16;
+	static final int REFERENCE_BYTES = 4;
+	static final int ALIGNMENT = 8;
+
+	@Nonnull
+	private final String typeName;
+	private final int length;
+	@Nonnull
+	private final SylphEnumLayout layout;
+	private final long indexBytes;
+	private final long constantBytes;
+
+	SylphEnumFootprint(@Nonnull String typeName, int length, @Nonnull SylphEnumLayout layout, long indexBytes, long constantBytes) {
+		this.typeName = typeName;
+		this.length = length;
+		this.layout = layout;
+		this.indexBytes = indexBytes;
+		this.constantBytes = constantBytes;
+	}
+
+	/**
+	 * 对象的估算大小
+	 *
+	 * @param fieldBytes 所有实例字段（含引用）的字节数之和
+	 */
+	static long object(int fieldBytes) {
+		return align(OBJECT_HEADER_BYTES + fieldBytes);
+	}
+
+	/**
+	 * 数组的估算大小
+	 */
+	static long array(int length, int elementBytes) {
+		return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+	}
+
+	/**
+	 * 字符串及其字节数组的估算大小，按 JDK 9+ 的紧凑字符串计算
+	 */
+	static long string(@Nonnull String value) {
+		boolean latin1 = true;
+		for (int i = 0; i < value.length() && latin1; i++) {
+			latin1 = value.charAt(i) < 256;
+		}
+		return object(REFERENCE_BYTES + Integer.BYTES + 2) + array(value.length(), latin1 ? 1 : 2);
+	}
+
+	private static long align(long bytes) {
+		return (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+	}
+
+	@Nonnull
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * 枚举数量
+	 */
+	public int length() {
+		return length;
+	}
+
+	@Nonnull
+	public SylphEnumLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * 定义对象、常量数组、索引和分组的字节数
+	 */
+	public long indexBytes() {
+		return indexBytes;
+	}
+
+	/**
+	 * 常量表类型的常量对象和名称字符串的字节数，Java 枚举为 0
+	 */
+	public long constantBytes() {
+		return constantBytes;
+	}
+
+	public long totalBytes() {
+		return indexBytes + constantBytes;
+	}
+
+	/**
+	 * 平均每个枚举的字节数，没有枚举时为 0
+	 */
+	public double bytesPerConstant() {
+		return length == 0 ? 0 : (double) totalBytes() / length;
+	}
+
+	@Override
+	public String toString() {
+		return typeName + "{length=" + length + ", layout=" + layout + ", indexBytes=" + indexBytes + ", constantBytes=" + constantBytes + "}";
+	}
+}
@@ -0,0 +1,249 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 聚合枚举分组（标签），注册时按 ordinal 预计算为位图
+ * 本身即为预解析的分组句柄：成员判断为 O(1) 的位测试，按下标遍历成员不产生任何分配
+ * <p>
+ * 分组资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C47 ("SYLG")
+ * short  version 1
+ * UTF    typeName
+ * int    groupCount
+ * 每个分组：UTF name, int count, int[count] 成员 id
+ * </pre>
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumGroup {
+	public static final int MAGIC = 0x53594C47;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的分组资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".groups";
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	@Nonnull
+	private final String name;
+	/**
+	 * 分组在所属定义中的编号
+	 */
+	private final int groupId;
+	/**
+	 * 成员位图，第 ordinal 位为 1 表示属于该分组
+	 */
+	@Nonnull
+	private final long[] bits;
+	/**
+	 * 按 ordinal 升序排列的成员 ordinal
+	 */
+	@Nonnull
+	private final int[] memberOrdinals;
+	@Nonnull
+	private final List<SylphEnum> members;
+
+	SylphEnumGroup(@Nonnull SylphEnumDefinition definition, @Nonnull String name, int groupId, @Nonnull long[] bits) {
+		this.definition = definition;
+		this.name = name;
+		this.groupId = groupId;
+		this.bits = bits;
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		this.memberOrdinals = new int[count];
+		int index = 0;
+		for (int w = 0; w < bits.length; w++) {
+			long word = bits[w];
+			while (word != 0) {
+				memberOrdinals[index++] = (w << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+			}
+		}
+		this.members = new Members();
+	}
+
+	/**
+	 * 获取类型名对应的分组资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 从输入流读取分组资源，并按定义的 ordinal 预计算位图，不会关闭输入流
+	 *
+	 * @param in         输入流
+	 * @param definition 分组所属的定义
+	 * @return 按声明顺序排列的分组
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	static SylphEnumGroup[] read(@Nonnull InputStream in, @Nonnull SylphEnumDefinition definition) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举分组资源: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举分组资源版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(definition.getTypeName())) {
+			throw new IOException("分组资源的类型名 " + typeName + " 与 " + definition.getTypeName() + " 不一致");
+		}
+		int groupCount = input.readInt();
+		SylphEnumGroup[] groups = new SylphEnumGroup[groupCount];
+		for (int g = 0; g < groupCount; g++) {
+			String name = input.readUTF();
+			long[] bits = new long[(definition.length() + 63) >>> 6];
+			int count = input.readInt();
+			for (int i = 0; i < count; i++) {
+				int id = input.readInt();
+				SylphEnum constant = definition.getByIdOrNull(id);
+				if (constant == null) {
+					throw new IOException(typeName + " 分组 " + name + " 引用了不存在的id: " + id);
+				}
+				bits[constant.ordinal() >>> 6] |= 1L << constant.ordinal();
+			}
+			groups[g] = new SylphEnumGroup(definition, name, g, bits);
+		}
+		return groups;
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	public int getGroupId() {
+		return groupId;
+	}
+
+	/**
+	 * 成员数量
+	 */
+	public int size() {
+		return memberOrdinals.length;
+	}
+
+	/**
+	 * 指定 ordinal 的枚举是否属于该分组
+	 */
+	public boolean contains(int ordinal) {
+		int word = ordinal >>> 6;
+		return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * 枚举是否属于该分组，其他类型的枚举总是返回 false
+	 */
+	public boolean contains(@Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		return contains(ordinal) && definition.getByOrdinal(ordinal) == sylphEnum;
+	}
+
+	/**
+	 * 获取第 index 个成员的 ordinal（按 ordinal 升序）
+	 *
+	 * @throws IndexOutOfBoundsException 如果index传入错误
+	 */
+	public int ordinalAt(int index) {
+		return memberOrdinals[index];
+	}
+
+	/**
+	 * 获取第 index 个成员（按 ordinal 升序）
+	 *
+	 * @throws IndexOutOfBoundsException 如果index传入错误
+	 */
+	@Nonnull
+	public SylphEnum get(int index) {
+		return definition.getByOrdinal(memberOrdinals[index]);
+	}
+
+	/**
+	 * 获取大于等于 fromOrdinal 的下一个成员 ordinal
+	 *
+	 * @return 没有更多成员时返回 -1
+	 */
+	public int nextOrdinal(int fromOrdinal) {
+		return SylphEnumMasks.nextOrdinal(bits, fromOrdinal);
+	}
+
+	/**
+	 * 获取成员位图的副本
+	 */
+	@Nonnull
+	public long[] toBits() {
+		return bits.clone();
+	}
+
+	/**
+	 * 获取所有成员（按 ordinal 升序）的只读视图
+	 */
+	@Nonnull
+	public List<SylphEnum> getMembers() {
+		return members;
+	}
+
+	@Override
+	public String toString() {
+		return definition.getTypeName() + "#" + name + members;
+	}
+
+	/**
+	 * 估算分组占用的字节数，含分组名
+	 */
+	long estimateBytes() {
+		// definition、name、bits、memberOrdinals、members 五个引用和 groupId
+		return SylphEnumFootprint.object(5 * SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES)
+				+ SylphEnumFootprint.string(name)
+				+ SylphEnumFootprint.array(bits.length, Long.BYTES)
+				+ SylphEnumFootprint.array(memberOrdinals.length, Integer.BYTES)
+				// 成员视图：外部类引用和 AbstractList.modCount
+				+ SylphEnumFootprint.object(SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES);
+	}
+
+	private final class Members extends AbstractList<SylphEnum> implements RandomAccess {
+		@Override
+		public SylphEnum get(int index) {
+			Objects.checkIndex(index, memberOrdinals.length);
+			return SylphEnumGroup.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return memberOrdinals.length;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof SylphEnum sylphEnum && SylphEnumGroup.this.contains(sylphEnum);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+
+/**
+ * 两个节点之间交换枚举值时的编码协商
+ * 默认跨进程传递稀疏的 {@link SylphEnum#id()}，因为不同构建的 ordinal 不保证一致。
+ * 连接建立时双方交换 {@link #hello(SylphEnums)}，再各自用对端的消息调用 {@link #negotiate(SylphEnums, byte[])}：
+ * 类型指纹一致的类型以稠密的 ordinal 编码（可以用 {@link #bitsPerValue(int)} 位压缩），不一致或对端没有的类型回退为 id。
+ * 协商结果只取决于双方的指纹，两端得到的结论相同
+ * <p>
+ * 握手消息格式：
+ * <pre>
+ * int    magic
+ * short  version
+ * long   注册表指纹
+ * int    类型数量
+ * 每个类型：UTF 类型名，long 类型指纹
+ * </pre>
+ * 协商后注册的类型一律使用 id。协商结果不可变，可以在线程间共享
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumHandshake {
+	public static final int MAGIC = 0x53594C48;
+	public static final short VERSION = 1;
+
+	@Nonnull
+	private final SylphEnums sylphEnums;
+	private final boolean registryMatched;
+	/**
+	 * 按类型id，指纹一致、可以使用 ordinal 的类型为 true
+	 */
+	@Nonnull
+	private final boolean[] ordinalTypes;
+
+	private SylphEnumHandshake(@Nonnull SylphEnums sylphEnums, boolean registryMatched, @Nonnull boolean[] ordinalTypes) {
+		this.sylphEnums = sylphEnums;
+		this.registryMatched = registryMatched;
+		this.ordinalTypes = ordinalTypes;
+	}
+
+	/**
+	 * 生成本端的握手消息
+	 */
+	@Nonnull
+	public static byte[] hello(@Nonnull SylphEnums sylphEnums) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			writeHello(sylphEnums, bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * 把本端的握手消息写入输出流，不会关闭输出流
+	 */
+	public static void writeHello(@Nonnull SylphEnums sylphEnums, @Nonnull OutputStream out) throws IOException {
+		SortedMap<String, Long> fingerprints = sylphEnums.typeFingerprints();
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out));
+		output.writeInt(MAGIC);
+		output.writeShort(VERSION);
+		output.writeLong(SylphEnumFingerprint.of(fingerprints.values()));
+		output.writeInt(fingerprints.size());
+		for (Map.Entry<String, Long> entry : fingerprints.entrySet()) {
+			output.writeUTF(entry.getKey());
+			output.writeLong(entry.getValue());
+		}
+		output.flush();
+	}
+
+	/**
+	 * 根据对端的握手消息协商编码
+	 *
+	 * @param sylphEnums  本端注册表
+	 * @param remoteHello 对端 {@link #hello(SylphEnums)} 生成的消息
+	 * @throws IllegalArgumentException 消息格式错误时抛出
+	 */
+	@Nonnull
+	public static SylphEnumHandshake negotiate(@Nonnull SylphEnums sylphEnums, @Nonnull byte[] remoteHello) {
+		try {
+			return negotiate(sylphEnums, new ByteArrayInputStream(remoteHello));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("无效的枚举握手消息", e);
+		}
+	}
+
+	/**
+	 * 从输入流读取对端的握手消息并协商编码，不会关闭输入流
+	 *
+	 * @param sylphEnums 本端注册表
+	 * @param in         对端 {@link #writeHello(SylphEnums, OutputStream)} 写出的消息
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	public static SylphEnumHandshake negotiate(@Nonnull SylphEnums sylphEnums, @Nonnull InputStream in) throws IOException {
+		DataInputStream input = new DataInputStream(in);
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的枚举握手消息: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的枚举握手消息版本: " + version);
+		}
+		// 注册表指纹供对端快速比较，协商以逐个类型的指纹为准
+		input.readLong();
+		int count = input.readInt();
+		if (count < 0) {
+			throw new IOException("枚举握手消息的类型数量错误: " + count);
+		}
+
+		// 先固定本端的类型集合，协商期间注册的类型不参与协商
+		int typeCount = sylphEnums.typeCount();
+		boolean[] ordinalTypes = new boolean[typeCount];
+		for (int i = 0; i < count; i++) {
+			String typeName = input.readUTF();
+			long fingerprint = input.readLong();
+			sylphEnums.findDefinition(typeName).ifPresent(definition -> {
+				if (definition.getTypeId() < typeCount && definition.fingerprint() == fingerprint) {
+					ordinalTypes[definition.getTypeId()] = true;
+				}
+			});
+		}
+		boolean registryMatched = count == typeCount;
+		for (boolean ordinalType : ordinalTypes) {
+			registryMatched &= ordinalType;
+		}
+		return new SylphEnumHandshake(sylphEnums, registryMatched, ordinalTypes);
+	}
+
+	@Nonnull
+	public SylphEnums getSylphEnums() {
+		return sylphEnums;
+	}
+
+	/**
+	 * 两端注册表的指纹是否一致，一致时所有类型都使用 ordinal
+	 */
+	public boolean isRegistryMatched() {
+		return registryMatched;
+	}
+
+	/**
+	 * 该类型是否以 ordinal 编码
+	 *
+	 * @param typeId 本端的类型id
+	 */
+	public boolean usesOrdinals(int typeId) {
+		return typeId >= 0 && typeId < ordinalTypes.length && ordinalTypes[typeId];
+	}
+
+	/**
+	 * 该类型是否以 ordinal 编码
+	 */
+	public boolean usesOrdinals(@Nonnull SylphEnumDefinition definition) {
+		return usesOrdinals(definition.getTypeId()) && sylphEnums.getDefinition(definition.getTypeId()) == definition;
+	}
+
+	/**
+	 * 编码一个值需要的位数：ordinal 编码时为 {@link SylphEnumPackedArray#bitsPerValue(SylphEnumDefinition)}，id 编码时为 32
+	 *
+	 * @param typeId 本端的类型id
+	 * @throws IndexOutOfBoundsException 如果typeId传入错误
+	 */
+	public int bitsPerValue(int typeId) {
+		SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+		return usesOrdinals(typeId) ? SylphEnumPackedArray.bitsPerValue(definition) : Integer.SIZE;
+	}
+
+	/**
+	 * 按协商结果编码枚举值
+	 *
+	 * @return ordinal 或 id
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 */
+	public int encode(@Nonnull SylphEnum sylphEnum) {
+		SylphEnumDefinition definition = sylphEnums.definitionOf(sylphEnum);
+		return usesOrdinals(definition.getTypeId()) ? sylphEnum.ordinal() : sylphEnum.id();
+	}
+
+	/**
+	 * 按协商结果解码对端发来的值
+	 *
+	 * @param typeId 本端的类型id
+	 * @param value  ordinal 或 id
+	 * @throws IndexOutOfBoundsException 如果typeId或ordinal传入错误
+	 * @throws NoSuchElementException   如果找不到id
+	 */
+	@Nonnull
+	public SylphEnum decode(int typeId, int value) {
+		SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+		return usesOrdinals(typeId) ? definition.getByOrdinal(value) : definition.getById(value);
+	}
+
+	/**
+	 * 按协商结果解码对端发来的值
+	 *
+	 * @param enumType 枚举类型名
+	 * @param value    ordinal 或 id
+	 * @throws NullPointerException 如果是未注册的枚举类型
+	 */
+	@Nonnull
+	public SylphEnum decode(String enumType, int value) {
+		return decode(sylphEnums.getTypeId(enumType), value);
+	}
+}
@@ -0,0 +1,163 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 基于基本类型数组的 id -> ordinal 索引
+ * id 连续或接近连续时使用直接寻址表，否则在有序 id 数组上二分查找，不产生装箱对象；
+ * {@link SylphEnumLayout#COMPACT} 布局下不建直接寻址表，id 顺序与 ordinal 顺序一致时也不保存 ordinal 数组
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+final class SylphEnumIdIndex {
+	/**
+	 * 直接寻址表最多允许的空洞比例：span <= length * DENSE_FACTOR + DENSE_SLACK
+	 */
+	private static final int DENSE_FACTOR = 2;
+	private static final int DENSE_SLACK = 16;
+
+	/**
+	 * 按 id 升序排列的 id
+	 */
+	@Nonnull
+	private final int[] sortedIds;
+	/**
+	 * 与 sortedIds 一一对应的 ordinal，紧凑布局下与下标相同时为 null
+	 */
+	@Nullable
+	private final int[] sortedOrdinals;
+	/**
+	 * 直接寻址表，下标为 id - minId，值为 ordinal，不存在时为 -1；id 稀疏时为 null
+	 */
+	@Nullable
+	private final int[] ordinalByOffset;
+	private final int minId;
+
+	private SylphEnumIdIndex(@Nonnull int[] sortedIds, @Nullable int[] sortedOrdinals, @Nullable int[] ordinalByOffset) {
+		this.sortedIds = sortedIds;
+		this.sortedOrdinals = sortedOrdinals;
+		this.ordinalByOffset = ordinalByOffset;
+		this.minId = sortedIds.length == 0 ? 0 : sortedIds[0];
+	}
+
+	/**
+	 * 构建索引
+	 *
+	 * @param idsByOrdinal 按 ordinal 排列的 id
+	 * @param owner        所属类型描述，用于错误信息
+	 * @param layout       内存布局
+	 * @throws IllegalStateException 存在重复id时抛出
+	 */
+	@Nonnull
+	static SylphEnumIdIndex build(@Nonnull int[] idsByOrdinal, @Nonnull Object owner, @Nonnull SylphEnumLayout layout) {
+		int length = idsByOrdinal.length;
+		long[] packed = new long[length];
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			packed[ordinal] = ((long) idsByOrdinal[ordinal] << 32) | ordinal;
+		}
+		Arrays.sort(packed);
+
+		int[] sortedIds = new int[length];
+		int[] sortedOrdinals = new int[length];
+		for (int i = 0; i < length; i++) {
+			sortedIds[i] = (int) (packed[i] >> 32);
+			sortedOrdinals[i] = (int) packed[i];
+			if (i > 0 && sortedIds[i] == sortedIds[i - 1]) {
+				throw new IllegalStateException(owner + " 存在重复的id: " + sortedIds[i]);
+			}
+		}
+
+		if (layout == SylphEnumLayout.COMPACT) {
+			boolean identity = true;
+			for (int i = 0; i < length && identity; i++) {
+				identity = sortedOrdinals[i] == i;
+			}
+			return new SylphEnumIdIndex(sortedIds, identity ? null : sortedOrdinals, null);
+		}
+
+		int[] ordinalByOffset = null;
+		if (length > 0) {
+			long span = (long) sortedIds[length - 1] - sortedIds[0] + 1;
+			if (span <= (long) length * DENSE_FACTOR + DENSE_SLACK) {
+				ordinalByOffset = new int[(int) span];
+				Arrays.fill(ordinalByOffset, -1);
+				for (int i = 0; i < length; i++) {
+					ordinalByOffset[sortedIds[i] - sortedIds[0]] = sortedOrdinals[i];
+				}
+			}
+		}
+		return new SylphEnumIdIndex(sortedIds, sortedOrdinals, ordinalByOffset);
+	}
+
+	/**
+	 * 根据 id 查找 ordinal
+	 *
+	 * @return ordinal，不存在时返回 -1
+	 */
+	int ordinalOf(int id) {
+		int[] table = this.ordinalByOffset;
+		if (table != null) {
+			long offset = (long) id - minId;
+			return offset >= 0 && offset < table.length ? table[(int) offset] : -1;
+		}
+		int index = Arrays.binarySearch(sortedIds, id);
+		return index >= 0 ? ordinalAt(index) : -1;
+	}
+
+	/**
+	 * 第一个 id 不小于给定 id 的位置（按 id 升序），都小于时返回 {@link #size()}
+	 */
+	int lowerBound(int id) {
+		int low = 0;
+		int high = sortedIds.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sortedIds[mid] < id) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 第一个 id 大于给定 id 的位置（按 id 升序），都不大于时返回 {@link #size()}
+	 */
+	int upperBound(int id) {
+		return id == Integer.MAX_VALUE ? sortedIds.length : lowerBound(id + 1);
+	}
+
+	int size() {
+		return sortedIds.length;
+	}
+
+	/**
+	 * 按 id 升序第 index 个枚举的 id
+	 */
+	int idAt(int index) {
+		return sortedIds[index];
+	}
+
+	/**
+	 * 按 id 升序第 index 个枚举的 ordinal
+	 */
+	int ordinalAt(int index) {
+		int[] sortedOrdinals = this.sortedOrdinals;
+		return sortedOrdinals == null ? Objects.checkIndex(index, sortedIds.length) : sortedOrdinals[index];
+	}
+
+	/**
+	 * 估算索引占用的字节数
+	 */
+	long estimateBytes() {
+		return SylphEnumFootprint.object(3 * SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES)
+				+ SylphEnumFootprint.array(sortedIds.length, Integer.BYTES)
+				+ (sortedOrdinals == null ? 0 : SylphEnumFootprint.array(sortedOrdinals.length, Integer.BYTES))
+				+ (ordinalByOffset == null ? 0 : SylphEnumFootprint.array(ordinalByOffset.length, Integer.BYTES));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+/**
+ * 定义内部索引的内存布局
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public enum SylphEnumLayout {
+	/**
+	 * id 接近连续时使用直接寻址表，name 使用两倍以上容量的开放寻址表，查找最快
+	 */
+	DEFAULT,
+	/**
+	 * 所有索引都是与常量数量等长的有序基本类型数组，id 和 name 查找都是二分，
+	 * id 顺序与 ordinal 顺序一致时不保存 ordinal 数组。适合类型很多、查找不在热点上的场景
+	 */
+	COMPACT,
+}
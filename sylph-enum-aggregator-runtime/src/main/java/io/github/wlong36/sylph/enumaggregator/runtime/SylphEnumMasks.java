@@ -0,0 +1,258 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * 以 ordinal 为位下标的标志位掩码运算，所有方法都不产生分配
+ * 不超过 64 个常量的类型使用 long 掩码，更大的类型使用 long[] 掩码（长度为 {@link #words(SylphEnumDefinition)}）
+ * <p>
+ * 遍历掩码中的枚举：
+ * <pre>
+ * for (int ordinal = SylphEnumMasks.nextOrdinal(mask, 0); ordinal >= 0; ordinal = SylphEnumMasks.nextOrdinal(mask, ordinal + 1)) {
+ *     SylphEnum sylphEnum = definition.getByOrdinal(ordinal);
+ * }
+ * </pre>
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumMasks {
+
+	private SylphEnumMasks() {
+	}
+
+	// --- long 掩码 ---
+
+	/**
+	 * 获取枚举对应的单个标志位
+	 *
+	 * @throws IllegalArgumentException 如果ordinal超出 long 掩码的范围
+	 */
+	public static long mask(@Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		if (ordinal >= Long.SIZE) {
+			throw new IllegalArgumentException(sylphEnum.name() + " 的ordinal " + ordinal + " 超出 long 掩码范围");
+		}
+		return 1L << ordinal;
+	}
+
+	/**
+	 * 获取多个枚举合并后的掩码
+	 *
+	 * @throws IllegalArgumentException 如果ordinal超出 long 掩码的范围
+	 */
+	public static long mask(@Nonnull SylphEnum first, @Nonnull SylphEnum second) {
+		return mask(first) | mask(second);
+	}
+
+	/**
+	 * 获取多个枚举合并后的掩码
+	 *
+	 * @throws IllegalArgumentException 如果ordinal超出 long 掩码的范围
+	 */
+	public static long mask(@Nonnull SylphEnum first, @Nonnull SylphEnum second, @Nonnull SylphEnum third) {
+		return mask(first) | mask(second) | mask(third);
+	}
+
+	/**
+	 * 获取包含定义中所有枚举的掩码
+	 *
+	 * @throws IllegalArgumentException 如果定义的枚举数量超过 64
+	 */
+	public static long allOf(@Nonnull SylphEnumDefinition definition) {
+		int length = checkSingleWord(definition);
+		return length == Long.SIZE ? -1L : (1L << length) - 1;
+	}
+
+	public static long union(long mask, long other) {
+		return mask | other;
+	}
+
+	public static long intersect(long mask, long other) {
+		return mask & other;
+	}
+
+	public static long difference(long mask, long other) {
+		return mask & ~other;
+	}
+
+	public static long with(long mask, @Nonnull SylphEnum sylphEnum) {
+		return mask | mask(sylphEnum);
+	}
+
+	public static long without(long mask, @Nonnull SylphEnum sylphEnum) {
+		return mask & ~mask(sylphEnum);
+	}
+
+	public static boolean contains(long mask, @Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		return ordinal < Long.SIZE && (mask & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * mask 是否包含 required 中的所有标志位
+	 */
+	public static boolean containsAll(long mask, long required) {
+		return (mask & required) == required;
+	}
+
+	/**
+	 * mask 是否包含 candidates 中的任意标志位
+	 */
+	public static boolean containsAny(long mask, long candidates) {
+		return (mask & candidates) != 0;
+	}
+
+	public static int count(long mask) {
+		return Long.bitCount(mask);
+	}
+
+	/**
+	 * 获取大于等于 fromOrdinal 的下一个置位 ordinal
+	 *
+	 * @return 没有更多置位时返回 -1
+	 */
+	public static int nextOrdinal(long mask, int fromOrdinal) {
+		if (fromOrdinal >= Long.SIZE) {
+			return -1;
+		}
+		long word = mask & (-1L << Math.max(fromOrdinal, 0));
+		return word == 0 ? -1 : Long.numberOfTrailingZeros(word);
+	}
+
+	// --- long[] 掩码 ---
+
+	/**
+	 * 获取定义的 long[] 掩码长度
+	 */
+	public static int words(@Nonnull SylphEnumDefinition definition) {
+		return (definition.length() + 63) >>> 6;
+	}
+
+	/**
+	 * 在 long[] 掩码中设置枚举对应的标志位
+	 *
+	 * @throws ArrayIndexOutOfBoundsException 如果掩码长度不足
+	 */
+	public static void set(@Nonnull long[] mask, @Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		mask[ordinal >>> 6] |= 1L << ordinal;
+	}
+
+	/**
+	 * 在 long[] 掩码中清除枚举对应的标志位
+	 *
+	 * @throws ArrayIndexOutOfBoundsException 如果掩码长度不足
+	 */
+	public static void clear(@Nonnull long[] mask, @Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		mask[ordinal >>> 6] &= ~(1L << ordinal);
+	}
+
+	public static boolean contains(@Nonnull long[] mask, @Nonnull SylphEnum sylphEnum) {
+		int ordinal = sylphEnum.ordinal();
+		int word = ordinal >>> 6;
+		return word < mask.length && (mask[word] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * 将 other 合并到 mask 中
+	 */
+	public static void unionInto(@Nonnull long[] mask, @Nonnull long[] other) {
+		int words = Math.min(mask.length, other.length);
+		for (int i = 0; i < words; i++) {
+			mask[i] |= other[i];
+		}
+	}
+
+	/**
+	 * 将 mask 与 other 取交集，结果保存在 mask 中
+	 */
+	public static void intersectInto(@Nonnull long[] mask, @Nonnull long[] other) {
+		int words = Math.min(mask.length, other.length);
+		for (int i = 0; i < words; i++) {
+			mask[i] &= other[i];
+		}
+		Arrays.fill(mask, words, mask.length, 0L);
+	}
+
+	/**
+	 * 从 mask 中移除 other 的标志位
+	 */
+	public static void differenceInto(@Nonnull long[] mask, @Nonnull long[] other) {
+		int words = Math.min(mask.length, other.length);
+		for (int i = 0; i < words; i++) {
+			mask[i] &= ~other[i];
+		}
+	}
+
+	/**
+	 * mask 是否包含 required 中的所有标志位
+	 */
+	public static boolean containsAll(@Nonnull long[] mask, @Nonnull long[] required) {
+		for (int i = 0; i < required.length; i++) {
+			long word = i < mask.length ? mask[i] : 0L;
+			if ((word & required[i]) != required[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * mask 是否包含 candidates 中的任意标志位
+	 */
+	public static boolean containsAny(@Nonnull long[] mask, @Nonnull long[] candidates) {
+		int words = Math.min(mask.length, candidates.length);
+		for (int i = 0; i < words; i++) {
+			if ((mask[i] & candidates[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static int count(@Nonnull long[] mask) {
+		int count = 0;
+		for (long word : mask) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * 获取大于等于 fromOrdinal 的下一个置位 ordinal
+	 *
+	 * @return 没有更多置位时返回 -1
+	 */
+	public static int nextOrdinal(@Nonnull long[] mask, int fromOrdinal) {
+		if (fromOrdinal < 0) {
+			fromOrdinal = 0;
+		}
+		int w = fromOrdinal >>> 6;
+		if (w >= mask.length) {
+			return -1;
+		}
+		long word = mask[w] & (-1L << fromOrdinal);
+		while (true) {
+			if (word != 0) {
+				return (w << 6) + Long.numberOfTrailingZeros(word);
+			}
+			if (++w == mask.length) {
+				return -1;
+			}
+			word = mask[w];
+		}
+	}
+
+	static int checkSingleWord(@Nonnull SylphEnumDefinition definition) {
+		int length = definition.length();
+		if (length > Long.SIZE) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 有 " + length + " 个枚举，无法使用 long 掩码");
+		}
+		return length;
+	}
+}
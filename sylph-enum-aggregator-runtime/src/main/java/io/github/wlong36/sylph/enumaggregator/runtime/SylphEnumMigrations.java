@@ -0,0 +1,265 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumMigrate;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 聚合枚举的版本化id迁移表，由 {@link SylphEnumMigrate} 声明
+ * 注解处理器为每对版本 (from, to) 生成合成后的迁移项，加载时按id分布选择布局：
+ * id 跨度不大时展开为以最小旧id为基准的稠密数组，翻译为一次范围判断和一次数组读取；
+ * 否则使用按旧id排序的数组二分查找。批量翻译在一次线性扫描中原地完成，不产生分配
+ * <p>
+ * 迁移表资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C4D ("SYLM")
+ * short  version 1
+ * UTF    typeName
+ * int    latestVersion
+ * int    pairCount
+ * 每对版本：int fromVersion, int toVersion, int count, count 个 (int oldId, int newId)，按 oldId 升序
+ * </pre>
+ * 未出现在迁移项中的id保持不变，已废弃的id翻译为 {@link #TOMBSTONE}
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumMigrations {
+	public static final int MAGIC = 0x53594C4D;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的迁移表资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".migrations";
+	/**
+	 * 已废弃的id的翻译结果
+	 */
+	public static final int TOMBSTONE = SylphEnumMigrate.TOMBSTONE;
+	/**
+	 * 稠密数组的长度不超过迁移项数量的倍数，超过时使用二分查找
+	 */
+	private static final int DENSE_FACTOR = 4;
+	private static final int DENSE_MIN_SPAN = 64;
+
+	static final SylphEnumMigrations EMPTY = new SylphEnumMigrations(0, new Translation[1]);
+
+	private final int latestVersion;
+	/**
+	 * 按 {@code from * (latestVersion + 1) + to} 索引，为 null 表示不变
+	 */
+	@Nonnull
+	private final Translation[] translations;
+
+	private SylphEnumMigrations(int latestVersion, @Nonnull Translation[] translations) {
+		this.latestVersion = latestVersion;
+		this.translations = translations;
+	}
+
+	/**
+	 * 获取类型名对应的迁移表资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 从输入流读取迁移表，不会关闭输入流
+	 *
+	 * @param in         输入流
+	 * @param definition 迁移表所属的定义
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	static SylphEnumMigrations read(@Nonnull InputStream in, @Nonnull SylphEnumDefinition definition) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举迁移表: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举迁移表版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(definition.getTypeName())) {
+			throw new IOException("迁移表的类型名 " + typeName + " 与 " + definition.getTypeName() + " 不一致");
+		}
+		int latestVersion = input.readInt();
+		if (latestVersion < 0 || latestVersion > SylphEnumMigrate.MAX_VERSION) {
+			throw new IOException(typeName + " 迁移表的最新版本错误: " + latestVersion);
+		}
+		Translation[] translations = new Translation[(latestVersion + 1) * (latestVersion + 1)];
+		int pairCount = input.readInt();
+		for (int p = 0; p < pairCount; p++) {
+			int fromVersion = input.readInt();
+			int toVersion = input.readInt();
+			if (fromVersion < 0 || fromVersion >= toVersion || toVersion > latestVersion) {
+				throw new IOException(typeName + " 迁移表的版本对错误: " + fromVersion + " -> " + toVersion);
+			}
+			int count = input.readInt();
+			if (count < 0) {
+				throw new IOException(typeName + " 迁移表 " + fromVersion + " -> " + toVersion + " 的id数量错误: " + count);
+			}
+			int[] oldIds = new int[count];
+			int[] newIds = new int[count];
+			for (int i = 0; i < count; i++) {
+				oldIds[i] = input.readInt();
+				newIds[i] = input.readInt();
+				if (i > 0 && oldIds[i] <= oldIds[i - 1]) {
+					throw new IOException(typeName + " 迁移表 " + fromVersion + " -> " + toVersion + " 的旧id未按升序排列: " + oldIds[i]);
+				}
+			}
+			if (count > 0) {
+				translations[fromVersion * (latestVersion + 1) + toVersion] = Translation.build(oldIds, newIds);
+			}
+		}
+		return new SylphEnumMigrations(latestVersion, translations);
+	}
+
+	/**
+	 * 最新版本，没有声明迁移的类型为 0
+	 */
+	public int latestVersion() {
+		return latestVersion;
+	}
+
+	/**
+	 * 翻译单个id
+	 *
+	 * @param id          fromVersion 版本的id
+	 * @param fromVersion 源版本
+	 * @param toVersion   目标版本
+	 * @return toVersion 版本的id，已废弃时返回 {@link #TOMBSTONE}
+	 * @throws IllegalArgumentException 如果版本不在 [0, latestVersion] 范围内或 fromVersion 大于 toVersion
+	 */
+	public int translate(int id, int fromVersion, int toVersion) {
+		Translation translation = translation(fromVersion, toVersion);
+		return translation == null ? id : translation.translate(id);
+	}
+
+	/**
+	 * 原地翻译整个数组
+	 *
+	 * @param ids         fromVersion 版本的id，翻译后为 toVersion 版本的id，已废弃的为 {@link #TOMBSTONE}
+	 * @param fromVersion 源版本
+	 * @param toVersion   目标版本
+	 * @throws IllegalArgumentException 如果版本不在 [0, latestVersion] 范围内或 fromVersion 大于 toVersion
+	 */
+	public void translate(@Nonnull int[] ids, int fromVersion, int toVersion) {
+		translate(ids, 0, ids.length, fromVersion, toVersion);
+	}
+
+	/**
+	 * 原地翻译数组的一段
+	 *
+	 * @param ids         fromVersion 版本的id，翻译后为 toVersion 版本的id，已废弃的为 {@link #TOMBSTONE}
+	 * @param offset      起始下标
+	 * @param length      数量
+	 * @param fromVersion 源版本
+	 * @param toVersion   目标版本
+	 * @throws IllegalArgumentException  如果版本不在 [0, latestVersion] 范围内或 fromVersion 大于 toVersion
+	 * @throws IndexOutOfBoundsException 如果offset或length传入错误
+	 */
+	public void translate(@Nonnull int[] ids, int offset, int length, int fromVersion, int toVersion) {
+		Objects.checkFromIndexSize(offset, length, ids.length);
+		Translation translation = translation(fromVersion, toVersion);
+		if (translation != null) {
+			translation.translate(ids, offset, offset + length);
+		}
+	}
+
+	/**
+	 * 两个版本之间发生变化的id数量
+	 *
+	 * @throws IllegalArgumentException 如果版本不在 [0, latestVersion] 范围内或 fromVersion 大于 toVersion
+	 */
+	public int changedCount(int fromVersion, int toVersion) {
+		Translation translation = translation(fromVersion, toVersion);
+		return translation == null ? 0 : translation.count;
+	}
+
+	private Translation translation(int fromVersion, int toVersion) {
+		if (fromVersion < 0 || fromVersion > toVersion || toVersion > latestVersion) {
+			throw new IllegalArgumentException("版本错误: " + fromVersion + " -> " + toVersion + "，最新版本为 " + latestVersion);
+		}
+		return translations[fromVersion * (latestVersion + 1) + toVersion];
+	}
+
+	/**
+	 * 一对版本之间的翻译，dense 不为 null 时使用稠密数组，否则在 oldIds 中二分查找
+	 */
+	private static final class Translation {
+		private final int count;
+		private final int base;
+		private final int[] dense;
+		private final int[] oldIds;
+		private final int[] newIds;
+
+		private Translation(int count, int base, int[] dense, int[] oldIds, int[] newIds) {
+			this.count = count;
+			this.base = base;
+			this.dense = dense;
+			this.oldIds = oldIds;
+			this.newIds = newIds;
+		}
+
+		static Translation build(int[] oldIds, int[] newIds) {
+			int count = oldIds.length;
+			int base = oldIds[0];
+			long span = (long) oldIds[count - 1] - base + 1;
+			if (span > Math.max(DENSE_MIN_SPAN, (long) count * DENSE_FACTOR)) {
+				return new Translation(count, base, null, oldIds, newIds);
+			}
+			int[] dense = new int[(int) span];
+			for (int i = 0; i < dense.length; i++) {
+				dense[i] = base + i;
+			}
+			for (int i = 0; i < count; i++) {
+				dense[oldIds[i] - base] = newIds[i];
+			}
+			return new Translation(count, base, dense, null, null);
+		}
+
+		int translate(int id) {
+			int[] dense = this.dense;
+			if (dense != null) {
+				int offset = id - base;
+				return offset >= 0 && offset < dense.length ? dense[offset] : id;
+			}
+			int index = Arrays.binarySearch(oldIds, id);
+			return index >= 0 ? newIds[index] : id;
+		}
+
+		void translate(int[] ids, int from, int to) {
+			int[] dense = this.dense;
+			if (dense != null) {
+				int base = this.base;
+				int length = dense.length;
+				for (int i = from; i < to; i++) {
+					int offset = ids[i] - base;
+					if (offset >= 0 && offset < length) {
+						ids[i] = dense[offset];
+					}
+				}
+			} else {
+				int[] oldIds = this.oldIds;
+				int[] newIds = this.newIds;
+				for (int i = from; i < to; i++) {
+					int index = Arrays.binarySearch(oldIds, ids[i]);
+					if (index >= 0) {
+						ids[i] = newIds[index];
+					}
+				}
+			}
+		}
+	}
+}
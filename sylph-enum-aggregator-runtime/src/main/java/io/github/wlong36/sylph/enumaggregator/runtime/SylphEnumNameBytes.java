@@ -0,0 +1,322 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 按 ordinal 预先编码好的名称和id字节，序列化枚举时只需一次批量拷贝，不再经过字符集编码
+ * 每个常量保存三种形式：
+ * <ul>
+ *     <li>名称的 UTF-8 字节</li>
+ *     <li>带双引号并按 JSON 规则转义的名称</li>
+ *     <li>id 的 varint 编码，与 protobuf int32 字段一致，负数占 10 字节</li>
+ * </ul>
+ * 三种形式分别连续存放在一个 byte[] 中，以偏移数组定位。另有一张按名称字节哈希的开放寻址表，
+ * 可以不创建 String 直接用 UTF-8 字节查找常量，见 {@link #findOrdinal(byte[], int, int)}。
+ * 构建完成后不可变，可以在线程间共享
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumNameBytes {
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	@Nonnull
+	private final byte[] names;
+	@Nonnull
+	private final int[] nameOffsets;
+	@Nonnull
+	private final byte[] jsonNames;
+	@Nonnull
+	private final int[] jsonNameOffsets;
+	@Nonnull
+	private final byte[] varintIds;
+	@Nonnull
+	private final int[] varintIdOffsets;
+	/**
+	 * 以名称字节哈希定位的开放寻址表，存放 ordinal + 1，0 为空槽
+	 */
+	@Nonnull
+	private final int[] nameTable;
+
+	private SylphEnumNameBytes(@Nonnull SylphEnumDefinition definition) {
+		this.definition = definition;
+		int length = definition.length();
+		Blob names = new Blob(length);
+		Blob jsonNames = new Blob(length);
+		Blob varintIds = new Blob(length);
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			SylphEnum constant = definition.getByOrdinal(ordinal);
+			byte[] utf8 = constant.name().getBytes(StandardCharsets.UTF_8);
+			names.add(utf8, utf8.length);
+			byte[] json = new byte[utf8.length * 6 + 2];
+			jsonNames.add(json, writeJson(utf8, json));
+			byte[] varint = new byte[10];
+			varintIds.add(varint, writeVarint(constant.id(), varint));
+		}
+		this.names = names.bytes();
+		this.nameOffsets = names.offsets;
+		this.jsonNames = jsonNames.bytes();
+		this.jsonNameOffsets = jsonNames.offsets;
+		this.varintIds = varintIds.bytes();
+		this.varintIdOffsets = varintIds.offsets;
+		this.nameTable = new int[Integer.highestOneBit(Math.max(length, 1) * 2 - 1) << 1];
+		int mask = nameTable.length - 1;
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			int offset = nameOffsets[ordinal];
+			int slot = hash(this.names, offset, nameOffsets[ordinal + 1] - offset) & mask;
+			while (nameTable[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			nameTable[slot] = ordinal + 1;
+		}
+	}
+
+	private static int hash(byte[] bytes, int offset, int length) {
+		int h = 0;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			h = 31 * h + bytes[i];
+		}
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 构建定义所有常量的编码
+	 */
+	@Nonnull
+	static SylphEnumNameBytes build(@Nonnull SylphEnumDefinition definition) {
+		return new SylphEnumNameBytes(definition);
+	}
+
+	/**
+	 * 把 UTF-8 名称写成 JSON 字符串，名称中的非 ASCII 字符原样保留
+	 */
+	private static int writeJson(byte[] utf8, byte[] out) {
+		int position = 0;
+		out[position++] = '"';
+		for (byte b : utf8) {
+			switch (b) {
+				case '"', '\\' -> {
+					out[position++] = '\\';
+					out[position++] = b;
+				}
+				case '\b' -> position = escape(out, position, 'b');
+				case '\f' -> position = escape(out, position, 'f');
+				case '\n' -> position = escape(out, position, 'n');
+				case '\r' -> position = escape(out, position, 'r');
+				case '\t' -> position = escape(out, position, 't');
+				default -> {
+					if (b >= 0 && b < 0x20) {
+						out[position++] = '\\';
+						out[position++] = 'u';
+						out[position++] = '0';
+						out[position++] = '0';
+						out[position++] = HEX[b >>> 4];
+						out[position++] = HEX[b & 0xF];
+					} else {
+						out[position++] = b;
+					}
+				}
+			}
+		}
+		out[position++] = '"';
+		return position;
+	}
+
+	private static int escape(byte[] out, int position, char c) {
+		out[position++] = '\\';
+		out[position++] = (byte) c;
+		return position;
+	}
+
+	/**
+	 * 按 protobuf int32 的规则写 varint，负数按 64 位符号扩展
+	 */
+	private static int writeVarint(int id, byte[] out) {
+		long value = id;
+		int position = 0;
+		while ((value & ~0x7FL) != 0) {
+			out[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out[position++] = (byte) value;
+		return position;
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * 名称 UTF-8 编码的字节数
+	 *
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public int nameLength(int ordinal) {
+		return nameOffsets[ordinal + 1] - nameOffsets[ordinal];
+	}
+
+	/**
+	 * JSON 字符串形式（含双引号）的字节数
+	 *
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public int jsonNameLength(int ordinal) {
+		return jsonNameOffsets[ordinal + 1] - jsonNameOffsets[ordinal];
+	}
+
+	/**
+	 * id varint 编码的字节数
+	 *
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public int varintIdLength(int ordinal) {
+		return varintIdOffsets[ordinal + 1] - varintIdOffsets[ordinal];
+	}
+
+	/**
+	 * 获取名称 UTF-8 编码的副本
+	 */
+	@Nonnull
+	public byte[] nameBytes(int ordinal) {
+		return Arrays.copyOfRange(names, nameOffsets[ordinal], nameOffsets[ordinal + 1]);
+	}
+
+	/**
+	 * 按名称的 UTF-8 字节查找 ordinal，不创建 String
+	 *
+	 * @param bytes  包含名称的字节数组
+	 * @param offset 名称的起始位置
+	 * @param length 名称的字节数
+	 * @return ordinal，找不到时返回 -1
+	 * @throws IndexOutOfBoundsException 如果offset或length超出数组范围
+	 */
+	public int findOrdinal(@Nonnull byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		int mask = nameTable.length - 1;
+		int slot = hash(bytes, offset, length) & mask;
+		int entry;
+		while ((entry = nameTable[slot]) != 0) {
+			int ordinal = entry - 1;
+			if (Arrays.equals(names, nameOffsets[ordinal], nameOffsets[ordinal + 1], bytes, offset, offset + length)) {
+				return ordinal;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * 写入名称的 UTF-8 字节
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 * @throws BufferOverflowException  剩余空间不足时抛出，此时不写入任何字节
+	 */
+	public int writeName(@Nonnull SylphEnum sylphEnum, @Nonnull ByteBuffer buffer) {
+		return write(names, nameOffsets, definition.ordinalOf(sylphEnum), buffer);
+	}
+
+	/**
+	 * 写入带双引号、已转义的 JSON 字符串
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 * @throws BufferOverflowException  剩余空间不足时抛出，此时不写入任何字节
+	 */
+	public int writeJsonName(@Nonnull SylphEnum sylphEnum, @Nonnull ByteBuffer buffer) {
+		return write(jsonNames, jsonNameOffsets, definition.ordinalOf(sylphEnum), buffer);
+	}
+
+	/**
+	 * 写入 id 的 varint 编码
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 * @throws BufferOverflowException  剩余空间不足时抛出，此时不写入任何字节
+	 */
+	public int writeVarintId(@Nonnull SylphEnum sylphEnum, @Nonnull ByteBuffer buffer) {
+		return write(varintIds, varintIdOffsets, definition.ordinalOf(sylphEnum), buffer);
+	}
+
+	/**
+	 * 把名称的 UTF-8 字节写入输出流
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 */
+	public int writeName(@Nonnull SylphEnum sylphEnum, @Nonnull OutputStream out) throws IOException {
+		return write(names, nameOffsets, definition.ordinalOf(sylphEnum), out);
+	}
+
+	/**
+	 * 把带双引号、已转义的 JSON 字符串写入输出流
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 */
+	public int writeJsonName(@Nonnull SylphEnum sylphEnum, @Nonnull OutputStream out) throws IOException {
+		return write(jsonNames, jsonNameOffsets, definition.ordinalOf(sylphEnum), out);
+	}
+
+	/**
+	 * 把 id 的 varint 编码写入输出流
+	 *
+	 * @return 写入的字节数
+	 * @throws IllegalArgumentException 如果枚举不属于本定义
+	 */
+	public int writeVarintId(@Nonnull SylphEnum sylphEnum, @Nonnull OutputStream out) throws IOException {
+		return write(varintIds, varintIdOffsets, definition.ordinalOf(sylphEnum), out);
+	}
+
+	private static int write(byte[] bytes, int[] offsets, int ordinal, ByteBuffer buffer) {
+		int offset = offsets[ordinal];
+		int length = offsets[ordinal + 1] - offset;
+		buffer.put(bytes, offset, length);
+		return length;
+	}
+
+	private static int write(byte[] bytes, int[] offsets, int ordinal, OutputStream out) throws IOException {
+		int offset = offsets[ordinal];
+		int length = offsets[ordinal + 1] - offset;
+		out.write(bytes, offset, length);
+		return length;
+	}
+
+	/**
+	 * 构建时拼接变长字节串
+	 */
+	private static final class Blob {
+		private byte[] bytes = new byte[64];
+		private final int[] offsets;
+		private int count;
+
+		Blob(int length) {
+			this.offsets = new int[length + 1];
+		}
+
+		void add(byte[] value, int length) {
+			int end = offsets[count];
+			if (end + length > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, end + length));
+			}
+			System.arraycopy(value, 0, bytes, end, length);
+			offsets[++count] = end + length;
+		}
+
+		byte[] bytes() {
+			return Arrays.copyOf(bytes, offsets[count]);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * 基于开放寻址的 name -> ordinal 索引
+ * 只保存 int 槽位和 hash，名称本身直接从枚举常量读取，不为每个常量创建 Entry 对象；
+ * {@link SylphEnumLayout#COMPACT} 布局下改为按 hash 排序的等长数组，查找时二分 hash 再比较名称
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+final class SylphEnumNameIndex {
+	/**
+	 * 槽位中保存 ordinal + 1，0 表示空槽；紧凑布局下为与 hashes 对应的 ordinal + 1
+	 */
+	@Nonnull
+	private final int[] slots;
+	/**
+	 * 与 slots 对应的名称 hash，用于在比较字符串之前快速排除；紧凑布局下升序排列
+	 */
+	@Nonnull
+	private final int[] hashes;
+	@Nonnull
+	private final SylphEnum[] constants;
+	/**
+	 * 开放寻址表的掩码，紧凑布局下为 -1
+	 */
+	private final int mask;
+
+	private SylphEnumNameIndex(@Nonnull int[] slots, @Nonnull int[] hashes, @Nonnull SylphEnum[] constants, int mask) {
+		this.slots = slots;
+		this.hashes = hashes;
+		this.constants = constants;
+		this.mask = mask;
+	}
+
+	/**
+	 * 构建索引
+	 *
+	 * @param constants 按 ordinal 排列的枚举常量
+	 * @param owner     所属类型描述，用于错误信息
+	 * @param layout    内存布局
+	 * @throws IllegalStateException 存在重复name时抛出
+	 */
+	@Nonnull
+	static SylphEnumNameIndex build(@Nonnull SylphEnum[] constants, @Nonnull Object owner, @Nonnull SylphEnumLayout layout) {
+		if (layout == SylphEnumLayout.COMPACT) {
+			return buildSorted(constants, owner);
+		}
+		int capacity = Integer.highestOneBit(Math.max(2, constants.length * 2 - 1)) << 1;
+		int[] slots = new int[capacity];
+		int[] hashes = new int[capacity];
+		int mask = capacity - 1;
+		for (int ordinal = 0; ordinal < constants.length; ordinal++) {
+			String name = constants[ordinal].name();
+			int hash = name.hashCode();
+			int slot = spread(hash) & mask;
+			while (slots[slot] != 0) {
+				if (hashes[slot] == hash && constants[slots[slot] - 1].name().equals(name)) {
+					throw new IllegalStateException(owner + " 存在重复的name: " + name);
+				}
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = ordinal + 1;
+			hashes[slot] = hash;
+		}
+		return new SylphEnumNameIndex(slots, hashes, constants, mask);
+	}
+
+	private static SylphEnumNameIndex buildSorted(SylphEnum[] constants, Object owner) {
+		int length = constants.length;
+		long[] packed = new long[length];
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			packed[ordinal] = ((long) constants[ordinal].name().hashCode() << 32) | ordinal;
+		}
+		Arrays.sort(packed);
+		int[] slots = new int[length];
+		int[] hashes = new int[length];
+		for (int i = 0; i < length; i++) {
+			hashes[i] = (int) (packed[i] >> 32);
+			slots[i] = (int) packed[i] + 1;
+			String name = constants[slots[i] - 1].name();
+			for (int j = i - 1; j >= 0 && hashes[j] == hashes[i]; j--) {
+				if (constants[slots[j] - 1].name().equals(name)) {
+					throw new IllegalStateException(owner + " 存在重复的name: " + name);
+				}
+			}
+		}
+		return new SylphEnumNameIndex(slots, hashes, constants, -1);
+	}
+
+	/**
+	 * 根据 name 查找 ordinal
+	 *
+	 * @return ordinal，不存在时返回 -1
+	 */
+	int ordinalOf(@Nullable String name) {
+		if (name == null) {
+			return -1;
+		}
+		int hash = name.hashCode();
+		if (mask < 0) {
+			return sortedOrdinalOf(name, hash);
+		}
+		int slot = spread(hash) & mask;
+		int value;
+		while ((value = slots[slot]) != 0) {
+			if (hashes[slot] == hash && constants[value - 1].name().equals(name)) {
+				return value - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int sortedOrdinalOf(String name, int hash) {
+		int index = Arrays.binarySearch(hashes, hash);
+		if (index < 0) {
+			return -1;
+		}
+		while (index > 0 && hashes[index - 1] == hash) {
+			index--;
+		}
+		for (; index < hashes.length && hashes[index] == hash; index++) {
+			if (constants[slots[index] - 1].name().equals(name)) {
+				return slots[index] - 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 估算索引占用的字节数，不含共享的常量数组
+	 */
+	long estimateBytes() {
+		return SylphEnumFootprint.object(3 * SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES)
+				+ SylphEnumFootprint.array(slots.length, Integer.BYTES)
+				+ SylphEnumFootprint.array(hashes.length, Integer.BYTES);
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+}
\ No newline at end of file
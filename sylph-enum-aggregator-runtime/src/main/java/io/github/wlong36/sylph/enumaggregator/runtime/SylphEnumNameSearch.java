@@ -0,0 +1,337 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 忽略大小写的名称、别名和前缀查找索引
+ * 枚举名和 {@code @SylphEnumReg#aliases()} 声明的别名在构建时逐字符折叠大小写（与 {@link String#equalsIgnoreCase} 的规则一致），
+ * 按折叠后的键排序保存为数组。精确查找和前缀查找都是在键数组上二分，查询串逐字符折叠后比较，不产生分配；
+ * 前缀查找返回的是一段连续区间，同一常量的名称和别名同时命中时只返回一次
+ * <p>
+ * 别名资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C4E ("SYLN")
+ * short  version 1
+ * UTF    typeName
+ * int    count
+ * count 个 (int id, UTF alias)
+ * </pre>
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumNameSearch {
+	public static final int MAGIC = 0x53594C4E;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的别名资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".aliases";
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	/**
+	 * 折叠大小写后升序排列的名称和别名
+	 */
+	@Nonnull
+	private final String[] keys;
+	/**
+	 * 与 keys 对应的 ordinal
+	 */
+	@Nonnull
+	private final int[] ordinals;
+	/**
+	 * keys 中排在前面、ordinal 相同的最近一项的下标，没有时为 -1，用于前缀查找时去重
+	 */
+	@Nonnull
+	private final int[] previous;
+	/**
+	 * 按 ordinal 排列的别名
+	 */
+	@Nonnull
+	private final String[][] aliases;
+
+	private SylphEnumNameSearch(@Nonnull SylphEnumDefinition definition, @Nonnull String[] keys, @Nonnull int[] ordinals,
+	                            @Nonnull String[][] aliases) {
+		this.definition = definition;
+		this.keys = keys;
+		this.ordinals = ordinals;
+		this.aliases = aliases;
+		this.previous = new int[keys.length];
+		int[] last = new int[definition.length()];
+		Arrays.fill(last, -1);
+		for (int i = 0; i < keys.length; i++) {
+			previous[i] = last[ordinals[i]];
+			last[ordinals[i]] = i;
+		}
+	}
+
+	/**
+	 * 获取类型名对应的别名资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 构建定义的名称索引，别名资源不存在时只索引枚举名
+	 *
+	 * @param definition     枚举定义
+	 * @param resourceLoader 用于加载别名资源的类加载器，为 null 时不加载
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	static SylphEnumNameSearch load(@Nonnull SylphEnumDefinition definition, @Nullable ClassLoader resourceLoader) throws IOException {
+		String[][] aliases = new String[definition.length()][];
+		Arrays.fill(aliases, new String[0]);
+		int aliasCount = 0;
+		if (resourceLoader != null) {
+			try (InputStream in = resourceLoader.getResourceAsStream(resourceName(definition.getTypeName()))) {
+				if (in != null) {
+					aliasCount = read(in, definition, aliases);
+				}
+			}
+		}
+		return build(definition, aliases, aliasCount);
+	}
+
+	private static int read(InputStream in, SylphEnumDefinition definition, String[][] aliases) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举别名资源: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举别名资源版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(definition.getTypeName())) {
+			throw new IOException("别名资源的类型名 " + typeName + " 与 " + definition.getTypeName() + " 不一致");
+		}
+		int count = input.readInt();
+		for (int i = 0; i < count; i++) {
+			int id = input.readInt();
+			String alias = input.readUTF();
+			SylphEnum constant = definition.getByIdOrNull(id);
+			if (constant == null) {
+				throw new IOException(typeName + " 别名 " + alias + " 引用了不存在的id: " + id);
+			}
+			String[] current = aliases[constant.ordinal()];
+			String[] next = Arrays.copyOf(current, current.length + 1);
+			next[current.length] = alias;
+			aliases[constant.ordinal()] = next;
+		}
+		return count;
+	}
+
+	private static SylphEnumNameSearch build(SylphEnumDefinition definition, String[][] aliases, int aliasCount) {
+		int length = definition.length();
+		int size = length + aliasCount;
+		String[] folded = new String[size];
+		int[] ordinalOf = new int[size];
+		Integer[] order = new Integer[size];
+		int index = 0;
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			folded[index] = fold(definition.getByOrdinal(ordinal).name());
+			ordinalOf[index] = ordinal;
+			index++;
+		}
+		for (int ordinal = 0; ordinal < length; ordinal++) {
+			for (String alias : aliases[ordinal]) {
+				folded[index] = fold(alias);
+				ordinalOf[index] = ordinal;
+				index++;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		// 键相同时名称排在别名前面，再按 ordinal 排列，保证精确查找的结果稳定
+		Arrays.sort(order, Comparator.<Integer, String>comparing(i -> folded[i]).thenComparingInt(i -> i));
+		String[] keys = new String[size];
+		int[] ordinals = new int[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = folded[order[i]];
+			ordinals[i] = ordinalOf[order[i]];
+		}
+		return new SylphEnumNameSearch(definition, keys, ordinals, aliases);
+	}
+
+	/**
+	 * 逐字符折叠大小写，规则与 {@link String#equalsIgnoreCase} 一致，结果长度不变
+	 */
+	@Nonnull
+	static String fold(@Nonnull String name) {
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (fold(c) != c) {
+				char[] chars = name.toCharArray();
+				for (int j = i; j < chars.length; j++) {
+					chars[j] = fold(chars[j]);
+				}
+				return new String(chars);
+			}
+		}
+		return name;
+	}
+
+	private static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	/**
+	 * 比较已折叠的键和查询串，prefix 为 true 时键以查询串开头视为相等
+	 */
+	private static int compare(String key, CharSequence query, boolean prefix) {
+		int keyLength = key.length();
+		int queryLength = query.length();
+		int length = Math.min(keyLength, queryLength);
+		for (int i = 0; i < length; i++) {
+			char k = key.charAt(i);
+			char q = fold(query.charAt(i));
+			if (k != q) {
+				return k - q;
+			}
+		}
+		if (prefix && keyLength >= queryLength) {
+			return 0;
+		}
+		return keyLength - queryLength;
+	}
+
+	/**
+	 * 第一个不小于查询串的键的下标
+	 */
+	private int lowerBound(CharSequence query, boolean prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(keys[mid], query, prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 第一个大于查询串的键的下标
+	 */
+	private int upperBound(CharSequence query, boolean prefix, int from) {
+		int low = from;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(keys[mid], query, prefix) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * 忽略大小写按名称或别名查找 ordinal
+	 * 折叠后相同的名称优先于别名，同类按 ordinal 取最小的一个
+	 *
+	 * @return ordinal，不存在时返回 -1
+	 */
+	public int ordinalOfIgnoreCase(@Nonnull CharSequence name) {
+		int index = lowerBound(name, false);
+		return index < keys.length && compare(keys[index], name, false) == 0 ? ordinals[index] : -1;
+	}
+
+	/**
+	 * 忽略大小写按名称或别名查找
+	 *
+	 * @return 不存在时返回 null
+	 */
+	@Nullable
+	public SylphEnum getByNameIgnoreCaseOrNull(@Nonnull CharSequence name) {
+		int ordinal = ordinalOfIgnoreCase(name);
+		return ordinal < 0 ? null : definition.getByOrdinal(ordinal);
+	}
+
+	/**
+	 * 名称或别名以 prefix 开头（忽略大小写）的常量数量
+	 */
+	public int countWithPrefix(@Nonnull CharSequence prefix) {
+		int from = lowerBound(prefix, true);
+		int to = upperBound(prefix, true, from);
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			if (previous[i] < from) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 把名称或别名以 prefix 开头（忽略大小写）的常量 ordinal 按折叠后的键顺序写入 outOrdinals
+	 *
+	 * @param prefix      前缀，空串匹配所有常量
+	 * @param outOrdinals 输出数组，写满后停止
+	 * @return 写入的数量
+	 */
+	public int ordinalsWithPrefix(@Nonnull CharSequence prefix, @Nonnull int[] outOrdinals) {
+		int from = lowerBound(prefix, true);
+		int to = upperBound(prefix, true, from);
+		int count = 0;
+		for (int i = from; i < to && count < outOrdinals.length; i++) {
+			if (previous[i] < from) {
+				outOrdinals[count++] = ordinals[i];
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 获取名称或别名以 prefix 开头（忽略大小写）的常量，按折叠后的键排序
+	 *
+	 * @param prefix 前缀，空串匹配所有常量
+	 */
+	@Nonnull
+	public List<SylphEnum> startingWith(@Nonnull CharSequence prefix) {
+		int from = lowerBound(prefix, true);
+		int to = upperBound(prefix, true, from);
+		List<SylphEnum> result = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			if (previous[i] < from) {
+				result.add(definition.getByOrdinal(ordinals[i]));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 获取常量声明的别名
+	 *
+	 * @param ordinal 枚举常量的序数
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	@Nonnull
+	public List<String> aliases(int ordinal) {
+		return List.of(aliases[ordinal]);
+	}
+}
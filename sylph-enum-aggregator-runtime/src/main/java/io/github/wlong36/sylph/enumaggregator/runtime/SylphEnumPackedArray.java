@@ -0,0 +1,285 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 按位压缩的 ordinal 序列，适合保存事件日志、回放缓冲等很长的枚举值序列
+ * 每个值占用 {@code ceil(log2(length))} 位（至少 1 位），由 {@link SylphEnumDefinition#length()} 决定，
+ * 连续存放在 long 数组中，值可以跨越两个 long。40 个常量的类型每个值只需 6 位，约为 int[] 的 1/5
+ * <p>
+ * 序列化格式（使用 {@link ByteBuffer} 当前的字节序）：
+ * <pre>
+ * int    size
+ * byte   bitsPerValue
+ * long[] ceil(size * bitsPerValue / 64) 个数据字
+ * </pre>
+ * 非线程安全
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumPackedArray {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	private final int bitsPerValue;
+	private final long mask;
+	@Nonnull
+	private long[] words;
+	private int size;
+
+	private SylphEnumPackedArray(@Nonnull SylphEnumDefinition definition, int capacity) {
+		this.definition = definition;
+		this.bitsPerValue = bitsPerValue(definition);
+		this.mask = (1L << bitsPerValue) - 1;
+		this.words = new long[wordsFor(capacity)];
+	}
+
+	/**
+	 * 创建空序列
+	 */
+	@Nonnull
+	public static SylphEnumPackedArray of(@Nonnull SylphEnumDefinition definition) {
+		return of(definition, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 创建空序列
+	 *
+	 * @param initialCapacity 预分配的值数量
+	 * @throws IllegalArgumentException 初始容量为负数时抛出
+	 */
+	@Nonnull
+	public static SylphEnumPackedArray of(@Nonnull SylphEnumDefinition definition, int initialCapacity) {
+		Objects.requireNonNull(definition, "definition");
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("初始容量不能为负数: " + initialCapacity);
+		}
+		return new SylphEnumPackedArray(definition, initialCapacity);
+	}
+
+	/**
+	 * 从 {@link #writeTo(ByteBuffer)} 写出的数据读取序列，读取后 buffer 的位置移到数据之后
+	 *
+	 * @throws IllegalArgumentException 位宽与定义不一致或数据中有超出定义范围的 ordinal 时抛出
+	 * @throws BufferUnderflowException 数据不完整时抛出
+	 */
+	@Nonnull
+	public static SylphEnumPackedArray readFrom(@Nonnull SylphEnumDefinition definition, @Nonnull ByteBuffer buffer) {
+		int size = buffer.getInt();
+		int bits = buffer.get();
+		if (size < 0) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 压缩序列的长度不能为负数: " + size);
+		}
+		if (bits != bitsPerValue(definition)) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 压缩序列的位宽 " + bits + " 与当前定义的 " + bitsPerValue(definition) + " 不一致");
+		}
+		// 先按头部校验剩余字节，损坏的长度不会触发大数组分配
+		if (((long) size * bits + 63 >>> 6) * Long.BYTES > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		SylphEnumPackedArray array = new SylphEnumPackedArray(definition, size);
+		int wordCount = array.wordsFor(size);
+		buffer.asLongBuffer().get(array.words, 0, wordCount);
+		buffer.position(buffer.position() + wordCount * Long.BYTES);
+		array.size = size;
+		for (int index = 0; index < size; index++) {
+			int ordinal = array.getOrdinal(index);
+			if (ordinal >= definition.length()) {
+				throw new IllegalArgumentException(definition.getTypeName() + " 压缩序列包含超出范围的 ordinal: " + ordinal);
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * 定义的每个值需要的位数，至少为 1
+	 */
+	public static int bitsPerValue(@Nonnull SylphEnumDefinition definition) {
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(definition.length() - 1));
+	}
+
+	private int wordsFor(int count) {
+		return (int) (((long) count * bitsPerValue + 63) >>> 6);
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	public int bitsPerValue() {
+		return bitsPerValue;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 追加一个值
+	 *
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public void append(int ordinal) {
+		Objects.checkIndex(ordinal, definition.length());
+		if (size == Integer.MAX_VALUE) {
+			throw new IllegalStateException("压缩序列已满");
+		}
+		if (wordsFor(size + 1) > words.length) {
+			long newLength = Math.max((long) words.length * 2, wordsFor(size + 1));
+			words = Arrays.copyOf(words, (int) Math.min(newLength, wordsFor(Integer.MAX_VALUE)));
+		}
+		write(size++, ordinal);
+	}
+
+	/**
+	 * 追加一个值
+	 *
+	 * @throws IllegalArgumentException 如果枚举不属于序列的定义
+	 */
+	public void append(@Nonnull SylphEnum sylphEnum) {
+		append(definition.ordinalOf(sylphEnum));
+	}
+
+	/**
+	 * 获取 index 位置的 ordinal
+	 *
+	 * @throws IndexOutOfBoundsException 如果index传入错误
+	 */
+	public int getOrdinal(int index) {
+		Objects.checkIndex(index, size);
+		long bit = (long) index * bitsPerValue;
+		int word = (int) (bit >>> 6);
+		int shift = (int) (bit & 63);
+		long value = words[word] >>> shift;
+		if (shift + bitsPerValue > 64) {
+			value |= words[word + 1] << (64 - shift);
+		}
+		return (int) (value & mask);
+	}
+
+	/**
+	 * 获取 index 位置的枚举
+	 *
+	 * @throws IndexOutOfBoundsException 如果index传入错误
+	 */
+	@Nonnull
+	public SylphEnum get(int index) {
+		return definition.getByOrdinal(getOrdinal(index));
+	}
+
+	/**
+	 * 覆盖 index 位置的值
+	 *
+	 * @throws IndexOutOfBoundsException 如果index或ordinal传入错误
+	 */
+	public void set(int index, int ordinal) {
+		Objects.checkIndex(index, size);
+		Objects.checkIndex(ordinal, definition.length());
+		write(index, ordinal);
+	}
+
+	private void write(int index, int ordinal) {
+		long bit = (long) index * bitsPerValue;
+		int word = (int) (bit >>> 6);
+		int shift = (int) (bit & 63);
+		words[word] = (words[word] & ~(mask << shift)) | ((long) ordinal << shift);
+		if (shift + bitsPerValue > 64) {
+			int written = 64 - shift;
+			words[word + 1] = (words[word + 1] & ~(mask >>> written)) | ((long) ordinal >>> written);
+		}
+	}
+
+	/**
+	 * 把 [from, from + length) 的 ordinal 解码到 out[offset, offset + length)
+	 *
+	 * @throws IndexOutOfBoundsException 如果区间越界
+	 */
+	public void decodeOrdinals(int from, @Nonnull int[] out, int offset, int length) {
+		Objects.checkFromIndexSize(from, length, size);
+		Objects.checkFromIndexSize(offset, length, out.length);
+		long bit = (long) from * bitsPerValue;
+		for (int i = 0; i < length; i++, bit += bitsPerValue) {
+			int word = (int) (bit >>> 6);
+			int shift = (int) (bit & 63);
+			long value = words[word] >>> shift;
+			if (shift + bitsPerValue > 64) {
+				value |= words[word + 1] << (64 - shift);
+			}
+			out[offset + i] = (int) (value & mask);
+		}
+	}
+
+	/**
+	 * 把 [from, from + length) 的值解码为 id 写入 out[offset, offset + length)
+	 *
+	 * @throws IndexOutOfBoundsException 如果区间越界
+	 */
+	public void decodeIds(int from, @Nonnull int[] out, int offset, int length) {
+		decodeOrdinals(from, out, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			out[i] = definition.getByOrdinal(out[i]).id();
+		}
+	}
+
+	/**
+	 * 解码全部 ordinal
+	 */
+	@Nonnull
+	public int[] toOrdinalArray() {
+		int[] ordinals = new int[size];
+		decodeOrdinals(0, ordinals, 0, size);
+		return ordinals;
+	}
+
+	/**
+	 * 清空序列，保留已分配的空间
+	 */
+	public void clear() {
+		Arrays.fill(words, 0, wordsFor(size), 0L);
+		size = 0;
+	}
+
+	/**
+	 * 数据部分占用的字节数
+	 */
+	public long dataBytes() {
+		return (long) wordsFor(size) * Long.BYTES;
+	}
+
+	/**
+	 * {@link #writeTo(ByteBuffer)} 写出的字节数
+	 */
+	public int serializedSize() {
+		return Integer.BYTES + Byte.BYTES + wordsFor(size) * Long.BYTES;
+	}
+
+	/**
+	 * 把序列写入 buffer，写入后 buffer 的位置移到数据之后
+	 *
+	 * @throws BufferOverflowException 剩余空间小于 {@link #serializedSize()} 时抛出
+	 */
+	public void writeTo(@Nonnull ByteBuffer buffer) {
+		if (buffer.remaining() < serializedSize()) {
+			throw new BufferOverflowException();
+		}
+		buffer.putInt(size);
+		buffer.put((byte) bitsPerValue);
+		int wordCount = wordsFor(size);
+		buffer.asLongBuffer().put(words, 0, wordCount);
+		buffer.position(buffer.position() + wordCount * Long.BYTES);
+	}
+}
@@ -0,0 +1,406 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * 两个聚合枚举类型之间的关系，按 {@code [源 ordinal][目标 ordinal]} 预计算为稠密位矩阵
+ * 关系判断为一次位测试；同时保存按行（源 → 目标）和按列（目标 → 源）两份位图，
+ * 两个方向的遍历都只扫描一行的位，行位图可以直接作为目标类型的 {@link SylphEnumMasks} 掩码使用。
+ * 构建完成后不可变，可以在线程间共享
+ * <p>
+ * 关系资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致），每个源类型一个资源：
+ * <pre>
+ * int    magic   0x53594C52 ("SYLR")
+ * short  version 1
+ * UTF    fromType
+ * int    relationCount
+ * 每个关系：UTF name, UTF toType, int count, count 对 (int fromId, int toId)
+ * </pre>
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumRelationMatrix {
+	public static final int MAGIC = 0x53594C52;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的关系资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".relations";
+
+	@Nonnull
+	private final String name;
+	@Nonnull
+	private final SylphEnumDefinition from;
+	@Nonnull
+	private final SylphEnumDefinition to;
+	/**
+	 * 每个源 ordinal 一行，行长为 rowWords 个 long
+	 */
+	@Nonnull
+	private final long[] rows;
+	private final int rowWords;
+	/**
+	 * 转置矩阵，每个目标 ordinal 一行，行长为 columnWords 个 long
+	 */
+	@Nonnull
+	private final long[] columns;
+	private final int columnWords;
+	private final int size;
+
+	private SylphEnumRelationMatrix(@Nonnull String name, @Nonnull SylphEnumDefinition from, @Nonnull SylphEnumDefinition to,
+	                                @Nonnull long[] rows) {
+		this.name = name;
+		this.from = from;
+		this.to = to;
+		this.rows = rows;
+		this.rowWords = words(to.length());
+		this.columnWords = words(from.length());
+		this.columns = new long[Math.multiplyExact(to.length(), columnWords)];
+		int size = 0;
+		for (int source = 0; source < from.length(); source++) {
+			for (int target = nextTarget(source, 0); target >= 0; target = nextTarget(source, target + 1)) {
+				columns[target * columnWords + (source >>> 6)] |= 1L << source;
+				size++;
+			}
+		}
+		this.size = size;
+	}
+
+	private static int words(int length) {
+		return (length + 63) >>> 6;
+	}
+
+	/**
+	 * 创建关系构建器
+	 *
+	 * @param name 关系名
+	 * @param from 源类型
+	 * @param to   目标类型，可以与源类型相同
+	 */
+	@Nonnull
+	public static Builder builder(@Nonnull String name, @Nonnull SylphEnumDefinition from, @Nonnull SylphEnumDefinition to) {
+		return new Builder(Objects.requireNonNull(name, "name"), Objects.requireNonNull(from, "from"), Objects.requireNonNull(to, "to"));
+	}
+
+	/**
+	 * 获取类型名对应的关系资源路径
+	 *
+	 * @param typeName 源枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 从输入流读取源类型的所有关系，不会关闭输入流
+	 *
+	 * @param in       输入流
+	 * @param from     源类型
+	 * @param resolver 按类型名查找目标类型，未注册时返回 null
+	 * @return 按关系名索引的关系
+	 * @throws IOException 读取失败、格式错误、目标类型未注册或引用了不存在的id时抛出
+	 */
+	@Nonnull
+	static Map<String, SylphEnumRelationMatrix> read(@Nonnull InputStream in, @Nonnull SylphEnumDefinition from,
+	                                                 @Nonnull Function<String, SylphEnumDefinition> resolver) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举关系资源: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举关系资源版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(from.getTypeName())) {
+			throw new IOException("关系资源的类型名 " + typeName + " 与 " + from.getTypeName() + " 不一致");
+		}
+		int relationCount = input.readInt();
+		Map<String, SylphEnumRelationMatrix> relations = new HashMap<>(relationCount * 2);
+		for (int r = 0; r < relationCount; r++) {
+			String name = input.readUTF();
+			String toType = input.readUTF();
+			SylphEnumDefinition to = resolver.apply(toType);
+			if (to == null) {
+				throw new IOException(typeName + " 关系 " + name + " 的目标类型 " + toType + " 未注册");
+			}
+			Builder builder = builder(name, from, to);
+			int count = input.readInt();
+			for (int i = 0; i < count; i++) {
+				int fromId = input.readInt();
+				int toId = input.readInt();
+				SylphEnum source = from.getByIdOrNull(fromId);
+				SylphEnum target = to.getByIdOrNull(toId);
+				if (source == null || target == null) {
+					throw new IOException(typeName + " 关系 " + name + " 引用了不存在的id: " + fromId + " -> " + toId);
+				}
+				builder.add(source.ordinal(), target.ordinal());
+			}
+			if (relations.put(name, builder.build()) != null) {
+				throw new IOException(typeName + " 存在重复的关系: " + name);
+			}
+		}
+		return relations;
+	}
+
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 源类型，矩阵的行
+	 */
+	@Nonnull
+	public SylphEnumDefinition getFrom() {
+		return from;
+	}
+
+	/**
+	 * 目标类型，矩阵的列
+	 */
+	@Nonnull
+	public SylphEnumDefinition getTo() {
+		return to;
+	}
+
+	/**
+	 * 有关系的 (源, 目标) 对的数量
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 源和目标之间是否有关系
+	 *
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	public boolean test(int fromOrdinal, int toOrdinal) {
+		Objects.checkIndex(fromOrdinal, from.length());
+		Objects.checkIndex(toOrdinal, to.length());
+		return (rows[fromOrdinal * rowWords + (toOrdinal >>> 6)] & (1L << toOrdinal)) != 0;
+	}
+
+	/**
+	 * 源和目标之间是否有关系，不属于源类型或目标类型的枚举总是返回 false
+	 */
+	public boolean test(@Nonnull SylphEnum source, @Nonnull SylphEnum target) {
+		if (!from.owns(source) || !to.owns(target)) {
+			return false;
+		}
+		int toOrdinal = target.ordinal();
+		return (rows[source.ordinal() * rowWords + (toOrdinal >>> 6)] & (1L << toOrdinal)) != 0;
+	}
+
+	/**
+	 * 获取源的大于等于 fromToOrdinal 的下一个目标 ordinal
+	 *
+	 * @return 没有更多目标时返回 -1
+	 * @throws IndexOutOfBoundsException 如果fromOrdinal传入错误
+	 */
+	public int nextTarget(int fromOrdinal, int fromToOrdinal) {
+		Objects.checkIndex(fromOrdinal, from.length());
+		return next(rows, fromOrdinal * rowWords, rowWords, fromToOrdinal);
+	}
+
+	/**
+	 * 获取目标的大于等于 fromSourceOrdinal 的下一个源 ordinal
+	 *
+	 * @return 没有更多源时返回 -1
+	 * @throws IndexOutOfBoundsException 如果toOrdinal传入错误
+	 */
+	public int nextSource(int toOrdinal, int fromSourceOrdinal) {
+		Objects.checkIndex(toOrdinal, to.length());
+		return next(columns, toOrdinal * columnWords, columnWords, fromSourceOrdinal);
+	}
+
+	private static int next(long[] bits, int offset, int words, int fromOrdinal) {
+		if (fromOrdinal < 0) {
+			fromOrdinal = 0;
+		}
+		int word = fromOrdinal >>> 6;
+		if (word >= words) {
+			return -1;
+		}
+		long current = bits[offset + word] & (-1L << fromOrdinal);
+		while (true) {
+			if (current != 0) {
+				return (word << 6) + Long.numberOfTrailingZeros(current);
+			}
+			if (++word == words) {
+				return -1;
+			}
+			current = bits[offset + word];
+		}
+	}
+
+	/**
+	 * 按目标 ordinal 升序遍历源的所有目标，不产生分配
+	 *
+	 * @throws IndexOutOfBoundsException 如果fromOrdinal传入错误
+	 */
+	public void forEachTarget(int fromOrdinal, @Nonnull IntConsumer action) {
+		for (int target = nextTarget(fromOrdinal, 0); target >= 0; target = nextTarget(fromOrdinal, target + 1)) {
+			action.accept(target);
+		}
+	}
+
+	/**
+	 * 按源 ordinal 升序遍历目标的所有源，不产生分配
+	 *
+	 * @throws IndexOutOfBoundsException 如果toOrdinal传入错误
+	 */
+	public void forEachSource(int toOrdinal, @Nonnull IntConsumer action) {
+		for (int source = nextSource(toOrdinal, 0); source >= 0; source = nextSource(toOrdinal, source + 1)) {
+			action.accept(source);
+		}
+	}
+
+	/**
+	 * 源的目标数量
+	 *
+	 * @throws IndexOutOfBoundsException 如果fromOrdinal传入错误
+	 */
+	public int targetCount(int fromOrdinal) {
+		Objects.checkIndex(fromOrdinal, from.length());
+		return count(rows, fromOrdinal * rowWords, rowWords);
+	}
+
+	/**
+	 * 目标的源数量
+	 *
+	 * @throws IndexOutOfBoundsException 如果toOrdinal传入错误
+	 */
+	public int sourceCount(int toOrdinal) {
+		Objects.checkIndex(toOrdinal, to.length());
+		return count(columns, toOrdinal * columnWords, columnWords);
+	}
+
+	private static int count(long[] bits, int offset, int words) {
+		int count = 0;
+		for (int i = offset; i < offset + words; i++) {
+			count += Long.bitCount(bits[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * 获取源的目标位图副本，长度为 {@link SylphEnumMasks#words(SylphEnumDefinition)}（目标类型）
+	 *
+	 * @throws IndexOutOfBoundsException 如果fromOrdinal传入错误
+	 */
+	@Nonnull
+	public long[] targetBits(int fromOrdinal) {
+		Objects.checkIndex(fromOrdinal, from.length());
+		return Arrays.copyOfRange(rows, fromOrdinal * rowWords, (fromOrdinal + 1) * rowWords);
+	}
+
+	/**
+	 * 获取目标的源位图副本，长度为 {@link SylphEnumMasks#words(SylphEnumDefinition)}（源类型）
+	 *
+	 * @throws IndexOutOfBoundsException 如果toOrdinal传入错误
+	 */
+	@Nonnull
+	public long[] sourceBits(int toOrdinal) {
+		Objects.checkIndex(toOrdinal, to.length());
+		return Arrays.copyOfRange(columns, toOrdinal * columnWords, (toOrdinal + 1) * columnWords);
+	}
+
+	/**
+	 * 获取源的所有目标（按 ordinal 升序）
+	 *
+	 * @throws IllegalArgumentException 如果枚举不属于源类型
+	 */
+	@Nonnull
+	public List<SylphEnum> targetsOf(@Nonnull SylphEnum source) {
+		int fromOrdinal = from.ordinalOf(source);
+		List<SylphEnum> targets = new ArrayList<>(targetCount(fromOrdinal));
+		forEachTarget(fromOrdinal, target -> targets.add(to.getByOrdinal(target)));
+		return targets;
+	}
+
+	/**
+	 * 获取目标的所有源（按 ordinal 升序）
+	 *
+	 * @throws IllegalArgumentException 如果枚举不属于目标类型
+	 */
+	@Nonnull
+	public List<SylphEnum> sourcesOf(@Nonnull SylphEnum target) {
+		int toOrdinal = to.ordinalOf(target);
+		List<SylphEnum> sources = new ArrayList<>(sourceCount(toOrdinal));
+		forEachSource(toOrdinal, source -> sources.add(from.getByOrdinal(source)));
+		return sources;
+	}
+
+	@Override
+	public String toString() {
+		return from.getTypeName() + "#" + name + " -> " + to.getTypeName() + "{size=" + size + "}";
+	}
+
+	/**
+	 * 关系构建器，非线程安全
+	 */
+	public static final class Builder {
+		@Nonnull
+		private final String name;
+		@Nonnull
+		private final SylphEnumDefinition from;
+		@Nonnull
+		private final SylphEnumDefinition to;
+		private final int rowWords;
+		@Nonnull
+		private final long[] rows;
+
+		private Builder(@Nonnull String name, @Nonnull SylphEnumDefinition from, @Nonnull SylphEnumDefinition to) {
+			this.name = name;
+			this.from = from;
+			this.to = to;
+			this.rowWords = words(to.length());
+			this.rows = new long[Math.multiplyExact(from.length(), rowWords)];
+		}
+
+		/**
+		 * 添加一对关系
+		 *
+		 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+		 */
+		@Nonnull
+		public Builder add(int fromOrdinal, int toOrdinal) {
+			Objects.checkIndex(fromOrdinal, from.length());
+			Objects.checkIndex(toOrdinal, to.length());
+			rows[fromOrdinal * rowWords + (toOrdinal >>> 6)] |= 1L << toOrdinal;
+			return this;
+		}
+
+		/**
+		 * 添加一对关系
+		 *
+		 * @throws IllegalArgumentException 如果枚举不属于源类型或目标类型
+		 */
+		@Nonnull
+		public Builder add(@Nonnull SylphEnum source, @Nonnull SylphEnum target) {
+			return add(from.ordinalOf(source), to.ordinalOf(target));
+		}
+
+		/**
+		 * 构建关系，之后构建器可以继续使用，不影响已构建的关系
+		 */
+		@Nonnull
+		public SylphEnumRelationMatrix build() {
+			return new SylphEnumRelationMatrix(name, from, to, rows.clone());
+		}
+	}
+}
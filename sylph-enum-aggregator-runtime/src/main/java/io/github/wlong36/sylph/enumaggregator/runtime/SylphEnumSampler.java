@@ -0,0 +1,276 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttrType;
+
+import javax.annotation.Nonnull;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * 按权重随机抽取枚举的别名表（Walker / Vose alias method）
+ * 构建时按 Vose 算法把权重拆分为等概率的列，每列最多两个候选；
+ * 抽取时只需一次 {@code nextInt} 和一次 {@code nextDouble}，为 O(1) 且不产生分配
+ * <p>
+ * 权重为 0 的枚举不会被抽中；权重不能为负数、NaN 或无穷大，总权重必须大于 0。
+ * 构建完成后不可变，可以在线程间共享，随机数生成器由调用方提供
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumSampler {
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	/**
+	 * 每列保留本列候选的概率
+	 */
+	@Nonnull
+	private final double[] probabilities;
+	/**
+	 * 每列本身的候选 ordinal
+	 */
+	@Nonnull
+	private final int[] ordinals;
+	/**
+	 * 每列的别名候选 ordinal
+	 */
+	@Nonnull
+	private final int[] aliasOrdinals;
+
+	private SylphEnumSampler(@Nonnull SylphEnumDefinition definition, @Nonnull double[] probabilities,
+	                         @Nonnull int[] ordinals, @Nonnull int[] aliasOrdinals) {
+		this.definition = definition;
+		this.probabilities = probabilities;
+		this.ordinals = ordinals;
+		this.aliasOrdinals = aliasOrdinals;
+	}
+
+	/**
+	 * 按 ordinal 索引的权重构建
+	 *
+	 * @param definition 枚举定义
+	 * @param weights    权重，长度必须等于 {@link SylphEnumDefinition#length()}
+	 * @throws IllegalArgumentException 权重长度不匹配、存在非法权重或总权重为 0 时抛出
+	 */
+	@Nonnull
+	public static SylphEnumSampler of(@Nonnull SylphEnumDefinition definition, @Nonnull double[] weights) {
+		if (weights.length != definition.length()) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 的权重数量 " + weights.length + " 与枚举数量 " + definition.length() + " 不一致");
+		}
+		int[] ordinals = new int[weights.length];
+		for (int ordinal = 0; ordinal < ordinals.length; ordinal++) {
+			ordinals[ordinal] = ordinal;
+		}
+		return build(definition, ordinals, weights.clone());
+	}
+
+	/**
+	 * 按函数计算每个枚举的权重构建
+	 *
+	 * @param definition 枚举定义
+	 * @param weight     权重函数
+	 * @throws IllegalArgumentException 存在非法权重或总权重为 0 时抛出
+	 */
+	@Nonnull
+	public static SylphEnumSampler of(@Nonnull SylphEnumDefinition definition, @Nonnull ToDoubleFunction<? super SylphEnum> weight) {
+		double[] weights = new double[definition.length()];
+		for (int ordinal = 0; ordinal < weights.length; ordinal++) {
+			weights[ordinal] = weight.applyAsDouble(definition.getByOrdinal(ordinal));
+		}
+		return of(definition, weights);
+	}
+
+	/**
+	 * 只在分组成员中按函数计算的权重构建
+	 *
+	 * @param group  分组
+	 * @param weight 权重函数
+	 * @throws IllegalArgumentException 存在非法权重或总权重为 0 时抛出
+	 */
+	@Nonnull
+	public static SylphEnumSampler of(@Nonnull SylphEnumGroup group, @Nonnull ToDoubleFunction<? super SylphEnum> weight) {
+		int[] ordinals = new int[group.size()];
+		double[] weights = new double[ordinals.length];
+		for (int i = 0; i < ordinals.length; i++) {
+			ordinals[i] = group.ordinalAt(i);
+			weights[i] = weight.applyAsDouble(group.get(i));
+		}
+		return build(group.getDefinition(), ordinals, weights);
+	}
+
+	/**
+	 * 使用数值属性（int / long / double）作为权重构建，未声明该属性的枚举权重为 0
+	 *
+	 * @param definition 枚举定义
+	 * @param attribute  属性名
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性不是数值类型、存在非法权重或总权重为 0 时抛出
+	 */
+	@Nonnull
+	public static SylphEnumSampler ofAttribute(@Nonnull SylphEnumDefinition definition, @Nonnull String attribute) {
+		return of(definition, weightOf(definition, attribute));
+	}
+
+	/**
+	 * 只在分组成员中使用数值属性（int / long / double）作为权重构建，未声明该属性的枚举权重为 0
+	 *
+	 * @param group     分组
+	 * @param attribute 属性名
+	 * @throws NoSuchElementException   属性不存在时抛出
+	 * @throws IllegalArgumentException 属性不是数值类型、存在非法权重或总权重为 0 时抛出
+	 */
+	@Nonnull
+	public static SylphEnumSampler ofAttribute(@Nonnull SylphEnumGroup group, @Nonnull String attribute) {
+		return of(group, weightOf(group.getDefinition(), attribute));
+	}
+
+	private static ToDoubleFunction<SylphEnum> weightOf(SylphEnumDefinition definition, String attribute) {
+		SylphEnumAttributes attributes = definition.getAttributes();
+		SylphEnumAttrType type = attributes.typeOf(attribute);
+		if (type == null) {
+			throw new NoSuchElementException(definition.getTypeName() + " 找不到属性: " + attribute);
+		}
+		return switch (type) {
+			case INT -> attributes.intColumn(attribute)::get;
+			case LONG -> attributes.longColumn(attribute)::get;
+			case DOUBLE -> attributes.doubleColumn(attribute)::get;
+			default -> throw new IllegalArgumentException(definition.getTypeName() + " 属性 " + attribute + " 的类型为 " + type + "，不能作为权重");
+		};
+	}
+
+	/**
+	 * Vose 算法：把归一化为平均值 1 的权重分到 small / large 两个工作表，
+	 * 每次用一个 large 填满一个 small 的列，剩余部分按浮点误差视为概率 1
+	 */
+	private static SylphEnumSampler build(SylphEnumDefinition definition, int[] candidates, double[] weights) {
+		double max = 0;
+		int count = 0;
+		for (int i = 0; i < weights.length; i++) {
+			double weight = weights[i];
+			if (!(weight >= 0) || Double.isInfinite(weight)) {
+				throw new IllegalArgumentException(definition.getTypeName() + " 的 " + definition.getByOrdinal(candidates[i]).name() + " 权重非法: " + weight);
+			}
+			if (weight > 0) {
+				max = Math.max(max, weight);
+				count++;
+			}
+		}
+		if (count == 0) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 的总权重非法: 0.0");
+		}
+
+		// 去掉权重为 0 的候选。先除以最大权重再求和，每项不超过 1、总和不超过 count，
+		// 接近 Double.MAX_VALUE 的权重求和或乘以 count 时不会溢出为无穷大
+		int[] ordinals = new int[count];
+		double[] scaled = new double[count];
+		double total = 0;
+		for (int i = 0, column = 0; i < weights.length; i++) {
+			if (weights[i] > 0) {
+				ordinals[column] = candidates[i];
+				scaled[column] = weights[i] / max;
+				total += scaled[column];
+				column++;
+			}
+		}
+		for (int column = 0; column < count; column++) {
+			scaled[column] = scaled[column] / total * count;
+		}
+
+		double[] probabilities = new double[count];
+		int[] aliasOrdinals = new int[count];
+		int[] small = new int[count];
+		int[] large = new int[count];
+		int smallSize = 0;
+		int largeSize = 0;
+		for (int column = 0; column < count; column++) {
+			if (scaled[column] < 1.0) {
+				small[smallSize++] = column;
+			} else {
+				large[largeSize++] = column;
+			}
+		}
+		while (smallSize > 0 && largeSize > 0) {
+			int less = small[--smallSize];
+			int more = large[--largeSize];
+			probabilities[less] = scaled[less];
+			aliasOrdinals[less] = ordinals[more];
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0) {
+				small[smallSize++] = more;
+			} else {
+				large[largeSize++] = more;
+			}
+		}
+		while (largeSize > 0) {
+			int column = large[--largeSize];
+			probabilities[column] = 1.0;
+			aliasOrdinals[column] = ordinals[column];
+		}
+		while (smallSize > 0) {
+			int column = small[--smallSize];
+			probabilities[column] = 1.0;
+			aliasOrdinals[column] = ordinals[column];
+		}
+		return new SylphEnumSampler(definition, probabilities, ordinals, aliasOrdinals);
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * 可能被抽中（权重大于 0）的枚举数量
+	 */
+	public int size() {
+		return ordinals.length;
+	}
+
+	/**
+	 * 抽取一个枚举的 ordinal
+	 *
+	 * @param random 随机数生成器
+	 */
+	public int sampleOrdinal(@Nonnull RandomGenerator random) {
+		int column = random.nextInt(ordinals.length);
+		return random.nextDouble() < probabilities[column] ? ordinals[column] : aliasOrdinals[column];
+	}
+
+	/**
+	 * 抽取一个枚举
+	 *
+	 * @param random 随机数生成器
+	 */
+	@Nonnull
+	public SylphEnum sample(@Nonnull RandomGenerator random) {
+		return definition.getByOrdinal(sampleOrdinal(random));
+	}
+
+	/**
+	 * 有放回地抽取 n 次，把结果 ordinal 写入 outOrdinals 的前 n 个位置
+	 *
+	 * @param random      随机数生成器
+	 * @param n           抽取次数
+	 * @param outOrdinals 输出数组
+	 * @throws IndexOutOfBoundsException 如果n为负数或大于outOrdinals的长度
+	 */
+	public void sample(@Nonnull RandomGenerator random, int n, @Nonnull int[] outOrdinals) {
+		Objects.checkFromIndexSize(0, n, outOrdinals.length);
+		double[] probabilities = this.probabilities;
+		int[] ordinals = this.ordinals;
+		int[] aliasOrdinals = this.aliasOrdinals;
+		int columns = ordinals.length;
+		for (int i = 0; i < n; i++) {
+			int column = random.nextInt(columns);
+			outOrdinals[i] = random.nextDouble() < probabilities[column] ? ordinals[column] : aliasOrdinals[column];
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SylphEnumSampler{" + definition.getTypeName() + ", size=" + ordinals.length + "}";
+	}
+}
@@ -0,0 +1,210 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+/**
+ * 单个聚合枚举类型的集合，以 ordinal 位图存储，类似于 {@link EnumSet}
+ * 可以与 {@link SylphEnumMasks} 使用的 long / long[] 掩码互相转换
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumSet extends AbstractSet<SylphEnum> implements Cloneable {
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	@Nonnull
+	private long[] words;
+
+	private SylphEnumSet(@Nonnull SylphEnumDefinition definition, @Nonnull long[] words) {
+		this.definition = definition;
+		this.words = words;
+	}
+
+	/**
+	 * 创建空集合
+	 */
+	@Nonnull
+	public static SylphEnumSet noneOf(@Nonnull SylphEnumDefinition definition) {
+		return new SylphEnumSet(definition, new long[SylphEnumMasks.words(definition)]);
+	}
+
+	/**
+	 * 创建包含定义中所有枚举的集合
+	 */
+	@Nonnull
+	public static SylphEnumSet allOf(@Nonnull SylphEnumDefinition definition) {
+		long[] words = new long[SylphEnumMasks.words(definition)];
+		Arrays.fill(words, -1L);
+		int tail = definition.length() & 63;
+		if (tail != 0) {
+			words[words.length - 1] = (1L << tail) - 1;
+		}
+		return new SylphEnumSet(definition, words);
+	}
+
+	/**
+	 * 由 long 掩码创建集合
+	 *
+	 * @throws IllegalArgumentException 如果掩码包含超出定义范围的位
+	 */
+	@Nonnull
+	public static SylphEnumSet fromMask(@Nonnull SylphEnumDefinition definition, long mask) {
+		return fromMasks(definition, new long[]{mask});
+	}
+
+	/**
+	 * 由 long[] 掩码创建集合，掩码会被复制
+	 *
+	 * @throws IllegalArgumentException 如果掩码包含超出定义范围的位
+	 */
+	@Nonnull
+	public static SylphEnumSet fromMasks(@Nonnull SylphEnumDefinition definition, @Nonnull long[] mask) {
+		long[] words = new long[SylphEnumMasks.words(definition)];
+		for (int i = 0; i < mask.length; i++) {
+			if (i < words.length) {
+				words[i] = mask[i];
+			} else if (mask[i] != 0) {
+				throw new IllegalArgumentException(definition.getTypeName() + " 的掩码包含超出范围的位");
+			}
+		}
+		int tail = definition.length() & 63;
+		if (tail != 0 && (words[words.length - 1] & (-1L << tail)) != 0) {
+			throw new IllegalArgumentException(definition.getTypeName() + " 的掩码包含超出范围的位");
+		}
+		return new SylphEnumSet(definition, words);
+	}
+
+	@Nonnull
+	public SylphEnumDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * 转换为 long 掩码
+	 *
+	 * @throws IllegalArgumentException 如果定义的枚举数量超过 64
+	 */
+	public long toMask() {
+		SylphEnumMasks.checkSingleWord(definition);
+		return words.length == 0 ? 0L : words[0];
+	}
+
+	/**
+	 * 转换为 long[] 掩码（副本）
+	 */
+	@Nonnull
+	public long[] toMasks() {
+		return words.clone();
+	}
+
+	/**
+	 * 指定 ordinal 的枚举是否在集合中
+	 */
+	public boolean containsOrdinal(int ordinal) {
+		int word = ordinal >>> 6;
+		return word < words.length && (words[word] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * 获取大于等于 fromOrdinal 的下一个元素 ordinal
+	 *
+	 * @return 没有更多元素时返回 -1
+	 */
+	public int nextOrdinal(int fromOrdinal) {
+		return SylphEnumMasks.nextOrdinal(words, fromOrdinal);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof SylphEnum sylphEnum && definition.owns(sylphEnum) && containsOrdinal(sylphEnum.ordinal());
+	}
+
+	/**
+	 * @throws IllegalArgumentException 如果枚举不属于集合的定义
+	 */
+	@Override
+	public boolean add(@Nonnull SylphEnum sylphEnum) {
+		int ordinal = definition.ordinalOf(sylphEnum);
+		long before = words[ordinal >>> 6];
+		words[ordinal >>> 6] = before | (1L << ordinal);
+		return words[ordinal >>> 6] != before;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof SylphEnum sylphEnum) || !definition.owns(sylphEnum)) {
+			return false;
+		}
+		int ordinal = sylphEnum.ordinal();
+		long before = words[ordinal >>> 6];
+		words[ordinal >>> 6] = before & ~(1L << ordinal);
+		return words[ordinal >>> 6] != before;
+	}
+
+	@Override
+	public int size() {
+		return SylphEnumMasks.count(words);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(words, 0L);
+	}
+
+	@Nonnull
+	@Override
+	public Iterator<SylphEnum> iterator() {
+		return new Iterator<>() {
+			private int next = nextOrdinal(0);
+			private int last = -1;
+
+			@Override
+			public boolean hasNext() {
+				return next >= 0;
+			}
+
+			@Override
+			public SylphEnum next() {
+				if (next < 0) {
+					throw new NoSuchElementException();
+				}
+				last = next;
+				next = nextOrdinal(next + 1);
+				return definition.getByOrdinal(last);
+			}
+
+			@Override
+			public void remove() {
+				if (last < 0) {
+					throw new IllegalStateException();
+				}
+				words[last >>> 6] &= ~(1L << last);
+				last = -1;
+			}
+		};
+	}
+
+	@Override
+	public SylphEnumSet clone() {
+		try {
+			SylphEnumSet clone = (SylphEnumSet) super.clone();
+			clone.words = words.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+}
@@ -0,0 +1,342 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 聚合枚举的描述和本地化显示名字符串表
+ * 每张表以一个按 ordinal 排列的 UTF-8 字节数组和偏移数组保存，不为每个常量常驻 {@link String} 对象，
+ * 查询时按需解码。描述表随定义首次访问时加载，各语言的显示名表在首次查询该语言时加载
+ * <p>
+ * 字符串表资源格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C53 ("SYLS")
+ * short  version 1
+ * UTF    typeName
+ * UTF    locale          描述表为空字符串，显示名表为语言标签
+ * int    localeCount     描述表中列出所有声明了显示名的语言标签，显示名表为 0
+ * UTF[localeCount]
+ * int    count
+ * int[count] id, int[count] UTF-8 字节长度, 然后是按相同顺序拼接的 UTF-8 字节
+ * </pre>
+ * 描述表资源为 {@code <typeName>.strings}，显示名表资源为 {@code <typeName>_<locale>.strings}
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumStrings {
+	public static final int MAGIC = 0x53594C53;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的字符串表资源后缀，位于 {@link SylphEnumTable#RESOURCE_DIRECTORY} 下
+	 */
+	public static final String RESOURCE_SUFFIX = ".strings";
+
+	@Nonnull
+	private final SylphEnumDefinition definition;
+	/**
+	 * 用于加载显示名表的类加载器，为 null 时不加载
+	 */
+	@Nullable
+	private final ClassLoader resourceLoader;
+	@Nonnull
+	private final Table descriptions;
+	/**
+	 * 声明了显示名的语言标签
+	 */
+	@Nonnull
+	private final Set<String> locales;
+	private final Map<String, Table> tablesByTag = new ConcurrentHashMap<>();
+	/**
+	 * 每个查询过的 {@link Locale} 按回退顺序解析出的显示名表
+	 */
+	private final Map<Locale, Table[]> tablesByLocale = new ConcurrentHashMap<>();
+
+	private SylphEnumStrings(@Nonnull SylphEnumDefinition definition, @Nullable ClassLoader resourceLoader,
+	                         @Nonnull Table descriptions, @Nonnull Set<String> locales) {
+		this.definition = definition;
+		this.resourceLoader = resourceLoader;
+		this.descriptions = descriptions;
+		this.locales = locales;
+	}
+
+	/**
+	 * 获取类型名对应的描述表资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 获取类型名对应的显示名表资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 * @param locale   语言标签，与 {@link Locale#toLanguageTag()} 一致
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName, @Nonnull String locale) {
+		return SylphEnumTable.RESOURCE_DIRECTORY + typeName + "_" + locale + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 加载定义的描述表，资源不存在时返回没有任何字符串的表
+	 *
+	 * @param definition     字符串表所属的定义
+	 * @param resourceLoader 用于加载资源的类加载器，为 null 时不加载
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	static SylphEnumStrings load(@Nonnull SylphEnumDefinition definition, @Nullable ClassLoader resourceLoader) throws IOException {
+		if (resourceLoader != null) {
+			try (InputStream in = resourceLoader.getResourceAsStream(resourceName(definition.getTypeName()))) {
+				if (in != null) {
+					Set<String> locales = new LinkedHashSet<>();
+					Table descriptions = read(in, definition, "", locales);
+					return new SylphEnumStrings(definition, resourceLoader, descriptions, Collections.unmodifiableSet(locales));
+				}
+			}
+		}
+		return new SylphEnumStrings(definition, null, Table.empty(definition.length()), Collections.emptySet());
+	}
+
+	/**
+	 * 从输入流读取一张字符串表，并按定义的 ordinal 重新排列，不会关闭输入流
+	 *
+	 * @param locales 读取到的语言标签列表
+	 */
+	private static Table read(InputStream in, SylphEnumDefinition definition, String locale, Set<String> locales) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举字符串表: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举字符串表版本: " + version);
+		}
+		String typeName = input.readUTF();
+		if (!typeName.equals(definition.getTypeName())) {
+			throw new IOException("字符串表的类型名 " + typeName + " 与 " + definition.getTypeName() + " 不一致");
+		}
+		String tableLocale = input.readUTF();
+		if (!tableLocale.equals(locale)) {
+			throw new IOException(typeName + " 字符串表的语言 " + tableLocale + " 与 " + locale + " 不一致");
+		}
+		int localeCount = input.readInt();
+		for (int i = 0; i < localeCount; i++) {
+			locales.add(input.readUTF());
+		}
+		int count = input.readInt();
+		int[] ordinals = new int[count];
+		for (int i = 0; i < count; i++) {
+			int id = input.readInt();
+			SylphEnum constant = definition.getByIdOrNull(id);
+			if (constant == null) {
+				throw new IOException(typeName + " 字符串表引用了不存在的id: " + id);
+			}
+			ordinals[i] = constant.ordinal();
+		}
+		int[] lengths = new int[count];
+		int total = 0;
+		for (int i = 0; i < count; i++) {
+			lengths[i] = input.readInt();
+			if (lengths[i] < 0) {
+				throw new IOException(typeName + " 字符串表的长度错误: " + lengths[i]);
+			}
+			total = Math.addExact(total, lengths[i]);
+		}
+		byte[] blob = new byte[total];
+		input.readFully(blob);
+
+		// 资源按id排列，这里按 ordinal 重新排列，使偏移数组可以直接以 ordinal 为下标
+		int length = definition.length();
+		int[] starts = new int[length];
+		int[] sizes = new int[length];
+		long[] present = new long[(length + 63) >>> 6];
+		for (int i = 0, start = 0; i < count; i++) {
+			int ordinal = ordinals[i];
+			if ((present[ordinal >>> 6] & (1L << ordinal)) != 0) {
+				throw new IOException(typeName + " 字符串表重复声明了: " + definition.getByOrdinal(ordinal).name());
+			}
+			present[ordinal >>> 6] |= 1L << ordinal;
+			starts[ordinal] = start;
+			sizes[ordinal] = lengths[i];
+			start += lengths[i];
+		}
+		byte[] bytes = new byte[total];
+		int[] offsets = new int[length + 1];
+		for (int ordinal = 0, position = 0; ordinal < length; ordinal++) {
+			System.arraycopy(blob, starts[ordinal], bytes, position, sizes[ordinal]);
+			offsets[ordinal] = position;
+			position += sizes[ordinal];
+			offsets[ordinal + 1] = position;
+		}
+		return new Table(bytes, offsets, present);
+	}
+
+	/**
+	 * 声明了显示名的语言标签
+	 */
+	@Nonnull
+	public Set<String> locales() {
+		return locales;
+	}
+
+	/**
+	 * 获取描述
+	 *
+	 * @param ordinal 枚举常量的序数
+	 * @return 没有描述时返回 null，注解处理器不会生成空描述
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 */
+	@Nullable
+	public String description(int ordinal) {
+		Objects.checkIndex(ordinal, definition.length());
+		return descriptions.get(ordinal);
+	}
+
+	/**
+	 * 获取指定语言的显示名，不回退到描述
+	 * 依次查找完整的语言标签、去掉文字和变体后的语言-地区、以及语言本身
+	 *
+	 * @param ordinal 枚举常量的序数
+	 * @param locale  语言
+	 * @return 没有匹配的显示名时返回 null
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 * @throws UncheckedIOException      显示名表资源读取失败时抛出
+	 */
+	@Nullable
+	public String displayNameOrNull(int ordinal, @Nonnull Locale locale) {
+		Objects.checkIndex(ordinal, definition.length());
+		for (Table table : tables(locale)) {
+			String displayName = table.get(ordinal);
+			if (displayName != null) {
+				return displayName;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 获取指定语言的显示名
+	 * 没有匹配的显示名时回退到描述，描述也没有或为空时回退到枚举名
+	 *
+	 * @param ordinal 枚举常量的序数
+	 * @param locale  语言
+	 * @throws IndexOutOfBoundsException 如果ordinal传入错误
+	 * @throws UncheckedIOException      显示名表资源读取失败时抛出
+	 */
+	@Nonnull
+	public String displayName(int ordinal, @Nonnull Locale locale) {
+		String displayName = displayNameOrNull(ordinal, locale);
+		if (displayName == null) {
+			displayName = descriptions.get(ordinal);
+		}
+		return displayName != null && !displayName.isEmpty() ? displayName : definition.getByOrdinal(ordinal).name();
+	}
+
+	/**
+	 * 加载所有语言的显示名表
+	 */
+	void loadAll() {
+		for (String tag : locales) {
+			table(tag);
+		}
+	}
+
+	private Table[] tables(Locale locale) {
+		Table[] tables = tablesByLocale.get(locale);
+		if (tables == null) {
+			tables = tablesByLocale.computeIfAbsent(locale, this::resolve);
+		}
+		return tables;
+	}
+
+	private Table[] resolve(Locale locale) {
+		if (locales.isEmpty()) {
+			return new Table[0];
+		}
+		Locale stripped = locale.stripExtensions();
+		Set<String> candidates = new LinkedHashSet<>();
+		candidates.add(stripped.toLanguageTag());
+		if (!stripped.getCountry().isEmpty()) {
+			candidates.add(new Locale.Builder().setLanguage(stripped.getLanguage()).setRegion(stripped.getCountry()).build().toLanguageTag());
+		}
+		if (!stripped.getLanguage().isEmpty()) {
+			candidates.add(new Locale.Builder().setLanguage(stripped.getLanguage()).build().toLanguageTag());
+		}
+		List<Table> tables = new ArrayList<>();
+		for (String tag : candidates) {
+			if (locales.contains(tag)) {
+				tables.add(table(tag));
+			}
+		}
+		return tables.toArray(new Table[0]);
+	}
+
+	private Table table(String tag) {
+		return tablesByTag.computeIfAbsent(tag, this::loadTable);
+	}
+
+	private Table loadTable(String tag) {
+		String resourceName = resourceName(definition.getTypeName(), tag);
+		try (InputStream in = Objects.requireNonNull(resourceLoader).getResourceAsStream(resourceName)) {
+			if (in == null) {
+				throw new IOException("找不到资源");
+			}
+			return read(in, definition, tag, new HashSet<>());
+		} catch (IOException e) {
+			throw new UncheckedIOException(definition.getTypeName() + " 读取显示名表资源失败: " + resourceName, e);
+		}
+	}
+
+	/**
+	 * 按 ordinal 排列的 UTF-8 字符串表
+	 */
+	private static final class Table {
+		@Nonnull
+		private final byte[] bytes;
+		/**
+		 * 第 ordinal 个字符串为 [offsets[ordinal], offsets[ordinal + 1])
+		 */
+		@Nonnull
+		private final int[] offsets;
+		/**
+		 * 第 ordinal 位为 1 表示存在字符串，用于区分空字符串和没有声明
+		 */
+		@Nonnull
+		private final long[] present;
+
+		Table(@Nonnull byte[] bytes, @Nonnull int[] offsets, @Nonnull long[] present) {
+			this.bytes = bytes;
+			this.offsets = offsets;
+			this.present = present;
+		}
+
+		static Table empty(int length) {
+			return new Table(new byte[0], new int[length + 1], new long[(length + 63) >>> 6]);
+		}
+
+		@Nullable
+		String get(int ordinal) {
+			if ((present[ordinal >>> 6] & (1L << ordinal)) == 0) {
+				return null;
+			}
+			int start = offsets[ordinal];
+			return new String(bytes, start, offsets[ordinal + 1] - start, StandardCharsets.UTF_8);
+		}
+	}
+}
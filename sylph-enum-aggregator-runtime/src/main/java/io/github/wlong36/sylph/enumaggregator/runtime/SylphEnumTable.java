@@ -0,0 +1,157 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.Objects;
+
+/**
+ * 聚合枚举常量表，由注解处理器为超大类型生成的紧凑二进制资源
+ * <p>
+ * 格式（大端序，与 {@code SylphEnumProcessor} 中的写入逻辑保持一致）：
+ * <pre>
+ * int    magic   0x53594C54 ("SYLT")
+ * short  version 1
+ * UTF    typeName
+ * int    count
+ * int[count] ids，按 ordinal 排列
+ * UTF[count] names，按 ordinal 排列
+ * </pre>
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumTable {
+	public static final int MAGIC = 0x53594C54;
+	public static final short VERSION = 1;
+	/**
+	 * 生成的常量表资源所在目录
+	 */
+	public static final String RESOURCE_DIRECTORY = "META-INF/sylph-enums/";
+	/**
+	 * 生成的常量表资源后缀
+	 */
+	public static final String RESOURCE_SUFFIX = ".bin";
+
+	@Nonnull
+	private final String typeName;
+	@Nonnull
+	private final int[] ids;
+	@Nonnull
+	private final String[] names;
+
+	/**
+	 * 传入的数组直接归常量表所有，调用方之后不应再修改
+	 *
+	 * @param typeName 枚举类型名
+	 * @param ids      按 ordinal 排列的 id
+	 * @param names    按 ordinal 排列的 name
+	 */
+	public SylphEnumTable(@Nonnull String typeName, @Nonnull int[] ids, @Nonnull String[] names) {
+		if (ids.length != names.length) {
+			throw new IllegalArgumentException(typeName + " 的id数量(" + ids.length + ")与name数量(" + names.length + ")不一致");
+		}
+		this.typeName = Objects.requireNonNull(typeName);
+		this.ids = ids;
+		this.names = names;
+	}
+
+	/**
+	 * 获取类型名对应的资源路径
+	 *
+	 * @param typeName 枚举类型名
+	 */
+	@Nonnull
+	public static String resourceName(@Nonnull String typeName) {
+		return RESOURCE_DIRECTORY + typeName + RESOURCE_SUFFIX;
+	}
+
+	/**
+	 * 从输入流读取常量表，不会关闭输入流
+	 *
+	 * @param in 输入流
+	 * @throws IOException 读取失败或格式错误时抛出
+	 */
+	@Nonnull
+	public static SylphEnumTable read(@Nonnull InputStream in) throws IOException {
+		DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("不是有效的聚合枚举常量表: magic=" + Integer.toHexString(magic));
+		}
+		short version = input.readShort();
+		if (version != VERSION) {
+			throw new IOException("不支持的聚合枚举常量表版本: " + version);
+		}
+		String typeName = input.readUTF();
+		int count = input.readInt();
+		if (count < 0) {
+			throw new IOException(typeName + " 常量表数量错误: " + count);
+		}
+		int[] ids = new int[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = input.readInt();
+		}
+		String[] names = new String[count];
+		for (int i = 0; i < count; i++) {
+			names[i] = input.readUTF();
+		}
+		return new SylphEnumTable(typeName, ids, names);
+	}
+
+	/**
+	 * 将常量表写入输出流，不会关闭输出流
+	 *
+	 * @param out 输出流
+	 */
+	public void write(@Nonnull OutputStream out) throws IOException {
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out));
+		output.writeInt(MAGIC);
+		output.writeShort(VERSION);
+		output.writeUTF(typeName);
+		output.writeInt(ids.length);
+		for (int id : ids) {
+			output.writeInt(id);
+		}
+		for (String name : names) {
+			output.writeUTF(name);
+		}
+		output.flush();
+	}
+
+	@Nonnull
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * 获取常量数量
+	 */
+	public int length() {
+		return ids.length;
+	}
+
+	/**
+	 * 获取指定 ordinal 的 id
+	 */
+	public int id(int ordinal) {
+		return ids[ordinal];
+	}
+
+	/**
+	 * 获取指定 ordinal 的 name
+	 */
+	@Nonnull
+	public String name(int ordinal) {
+		return names[ordinal];
+	}
+
+	@Nonnull
+	int[] ids() {
+		return ids;
+	}
+
+	@Nonnull
+	String[] names() {
+		return names;
+	}
+}
@@ -0,0 +1,146 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 注册表查找路径的 JIT 预热
+ * <p>
+ * 部署后的最初一段流量中，{@link SylphEnumDefinition} 的 id、name、ordinal 查找还在解释执行或 C1 编译的代码中运行，
+ * 跨 proto 枚举、Java 枚举和常量表类型的 {@link SylphEnum#id()} / {@link SylphEnum#name()} 调用点是多态的，
+ * 首次编译前的延迟明显偏高。预热在 {@link SylphEnums#initialized()} 之后、接入流量之前，
+ * 按轮次遍历所有已注册类型的每个枚举，执行与业务相同的查找，直到用完时间预算，让这些路径提前被 C2 编译。
+ * 至少完成一轮；之后每遍历完一个类型检查一次预算，用完时立即停止，实际耗时最多超出一个类型的遍历时间。
+ * <p>
+ * 预热只读注册表，可以在后台线程中与业务并发执行，见 {@link SylphEnums#warmUpInBackground(Duration)}
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumWarmup {
+	/**
+	 * 防止查找结果被 JIT 当作死代码消除
+	 */
+	private static volatile int sink;
+
+	private final int typeCount;
+	private final int rounds;
+	private final long lookups;
+	private final long elapsedNanos;
+
+	private SylphEnumWarmup(int typeCount, int rounds, long lookups, long elapsedNanos) {
+		this.typeCount = typeCount;
+		this.rounds = rounds;
+		this.lookups = lookups;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * 在当前线程中预热
+	 *
+	 * @param sylphEnums 已初始化的注册表
+	 * @param budget     时间预算
+	 * @throws IllegalArgumentException 预算为负数时抛出
+	 */
+	@Nonnull
+	static SylphEnumWarmup run(@Nonnull SylphEnums sylphEnums, @Nonnull Duration budget) {
+		checkArguments(sylphEnums, budget);
+		long start = System.nanoTime();
+		long deadline = start + budget.toNanos();
+		int typeCount = sylphEnums.typeCount();
+		int rounds = 0;
+		long lookups = 0;
+		int hash = 0;
+		boolean exhausted = false;
+		do {
+			for (int typeId = 0; typeId < typeCount && !exhausted; typeId++) {
+				SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+				for (int ordinal = 0; ordinal < definition.length(); ordinal++) {
+					SylphEnum sylphEnum = sylphEnums.getByOrdinal(typeId, ordinal);
+					int id = sylphEnum.id();
+					String name = sylphEnum.name();
+					hash += definition.getById(id).ordinal();
+					hash += definition.getByName(name).ordinal();
+					hash += sylphEnums.getById(typeId, id).id();
+					hash += sylphEnums.globalOrdinal(sylphEnum);
+					// 不存在的 id 走二分或直接寻址的未命中分支
+					hash += definition.getByIdOrNull(id ^ 0x40000000) == null ? 1 : 0;
+				}
+				lookups += 5L * definition.length();
+				// 第一轮必须遍历所有类型
+				exhausted = rounds > 0 && System.nanoTime() - deadline >= 0;
+			}
+			rounds++;
+			exhausted |= typeCount == 0 || System.nanoTime() - deadline >= 0;
+		} while (!exhausted);
+		sink = hash;
+		return new SylphEnumWarmup(typeCount, rounds, lookups, System.nanoTime() - start);
+	}
+
+	/**
+	 * 在名为 sylph-enum-warmup 的守护线程中预热
+	 *
+	 * @return 预热完成时完成的 future
+	 * @throws IllegalArgumentException 预算为负数时抛出
+	 */
+	@Nonnull
+	static CompletableFuture<SylphEnumWarmup> start(@Nonnull SylphEnums sylphEnums, @Nonnull Duration budget) {
+		checkArguments(sylphEnums, budget);
+		CompletableFuture<SylphEnumWarmup> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				future.complete(run(sylphEnums, budget));
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		}, "sylph-enum-warmup");
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+
+	private static void checkArguments(SylphEnums sylphEnums, Duration budget) {
+		Objects.requireNonNull(sylphEnums, "sylphEnums");
+		if (budget.isNegative()) {
+			throw new IllegalArgumentException("预热时间预算不能为负数: " + budget);
+		}
+	}
+
+	/**
+	 * 预热开始时已注册的类型数量
+	 */
+	public int typeCount() {
+		return typeCount;
+	}
+
+	/**
+	 * 执行的轮数，每轮遍历所有类型的所有枚举，预算用完时最后一轮可能只遍历了部分类型
+	 */
+	public int rounds() {
+		return rounds;
+	}
+
+	/**
+	 * 执行的查找次数
+	 */
+	public long lookups() {
+		return lookups;
+	}
+
+	/**
+	 * 预热耗时
+	 */
+	@Nonnull
+	public Duration elapsed() {
+		return Duration.ofNanos(elapsedNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "SylphEnumWarmup{types=" + typeCount + ", rounds=" + rounds + ", lookups=" + lookups + ", elapsed=" + elapsed().toMillis() + "ms}";
+	}
+}
@@ -6,8 +6,17 @@ import io.github.wlong36.sylph.enumaggregator.api.SylphEnumRegistrationContext;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -20,10 +29,45 @@ import java.util.logging.Logger;
 public final class SylphEnums implements SylphEnumRegistrationContext {
 	private static final Logger LOGGER = Logger.getLogger(SylphEnums.class.getName());
 
+	private static final SylphEnumDefinition[] EMPTY_DEFINITIONS = new SylphEnumDefinition[0];
+	private static final SylphEnum[] EMPTY_CONSTANTS = new SylphEnum[0];
+
 	/**
 	 * 存储按具体枚举类型索引的映射
 	 */
 	private final Map<String, SylphEnumDefinition> definitionMap = new ConcurrentHashMap<>();
+	/**
+	 * 按枚举 Class 索引的映射，不受同名类型影响
+	 */
+	private final Map<Class<?>, SylphEnumDefinition> definitionByClass = new ConcurrentHashMap<>();
+	/**
+	 * 按类型id索引的定义，注册时整体替换（写时复制）
+	 */
+	private volatile SylphEnumDefinition[] definitions = EMPTY_DEFINITIONS;
+	/**
+	 * 所有类型的枚举按全局序号平铺，注册时整体替换（写时复制）
+	 */
+	private volatile SylphEnum[] globalConstants = EMPTY_CONSTANTS;
+	/**
+	 * 按源类型缓存的关系，首次查询该类型的关系时加载
+	 */
+	private final Map<SylphEnumDefinition, Map<String, SylphEnumRelationMatrix>> relations = new ConcurrentHashMap<>();
+	/**
+	 * 注册的定义使用的索引布局
+	 */
+	@Nonnull
+	private final SylphEnumLayout layout;
+
+	public SylphEnums() {
+		this(SylphEnumLayout.DEFAULT);
+	}
+
+	/**
+	 * @param layout 注册的定义使用的索引布局，常量很多、内存敏感时可使用 {@link SylphEnumLayout#COMPACT}
+	 */
+	public SylphEnums(@Nonnull SylphEnumLayout layout) {
+		this.layout = Objects.requireNonNull(layout, "layout");
+	}
 
 	/**
 	 * 通过 ServiceLoader 加载提供者来确保注册表已初始化
@@ -39,7 +83,7 @@ public final class SylphEnums implements SylphEnumRegistrationContext {
 	}
 
 	@Override
-	public <T extends Enum<T> & SylphEnum> void register(Class<T> enumType) {
+	public synchronized <T extends Enum<T> & SylphEnum> void register(Class<T> enumType) {
 		if (enumType == null) {
 			throw new NullPointerException("枚举类型不能为空");
 		}
@@ -50,11 +94,77 @@ public final class SylphEnums implements SylphEnumRegistrationContext {
 			throw new IllegalArgumentException("枚举类型 " + enumType + " 不是一个 SylphEnum 类型");
 		}
 
-		SylphEnumDefinition enumDefinition = new SylphEnumDefinition(enumType);
-		if (definitionMap.containsKey(enumType.getSimpleName())) {
-			throw new IllegalArgumentException("枚举类型 " + enumType + " 已经注册");
+		checkTypeName(enumType.getSimpleName(), enumType);
+		SylphEnumDefinition enumDefinition = new SylphEnumDefinition(definitions.length, globalConstants.length, enumType, layout);
+		publish(enumDefinition);
+		definitionByClass.put(enumType, enumDefinition);
+	}
+
+	@Override
+	public void registerTable(@Nonnull String enumType, @Nonnull ClassLoader classLoader, @Nonnull String resourceName) {
+		SylphEnumTable table;
+		try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+			if (in == null) {
+				throw new IllegalArgumentException("找不到枚举类型 " + enumType + " 的常量表资源: " + resourceName);
+			}
+			table = SylphEnumTable.read(in);
+		} catch (IOException e) {
+			throw new UncheckedIOException("读取枚举类型 " + enumType + " 的常量表资源失败: " + resourceName, e);
+		}
+		if (!table.getTypeName().equals(enumType)) {
+			throw new IllegalArgumentException("常量表资源 " + resourceName + " 的类型名 " + table.getTypeName() + " 与 " + enumType + " 不一致");
+		}
+		registerTable(table, classLoader);
+	}
+
+	/**
+	 * 注册一个由常量表承载的聚合枚举类型
+	 *
+	 * @param table 常量表
+	 * @throws IllegalArgumentException 如果类型名已经注册
+	 * @throws IllegalStateException    如果同一类型的 ID 或名称冲突
+	 */
+	public void registerTable(@Nonnull SylphEnumTable table) {
+		registerTable(table, null);
+	}
+
+	private synchronized void registerTable(@Nonnull SylphEnumTable table, @Nullable ClassLoader resourceLoader) {
+		checkTypeName(table.getTypeName(), null);
+		publish(new SylphEnumDefinition(definitions.length, globalConstants.length, table, resourceLoader, layout));
+	}
+
+	private void checkTypeName(String typeName, @Nullable Class<?> enumType) {
+		SylphEnumDefinition exist = definitionMap.get(typeName);
+		if (exist == null) {
+			return;
+		}
+		Object type = enumType != null ? enumType : typeName;
+		if (exist.isTableBacked() ? enumType == null : exist.getEnumType() == enumType) {
+			throw new IllegalArgumentException("枚举类型 " + type + " 已经注册");
+		}
+		Object existType = exist.isTableBacked() ? typeName : exist.getEnumType();
+		throw new IllegalArgumentException("枚举类型 " + type + " 与已注册的 " + existType + " 类型名冲突");
+	}
+
+	/**
+	 * 分配类型id和全局序号后发布定义，调用方需持有锁
+	 * 先写类型数组、再写全局常量数组、最后写映射：读到新常量的线程一定能读到它的类型，
+	 * 通过名称或 Class 找到定义的线程一定能通过类型id和全局序号访问它
+	 */
+	private void publish(SylphEnumDefinition enumDefinition) {
+		SylphEnumDefinition[] oldDefinitions = this.definitions;
+		SylphEnum[] oldConstants = this.globalConstants;
+
+		SylphEnumDefinition[] newDefinitions = Arrays.copyOf(oldDefinitions, oldDefinitions.length + 1);
+		newDefinitions[enumDefinition.getTypeId()] = enumDefinition;
+		SylphEnum[] newConstants = Arrays.copyOf(oldConstants, oldConstants.length + enumDefinition.length());
+		for (int i = 0; i < enumDefinition.length(); i++) {
+			newConstants[oldConstants.length + i] = enumDefinition.getByOrdinal(i);
 		}
-		definitionMap.put(enumType.getSimpleName(), enumDefinition);
+
+		this.definitions = newDefinitions;
+		this.globalConstants = newConstants;
+		definitionMap.put(enumDefinition.getTypeName(), enumDefinition);
 	}
 
 	// --- 公共查找方法 ---
@@ -71,6 +181,150 @@ public final class SylphEnums implements SylphEnumRegistrationContext {
 		return Optional.ofNullable(definitionMap.get(enumType));
 	}
 
+	/**
+	 * 根据给定的枚举 Class 获取其定义
+	 *
+	 * @param enumType 枚举 Class
+	 * @return 包含枚举定义的 Optional，如果未找到则返回 Optional.empty()
+	 */
+	@Nonnull
+	public Optional<SylphEnumDefinition> findDefinitionByClass(Class<?> enumType) {
+		return Optional.ofNullable(definitionByClass.get(enumType));
+	}
+
+	/**
+	 * 根据类型id获取定义
+	 *
+	 * @param typeId 类型id
+	 * @throws IndexOutOfBoundsException 如果typeId传入错误
+	 */
+	@Nonnull
+	public SylphEnumDefinition getDefinition(int typeId) {
+		return definitions[typeId];
+	}
+
+	/**
+	 * 根据给定的枚举类型名获取类型id
+	 *
+	 * @param enumType 枚举类型名
+	 * @return 类型id
+	 * @throws NullPointerException 如果是未注册的枚举类型
+	 */
+	public int getTypeId(String enumType) {
+		return findDefinition(enumType)
+				.orElseThrow(() -> new NullPointerException("未注册的枚举类型: " + enumType))
+				.getTypeId();
+	}
+
+	/**
+	 * 获取已注册的类型数量，类型id的取值范围为 [0, typeCount)
+	 */
+	public int typeCount() {
+		return definitions.length;
+	}
+
+	/**
+	 * 根据类型id和序数获取枚举常量
+	 *
+	 * @param typeId  类型id
+	 * @param ordinal 枚举常量的序数
+	 * @throws IndexOutOfBoundsException 如果typeId或ordinal传入错误
+	 */
+	public SylphEnum getByOrdinal(int typeId, int ordinal) {
+		return definitions[typeId].getByOrdinal(ordinal);
+	}
+
+	/**
+	 * 根据类型id和 ID 获取枚举常量
+	 *
+	 * @param typeId 类型id
+	 * @param id     枚举常量的 ID
+	 * @throws IndexOutOfBoundsException 如果typeId传入错误
+	 * @throws NoSuchElementException    如果未找到枚举常量
+	 */
+	@Nonnull
+	public SylphEnum getById(int typeId, int id) {
+		return definitions[typeId].getById(id);
+	}
+
+	/**
+	 * 根据类型id和 ID 获取枚举常量
+	 *
+	 * @param typeId 类型id
+	 * @param id     枚举常量的 ID
+	 * @return 枚举常量，如果未找到则返回 null
+	 * @throws IndexOutOfBoundsException 如果typeId传入错误
+	 */
+	@Nullable
+	public SylphEnum getByIdOrNull(int typeId, int id) {
+		return definitions[typeId].getByIdOrNull(id);
+	}
+
+	// --- 全局序号 ---
+
+	/**
+	 * 获取全局序号空间的大小，即所有已注册类型的枚举总数
+	 * 可用于以全局序号为下标分配跨类型的基本类型数组（计数器、缓存等）
+	 */
+	public int globalLength() {
+		return globalConstants.length;
+	}
+
+	/**
+	 * 根据类型id和序数计算全局序号
+	 *
+	 * @param typeId  类型id
+	 * @param ordinal 枚举常量的序数
+	 * @throws IndexOutOfBoundsException 如果typeId或ordinal传入错误
+	 */
+	public int globalOrdinal(int typeId, int ordinal) {
+		return definitions[typeId].globalOrdinal(ordinal);
+	}
+
+	/**
+	 * 获取枚举常量的全局序号
+	 *
+	 * @param sylphEnum 枚举常量
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 */
+	public int globalOrdinal(@Nonnull SylphEnum sylphEnum) {
+		return definitionOf(sylphEnum).globalOrdinal(sylphEnum.ordinal());
+	}
+
+	/**
+	 * 获取枚举常量所属的已注册定义
+	 *
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 */
+	SylphEnumDefinition definitionOf(SylphEnum sylphEnum) {
+		if (sylphEnum instanceof SylphEnumConstant constant) {
+			SylphEnumDefinition definition = constant.getDefinition();
+			int typeId = definition.getTypeId();
+			SylphEnumDefinition[] definitions = this.definitions;
+			if (typeId < 0 || typeId >= definitions.length || definitions[typeId] != definition) {
+				throw new NullPointerException("未注册的枚举类型: " + definition.getTypeName());
+			}
+			return definition;
+		}
+		Class<?> enumType = sylphEnum instanceof Enum<?> e ? e.getDeclaringClass() : sylphEnum.getClass();
+		SylphEnumDefinition definition = definitionByClass.get(enumType);
+		if (definition == null) {
+			throw new NullPointerException("未注册的枚举类型: " + enumType);
+		}
+		return definition;
+	}
+
+	/**
+	 * 根据全局序号获取枚举常量
+	 *
+	 * @param globalOrdinal 全局序号
+	 * @throws IndexOutOfBoundsException 如果globalOrdinal传入错误
+	 */
+	@Nonnull
+	public SylphEnum getByGlobalOrdinal(int globalOrdinal) {
+		return globalConstants[globalOrdinal];
+	}
+
 	/**
 	 * 根据给定的枚举类型名和序数获取枚举常量
 	 *
@@ -158,4 +412,304 @@ public final class SylphEnums implements SylphEnumRegistrationContext {
 				.map(SylphEnumDefinition::getAll)
 				.orElse(Collections.emptyList());
 	}
+
+	// --- 分组 ---
+
+	/**
+	 * 根据给定的枚举类型名和分组名获取分组句柄
+	 * 热点代码应在初始化时解析句柄并保存，之后直接使用 {@link SylphEnumGroup#contains(SylphEnum)} 等方法
+	 *
+	 * @param enumType 枚举类型名
+	 * @param group    分组名
+	 * @return 包含分组的 Optional，如果类型未注册或分组不存在则返回 Optional.empty()
+	 */
+	@Nonnull
+	public Optional<SylphEnumGroup> findGroup(String enumType, String group) {
+		return findDefinition(enumType).map(definition -> definition.getGroupOrNull(group));
+	}
+
+	/**
+	 * 根据给定的枚举类型名和分组名获取分组句柄
+	 *
+	 * @param enumType 枚举类型名
+	 * @param group    分组名
+	 * @throws NullPointerException   如果是未注册的枚举类型
+	 * @throws NoSuchElementException 如果分组不存在
+	 */
+	@Nonnull
+	public SylphEnumGroup getGroup(String enumType, String group) {
+		return findDefinition(enumType)
+				.orElseThrow(() -> new NullPointerException("未注册的枚举类型: " + enumType))
+				.getGroup(group);
+	}
+
+	/**
+	 * 根据类型id和分组名获取分组句柄
+	 *
+	 * @param typeId 类型id
+	 * @param group  分组名
+	 * @throws IndexOutOfBoundsException 如果typeId传入错误
+	 * @throws NoSuchElementException    如果分组不存在
+	 */
+	@Nonnull
+	public SylphEnumGroup getGroup(int typeId, String group) {
+		return definitions[typeId].getGroup(group);
+	}
+
+	/**
+	 * 判断枚举常量是否属于给定类型的分组
+	 *
+	 * @param enumType  枚举类型名
+	 * @param group     分组名
+	 * @param sylphEnum 枚举常量
+	 * @return 类型未注册或分组不存在时返回 false
+	 */
+	public boolean isInGroup(String enumType, String group, @Nonnull SylphEnum sylphEnum) {
+		SylphEnumDefinition definition = definitionMap.get(enumType);
+		if (definition == null) {
+			return false;
+		}
+		SylphEnumGroup enumGroup = definition.getGroupOrNull(group);
+		return enumGroup != null && enumGroup.contains(sylphEnum);
+	}
+
+	/**
+	 * 根据给定的枚举类型名和分组名获取分组内的所有枚举常量
+	 *
+	 * @param enumType 枚举类型名
+	 * @param group    分组名
+	 * @return 按序数排列的分组成员，类型未注册或分组不存在时返回空集合
+	 */
+	@Nonnull
+	public List<SylphEnum> getAll(String enumType, String group) {
+		return findGroup(enumType, group)
+				.map(SylphEnumGroup::getMembers)
+				.orElse(Collections.emptyList());
+	}
+
+	// --- 关系 ---
+
+	/**
+	 * 获取注解处理器根据 {@code @SylphEnumRelation} 生成的关系
+	 * 首次查询某个源类型时加载它的所有关系，此时目标类型必须已经注册。
+	 * 热点代码应在初始化时解析并保存关系，之后直接使用 {@link SylphEnumRelationMatrix#test(SylphEnum, SylphEnum)}
+	 *
+	 * @param fromType 源枚举类型名
+	 * @param relation 关系名
+	 * @return 包含关系的 Optional，如果类型未注册或关系不存在则返回 Optional.empty()
+	 * @throws UncheckedIOException 关系资源读取失败或目标类型未注册时抛出
+	 */
+	@Nonnull
+	public Optional<SylphEnumRelationMatrix> findRelation(String fromType, String relation) {
+		return findDefinition(fromType).map(definition -> relationsOf(definition).get(relation));
+	}
+
+	/**
+	 * 获取源类型的所有关系，首次调用时加载
+	 */
+	@Nonnull
+	Map<String, SylphEnumRelationMatrix> relationsOf(@Nonnull SylphEnumDefinition definition) {
+		return relations.computeIfAbsent(definition, d -> d.loadRelations(definitionMap::get));
+	}
+
+	/**
+	 * 获取注解处理器根据 {@code @SylphEnumRelation} 生成的关系
+	 *
+	 * @param fromType 源枚举类型名
+	 * @param relation 关系名
+	 * @throws NullPointerException   如果是未注册的枚举类型
+	 * @throws NoSuchElementException 如果关系不存在
+	 * @throws UncheckedIOException   关系资源读取失败或目标类型未注册时抛出
+	 * @see #findRelation(String, String)
+	 */
+	@Nonnull
+	public SylphEnumRelationMatrix getRelation(String fromType, String relation) {
+		if (findDefinition(fromType).isEmpty()) {
+			throw new NullPointerException("未注册的枚举类型: " + fromType);
+		}
+		return findRelation(fromType, relation)
+				.orElseThrow(() -> new NoSuchElementException(fromType + " 找不到关系: " + relation));
+	}
+
+	// --- 描述和显示名 ---
+
+	/**
+	 * 获取枚举常量在 {@code @SylphEnumReg} 中声明的描述
+	 *
+	 * @param sylphEnum 枚举常量
+	 * @return 没有描述时返回 null，注解处理器不会生成空描述
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 * @throws UncheckedIOException 字符串表资源读取失败时抛出
+	 */
+	@Nullable
+	public String description(@Nonnull SylphEnum sylphEnum) {
+		return definitionOf(sylphEnum).getStrings().description(sylphEnum.ordinal());
+	}
+
+	/**
+	 * 获取枚举常量的本地化显示名，没有匹配语言的显示名时回退到描述，再回退到枚举名
+	 *
+	 * @param sylphEnum 枚举常量
+	 * @param locale    语言
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 * @throws UncheckedIOException 字符串表资源读取失败时抛出
+	 * @see SylphEnumStrings#displayName(int, Locale)
+	 */
+	@Nonnull
+	public String displayName(@Nonnull SylphEnum sylphEnum, @Nonnull Locale locale) {
+		return definitionOf(sylphEnum).getStrings().displayName(sylphEnum.ordinal(), locale);
+	}
+
+	// --- 内存占用 ---
+
+	/**
+	 * 获取注册的定义使用的索引布局
+	 */
+	@Nonnull
+	public SylphEnumLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * 按类型id顺序估算每个已注册类型的内存占用
+	 *
+	 * @see SylphEnumDefinition#footprint()
+	 */
+	@Nonnull
+	public List<SylphEnumFootprint> footprints() {
+		SylphEnumDefinition[] definitions = this.definitions;
+		List<SylphEnumFootprint> footprints = new ArrayList<>(definitions.length);
+		for (SylphEnumDefinition definition : definitions) {
+			footprints.add(definition.footprint());
+		}
+		return footprints;
+	}
+
+	/**
+	 * 估算整个注册表的内存占用：各类型的占用，加上类型数组、全局序号数组和两张类型映射
+	 */
+	public long footprintBytes() {
+		SylphEnumDefinition[] definitions = this.definitions;
+		long bytes = SylphEnumFootprint.array(definitions.length, SylphEnumFootprint.REFERENCE_BYTES)
+				+ SylphEnumFootprint.array(globalConstants.length, SylphEnumFootprint.REFERENCE_BYTES);
+		for (SylphEnumDefinition definition : definitions) {
+			bytes += definition.footprint().totalBytes();
+		}
+		// definitionMap 和 definitionByClass：每个条目一个 Node，桶数组按 2 倍向上取 2 的幂
+		int entries = definitionMap.size() + definitionByClass.size();
+		bytes += entries * SylphEnumFootprint.object(3 * SylphEnumFootprint.REFERENCE_BYTES + Integer.BYTES);
+		for (int size : new int[]{definitionMap.size(), definitionByClass.size()}) {
+			if (size > 0) {
+				bytes += SylphEnumFootprint.array(Integer.highestOneBit(size * 2 - 1) << 1, SylphEnumFootprint.REFERENCE_BYTES);
+			}
+		}
+		return bytes;
+	}
+
+	// --- 指纹 ---
+
+	/**
+	 * 按类型名排序的各类型指纹
+	 *
+	 * @see SylphEnumDefinition#fingerprint()
+	 */
+	@Nonnull
+	public SortedMap<String, Long> typeFingerprints() {
+		SortedMap<String, Long> fingerprints = new TreeMap<>();
+		for (SylphEnumDefinition definition : definitions) {
+			fingerprints.put(definition.getTypeName(), definition.fingerprint());
+		}
+		return Collections.unmodifiableSortedMap(fingerprints);
+	}
+
+	/**
+	 * 注册表指纹，由按类型名排序的各类型指纹计算，与注册顺序无关
+	 * 两个注册表的指纹一致时，所有类型都可以直接以 ordinal 交换枚举值
+	 *
+	 * @see SylphEnumHandshake
+	 */
+	public long fingerprint() {
+		return SylphEnumFingerprint.of(typeFingerprints().values());
+	}
+
+	// --- 预热 ---
+
+	/**
+	 * 在当前线程中预热所有已注册类型的查找路径，通常在 {@link #initialized()} 之后、接入流量之前调用
+	 *
+	 * @param budget 时间预算，至少完成一轮遍历
+	 * @return 预热统计
+	 * @throws IllegalArgumentException 预算为负数时抛出
+	 * @see SylphEnumWarmup
+	 */
+	@Nonnull
+	public SylphEnumWarmup warmUp(@Nonnull Duration budget) {
+		SylphEnumWarmup warmup = SylphEnumWarmup.run(this, budget);
+		LOGGER.info("EnumRegistry 预热完成: " + warmup);
+		return warmup;
+	}
+
+	/**
+	 * 在后台守护线程中预热所有已注册类型的查找路径，不阻塞启动
+	 *
+	 * @param budget 时间预算，至少完成一轮遍历
+	 * @return 预热完成时完成的 future
+	 * @throws IllegalArgumentException 预算为负数时抛出
+	 * @see SylphEnumWarmup
+	 */
+	@Nonnull
+	public CompletableFuture<SylphEnumWarmup> warmUpInBackground(@Nonnull Duration budget) {
+		return SylphEnumWarmup.start(this, budget).whenComplete((warmup, e) -> {
+			if (warmup != null) {
+				LOGGER.info("EnumRegistry 后台预热完成: " + warmup);
+			} else {
+				LOGGER.log(Level.WARNING, "EnumRegistry 后台预热失败", e);
+			}
+		});
+	}
+
+	// --- 名称编码 ---
+
+	/**
+	 * 把枚举名的 UTF-8 字节写入 buffer，不经过字符集编码
+	 *
+	 * @return 写入的字节数
+	 * @throws NullPointerException    如果枚举常量所属类型未注册
+	 * @throws BufferOverflowException 剩余空间不足时抛出
+	 * @see SylphEnumNameBytes#writeName(SylphEnum, ByteBuffer)
+	 */
+	public int writeName(@Nonnull SylphEnum sylphEnum, @Nonnull ByteBuffer buffer) {
+		return definitionOf(sylphEnum).getNameBytes().writeName(sylphEnum, buffer);
+	}
+
+	/**
+	 * 把枚举名的 UTF-8 字节写入输出流，不经过字符集编码
+	 *
+	 * @return 写入的字节数
+	 * @throws NullPointerException 如果枚举常量所属类型未注册
+	 * @see SylphEnumNameBytes#writeName(SylphEnum, OutputStream)
+	 */
+	public int writeName(@Nonnull SylphEnum sylphEnum, @Nonnull OutputStream out) throws IOException {
+		return definitionOf(sylphEnum).getNameBytes().writeName(sylphEnum, out);
+	}
+
+	// --- id迁移 ---
+
+	/**
+	 * 把给定类型的id数组从 fromVersion 版本原地翻译到 toVersion 版本
+	 *
+	 * @param enumType    枚举类型名
+	 * @param ids         fromVersion 版本的id，已废弃的翻译为 {@link SylphEnumMigrations#TOMBSTONE}
+	 * @param fromVersion 源版本
+	 * @param toVersion   目标版本
+	 * @throws NullPointerException     如果是未注册的枚举类型
+	 * @throws IllegalArgumentException 如果版本错误
+	 * @see SylphEnumMigrations#translate(int[], int, int)
+	 */
+	public void translate(String enumType, @Nonnull int[] ids, int fromVersion, int toVersion) {
+		findDefinition(enumType)
+				.orElseThrow(() -> new NullPointerException("未注册的枚举类型: " + enumType))
+				.getMigrations()
+				.translate(ids, fromVersion, toVersion);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import javax.annotation.Nonnull;
+import java.io.UncheckedIOException;
+
+/**
+ * 类初始化时完成加载的共享注册表，用于 GraalVM native-image
+ * <p>
+ * runtime 模块自带的 {@code native-image.properties} 把本类和注册表可达的 runtime 类标记为构建期初始化，
+ * 注解处理器生成的 {@code META-INF/native-image/<registrar package>/native-image.properties} 再标记生成的注册器、掩码类和 proto 枚举。
+ * 本类在镜像构建时执行 {@link SylphEnums#initialized()}，并预先加载各类型的属性表、迁移表、字符串表、名称索引和关系，
+ * 注册表随镜像堆一起写入可执行文件，启动时不再经过 ServiceLoader 和资源读取。
+ * 在 JVM 上同样可以使用，此时在首次访问时只完成注册，其余数据仍在各自首次访问时加载。
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumsImage {
+	private static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+	private static final SylphEnums SYLPH_ENUMS = load();
+
+	private SylphEnumsImage() {
+	}
+
+	private static SylphEnums load() {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.initialized();
+		// GraalVM 在镜像构建期间把该属性设置为 buildtime
+		if ("buildtime".equals(System.getProperty(IMAGE_CODE_PROPERTY))) {
+			preload(sylphEnums);
+		}
+		return sylphEnums;
+	}
+
+	/**
+	 * 预先加载属性表、迁移表、字符串表、名称索引和关系，避免镜像运行时再读取资源
+	 * <p>
+	 * 关系的目标类型可能是不经过注册器注册的 proto 枚举，这类关系读取失败时保持延迟加载，
+	 * 由首次调用 {@link SylphEnums#findRelation(String, String)} 时报告，不影响本类的初始化。
+	 */
+	static void preload(@Nonnull SylphEnums sylphEnums) {
+		for (int typeId = 0; typeId < sylphEnums.typeCount(); typeId++) {
+			SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+			definition.getAttributes();
+			definition.getMigrations();
+			definition.getStrings().loadAll();
+			definition.getNameSearch();
+			try {
+				sylphEnums.relationsOf(definition);
+			} catch (UncheckedIOException e) {
+				// 保持延迟加载
+			}
+		}
+	}
+
+	/**
+	 * 获取已初始化的共享注册表
+	 */
+	@Nonnull
+	public static SylphEnums sylphEnums() {
+		return SYLPH_ENUMS;
+	}
+}
@@ -0,0 +1,63 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+
+import javax.annotation.Nonnull;
+
+/**
+ * 用于生成 AppCDS 归档的训练入口
+ * <p>
+ * 初始化注册表并访问每个已注册类型的常量、索引、分组和属性表，
+ * 让注册表、生成的注册器、枚举类以及运行时类都被加载一遍，然后退出。
+ * 在应用的 classpath 下运行：
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=sylph-enums.jsa -cp &lt;classpath&gt; io.github.wlong36.sylph.enumaggregator.runtime.SylphEnumsTraining
+ * java -XX:SharedArchiveFile=sylph-enums.jsa -cp &lt;classpath&gt; &lt;main class&gt;
+ * </pre>
+ * 也可以用 {@code -XX:DumpLoadedClassList=sylph-enums.classlist} 只导出类列表，
+ * 再通过 {@code -Xshare:dump -XX:SharedClassListFile} 生成静态归档。
+ * 应用有自己的训练入口时，调用 {@link #train(SylphEnums)} 即可。
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumsTraining {
+
+	private SylphEnumsTraining() {
+	}
+
+	public static void main(String[] args) {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.initialized();
+		int constants = train(sylphEnums);
+		System.out.println("SylphEnums 训练完成: " + sylphEnums.typeCount() + " 个类型, " + constants + " 个枚举");
+	}
+
+	/**
+	 * 访问注册表中所有类型的常用路径，触发相关类的加载和初始化
+	 *
+	 * @param sylphEnums 已初始化的注册表
+	 * @return 访问过的枚举数量
+	 */
+	public static int train(@Nonnull SylphEnums sylphEnums) {
+		int constants = 0;
+		for (int typeId = 0; typeId < sylphEnums.typeCount(); typeId++) {
+			SylphEnumDefinition definition = sylphEnums.getDefinition(typeId);
+			for (SylphEnum sylphEnum : definition.getAll()) {
+				definition.getById(sylphEnum.id());
+				definition.getByName(sylphEnum.name());
+				sylphEnums.globalOrdinal(sylphEnum);
+				constants++;
+			}
+			for (SylphEnumGroup group : definition.getGroups()) {
+				group.getMembers();
+			}
+			SylphEnumAttributes attributes = definition.getAttributes();
+			for (String name : attributes.names()) {
+				attributes.typeOf(name);
+			}
+			SylphEnumSet.allOf(definition);
+		}
+		return constants;
+	}
+}
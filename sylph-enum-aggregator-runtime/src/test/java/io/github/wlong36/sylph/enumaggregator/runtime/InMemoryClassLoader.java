@@ -0,0 +1,28 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 测试用类加载器，只提供内存中的资源
+ */
+class InMemoryClassLoader extends ClassLoader {
+	private final Map<String, byte[]> resources = new HashMap<>();
+
+	InMemoryClassLoader() {
+		super(null);
+	}
+
+	InMemoryClassLoader put(String name, byte[] bytes) {
+		resources.put(name, bytes);
+		return this;
+	}
+
+	@Override
+	public InputStream getResourceAsStream(String name) {
+		byte[] bytes = resources.get(name);
+		return bytes == null ? null : new ByteArrayInputStream(bytes);
+	}
+}
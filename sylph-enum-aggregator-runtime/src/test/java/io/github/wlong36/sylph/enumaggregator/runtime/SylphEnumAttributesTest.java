@@ -0,0 +1,103 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttrType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumAttributesTest {
+
+	private SylphEnums sylphEnums;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("BuffType", new int[]{10, 20, 30}, new String[]{"POISON", "BURN", "HASTE"}));
+
+		ByteArrayOutputStream attributeBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(attributeBytes);
+		output.writeInt(SylphEnumAttributes.MAGIC);
+		output.writeShort(SylphEnumAttributes.VERSION);
+		output.writeUTF("BuffType");
+		output.writeInt(3);
+		output.writeUTF("cooldown");
+		output.writeByte(SylphEnumAttrType.INT.ordinal());
+		output.writeInt(2);
+		output.writeInt(10);
+		output.writeInt(500);
+		output.writeInt(30);
+		output.writeInt(1500);
+		output.writeUTF("debuff");
+		output.writeByte(SylphEnumAttrType.BOOLEAN.ordinal());
+		output.writeInt(2);
+		output.writeInt(10);
+		output.writeBoolean(true);
+		output.writeInt(20);
+		output.writeBoolean(true);
+		output.writeUTF("icon");
+		output.writeByte(SylphEnumAttrType.STRING.ordinal());
+		output.writeInt(1);
+		output.writeInt(20);
+		output.writeUTF("fire.png");
+		output.flush();
+
+		ClassLoader classLoader = new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("BuffType"), tableBytes)
+				.put(SylphEnumAttributes.resourceName("BuffType"), attributeBytes.toByteArray());
+		sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("BuffType", classLoader, SylphEnumTable.resourceName("BuffType"));
+	}
+
+	@Test
+	public void getAttributes_ColumnsIndexedByOrdinal() {
+		SylphEnumDefinition definition = sylphEnums.findDefinition("BuffType").orElseThrow();
+		SylphEnumAttributes attributes = definition.getAttributes();
+		assertSame(attributes, definition.getAttributes());
+		assertTrue(attributes.contains("cooldown"));
+		assertEquals(SylphEnumAttrType.BOOLEAN, attributes.typeOf("debuff"));
+		assertNull(attributes.typeOf("missing"));
+
+		SylphEnumAttributes.IntColumn cooldown = attributes.intColumn("cooldown");
+		assertEquals(3, cooldown.length());
+		assertArrayEquals(new int[]{500, 0, 1500}, cooldown.toArray());
+		assertEquals(1500, cooldown.get(definition.getByName("HASTE")));
+
+		SylphEnumAttributes.BooleanColumn debuff = attributes.booleanColumn("debuff");
+		assertTrue(debuff.get(0));
+		assertTrue(debuff.get(1));
+		assertFalse(debuff.get(2));
+
+		SylphEnumAttributes.StringColumn icon = attributes.stringColumn("icon");
+		assertNull(icon.get(0));
+		assertEquals("fire.png", icon.get(definition.getById(20)));
+	}
+
+	@Test
+	public void getAttributes_WrongTypeOrMissing_Throws() {
+		SylphEnumAttributes attributes = sylphEnums.findDefinition("BuffType").orElseThrow().getAttributes();
+		assertThrows(IllegalArgumentException.class, () -> attributes.longColumn("cooldown"));
+		assertThrows(NoSuchElementException.class, () -> attributes.intColumn("missing"));
+	}
+
+	@Test
+	public void get_ConstantOfOtherType_Throws() {
+		SylphEnumAttributes attributes = sylphEnums.findDefinition("BuffType").orElseThrow().getAttributes();
+		// 另一类型中 ordinal 相同的常量不能读到本类型的值
+		SylphEnum other = new SylphEnumDefinition(new SylphEnumTable("ItemType", new int[]{1, 2, 3}, new String[]{"A", "B", "C"})).getByOrdinal(2);
+		assertThrows(IllegalArgumentException.class, () -> attributes.intColumn("cooldown").get(other));
+		assertThrows(IllegalArgumentException.class, () -> attributes.booleanColumn("debuff").get(other));
+		assertThrows(IllegalArgumentException.class, () -> attributes.stringColumn("icon").get(other));
+	}
+
+	@Test
+	public void getAttributes_NoResource_ReturnsEmpty() {
+		SylphEnumDefinition definition = new SylphEnumDefinition(new SylphEnumTable("ItemType", new int[]{1}, new String[]{"A"}));
+		assertTrue(definition.getAttributes().names().isEmpty());
+	}
+}
@@ -0,0 +1,75 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodType;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumBootstrapsTest {
+
+	private SylphEnums sylphEnums;
+
+	@BeforeEach
+	public void setUp() {
+		sylphEnums = new SylphEnums();
+		sylphEnums.register(SampleEnum.class);
+		sylphEnums.registerTable(new SylphEnumTable("ItemType", new int[]{100, 200}, new String[]{"SWORD", "SHIELD"}));
+	}
+
+	@Test
+	public void byId_ResolvesConstant() {
+		assertSame(SampleEnum.VALUE2, SylphEnumBootstraps.byId(sylphEnums, SampleEnum.class, "SampleEnum", 2));
+		assertSame(sylphEnums.getById("ItemType", 200), SylphEnumBootstraps.byId(sylphEnums, SylphEnum.class, "ItemType", 200));
+	}
+
+	@Test
+	public void byName_ResolvesConstant() {
+		assertSame(sylphEnums.getByName("ItemType", "SWORD"), SylphEnumBootstraps.byName(sylphEnums, SylphEnum.class, "ItemType", "SWORD"));
+	}
+
+	@Test
+	public void byId_MissingConstant_ThrowsNoSuchElementException() {
+		assertThrows(NoSuchElementException.class, () -> SylphEnumBootstraps.byId(sylphEnums, SylphEnum.class, "ItemType", 300));
+		assertThrows(NullPointerException.class, () -> SylphEnumBootstraps.byId(sylphEnums, SylphEnum.class, "Unknown", 1));
+	}
+
+	@Test
+	public void byId_IncompatibleType_ThrowsClassCastException() {
+		assertThrows(ClassCastException.class, () -> SylphEnumBootstraps.byId(sylphEnums, SampleEnum.class, "ItemType", 100));
+	}
+
+	@Test
+	public void constantCallSite_ReturnsConstant() throws Throwable {
+		Object value = SylphEnumBootstraps.byId(sylphEnums, SampleEnum.class, "SampleEnum", 1);
+		CallSite callSite = SylphEnumBootstraps.constantCallSite(MethodType.methodType(SampleEnum.class), value);
+		SampleEnum result = (SampleEnum) callSite.dynamicInvoker().invokeExact();
+		assertSame(SampleEnum.VALUE1, result);
+	}
+
+	@Test
+	public void constantCallSite_WithParameters_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+				() -> SylphEnumBootstraps.constantCallSite(MethodType.methodType(SylphEnum.class, int.class), SampleEnum.VALUE1));
+	}
+
+	private enum SampleEnum implements SylphEnum {
+		VALUE1(1),
+		VALUE2(2);
+
+		private final int id;
+
+		SampleEnum(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int id() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumCounterTableTest {
+
+	private final SylphEnumDefinition definition = new SylphEnumDefinition(
+			new SylphEnumTable("ConditionType", new int[]{1, 5, 9}, new String[]{"One", "Five", "Nine"}));
+
+	@Test
+	public void add_GetAndSet() {
+		SylphEnumCounterTable table = SylphEnumCounterTable.of(definition, 4);
+		assertEquals(4 * 3 * Long.BYTES, table.byteSize());
+		assertEquals(0, table.get(3, 2));
+
+		assertEquals(5, table.add(1, 2, 5));
+		assertEquals(3, table.add(1, 2, -2));
+		SylphEnum five = definition.getById(5);
+		assertEquals(10, table.add(0, five, 10));
+		table.set(3, 0, Long.MAX_VALUE);
+
+		assertEquals(3, table.get(1, 2));
+		assertEquals(10, table.get(0, 1));
+		assertEquals(Long.MAX_VALUE, table.get(3, definition.getById(1)));
+		assertEquals(0, table.get(2, 1));
+	}
+
+	@Test
+	public void rows_CopyReadWriteReset() {
+		// 每块只放 2 行，覆盖跨块复制
+		SylphEnumCounterTable table = SylphEnumCounterTable.of(definition, 5, 2 * 3 * Long.BYTES);
+		table.writeRow(0, new long[]{1, 2, 3});
+		table.copyRow(0, 4);
+		long[] row = new long[4];
+		table.readRow(4, row);
+		assertArrayEquals(new long[]{1, 2, 3, 0}, row);
+
+		table.resetRow(0);
+		assertEquals(0, table.get(0, 2));
+		assertEquals(3, table.get(4, 2));
+
+		table.add(2, 1, 7);
+		table.reset();
+		for (int entity = 0; entity < table.entityCount(); entity++) {
+			table.readRow(entity, row);
+			assertArrayEquals(new long[]{0, 0, 0, 0}, row);
+		}
+	}
+
+	@Test
+	public void add_Concurrent_NoLostUpdates() throws Exception {
+		SylphEnumCounterTable table = SylphEnumCounterTable.of(definition, 2);
+		int threads = 4;
+		int increments = 10_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			Future<?>[] futures = new Future<?>[threads];
+			for (int t = 0; t < threads; t++) {
+				futures[t] = executor.submit(() -> {
+					for (int i = 0; i < increments; i++) {
+						table.add(1, 1, 1);
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals((long) threads * increments, table.get(1, 1));
+	}
+
+	@Test
+	public void invalidArguments_Throw() {
+		SylphEnumCounterTable table = SylphEnumCounterTable.of(definition, 2);
+		SylphEnumDefinition other = new SylphEnumDefinition(new SylphEnumTable("TargetType", new int[]{1}, new String[]{"One"}));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> table.get(2, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.add(0, 3, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.readRow(0, new long[2]));
+		assertThrows(IllegalArgumentException.class, () -> table.add(0, other.getById(1), 1));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumCounterTable.of(definition, -1));
+	}
+}
@@ -0,0 +1,137 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumCsvLoaderTest {
+	private static final int ITEMS = 500;
+
+	@TempDir
+	Path directory;
+
+	private static SylphEnums registry() {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable(new SylphEnumTable("ConditionType", new int[]{1001, 1005, 1009}, new String[]{"Level", "Vip", "公会"}));
+		sylphEnums.registerTable(new SylphEnumTable("TargetType", new int[]{20, 40, 60, 80}, new String[]{"Self", "Ally", "Enemy", "All"}));
+		sylphEnums.registerTable(SylphEnumTables.table("ItemType", ITEMS, 10_000, 3, "ITEM_"));
+		return sylphEnums;
+	}
+
+	private Path write(String fileName, String content) throws IOException {
+		return Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void load_HeaderCsv_ResolvesNamedColumns() throws IOException {
+		Path path = write("skills.csv", "﻿key,condition,target,comment\r\n"
+				+ "1,Level,Self,\"hello, world\"\r\n"
+				+ "\r\n"
+				+ "2,\"公会\",All,\"say \"\"hi\"\"\"\r\n"
+				+ "3,Vip,Enemy,\n"
+				+ "4,Level,Ally");
+		SylphEnumCsvLoader loader = SylphEnumCsvLoader.builder(registry())
+				.idColumn("target", "TargetType")
+				.ordinalColumn("condition", "ConditionType")
+				.build();
+		SylphEnumCsvLoader.Columns columns = loader.load(path);
+		assertEquals(4, columns.rowCount());
+		assertEquals(2, columns.columnCount());
+		assertArrayEquals(new int[]{20, 80, 60, 40}, columns.get("target"));
+		assertArrayEquals(new int[]{0, 2, 1, 0}, columns.get(1));
+		assertEquals("ConditionType", columns.getDefinition(1).getTypeName());
+		assertThrows(NoSuchElementException.class, () -> columns.get("comment"));
+	}
+
+	@Test
+	public void load_TsvWithoutHeader_ResolvesIndexedColumns() throws IOException {
+		Path path = write("items.tsv", "ITEM_0\tx\tVip\nITEM_499\ty\t\"Level\"\n");
+		SylphEnumCsvLoader loader = SylphEnumCsvLoader.builder(registry())
+				.delimiter('\t')
+				.header(false)
+				.ordinalColumn(2, "ConditionType")
+				.idColumn(0, "ItemType")
+				.build();
+		SylphEnumCsvLoader.Columns columns = loader.load(path);
+		assertArrayEquals(new int[]{1, 0}, columns.get(0));
+		assertArrayEquals(new int[]{10_000, 10_000 + 499 * 3}, columns.get(1));
+	}
+
+	@Test
+	public void load_InvalidCells_ThrowWithLineNumber() throws IOException {
+		SylphEnumCsvLoader loader = SylphEnumCsvLoader.builder(registry())
+				.ordinalColumn("condition", "ConditionType")
+				.build();
+		IOException unknown = assertThrows(IOException.class, () -> loader.load(write("unknown.csv", "condition\nLevel\n\nGuild\n")));
+		assertTrue(unknown.getMessage().contains(":4: "), unknown.getMessage());
+		assertTrue(unknown.getMessage().contains("Guild"), unknown.getMessage());
+		IOException empty = assertThrows(IOException.class, () -> loader.load(write("empty.csv", "condition,x\nLevel,1\n,2\n")));
+		assertTrue(empty.getMessage().contains(":3: "), empty.getMessage());
+		assertThrows(IOException.class, () -> loader.load(write("quote.csv", "condition\n\"Level\n")));
+		assertThrows(IOException.class, () -> loader.load(write("header.csv", "target\nSelf\n")));
+
+		SylphEnumCsvLoader lenient = SylphEnumCsvLoader.builder(registry())
+				.emptyValue(-1)
+				.ordinalColumn("condition", "ConditionType")
+				.build();
+		assertArrayEquals(new int[]{0, -1}, lenient.load(write("lenient.csv", "condition,x\nLevel,1\n,2\n")).get(0));
+	}
+
+	@Test
+	public void build_InvalidColumns_Throws() {
+		SylphEnums sylphEnums = registry();
+		assertThrows(NullPointerException.class, () -> SylphEnumCsvLoader.builder(sylphEnums).ordinalColumn("skill", "SkillType"));
+		assertThrows(IllegalStateException.class, () -> SylphEnumCsvLoader.builder(sylphEnums).build());
+		assertThrows(IllegalStateException.class, () -> SylphEnumCsvLoader.builder(sylphEnums)
+				.header(false).ordinalColumn("condition", "ConditionType").build());
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumCsvLoader.builder(sylphEnums).delimiter('"'));
+	}
+
+	@Test
+	public void load_ParallelChunks_MatchesSequential() throws IOException {
+		StringBuilder content = new StringBuilder("id,item,target,note\n");
+		int rows = 0;
+		while (content.length() < 3 * SylphEnumCsvLoader.MIN_CHUNK_SIZE + 12345) {
+			content.append(rows).append(",ITEM_").append(rows * 7 % ITEMS).append(',')
+					.append(rows % 2 == 0 ? "Enemy" : "Self").append(",\"").append("x".repeat(rows % 40)).append("\"\n");
+			rows++;
+		}
+		Path path = write("large.csv", content.toString());
+		SylphEnumCsvLoader loader = SylphEnumCsvLoader.builder(registry())
+				.ordinalColumn("item", "ItemType")
+				.idColumn("target", "TargetType")
+				.build();
+
+		SylphEnumCsvLoader.Columns sequential = loader.load(path);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			SylphEnumCsvLoader.Columns parallel = loader.load(path, executor);
+			assertEquals(rows, sequential.rowCount());
+			assertEquals(rows, parallel.rowCount());
+			assertArrayEquals(sequential.get(0), parallel.get(0));
+			assertArrayEquals(sequential.get(1), parallel.get(1));
+			assertEquals(7 * 1234 % ITEMS, parallel.get("item")[1234]);
+
+			Path small = write("small.csv", "item,target\nITEM_3,All\n");
+			List<SylphEnumCsvLoader.Columns> all = loader.loadAll(List.of(path, small), executor);
+			assertEquals(rows, all.get(0).rowCount());
+			assertArrayEquals(new int[]{80}, all.get(1).get("target"));
+
+			Path broken = write("broken.csv", content + "0,ITEM_0,Nobody,\n");
+			IOException e = assertThrows(IOException.class, () -> loader.load(broken, executor));
+			assertTrue(e.getMessage().contains(":" + (rows + 2) + ": "), e.getMessage());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.info.GraphPathRecord;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumFootprintTest {
+
+	private static SylphEnumTable table(String typeName, int length, int stride) {
+		// 逆序给 id，按 id 排序后的 ordinal 不是恒等映射
+		return SylphEnumTables.table(typeName, length, 1_000 + length * stride, -stride, "Item_");
+	}
+
+	private static void assertClose(long expected, long actual) {
+		assertTrue(Math.abs(expected - actual) <= expected / 20,
+				"估算 " + actual + " 与实际 " + expected + " 相差超过 5%");
+	}
+
+	@Test
+	public void footprint_MatchesJol() {
+		for (SylphEnumLayout layout : SylphEnumLayout.values()) {
+			for (int stride : new int[]{1, 3}) {
+				SylphEnumDefinition definition = new SylphEnumDefinition(table("ItemType", 10_000, stride), layout);
+				SylphEnumFootprint footprint = definition.footprint();
+				assertEquals(layout, footprint.getLayout());
+				assertEquals(10_000, footprint.length());
+				assertClose(GraphLayout.parseInstance(definition).totalSize(), footprint.totalBytes());
+			}
+		}
+	}
+
+	@Test
+	public void group_EstimateMatchesJol() {
+		SylphEnumDefinition definition = new SylphEnumDefinition(table("ItemType", 1_000, 1));
+		long[] bits = new long[SylphEnumMasks.words(definition)];
+		bits[0] = 0b1011;
+		bits[bits.length - 1] = 1L << 5;
+		SylphEnumGroup group = new SylphEnumGroup(definition, "debuff", 0, bits);
+		// 分组引用的定义由定义自身统计，这里只比较分组、分组名、位图、成员数组和成员视图
+		GraphLayout layout = GraphLayout.parseInstance(group);
+		long expected = 0;
+		for (long address : layout.addresses()) {
+			GraphPathRecord record = layout.record(address);
+			if (!record.path().startsWith(".definition")) {
+				expected += record.size();
+			}
+		}
+		assertEquals(expected, group.estimateBytes());
+	}
+
+	@Test
+	public void compact_SmallerThanDefault() {
+		SylphEnumFootprint dense = new SylphEnumDefinition(table("ItemType", 10_000, 3)).footprint();
+		SylphEnumFootprint compact = new SylphEnumDefinition(table("ItemType", 10_000, 3), SylphEnumLayout.COMPACT).footprint();
+		assertEquals(dense.constantBytes(), compact.constantBytes());
+		assertTrue(compact.indexBytes() < dense.indexBytes() * 2 / 3, compact + " vs " + dense);
+		// COMPACT 索引每个常量约 20 字节：常量数组、id 排序的两列和名称散列的两列
+		assertTrue(compact.indexBytes() < 24L * compact.length(), compact.toString());
+	}
+
+	@Test
+	public void compact_LookupsUnchanged() {
+		SylphEnumTable table = table("ItemType", 1_000, 3);
+		SylphEnumDefinition dense = new SylphEnumDefinition(table);
+		SylphEnumDefinition compact = new SylphEnumDefinition(table, SylphEnumLayout.COMPACT);
+		assertEquals(SylphEnumLayout.COMPACT, compact.getLayout());
+		for (int ordinal = 0; ordinal < table.length(); ordinal++) {
+			SylphEnum constant = compact.getByOrdinal(ordinal);
+			assertSame(constant, compact.getById(constant.id()));
+			assertSame(constant, compact.getByName(constant.name()));
+			assertEquals(dense.getAllById().get(ordinal).id(), compact.getAllById().get(ordinal).id());
+		}
+		assertNull(compact.getByIdOrNull(1_001));
+		assertNull(compact.getByNameOrNull("Item_1000"));
+		assertEquals(dense.countInIdRange(1_500, 2_500), compact.countInIdRange(1_500, 2_500));
+		assertEquals(dense.floorById(1_500).id(), compact.floorById(1_500).id());
+	}
+
+	@Test
+	public void compact_DuplicatesRejected() {
+		SylphEnumTable duplicateId = new SylphEnumTable("ItemType", new int[]{1, 2, 1}, new String[]{"A", "B", "C"});
+		SylphEnumTable duplicateName = new SylphEnumTable("ItemType", new int[]{1, 2, 3}, new String[]{"A", "B", "A"});
+		assertThrows(IllegalStateException.class, () -> new SylphEnumDefinition(duplicateId, SylphEnumLayout.COMPACT));
+		assertThrows(IllegalStateException.class, () -> new SylphEnumDefinition(duplicateName, SylphEnumLayout.COMPACT));
+	}
+
+	@Test
+	public void registry_FootprintsCoverAllTypes() {
+		SylphEnums sylphEnums = new SylphEnums(SylphEnumLayout.COMPACT);
+		sylphEnums.registerTable(table("ItemType", 500, 1));
+		sylphEnums.registerTable(table("SkillType", 300, 2));
+
+		List<SylphEnumFootprint> footprints = sylphEnums.footprints();
+		assertEquals(2, footprints.size());
+		assertEquals("ItemType", footprints.get(0).getTypeName());
+		assertEquals(SylphEnumLayout.COMPACT, footprints.get(1).getLayout());
+		long types = footprints.get(0).totalBytes() + footprints.get(1).totalBytes();
+		assertTrue(sylphEnums.footprintBytes() > types);
+		assertTrue(sylphEnums.footprintBytes() < types + 8 * 1024);
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumGroupTest {
+	private static final int SIZE = 200;
+
+	private SylphEnums sylphEnums;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		ByteArrayOutputStream groupBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(groupBytes);
+		output.writeInt(SylphEnumGroup.MAGIC);
+		output.writeShort(SylphEnumGroup.VERSION);
+		output.writeUTF("BuffType");
+		output.writeInt(2);
+		output.writeUTF("debuff");
+		output.writeInt(4);
+		output.writeInt(1000);
+		output.writeInt(1063);
+		output.writeInt(1064);
+		output.writeInt(1199);
+		output.writeUTF("empty");
+		output.writeInt(0);
+		output.flush();
+
+		sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("BuffType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("BuffType"), SylphEnumTables.toBytes(SylphEnumTables.table("BuffType", SIZE, 1000, 1, "BUFF_")))
+				.put(SylphEnumGroup.resourceName("BuffType"), groupBytes.toByteArray()), SylphEnumTable.resourceName("BuffType"));
+	}
+
+	@Test
+	public void group_MembershipAndIteration() {
+		SylphEnumGroup debuff = sylphEnums.getGroup("BuffType", "debuff");
+		assertEquals(0, debuff.getGroupId());
+		assertEquals(4, debuff.size());
+		assertTrue(debuff.contains(63));
+		assertTrue(debuff.contains(64));
+		assertFalse(debuff.contains(65));
+		assertFalse(debuff.contains(-1));
+		assertFalse(debuff.contains(SIZE + 100));
+		assertEquals(199, debuff.ordinalAt(3));
+		assertEquals("BUFF_64", debuff.get(2).name());
+
+		int[] visited = new int[debuff.size()];
+		int index = 0;
+		for (int ordinal = debuff.nextOrdinal(0); ordinal >= 0; ordinal = debuff.nextOrdinal(ordinal + 1)) {
+			visited[index++] = ordinal;
+		}
+		assertArrayEquals(new int[]{0, 63, 64, 199}, visited);
+	}
+
+	@Test
+	public void group_LookupsFromSylphEnums() {
+		SylphEnum buff = sylphEnums.getById("BuffType", 1063);
+		assertTrue(sylphEnums.isInGroup("BuffType", "debuff", buff));
+		assertFalse(sylphEnums.isInGroup("BuffType", "empty", buff));
+		assertFalse(sylphEnums.isInGroup("BuffType", "missing", buff));
+		assertFalse(sylphEnums.isInGroup("ItemType", "debuff", buff));
+
+		List<SylphEnum> members = sylphEnums.getAll("BuffType", "debuff");
+		assertEquals(4, members.size());
+		assertTrue(members.contains(buff));
+		assertTrue(sylphEnums.getAll("BuffType", "missing").isEmpty());
+		assertSame(sylphEnums.getGroup("BuffType", "empty"), sylphEnums.getGroup(sylphEnums.getTypeId("BuffType"), "empty"));
+		assertTrue(sylphEnums.findGroup("BuffType", "missing").isEmpty());
+	}
+
+	@Test
+	public void group_Missing_Throws() {
+		assertThrows(NoSuchElementException.class, () -> sylphEnums.getGroup("BuffType", "missing"));
+		assertThrows(NullPointerException.class, () -> sylphEnums.getGroup("ItemType", "debuff"));
+	}
+
+	@Test
+	public void group_ConstantOfOtherDefinition_NotContained() {
+		SylphEnumGroup debuff = sylphEnums.getGroup("BuffType", "debuff");
+		SylphEnumDefinition other = new SylphEnumDefinition(new SylphEnumTable("BuffType", new int[]{1000}, new String[]{"BUFF_0"}));
+		assertFalse(debuff.contains(other.getByOrdinal(0)));
+	}
+}
@@ -0,0 +1,114 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumHandshakeTest {
+
+	private static SylphEnumTable conditions() {
+		return new SylphEnumTable("ConditionType", new int[]{1001, 1005, 1009}, new String[]{"Level", "Vip", "Guild"});
+	}
+
+	private static SylphEnumTable targets() {
+		return new SylphEnumTable("TargetType", new int[]{20, 40, 60, 80}, new String[]{"Self", "Ally", "Enemy", "All"});
+	}
+
+	private static SylphEnums registry(SylphEnumTable... tables) {
+		SylphEnums sylphEnums = new SylphEnums();
+		for (SylphEnumTable table : tables) {
+			sylphEnums.registerTable(table);
+		}
+		return sylphEnums;
+	}
+
+	@Test
+	public void fingerprint_StableAcrossRegistrationOrder() {
+		SylphEnums local = registry(conditions(), targets());
+		SylphEnums remote = registry(targets(), conditions());
+		assertEquals(local.fingerprint(), remote.fingerprint());
+		assertEquals(local.typeFingerprints(), remote.typeFingerprints());
+		assertEquals(new SylphEnumDefinition(conditions()).fingerprint(),
+				local.findDefinition("ConditionType").orElseThrow().fingerprint());
+	}
+
+	@Test
+	public void fingerprint_ChangesWithIdNameOrOrder() {
+		long base = new SylphEnumDefinition(conditions()).fingerprint();
+		SylphEnumTable renamed = new SylphEnumTable("ConditionType", new int[]{1001, 1005, 1009}, new String[]{"Level", "Vip", "Team"});
+		SylphEnumTable renumbered = new SylphEnumTable("ConditionType", new int[]{1001, 1005, 1010}, new String[]{"Level", "Vip", "Guild"});
+		// 同样的 (id, name) 集合，ordinal 顺序不同
+		SylphEnumTable reordered = new SylphEnumTable("ConditionType", new int[]{1005, 1001, 1009}, new String[]{"Vip", "Level", "Guild"});
+		assertNotEquals(base, new SylphEnumDefinition(renamed).fingerprint());
+		assertNotEquals(base, new SylphEnumDefinition(renumbered).fingerprint());
+		assertNotEquals(base, new SylphEnumDefinition(reordered).fingerprint());
+	}
+
+	@Test
+	public void negotiate_MatchingRegistries_UseOrdinals() {
+		SylphEnums local = registry(conditions(), targets());
+		SylphEnums remote = registry(targets(), conditions());
+		SylphEnumHandshake localSide = SylphEnumHandshake.negotiate(local, SylphEnumHandshake.hello(remote));
+		SylphEnumHandshake remoteSide = SylphEnumHandshake.negotiate(remote, SylphEnumHandshake.hello(local));
+		assertTrue(localSide.isRegistryMatched());
+		assertTrue(remoteSide.isRegistryMatched());
+
+		SylphEnum enemy = local.getByName("TargetType", "Enemy");
+		int encoded = localSide.encode(enemy);
+		assertEquals(2, encoded);
+		assertEquals(2, localSide.bitsPerValue(local.getTypeId("TargetType")));
+		SylphEnum decoded = remoteSide.decode("TargetType", encoded);
+		assertEquals(enemy.id(), decoded.id());
+		assertEquals(enemy.name(), decoded.name());
+	}
+
+	@Test
+	public void negotiate_DifferentType_FallsBackToIds() {
+		SylphEnums local = registry(conditions(), targets());
+		SylphEnumTable newerTargets = new SylphEnumTable("TargetType", new int[]{10, 20, 40, 60, 80}, new String[]{"None", "Self", "Ally", "Enemy", "All"});
+		SylphEnums remote = registry(conditions(), newerTargets);
+		SylphEnumHandshake localSide = SylphEnumHandshake.negotiate(local, SylphEnumHandshake.hello(remote));
+		SylphEnumHandshake remoteSide = SylphEnumHandshake.negotiate(remote, SylphEnumHandshake.hello(local));
+		assertFalse(localSide.isRegistryMatched());
+
+		int targetType = local.getTypeId("TargetType");
+		assertFalse(localSide.usesOrdinals(targetType));
+		assertTrue(localSide.usesOrdinals(local.findDefinition("ConditionType").orElseThrow()));
+		assertEquals(Integer.SIZE, localSide.bitsPerValue(targetType));
+
+		SylphEnum ally = local.getByName("TargetType", "Ally");
+		assertEquals(40, localSide.encode(ally));
+		assertEquals("Ally", remoteSide.decode("TargetType", localSide.encode(ally)).name());
+		SylphEnum guild = local.getByName("ConditionType", "Guild");
+		assertEquals(2, localSide.encode(guild));
+		assertEquals("Guild", remoteSide.decode("ConditionType", 2).name());
+		assertThrows(NoSuchElementException.class, () -> localSide.decode(targetType, 10));
+	}
+
+	@Test
+	public void negotiate_MissingTypeAndLateRegistration_UseIds() {
+		SylphEnums local = registry(conditions(), targets());
+		SylphEnums remote = registry(conditions());
+		SylphEnumHandshake localSide = SylphEnumHandshake.negotiate(local, SylphEnumHandshake.hello(remote));
+		assertFalse(localSide.isRegistryMatched());
+		assertFalse(localSide.usesOrdinals(local.getTypeId("TargetType")));
+
+		SylphEnumHandshake remoteSide = SylphEnumHandshake.negotiate(remote, SylphEnumHandshake.hello(local));
+		remote.registerTable(targets());
+		assertFalse(remoteSide.usesOrdinals(remote.getTypeId("TargetType")));
+		assertEquals(80, remoteSide.encode(remote.getByName("TargetType", "All")));
+	}
+
+	@Test
+	public void negotiate_InvalidHello_Throws() {
+		SylphEnums local = registry(conditions());
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumHandshake.negotiate(local, new byte[]{1, 2, 3, 4}));
+		byte[] hello = SylphEnumHandshake.hello(local);
+		byte[] truncated = Arrays.copyOf(hello, hello.length - 3);
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumHandshake.negotiate(local, truncated));
+	}
+}
@@ -0,0 +1,69 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumIdRangeTest {
+
+	private static List<Integer> ids(List<SylphEnum> constants) {
+		return constants.stream().map(SylphEnum::id).toList();
+	}
+
+	private static SylphEnumDefinition sparse() {
+		// ordinal 顺序与 id 顺序不同，且 id 稀疏，使用二分查找的索引
+		return new SylphEnumDefinition(new SylphEnumTable("BuffType",
+				new int[]{1500, 1000, 2001, 10, 1999, Integer.MAX_VALUE, Integer.MIN_VALUE},
+				new String[]{"POISON", "SLOW", "HASTE", "NONE", "CURSE", "MAX", "MIN"}));
+	}
+
+	@Test
+	public void rangeById_InclusiveBounds() {
+		SylphEnumDefinition definition = sparse();
+		assertEquals(List.of(1000, 1500, 1999), ids(definition.rangeById(1000, 1999)));
+		assertEquals(List.of(1500), ids(definition.rangeById(1001, 1998)));
+		assertEquals(List.of(), ids(definition.rangeById(1501, 1998)));
+		assertEquals(List.of(), definition.rangeById(2000, 1000));
+		assertEquals(List.of(Integer.MIN_VALUE, 10), ids(definition.rangeById(Integer.MIN_VALUE, 999)));
+		assertEquals(List.of(2001, Integer.MAX_VALUE), ids(definition.rangeById(2000, Integer.MAX_VALUE)));
+		assertSame(definition.getAllById(), definition.rangeById(Integer.MIN_VALUE, Integer.MAX_VALUE));
+		assertEquals(3, definition.countInIdRange(1000, 1999));
+		assertEquals(0, definition.countInIdRange(3, 2));
+		assertThrows(UnsupportedOperationException.class, () -> definition.rangeById(0, 3000).clear());
+	}
+
+	@Test
+	public void floorAndCeilingById() {
+		SylphEnumDefinition definition = sparse();
+		assertEquals("SLOW", definition.floorById(1499).name());
+		assertEquals("POISON", definition.floorById(1500).name());
+		assertEquals("POISON", definition.ceilingById(1001).name());
+		assertEquals("HASTE", definition.ceilingById(2000).name());
+		assertEquals("MAX", definition.floorById(Integer.MAX_VALUE).name());
+		assertEquals("MIN", definition.ceilingById(Integer.MIN_VALUE).name());
+
+		SylphEnumDefinition dense = new SylphEnumDefinition(new SylphEnumTable("SkillType", new int[]{3, 1, 2}, new String[]{"C", "A", "B"}));
+		assertNull(dense.floorById(0));
+		assertNull(dense.ceilingById(4));
+		assertEquals("C", dense.floorById(100).name());
+	}
+
+	@Test
+	public void idOrder_IterationWithoutAllocation() {
+		SylphEnumDefinition definition = sparse();
+		assertEquals(List.of(Integer.MIN_VALUE, 10, 1000, 1500, 1999, 2001, Integer.MAX_VALUE), ids(definition.getAllById()));
+		assertEquals(6, definition.ordinalAtIdOrder(0));
+		assertEquals(5, definition.ordinalAtIdOrder(6));
+		assertThrows(IndexOutOfBoundsException.class, () -> definition.ordinalAtIdOrder(7));
+
+		int[] out = new int[2];
+		assertEquals(2, definition.ordinalsInIdRange(0, 2000, out));
+		assertArrayEquals(new int[]{3, 1}, out);
+		assertEquals(1, definition.ordinalsInIdRange(2000, 3000, out));
+		assertEquals(2, out[0]);
+		assertEquals(0, definition.ordinalsInIdRange(5, 4, out));
+	}
+}
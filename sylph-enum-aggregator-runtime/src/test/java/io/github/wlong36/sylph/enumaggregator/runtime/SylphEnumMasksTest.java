@@ -0,0 +1,132 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumMasksTest {
+
+	private static SylphEnumDefinition largeDefinition(int size) {
+		return SylphEnumTables.definition("LargeFlags", size, 1, 1, "FLAG_");
+	}
+
+	@Test
+	public void longMask_Algebra() {
+		long readWrite = SylphEnumMasks.mask(Permission.READ, Permission.WRITE);
+		assertEquals(0b011L, readWrite);
+		assertTrue(SylphEnumMasks.contains(readWrite, Permission.WRITE));
+		assertFalse(SylphEnumMasks.contains(readWrite, Permission.EXECUTE));
+		assertTrue(SylphEnumMasks.containsAll(readWrite, SylphEnumMasks.mask(Permission.READ)));
+		assertFalse(SylphEnumMasks.containsAll(readWrite, SylphEnumMasks.mask(Permission.READ, Permission.EXECUTE)));
+		assertTrue(SylphEnumMasks.containsAny(readWrite, SylphEnumMasks.mask(Permission.READ, Permission.EXECUTE)));
+		assertEquals(0b111L, SylphEnumMasks.with(readWrite, Permission.EXECUTE));
+		assertEquals(0b010L, SylphEnumMasks.without(readWrite, Permission.READ));
+		assertEquals(0b001L, SylphEnumMasks.difference(readWrite, SylphEnumMasks.mask(Permission.WRITE)));
+		assertEquals(2, SylphEnumMasks.count(readWrite));
+		assertEquals(0b111L, SylphEnumMasks.allOf(new SylphEnumDefinition(Permission.class)));
+	}
+
+	@Test
+	public void longMask_NextOrdinal() {
+		long mask = (1L << 3) | (1L << 63);
+		assertEquals(3, SylphEnumMasks.nextOrdinal(mask, 0));
+		assertEquals(63, SylphEnumMasks.nextOrdinal(mask, 4));
+		assertEquals(-1, SylphEnumMasks.nextOrdinal(mask, 64));
+		assertEquals(-1, SylphEnumMasks.nextOrdinal(0L, 0));
+	}
+
+	@Test
+	public void longMask_OrdinalTooLarge_ThrowsIllegalArgumentException() {
+		SylphEnumDefinition definition = largeDefinition(100);
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumMasks.mask(definition.getByOrdinal(64)));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumMasks.allOf(definition));
+	}
+
+	@Test
+	public void longArrayMask_Algebra() {
+		SylphEnumDefinition definition = largeDefinition(150);
+		long[] mask = new long[SylphEnumMasks.words(definition)];
+		assertEquals(3, mask.length);
+		SylphEnumMasks.set(mask, definition.getByOrdinal(1));
+		SylphEnumMasks.set(mask, definition.getByOrdinal(70));
+		SylphEnumMasks.set(mask, definition.getByOrdinal(149));
+		assertTrue(SylphEnumMasks.contains(mask, definition.getByOrdinal(70)));
+		assertEquals(3, SylphEnumMasks.count(mask));
+		assertEquals(70, SylphEnumMasks.nextOrdinal(mask, 2));
+		assertEquals(149, SylphEnumMasks.nextOrdinal(mask, 71));
+		assertEquals(-1, SylphEnumMasks.nextOrdinal(mask, 150));
+
+		long[] required = new long[mask.length];
+		SylphEnumMasks.set(required, definition.getByOrdinal(149));
+		assertTrue(SylphEnumMasks.containsAll(mask, required));
+		SylphEnumMasks.set(required, definition.getByOrdinal(0));
+		assertFalse(SylphEnumMasks.containsAll(mask, required));
+		assertTrue(SylphEnumMasks.containsAny(mask, required));
+
+		SylphEnumMasks.intersectInto(required, mask);
+		assertEquals(1, SylphEnumMasks.count(required));
+		SylphEnumMasks.differenceInto(mask, required);
+		assertFalse(SylphEnumMasks.contains(mask, definition.getByOrdinal(149)));
+		SylphEnumMasks.unionInto(mask, required);
+		assertTrue(SylphEnumMasks.contains(mask, definition.getByOrdinal(149)));
+		SylphEnumMasks.clear(mask, definition.getByOrdinal(1));
+		assertEquals(2, SylphEnumMasks.count(mask));
+	}
+
+	@Test
+	public void enumSet_MaskConversion() {
+		SylphEnumDefinition definition = new SylphEnumDefinition(Permission.class);
+		SylphEnumSet set = SylphEnumSet.fromMask(definition, 0b101L);
+		assertEquals(2, set.size());
+		assertTrue(set.contains(Permission.READ));
+		assertFalse(set.contains(Permission.WRITE));
+		assertTrue(set.add(Permission.WRITE));
+		assertFalse(set.add(Permission.WRITE));
+		assertEquals(0b111L, set.toMask());
+		assertEquals(SylphEnumSet.allOf(definition), set);
+		assertTrue(set.remove(Permission.READ));
+		assertEquals(0b110L, set.toMask());
+
+		Iterator<SylphEnum> iterator = set.iterator();
+		assertSame(Permission.WRITE, iterator.next());
+		iterator.remove();
+		assertSame(Permission.EXECUTE, iterator.next());
+		assertFalse(iterator.hasNext());
+		assertEquals(0b100L, set.toMask());
+
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSet.fromMask(definition, 0b1000L));
+	}
+
+	@Test
+	public void enumSet_LargeDefinition() {
+		SylphEnumDefinition definition = largeDefinition(130);
+		SylphEnumSet set = SylphEnumSet.allOf(definition);
+		assertEquals(130, set.size());
+		long[] masks = set.toMasks();
+		assertEquals(-1L, masks[1]);
+		assertEquals(0b11L, masks[2]);
+		assertThrows(IllegalArgumentException.class, set::toMask);
+		assertEquals(set, SylphEnumSet.fromMasks(definition, masks));
+		assertThrows(IllegalArgumentException.class, () -> set.add(Permission.READ));
+		assertFalse(set.contains(Permission.READ));
+
+		SylphEnumSet copy = set.clone();
+		copy.clear();
+		assertTrue(copy.isEmpty());
+		assertEquals(130, set.size());
+	}
+
+	private enum Permission implements SylphEnum {
+		READ,
+		WRITE,
+		EXECUTE;
+
+		@Override
+		public int id() {
+			return ordinal() + 1;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumMigrate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumMigrationsTest {
+
+	private SylphEnums sylphEnums;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("ItemType", new int[]{1, 2, 3}, new String[]{"SWORD", "SHIELD", "BOW"}));
+		byte[] otherBytes = SylphEnumTables.toBytes(new SylphEnumTable("SkillType", new int[]{1}, new String[]{"SLASH"}));
+
+		// 版本 1: 10 -> 1, 11 -> 2, 12 废弃；版本 2: 1 -> 3, 1_000_000 -> 2
+		ByteArrayOutputStream migrationBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(migrationBytes);
+		output.writeInt(SylphEnumMigrations.MAGIC);
+		output.writeShort(SylphEnumMigrations.VERSION);
+		output.writeUTF("ItemType");
+		output.writeInt(2);
+		output.writeInt(3);
+		writePair(output, 0, 1, new int[]{10, 1, 11, 2, 12, SylphEnumMigrations.TOMBSTONE});
+		writePair(output, 0, 2, new int[]{1, 3, 10, 3, 11, 2, 12, SylphEnumMigrations.TOMBSTONE, 1_000_000, 2});
+		writePair(output, 1, 2, new int[]{1, 3, 1_000_000, 2});
+		output.flush();
+
+		ClassLoader classLoader = new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("ItemType"), tableBytes)
+				.put(SylphEnumMigrations.resourceName("ItemType"), migrationBytes.toByteArray())
+				.put(SylphEnumTable.resourceName("SkillType"), otherBytes);
+		sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("ItemType", classLoader, SylphEnumTable.resourceName("ItemType"));
+		sylphEnums.registerTable("SkillType", classLoader, SylphEnumTable.resourceName("SkillType"));
+	}
+
+	private static void writePair(DataOutputStream output, int fromVersion, int toVersion, int[] pairs) throws IOException {
+		output.writeInt(fromVersion);
+		output.writeInt(toVersion);
+		output.writeInt(pairs.length / 2);
+		for (int id : pairs) {
+			output.writeInt(id);
+		}
+	}
+
+	@Test
+	public void translate_DenseTable() {
+		SylphEnumMigrations migrations = sylphEnums.findDefinition("ItemType").orElseThrow().getMigrations();
+		assertEquals(2, migrations.latestVersion());
+		assertEquals(3, migrations.changedCount(0, 1));
+
+		int[] ids = {1, 2, 3, 10, 11, 12, 13, -5};
+		migrations.translate(ids, 0, 1);
+		assertArrayEquals(new int[]{1, 2, 3, 1, 2, SylphEnumMigrations.TOMBSTONE, 13, -5}, ids);
+		assertEquals(SylphEnumMigrations.TOMBSTONE, migrations.translate(12, 0, 1));
+	}
+
+	@Test
+	public void translate_SparseTable() {
+		int[] ids = {1, 2, 10, 12, 1_000_000, 999_999, Integer.MAX_VALUE};
+		sylphEnums.translate("ItemType", ids, 0, 2);
+		assertArrayEquals(new int[]{3, 2, 3, SylphEnumMigrations.TOMBSTONE, 2, 999_999, Integer.MAX_VALUE}, ids);
+
+		SylphEnumMigrations migrations = sylphEnums.findDefinition("ItemType").orElseThrow().getMigrations();
+		assertEquals(2, migrations.translate(1_000_000, 1, 2));
+		assertEquals(10, migrations.translate(10, 1, 2));
+	}
+
+	@Test
+	public void translate_Range_OnlyTouchesRange() {
+		SylphEnumMigrations migrations = sylphEnums.findDefinition("ItemType").orElseThrow().getMigrations();
+		int[] ids = {10, 10, 10, 10};
+		migrations.translate(ids, 1, 2, 0, 1);
+		assertArrayEquals(new int[]{10, 1, 1, 10}, ids);
+		assertThrows(IndexOutOfBoundsException.class, () -> migrations.translate(ids, 3, 2, 0, 1));
+	}
+
+	@Test
+	public void translate_SameVersionOrNoMigrations_Unchanged() {
+		int[] ids = {10, 11, 12};
+		sylphEnums.translate("ItemType", ids, 1, 1);
+		assertArrayEquals(new int[]{10, 11, 12}, ids);
+
+		SylphEnumMigrations none = sylphEnums.findDefinition("SkillType").orElseThrow().getMigrations();
+		assertEquals(0, none.latestVersion());
+		none.translate(ids, 0, 0);
+		assertArrayEquals(new int[]{10, 11, 12}, ids);
+	}
+
+	@Test
+	public void translate_InvalidVersions_Throws() {
+		SylphEnumMigrations migrations = sylphEnums.findDefinition("ItemType").orElseThrow().getMigrations();
+		int[] ids = {1};
+		assertThrows(IllegalArgumentException.class, () -> migrations.translate(ids, 2, 1));
+		assertThrows(IllegalArgumentException.class, () -> migrations.translate(ids, 0, 3));
+		assertThrows(IllegalArgumentException.class, () -> migrations.translate(ids, -1, 1));
+		assertThrows(NullPointerException.class, () -> sylphEnums.translate("Missing", ids, 0, 1));
+	}
+
+	@Test
+	public void read_LatestVersionAboveLimit_Throws() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("QuestType", new int[]{1}, new String[]{"MAIN"}));
+		ByteArrayOutputStream migrationBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(migrationBytes);
+		output.writeInt(SylphEnumMigrations.MAGIC);
+		output.writeShort(SylphEnumMigrations.VERSION);
+		output.writeUTF("QuestType");
+		output.writeInt(SylphEnumMigrate.MAX_VERSION + 1);
+		output.writeInt(0);
+		output.flush();
+
+		SylphEnums registry = new SylphEnums();
+		registry.registerTable("QuestType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("QuestType"), tableBytes)
+				.put(SylphEnumMigrations.resourceName("QuestType"), migrationBytes.toByteArray()), SylphEnumTable.resourceName("QuestType"));
+		SylphEnumDefinition definition = registry.findDefinition("QuestType").orElseThrow();
+		assertThrows(UncheckedIOException.class, definition::getMigrations);
+	}
+}
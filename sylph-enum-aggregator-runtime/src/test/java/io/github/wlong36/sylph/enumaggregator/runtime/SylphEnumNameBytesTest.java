@@ -0,0 +1,85 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumNameBytesTest {
+
+	private final SylphEnumDefinition definition = new SylphEnumDefinition(new SylphEnumTable("ItemType",
+			new int[]{1, 300, -1}, new String[]{"SWORD", "长剑", "Q\"\\\n\u0001"}));
+
+	@Test
+	public void writeName_Utf8AndJson() {
+		SylphEnumNameBytes nameBytes = definition.getNameBytes();
+		assertSame(nameBytes, definition.getNameBytes());
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+
+		SylphEnum sword = definition.getById(1);
+		assertEquals(5, nameBytes.writeName(sword, buffer));
+		SylphEnum chinese = definition.getById(300);
+		assertEquals(6, nameBytes.writeName(chinese, buffer));
+		assertEquals("SWORD长剑", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+		assertArrayEquals("长剑".getBytes(StandardCharsets.UTF_8), nameBytes.nameBytes(1));
+
+		buffer.clear();
+		nameBytes.writeJsonName(chinese, buffer);
+		nameBytes.writeJsonName(definition.getById(-1), buffer);
+		assertEquals("\"长剑\"\"Q\\\"\\\\\\n\\u0001\"", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+		assertEquals(2 + 4 + 2 + 6 + 1, nameBytes.jsonNameLength(2));
+	}
+
+	@Test
+	public void writeVarintId_ProtobufInt32() {
+		SylphEnumNameBytes nameBytes = definition.getNameBytes();
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		assertEquals(1, nameBytes.writeVarintId(definition.getById(1), buffer));
+		assertEquals(2, nameBytes.writeVarintId(definition.getById(300), buffer));
+		assertArrayEquals(new byte[]{1, (byte) 0xAC, 0x02}, Arrays.copyOf(buffer.array(), 3));
+		assertEquals(10, nameBytes.varintIdLength(2));
+	}
+
+	@Test
+	public void writeName_OutputStream() throws IOException {
+		SylphEnums sylphEnums = new SylphEnums();
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("ItemType", new int[]{1, 2}, new String[]{"SWORD", "BOW"}));
+		sylphEnums.registerTable("ItemType", new InMemoryClassLoader().put(SylphEnumTable.resourceName("ItemType"), tableBytes),
+				SylphEnumTable.resourceName("ItemType"));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SylphEnum bow = sylphEnums.getByName("ItemType", "BOW");
+		assertEquals(3, sylphEnums.writeName(bow, out));
+		sylphEnums.findDefinition("ItemType").orElseThrow().getNameBytes().writeJsonName(bow, out);
+		assertEquals("BOW\"BOW\"", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void writeName_InvalidArguments_Throw() {
+		SylphEnumNameBytes nameBytes = definition.getNameBytes();
+		SylphEnumDefinition other = new SylphEnumDefinition(new SylphEnumTable("SkillType", new int[]{1}, new String[]{"SLASH"}));
+		assertThrows(IllegalArgumentException.class, () -> nameBytes.writeName(other.getById(1), ByteBuffer.allocate(8)));
+		ByteBuffer small = ByteBuffer.allocate(4);
+		assertThrows(BufferOverflowException.class, () -> nameBytes.writeName(definition.getById(1), small));
+		assertEquals(0, small.position());
+	}
+
+	@Test
+	public void findOrdinal_MatchesUtf8Slice() {
+		SylphEnumNameBytes nameBytes = definition.getNameBytes();
+		byte[] line = "x,长剑,SWORD,SWOR,Q\"\\\n\u0001".getBytes(StandardCharsets.UTF_8);
+		assertEquals(1, nameBytes.findOrdinal(line, 2, 6));
+		assertEquals(0, nameBytes.findOrdinal(line, 9, 5));
+		assertEquals(-1, nameBytes.findOrdinal(line, 15, 4));
+		assertEquals(2, nameBytes.findOrdinal(line, 20, line.length - 20));
+		assertEquals(-1, nameBytes.findOrdinal(line, 0, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> nameBytes.findOrdinal(line, 20, line.length));
+	}
+}
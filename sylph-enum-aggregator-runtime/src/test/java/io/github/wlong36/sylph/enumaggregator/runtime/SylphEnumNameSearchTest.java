@@ -0,0 +1,89 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumNameSearchTest {
+
+	private SylphEnumDefinition definition;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("ItemType", new int[]{1, 2, 3, 4, 5},
+				new String[]{"FIRE_SWORD", "FIRE_SHIELD", "ICE_SWORD", "BOW", "fire_staff"}));
+
+		ByteArrayOutputStream aliasBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(aliasBytes);
+		output.writeInt(SylphEnumNameSearch.MAGIC);
+		output.writeShort(SylphEnumNameSearch.VERSION);
+		output.writeUTF("ItemType");
+		output.writeInt(3);
+		output.writeInt(1);
+		output.writeUTF("Flamberge");
+		output.writeInt(1);
+		output.writeUTF("fire_blade");
+		output.writeInt(4);
+		output.writeUTF("LONGBOW");
+		output.flush();
+
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("ItemType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("ItemType"), tableBytes)
+				.put(SylphEnumNameSearch.resourceName("ItemType"), aliasBytes.toByteArray()), SylphEnumTable.resourceName("ItemType"));
+		definition = sylphEnums.findDefinition("ItemType").orElseThrow();
+	}
+
+	@Test
+	public void ordinalOfIgnoreCase_NamesAndAliases() {
+		SylphEnumNameSearch search = definition.getNameSearch();
+		assertSame(search, definition.getNameSearch());
+		assertEquals(0, search.ordinalOfIgnoreCase("fire_sword"));
+		assertEquals(0, search.ordinalOfIgnoreCase("FLAMBERGE"));
+		assertEquals(4, search.ordinalOfIgnoreCase("Fire_Staff"));
+		assertSame(definition.getById(4), search.getByNameIgnoreCaseOrNull("longBow"));
+		assertEquals(-1, search.ordinalOfIgnoreCase("fire"));
+		assertNull(search.getByNameIgnoreCaseOrNull("FIRE_SWORDS"));
+		assertEquals(List.of("Flamberge", "fire_blade"), search.aliases(0));
+		assertEquals(List.of(), search.aliases(2));
+	}
+
+	@Test
+	public void startingWith_DeduplicatesNameAndAliases() {
+		SylphEnumNameSearch search = definition.getNameSearch();
+		List<SylphEnum> fire = search.startingWith("fIrE_");
+		assertEquals(List.of("FIRE_SWORD", "FIRE_SHIELD", "fire_staff"), fire.stream().map(SylphEnum::name).toList());
+		assertEquals(3, search.countWithPrefix("FIRE_"));
+		assertEquals(3, search.countWithPrefix("f"));
+		assertEquals(1, search.countWithPrefix("FL"));
+		assertEquals(0, search.countWithPrefix("x"));
+		assertEquals(5, search.startingWith("").size());
+		assertEquals(List.of(definition.getByName("FIRE_SWORD")), search.startingWith("fire_sword"));
+	}
+
+	@Test
+	public void ordinalsWithPrefix_StopsWhenFull() {
+		SylphEnumNameSearch search = definition.getNameSearch();
+		int[] out = new int[2];
+		assertEquals(2, search.ordinalsWithPrefix("fire", out));
+		assertArrayEquals(new int[]{0, 1}, out);
+		assertEquals(1, search.ordinalsWithPrefix("long", out));
+		assertEquals(3, out[0]);
+	}
+
+	@Test
+	public void nameSearch_NoAliasResource_NamesOnly() {
+		SylphEnumDefinition plain = new SylphEnumDefinition(new SylphEnumTable("SkillType", new int[]{1, 2}, new String[]{"Slash", "SLAM"}));
+		SylphEnumNameSearch search = plain.getNameSearch();
+		assertEquals(0, search.ordinalOfIgnoreCase("SLASH"));
+		assertEquals(2, search.countWithPrefix("sl"));
+		assertEquals(List.of("SLAM", "Slash"), search.startingWith("SLA").stream().map(SylphEnum::name).toList());
+	}
+}
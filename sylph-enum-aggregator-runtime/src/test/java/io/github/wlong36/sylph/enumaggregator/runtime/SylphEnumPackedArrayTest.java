@@ -0,0 +1,121 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumPackedArrayTest {
+
+	private static SylphEnumDefinition definition(int length) {
+		return SylphEnumTables.definition("EventType", length, 100, 3, "C");
+	}
+
+	@Test
+	public void bitsPerValue_FromLength() {
+		assertEquals(1, SylphEnumPackedArray.bitsPerValue(definition(1)));
+		assertEquals(1, SylphEnumPackedArray.bitsPerValue(definition(2)));
+		assertEquals(2, SylphEnumPackedArray.bitsPerValue(definition(3)));
+		assertEquals(6, SylphEnumPackedArray.bitsPerValue(definition(40)));
+		assertEquals(6, SylphEnumPackedArray.bitsPerValue(definition(64)));
+		assertEquals(7, SylphEnumPackedArray.bitsPerValue(definition(65)));
+	}
+
+	@Test
+	public void append_CrossesWordBoundaries() {
+		SylphEnumDefinition definition = definition(40);
+		SylphEnumPackedArray array = SylphEnumPackedArray.of(definition, 0);
+		int[] expected = new int[1000];
+		Random random = new Random(42);
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = random.nextInt(40);
+			if (i % 2 == 0) {
+				array.append(expected[i]);
+			} else {
+				array.append(definition.getByOrdinal(expected[i]));
+			}
+		}
+		assertEquals(1000, array.size());
+		assertArrayEquals(expected, array.toOrdinalArray());
+		assertSame(definition.getByOrdinal(expected[11]), array.get(11));
+		// 6000 位，约为 int[] 的 1/5
+		assertEquals(94 * Long.BYTES, array.dataBytes());
+
+		array.set(10, 39);
+		array.set(11, 0);
+		assertEquals(39, array.getOrdinal(10));
+		assertEquals(0, array.getOrdinal(11));
+		assertEquals(expected[12], array.getOrdinal(12));
+	}
+
+	@Test
+	public void decode_RangeToOrdinalsAndIds() {
+		SylphEnumDefinition definition = definition(5);
+		SylphEnumPackedArray array = SylphEnumPackedArray.of(definition);
+		for (int ordinal : new int[]{4, 0, 3, 3, 1}) {
+			array.append(ordinal);
+		}
+		int[] out = new int[4];
+		array.decodeOrdinals(1, out, 1, 3);
+		assertArrayEquals(new int[]{0, 0, 3, 3}, out);
+		array.decodeIds(0, out, 0, 2);
+		assertArrayEquals(new int[]{112, 100, 3, 3}, out);
+		assertThrows(IndexOutOfBoundsException.class, () -> array.decodeOrdinals(3, out, 0, 3));
+	}
+
+	@Test
+	public void writeTo_RoundTrip() {
+		SylphEnumDefinition definition = definition(40);
+		SylphEnumPackedArray array = SylphEnumPackedArray.of(definition);
+		for (int i = 0; i < 77; i++) {
+			array.append(i % 40);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(array.serializedSize() + 3).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 9);
+		array.writeTo(buffer);
+		assertEquals(1 + array.serializedSize(), buffer.position());
+
+		buffer.flip();
+		buffer.get();
+		SylphEnumPackedArray copy = SylphEnumPackedArray.readFrom(definition, buffer);
+		assertEquals(1 + array.serializedSize(), buffer.position());
+		assertArrayEquals(array.toOrdinalArray(), copy.toOrdinalArray());
+
+		buffer.position(1);
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumPackedArray.readFrom(definition(70), buffer));
+	}
+
+	@Test
+	public void readFrom_SizeExceedsRemaining_ThrowsBeforeAllocating() {
+		SylphEnumDefinition definition = definition(40);
+		// 头部声明的长度需要约 1.5GB 的 long 数组，只有头部没有数据
+		ByteBuffer header = ByteBuffer.allocate(5).putInt(Integer.MAX_VALUE).put((byte) 6).flip();
+		assertThrows(BufferUnderflowException.class, () -> SylphEnumPackedArray.readFrom(definition, header));
+
+		SylphEnumPackedArray array = SylphEnumPackedArray.of(definition);
+		for (int i = 0; i < 77; i++) {
+			array.append(i % 40);
+		}
+		ByteBuffer truncated = ByteBuffer.allocate(array.serializedSize());
+		array.writeTo(truncated);
+		truncated.flip().limit(array.serializedSize() - 1);
+		assertThrows(BufferUnderflowException.class, () -> SylphEnumPackedArray.readFrom(definition, truncated));
+	}
+
+	@Test
+	public void invalidValues_Throw() {
+		SylphEnumPackedArray array = SylphEnumPackedArray.of(definition(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.append(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.getOrdinal(0));
+		assertThrows(IllegalArgumentException.class, () -> array.append(definition(3).getByOrdinal(0)));
+		array.append(2);
+		array.clear();
+		assertTrue(array.isEmpty());
+		array.append(1);
+		assertEquals(1, array.getOrdinal(0));
+	}
+}
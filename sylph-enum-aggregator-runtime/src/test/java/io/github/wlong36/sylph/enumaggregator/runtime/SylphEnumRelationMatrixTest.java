@@ -0,0 +1,144 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumRelationMatrixTest {
+	private static final int CONDITIONS = 100;
+	private static final int TARGETS = 70;
+
+	private static SylphEnumTable table(String typeName, int length, int firstId) {
+		return SylphEnumTables.table(typeName, length, firstId, 1, typeName + "_");
+	}
+
+	private static byte[] relationBytes(String toType, int... pairs) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(SylphEnumRelationMatrix.MAGIC);
+		output.writeShort(SylphEnumRelationMatrix.VERSION);
+		output.writeUTF("ConditionType");
+		output.writeInt(1);
+		output.writeUTF("applicable");
+		output.writeUTF(toType);
+		output.writeInt(pairs.length / 2);
+		for (int pair : pairs) {
+			output.writeInt(pair);
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	private static SylphEnums registry(byte[] relations) throws IOException {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable(table("TargetType", TARGETS, 1));
+		sylphEnums.registerTable("ConditionType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("ConditionType"), SylphEnumTables.toBytes(table("ConditionType", CONDITIONS, 1000)))
+				.put(SylphEnumRelationMatrix.resourceName("ConditionType"), relations), SylphEnumTable.resourceName("ConditionType"));
+		return sylphEnums;
+	}
+
+	@Test
+	public void builder_TestAndIterate() {
+		SylphEnumDefinition conditions = new SylphEnumDefinition(table("ConditionType", CONDITIONS, 1000));
+		SylphEnumDefinition targets = new SylphEnumDefinition(table("TargetType", TARGETS, 1));
+		SylphEnumRelationMatrix relation = SylphEnumRelationMatrix.builder("applicable", conditions, targets)
+				.add(0, 0)
+				.add(0, 69)
+				.add(64, 63)
+				.add(99, 64)
+				.add(conditions.getByOrdinal(3), targets.getByOrdinal(64))
+				.add(0, 0)
+				.build();
+
+		assertEquals(5, relation.size());
+		assertTrue(relation.test(0, 69));
+		assertTrue(relation.test(conditions.getByOrdinal(64), targets.getByOrdinal(63)));
+		assertFalse(relation.test(64, 64));
+		assertFalse(relation.test(targets.getByOrdinal(0), targets.getByOrdinal(0)));
+		assertThrows(IndexOutOfBoundsException.class, () -> relation.test(0, TARGETS));
+
+		List<Integer> targetsOfZero = new ArrayList<>();
+		relation.forEachTarget(0, targetsOfZero::add);
+		assertEquals(List.of(0, 69), targetsOfZero);
+		List<Integer> sourcesOf64 = new ArrayList<>();
+		relation.forEachSource(64, sourcesOf64::add);
+		assertEquals(List.of(3, 99), sourcesOf64);
+		assertEquals(-1, relation.nextSource(64, 100));
+		assertEquals(2, relation.sourceCount(64));
+		assertEquals(0, relation.targetCount(1));
+
+		long[] row = relation.targetBits(0);
+		assertEquals(SylphEnumMasks.words(targets), row.length);
+		assertEquals(2, SylphEnumMasks.count(row));
+		assertEquals(List.of(conditions.getByOrdinal(3), conditions.getByOrdinal(99)), relation.sourcesOf(targets.getByOrdinal(64)));
+		assertThrows(IllegalArgumentException.class, () -> relation.targetsOf(targets.getByOrdinal(0)));
+	}
+
+	@Test
+	public void registry_LoadsRelationResource() throws IOException {
+		SylphEnums sylphEnums = registry(relationBytes("TargetType", 1000, 1, 1000, 70, 1099, 65));
+		SylphEnumRelationMatrix applicable = sylphEnums.getRelation("ConditionType", "applicable");
+		assertSame(applicable, sylphEnums.getRelation("ConditionType", "applicable"));
+		assertSame(sylphEnums.findDefinition("TargetType").orElseThrow(), applicable.getTo());
+
+		SylphEnum condition = sylphEnums.getById("ConditionType", 1000);
+		assertTrue(applicable.test(condition, sylphEnums.getById("TargetType", 70)));
+		assertFalse(applicable.test(condition, sylphEnums.getById("TargetType", 2)));
+		assertEquals(List.of(sylphEnums.getById("ConditionType", 1099)), applicable.sourcesOf(sylphEnums.getById("TargetType", 65)));
+
+		assertTrue(sylphEnums.findRelation("ConditionType", "excludes").isEmpty());
+		assertTrue(sylphEnums.findRelation("TargetType", "applicable").isEmpty());
+		assertThrows(NoSuchElementException.class, () -> sylphEnums.getRelation("ConditionType", "excludes"));
+		assertThrows(NullPointerException.class, () -> sylphEnums.getRelation("SkillType", "applicable"));
+	}
+
+	@Test
+	public void registry_InvalidResource_Throws() throws IOException {
+		SylphEnums unknownId = registry(relationBytes("TargetType", 1000, 71));
+		assertThrows(UncheckedIOException.class, () -> unknownId.findRelation("ConditionType", "applicable"));
+		SylphEnums unknownType = registry(relationBytes("SkillType", 1000, 1));
+		assertThrows(UncheckedIOException.class, () -> unknownType.findRelation("ConditionType", "applicable"));
+	}
+
+	@Test
+	public void preload_RelationToProtoType_StaysLazy() throws IOException {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("ConditionType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("ConditionType"), SylphEnumTables.toBytes(table("ConditionType", CONDITIONS, 1000)))
+				.put(SylphEnumRelationMatrix.resourceName("ConditionType"), relationBytes("TargetProto", 1000, 2)), SylphEnumTable.resourceName("ConditionType"));
+		// 注册器不注册 proto 枚举，预加载时关系的目标类型还未注册
+		assertDoesNotThrow(() -> SylphEnumsImage.preload(sylphEnums));
+		assertThrows(UncheckedIOException.class, () -> sylphEnums.findRelation("ConditionType", "applicable"));
+
+		sylphEnums.register(TargetProto.class);
+		SylphEnumRelationMatrix applicable = sylphEnums.getRelation("ConditionType", "applicable");
+		assertTrue(applicable.test(sylphEnums.getById("ConditionType", 1000), TargetProto.ALLY));
+		assertFalse(applicable.test(sylphEnums.getById("ConditionType", 1000), TargetProto.SELF));
+	}
+
+	private enum TargetProto implements SylphEnum {
+		SELF(1),
+		ALLY(2);
+
+		private final int id;
+
+		TargetProto(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int id() {
+			return id;
+		}
+	}
+}
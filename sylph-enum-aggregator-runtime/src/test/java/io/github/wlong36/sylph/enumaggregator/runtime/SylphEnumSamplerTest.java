@@ -0,0 +1,148 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttrType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumSamplerTest {
+	private static final int DRAWS = 200_000;
+
+	private SylphEnumDefinition definition;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("LootType", new int[]{1, 2, 3, 4}, new String[]{"COMMON", "RARE", "EPIC", "QUEST"}));
+
+		ByteArrayOutputStream attributeBytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(attributeBytes);
+		output.writeInt(SylphEnumAttributes.MAGIC);
+		output.writeShort(SylphEnumAttributes.VERSION);
+		output.writeUTF("LootType");
+		output.writeInt(2);
+		output.writeUTF("weight");
+		output.writeByte(SylphEnumAttrType.INT.ordinal());
+		output.writeInt(3);
+		output.writeInt(1);
+		output.writeInt(70);
+		output.writeInt(2);
+		output.writeInt(25);
+		output.writeInt(3);
+		output.writeInt(5);
+		output.writeUTF("icon");
+		output.writeByte(SylphEnumAttrType.STRING.ordinal());
+		output.writeInt(0);
+
+		ByteArrayOutputStream groupBytes = new ByteArrayOutputStream();
+		output = new DataOutputStream(groupBytes);
+		output.writeInt(SylphEnumGroup.MAGIC);
+		output.writeShort(SylphEnumGroup.VERSION);
+		output.writeUTF("LootType");
+		output.writeInt(1);
+		output.writeUTF("rare");
+		output.writeInt(2);
+		output.writeInt(2);
+		output.writeInt(3);
+		output.flush();
+
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("LootType", new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("LootType"), tableBytes)
+				.put(SylphEnumAttributes.resourceName("LootType"), attributeBytes.toByteArray())
+				.put(SylphEnumGroup.resourceName("LootType"), groupBytes.toByteArray()), SylphEnumTable.resourceName("LootType"));
+		definition = sylphEnums.findDefinition("LootType").orElseThrow();
+	}
+
+	@Test
+	public void sample_FrequenciesFollowWeights() {
+		SylphEnumSampler sampler = SylphEnumSampler.ofAttribute(definition, "weight");
+		assertEquals(3, sampler.size());
+
+		int[] counts = new int[definition.length()];
+		SplittableRandom random = new SplittableRandom(42);
+		for (int i = 0; i < DRAWS; i++) {
+			counts[sampler.sampleOrdinal(random)]++;
+		}
+		assertEquals(0.70, counts[0] / (double) DRAWS, 0.01);
+		assertEquals(0.25, counts[1] / (double) DRAWS, 0.01);
+		assertEquals(0.05, counts[2] / (double) DRAWS, 0.01);
+		assertEquals(0, counts[3]);
+	}
+
+	@Test
+	public void sample_Bulk_MatchesSingleDraws() {
+		SylphEnumSampler sampler = SylphEnumSampler.of(definition, new double[]{1, 2, 3, 4});
+		int[] out = new int[100];
+		sampler.sample(new SplittableRandom(7), 90, out);
+
+		SplittableRandom random = new SplittableRandom(7);
+		for (int i = 0; i < 90; i++) {
+			assertEquals(sampler.sampleOrdinal(random), out[i]);
+		}
+		for (int i = 90; i < out.length; i++) {
+			assertEquals(0, out[i]);
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> sampler.sample(new SplittableRandom(), 101, out));
+	}
+
+	@Test
+	public void sample_Group_OnlyMembers() {
+		SylphEnumGroup rare = definition.getGroup("rare");
+		SylphEnumSampler sampler = SylphEnumSampler.ofAttribute(rare, "weight");
+		SplittableRandom random = new SplittableRandom(1);
+		int epic = 0;
+		for (int i = 0; i < DRAWS; i++) {
+			int ordinal = sampler.sampleOrdinal(random);
+			assertTrue(rare.contains(ordinal));
+			if (ordinal == 2) {
+				epic++;
+			}
+		}
+		assertEquals(5 / 30.0, epic / (double) DRAWS, 0.01);
+	}
+
+	@Test
+	public void sample_SingleCandidate_AlwaysReturned() {
+		SylphEnumSampler sampler = SylphEnumSampler.of(definition, sylphEnum -> sylphEnum.id() == 4 ? 0.5 : 0);
+		SplittableRandom random = new SplittableRandom();
+		for (int i = 0; i < 1000; i++) {
+			assertSame(definition.getById(4), sampler.sample(random));
+		}
+	}
+
+	@Test
+	public void of_HugeWeights_DoesNotOverflow() {
+		// 总和与 weight * count 都会超出 double 范围
+		double huge = Double.MAX_VALUE / 2;
+		SylphEnumSampler sampler = SylphEnumSampler.of(definition, new double[]{huge, huge, huge / 2, 0});
+		assertEquals(3, sampler.size());
+
+		int[] counts = new int[definition.length()];
+		SplittableRandom random = new SplittableRandom(42);
+		for (int i = 0; i < DRAWS; i++) {
+			counts[sampler.sampleOrdinal(random)]++;
+		}
+		assertEquals(0.4, counts[0] / (double) DRAWS, 0.01);
+		assertEquals(0.4, counts[1] / (double) DRAWS, 0.01);
+		assertEquals(0.2, counts[2] / (double) DRAWS, 0.01);
+		assertEquals(0, counts[3]);
+	}
+
+	@Test
+	public void of_InvalidWeights_Throws() {
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.of(definition, new double[]{1, 2}));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.of(definition, new double[]{1, -1, 0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.of(definition, new double[]{1, Double.NaN, 0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.of(definition, new double[]{1, Double.POSITIVE_INFINITY, 0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.of(definition, new double[4]));
+		assertThrows(IllegalArgumentException.class, () -> SylphEnumSampler.ofAttribute(definition, "icon"));
+		assertThrows(NoSuchElementException.class, () -> SylphEnumSampler.ofAttribute(definition, "missing"));
+	}
+}
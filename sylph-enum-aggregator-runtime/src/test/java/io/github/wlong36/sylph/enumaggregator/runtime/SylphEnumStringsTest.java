@@ -0,0 +1,111 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumStringsTest {
+
+	private SylphEnums sylphEnums;
+	private InMemoryClassLoader classLoader;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		byte[] tableBytes = SylphEnumTables.toBytes(new SylphEnumTable("ItemType", new int[]{1, 2, 3}, new String[]{"SWORD", "SHIELD", "BOW"}));
+
+		classLoader = new InMemoryClassLoader()
+				.put(SylphEnumTable.resourceName("ItemType"), tableBytes)
+				.put(SylphEnumStrings.resourceName("ItemType"),
+						stringTable("", List.of("en", "zh-CN"), new int[]{1, 3}, "长剑", ""))
+				.put(SylphEnumStrings.resourceName("ItemType", "en"),
+						stringTable("en", List.of(), new int[]{1, 2}, "Sword", "Shield"))
+				.put(SylphEnumStrings.resourceName("ItemType", "zh-CN"),
+						stringTable("zh-CN", List.of(), new int[]{2}, "盾牌"));
+		sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("ItemType", classLoader, SylphEnumTable.resourceName("ItemType"));
+	}
+
+	private static byte[] stringTable(String locale, List<String> locales, int[] ids, String... strings) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(SylphEnumStrings.MAGIC);
+		output.writeShort(SylphEnumStrings.VERSION);
+		output.writeUTF("ItemType");
+		output.writeUTF(locale);
+		output.writeInt(locales.size());
+		for (String tag : locales) {
+			output.writeUTF(tag);
+		}
+		output.writeInt(ids.length);
+		for (int id : ids) {
+			output.writeInt(id);
+		}
+		for (String string : strings) {
+			output.writeInt(string.getBytes(StandardCharsets.UTF_8).length);
+		}
+		for (String string : strings) {
+			output.write(string.getBytes(StandardCharsets.UTF_8));
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	@Test
+	public void description_LoadedFromBlob() {
+		SylphEnum sword = sylphEnums.getByName("ItemType", "SWORD");
+		assertEquals("长剑", sylphEnums.description(sword));
+		assertNull(sylphEnums.description(sylphEnums.getByName("ItemType", "SHIELD")));
+		assertEquals("", sylphEnums.description(sylphEnums.getByName("ItemType", "BOW")));
+
+		SylphEnumStrings strings = sylphEnums.findDefinition("ItemType").orElseThrow().getStrings();
+		assertEquals(Set.of("en", "zh-CN"), strings.locales());
+		assertThrows(IndexOutOfBoundsException.class, () -> strings.description(3));
+	}
+
+	@Test
+	public void displayName_LocaleFallback() {
+		SylphEnum sword = sylphEnums.getByName("ItemType", "SWORD");
+		SylphEnum shield = sylphEnums.getByName("ItemType", "SHIELD");
+		SylphEnum bow = sylphEnums.getByName("ItemType", "BOW");
+
+		assertEquals("Sword", sylphEnums.displayName(sword, Locale.US));
+		assertEquals("Shield", sylphEnums.displayName(shield, Locale.ENGLISH));
+		assertEquals("盾牌", sylphEnums.displayName(shield, Locale.SIMPLIFIED_CHINESE));
+		assertEquals("盾牌", sylphEnums.displayName(shield, Locale.forLanguageTag("zh-Hans-CN")));
+		// 没有显示名时回退到描述，再回退到枚举名
+		assertEquals("长剑", sylphEnums.displayName(sword, Locale.SIMPLIFIED_CHINESE));
+		assertEquals("BOW", sylphEnums.displayName(bow, Locale.GERMAN));
+		assertEquals("SHIELD", sylphEnums.displayName(shield, Locale.ROOT));
+
+		SylphEnumStrings strings = sylphEnums.findDefinition("ItemType").orElseThrow().getStrings();
+		assertNull(strings.displayNameOrNull(sword.ordinal(), Locale.GERMAN));
+	}
+
+	@Test
+	public void displayName_CorruptLocaleResource_Throws() {
+		classLoader.put(SylphEnumStrings.resourceName("ItemType", "en"), new byte[]{1, 2, 3});
+		SylphEnum sword = sylphEnums.getByName("ItemType", "SWORD");
+		assertEquals("长剑", sylphEnums.description(sword));
+		assertThrows(UncheckedIOException.class, () -> sylphEnums.displayName(sword, Locale.ENGLISH));
+	}
+
+	@Test
+	public void strings_NoResource_EmptyTable() {
+		SylphEnumDefinition definition = new SylphEnumDefinition(new SylphEnumTable("SkillType", new int[]{1}, new String[]{"SLASH"}));
+		SylphEnumStrings strings = definition.getStrings();
+		assertTrue(strings.locales().isEmpty());
+		assertNull(strings.description(0));
+		assertEquals("SLASH", strings.displayName(0, Locale.ENGLISH));
+	}
+}
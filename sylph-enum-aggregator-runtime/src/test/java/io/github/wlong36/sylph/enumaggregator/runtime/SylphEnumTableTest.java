@@ -0,0 +1,113 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnum;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumRegistrationContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumTableTest {
+
+	private static SylphEnumTable createTable(int size, int idStride) {
+		return SylphEnumTables.table("ItemType", size, 1000, idStride, "ITEM_");
+	}
+
+	@Test
+	public void writeAndRead_RoundTrip() throws IOException {
+		SylphEnumTable table = createTable(100, 3);
+		SylphEnumTable read = SylphEnumTable.read(new ByteArrayInputStream(SylphEnumTables.toBytes(table)));
+		assertEquals("ItemType", read.getTypeName());
+		assertEquals(100, read.length());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(table.id(i), read.id(i));
+			assertEquals(table.name(i), read.name(i));
+		}
+	}
+
+	@Test
+	public void read_InvalidMagic_ThrowsIOException() {
+		assertThrows(IOException.class, () -> SylphEnumTable.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6})));
+	}
+
+	@Test
+	public void definition_DenseIds_LookupsWork() {
+		assertLookups(new SylphEnumDefinition(createTable(5000, 1)), 5000, 1);
+	}
+
+	@Test
+	public void definition_SparseIds_LookupsWork() {
+		assertLookups(new SylphEnumDefinition(createTable(5000, 7)), 5000, 7);
+	}
+
+	private static void assertLookups(SylphEnumDefinition definition, int size, int idStride) {
+		assertTrue(definition.isTableBacked());
+		assertThrows(IllegalStateException.class, definition::getEnumType);
+		assertEquals("ItemType", definition.getTypeName());
+		assertEquals(size, definition.length());
+		for (int i = 0; i < size; i++) {
+			SylphEnum constant = definition.getByOrdinal(i);
+			assertEquals(i, constant.ordinal());
+			assertSame(constant, definition.getById(1000 + i * idStride));
+			assertSame(constant, definition.getByName("ITEM_" + i));
+		}
+		assertNull(definition.getByIdOrNull(999));
+		assertNull(definition.getByIdOrNull(1000 + size * idStride));
+		assertNull(definition.getByNameOrNull("ITEM_" + size));
+		assertNull(definition.getByNameOrNull(null));
+		assertThrows(NoSuchElementException.class, () -> definition.getById(-1));
+		assertThrows(NoSuchElementException.class, () -> definition.getByName("MISSING"));
+	}
+
+	@Test
+	public void definition_DuplicateId_ThrowsIllegalStateException() {
+		SylphEnumTable table = new SylphEnumTable("ItemType", new int[]{1, 2, 1}, new String[]{"A", "B", "C"});
+		assertThrows(IllegalStateException.class, () -> new SylphEnumDefinition(table));
+	}
+
+	@Test
+	public void definition_DuplicateName_ThrowsIllegalStateException() {
+		SylphEnumTable table = new SylphEnumTable("ItemType", new int[]{1, 2, 3}, new String[]{"A", "B", "A"});
+		assertThrows(IllegalStateException.class, () -> new SylphEnumDefinition(table));
+	}
+
+	@Test
+	public void registerTable_LoadsResource() throws IOException {
+		byte[] bytes = SylphEnumTables.toBytes(createTable(3000, 2));
+		ClassLoader classLoader = new InMemoryClassLoader().put(SylphEnumTable.resourceName("ItemType"), bytes);
+
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable("ItemType", classLoader, SylphEnumTable.resourceName("ItemType"));
+		assertEquals("ITEM_10", sylphEnums.getById("ItemType", 1020).name());
+		SylphEnum last = sylphEnums.getByName("ItemType", "ITEM_2999");
+		assertEquals(2999, sylphEnums.globalOrdinal(last));
+		assertThrows(IllegalArgumentException.class,
+				() -> sylphEnums.registerTable("ItemType", classLoader, SylphEnumTable.resourceName("ItemType")));
+		assertThrows(IllegalArgumentException.class,
+				() -> sylphEnums.registerTable("BuffType", classLoader, SylphEnumTable.resourceName("BuffType")));
+	}
+
+	@Test
+	public void globalOrdinal_ConstantOfOtherRegistry_ThrowsNullPointerException() {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable(createTable(10, 1));
+		SylphEnums other = new SylphEnums();
+		other.registerTable(createTable(10, 1));
+		assertThrows(NullPointerException.class, () -> sylphEnums.globalOrdinal(other.getByOrdinal("ItemType", 0)));
+	}
+
+	@Test
+	public void registrationContext_WithoutTableSupport_ThrowsUnsupported() {
+		// 只实现 register 的旧注册上下文仍可编译，注册常量表时明确报错
+		SylphEnumRegistrationContext context = new SylphEnumRegistrationContext() {
+			@Override
+			public <T extends Enum<T> & SylphEnum> void register(Class<T> enumType) {
+			}
+		};
+		assertThrows(UnsupportedOperationException.class,
+				() -> context.registerTable("ItemType", getClass().getClassLoader(), SylphEnumTable.resourceName("ItemType")));
+	}
+}
@@ -0,0 +1,59 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumWarmupTest {
+
+	private static SylphEnums registry() {
+		SylphEnums sylphEnums = new SylphEnums();
+		sylphEnums.registerTable(new SylphEnumTable("ConditionType", new int[]{1001, 1005, 1009}, new String[]{"Level", "Vip", "Guild"}));
+		sylphEnums.registerTable(new SylphEnumTable("TargetType", new int[]{20, 40, 60, 80}, new String[]{"Self", "Ally", "Enemy", "All"}));
+		return sylphEnums;
+	}
+
+	@Test
+	public void warmUp_ZeroBudget_CompletesOneRound() {
+		SylphEnumWarmup warmup = registry().warmUp(Duration.ZERO);
+		assertEquals(2, warmup.typeCount());
+		assertEquals(1, warmup.rounds());
+		assertEquals(5L * 7, warmup.lookups());
+		assertFalse(warmup.elapsed().isNegative());
+	}
+
+	@Test
+	public void warmUp_Budget_RunsUntilExhausted() {
+		Duration budget = Duration.ofMillis(20);
+		SylphEnumWarmup warmup = registry().warmUp(budget);
+		assertTrue(warmup.rounds() > 1);
+		assertTrue(warmup.elapsed().compareTo(budget) >= 0);
+		// 预算在第二轮及以后用完时，最后一轮可能只遍历了第一个类型（3 个枚举）
+		assertTrue(warmup.lookups() == 5L * 7 * warmup.rounds() || warmup.lookups() == 5L * (7 * (warmup.rounds() - 1) + 3));
+	}
+
+	@Test
+	public void warmUp_EmptyRegistry_ReturnsImmediately() {
+		SylphEnumWarmup warmup = new SylphEnums().warmUp(Duration.ofSeconds(10));
+		assertEquals(0, warmup.typeCount());
+		assertEquals(1, warmup.rounds());
+		assertEquals(0, warmup.lookups());
+	}
+
+	@Test
+	public void warmUp_NegativeBudget_Throws() {
+		SylphEnums sylphEnums = registry();
+		assertThrows(IllegalArgumentException.class, () -> sylphEnums.warmUp(Duration.ofMillis(-1)));
+		assertThrows(IllegalArgumentException.class, () -> sylphEnums.warmUpInBackground(Duration.ofMillis(-1)));
+	}
+
+	@Test
+	public void warmUpInBackground_CompletesOnDaemonThread() throws Exception {
+		SylphEnumWarmup warmup = registry().warmUpInBackground(Duration.ofMillis(5)).get(10, TimeUnit.SECONDS);
+		assertEquals(2, warmup.typeCount());
+		assertTrue(warmup.rounds() >= 1);
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SylphEnumsImageTest {
+	private static final String PROPERTIES = "META-INF/native-image/io.github.wlong36/sylph-enum-aggregator-runtime/native-image.properties";
+	private static final String OPTION = "--initialize-at-build-time=";
+
+	private static List<String> buildTimeClasses() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = SylphEnumsImage.class.getClassLoader().getResourceAsStream(PROPERTIES)) {
+			assertNotNull(in, PROPERTIES);
+			properties.load(in);
+		}
+		String args = properties.getProperty("Args");
+		assertTrue(args.startsWith(OPTION), args);
+		return List.of(args.substring(OPTION.length()).split(","));
+	}
+
+	@Test
+	public void nativeImageProperties_ListExistingRegistryClasses() throws IOException, ClassNotFoundException {
+		List<String> classes = buildTimeClasses();
+		for (String className : classes) {
+			Class.forName(className, false, SylphEnumsImage.class.getClassLoader());
+		}
+		assertTrue(classes.contains(SylphEnumsImage.class.getName()));
+		assertTrue(classes.contains(SylphEnumDefinition.class.getName()));
+		assertTrue(classes.contains(SylphEnumRelationMatrix.class.getName()));
+	}
+
+	@Test
+	public void nativeImageProperties_ExcludeStatefulClasses() throws IOException {
+		List<String> classes = buildTimeClasses();
+		for (Class<?> type : List.of(SylphEnumCounterTable.class, SylphEnumWarmup.class, SylphEnumCsvLoader.class, SylphEnumSampler.class)) {
+			assertFalse(classes.contains(type.getName()), type.getName());
+		}
+		for (String className : classes) {
+			assertTrue(className.startsWith(SylphEnumsImage.class.getPackageName() + "."), className);
+		}
+	}
+}
@@ -177,6 +177,63 @@ public class SylphEnumsTest {
 		assertTrue(allEnums.contains(SampleEnum.VALUE2));
 	}
 
+	@Test
+	public void register_SameSimpleNameDifferentClass_ThrowsIllegalArgumentException() {
+		sylphEnums.register(SampleEnum.class);
+		assertThrows(IllegalArgumentException.class, () -> sylphEnums.register(Other.SampleEnum.class));
+	}
+
+	@Test
+	public void register_AssignsDenseTypeIds() {
+		sylphEnums.register(SampleEnum.class);
+		sylphEnums.register(OtherEnum.class);
+		assertEquals(2, sylphEnums.typeCount());
+		assertEquals(0, sylphEnums.getTypeId("SampleEnum"));
+		assertEquals(1, sylphEnums.getTypeId("OtherEnum"));
+		assertSame(sylphEnums.getDefinition(1), sylphEnums.findDefinitionByClass(OtherEnum.class).orElseThrow());
+	}
+
+	@Test
+	public void getTypeId_UnregisteredEnumType_ThrowsNullPointerException() {
+		assertThrows(NullPointerException.class, () -> sylphEnums.getTypeId("SampleEnum"));
+	}
+
+	@Test
+	public void getByTypeId_ValidArguments_ReturnsEnum() {
+		sylphEnums.register(SampleEnum.class);
+		sylphEnums.register(OtherEnum.class);
+		int typeId = sylphEnums.getTypeId("OtherEnum");
+		assertEquals(OtherEnum.B, sylphEnums.getByOrdinal(typeId, 1));
+		assertEquals(OtherEnum.C, sylphEnums.getById(typeId, 30));
+		assertNull(sylphEnums.getByIdOrNull(typeId, 31));
+		assertThrows(NoSuchElementException.class, () -> sylphEnums.getById(typeId, 31));
+	}
+
+	@Test
+	public void getByTypeId_InvalidTypeId_ThrowsIndexOutOfBoundsException() {
+		sylphEnums.register(SampleEnum.class);
+		assertThrows(IndexOutOfBoundsException.class, () -> sylphEnums.getByOrdinal(1, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> sylphEnums.getById(-1, 1));
+	}
+
+	@Test
+	public void globalOrdinal_SpansAllRegisteredTypes() {
+		sylphEnums.register(SampleEnum.class);
+		sylphEnums.register(OtherEnum.class);
+		assertEquals(5, sylphEnums.globalLength());
+		assertEquals(1, sylphEnums.globalOrdinal(SampleEnum.VALUE2));
+		assertEquals(2, sylphEnums.globalOrdinal(OtherEnum.A));
+		assertEquals(4, sylphEnums.globalOrdinal(sylphEnums.getTypeId("OtherEnum"), 2));
+		for (int i = 0; i < sylphEnums.globalLength(); i++) {
+			assertEquals(i, sylphEnums.globalOrdinal(sylphEnums.getByGlobalOrdinal(i)));
+		}
+	}
+
+	@Test
+	public void globalOrdinal_UnregisteredEnumType_ThrowsNullPointerException() {
+		assertThrows(NullPointerException.class, () -> sylphEnums.globalOrdinal(SampleEnum.VALUE1));
+	}
+
 	// 用于测试的示例枚举
 	private enum SampleEnum implements SylphEnum {
 		VALUE1(1),
@@ -195,4 +252,34 @@ public class SylphEnumsTest {
 
 	}
 
-}
+	private enum OtherEnum implements SylphEnum {
+		A(10),
+		B(20),
+		C(30);
+
+		private final int id;
+
+		OtherEnum(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int id() {
+			return id;
+		}
+
+	}
+
+	// 与 SampleEnum 同名但位于不同外部类的枚举
+	private static class Other {
+		private enum SampleEnum implements SylphEnum {
+			VALUE1;
+
+			@Override
+			public int id() {
+				return 1;
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package io.github.wlong36.sylph.enumaggregator.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 测试和基准共用的合成常量表
+ *
+ * @author wlong
+ * @since 2026/10/19
+ */
+public final class SylphEnumTables {
+
+	private SylphEnumTables() {
+	}
+
+	/**
+	 * 生成常量表，第 i 个常量的 id 为 firstId + i * idStride，name 为 namePrefix + i
+	 *
+	 * @param idStride id 步长，1 为连续 id，大于 2 时为稀疏 id，负数时 id 与声明顺序相反
+	 */
+	public static SylphEnumTable table(String typeName, int length, int firstId, int idStride, String namePrefix) {
+		int[] ids = new int[length];
+		String[] names = new String[length];
+		for (int i = 0; i < length; i++) {
+			ids[i] = firstId + i * idStride;
+			names[i] = namePrefix + i;
+		}
+		return new SylphEnumTable(typeName, ids, names);
+	}
+
+	/**
+	 * 生成常量表的定义
+	 *
+	 * @see #table(String, int, int, int, String)
+	 */
+	public static SylphEnumDefinition definition(String typeName, int length, int firstId, int idStride, String namePrefix) {
+		return new SylphEnumDefinition(table(typeName, length, firstId, idStride, namePrefix));
+	}
+
+	/**
+	 * 将常量表序列化为与生成资源相同的字节
+	 */
+	public static byte[] toBytes(SylphEnumTable table) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(table.length() * 16);
+		try {
+			table.write(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+}
@@ -1,11 +1,21 @@
 package io.github.wlong36.sylph.enumaggregator.test;
 
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttr;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumAttrType;
 import io.github.wlong36.sylph.enumaggregator.api.SylphEnumReg;
+import io.github.wlong36.sylph.enumaggregator.api.SylphEnumRelation;
 
-@SylphEnumReg(type = "ConditionType", id = 1, name = "One", desc = "条件1")
-@SylphEnumReg(type = "ConditionType", id = 2, name = "Two", desc = "条件2")
+@SylphEnumReg(type = "ConditionType", id = 1, name = "One", desc = "条件1", groups = "basic",
+		attrs = @SylphEnumAttr(name = "weight", value = "10"))
+@SylphEnumReg(type = "ConditionType", id = 2, name = "Two", desc = "条件2", groups = {"basic", "repeatable"},
+		attrs = {@SylphEnumAttr(name = "weight", value = "20"),
+				@SylphEnumAttr(name = "repeatable", type = SylphEnumAttrType.BOOLEAN, value = "true")})
 @SylphEnumReg(type = "ConditionType", id = 3, name = "Three", desc = "条件3")
 
 @SylphEnumReg(type = "TargetType", id = 1, name = "TargetOne", desc = "目标1")
+@SylphEnumReg(type = "TargetType", id = 2, name = "TargetTwo", desc = "目标2")
+
+@SylphEnumRelation(name = "applicable", from = "ConditionType", fromNames = {"One", "Two"}, to = "TargetType", toNames = "TargetOne")
+@SylphEnumRelation(name = "applicable", from = "ConditionType", fromNames = "Three", to = "TargetType", toNames = {"TargetOne", "TargetTwo"})
 public interface ConditionTypeDef {
 }